@@ -9,6 +9,21 @@ import com.thenoah.dev.mybatis_easy_starter.tool.generator.AutoSqlBuilder;
 import com.thenoah.dev.mybatis_easy_starter.tool.generator.EntityGenerator;
 import com.thenoah.dev.mybatis_easy_starter.support.ColumnAnalyzer;
 import com.thenoah.dev.mybatis_easy_starter.support.EntityParser;
+import com.thenoah.dev.mybatis_easy_starter.support.MapperTypeResolver;
+import com.thenoah.dev.mybatis_easy_starter.support.bulk.BulkLoader;
+import com.thenoah.dev.mybatis_easy_starter.support.bulk.ParallelBulkLoader;
+import com.thenoah.dev.mybatis_easy_starter.support.bulk.WriteBehindBuffer;
+import com.thenoah.dev.mybatis_easy_starter.support.cache.EntityCacheManager;
+import com.thenoah.dev.mybatis_easy_starter.support.cache.InvalidationLog;
+import com.thenoah.dev.mybatis_easy_starter.support.cache.InvalidationLogPoller;
+import com.thenoah.dev.mybatis_easy_starter.support.cache.OffHeapCache;
+import com.thenoah.dev.mybatis_easy_starter.support.cache.ReferenceDataManager;
+import com.thenoah.dev.mybatis_easy_starter.support.cache.TransactionIdentityMap;
+import com.thenoah.dev.mybatis_easy_starter.support.dirty.DirtyTracker;
+import com.thenoah.dev.mybatis_easy_starter.support.id.IdGenerator;
+import com.thenoah.dev.mybatis_easy_starter.support.lifecycle.SoftDeleteLifecycleJob;
+import com.thenoah.dev.mybatis_easy_starter.support.dialect.Dialect;
+import com.thenoah.dev.mybatis_easy_starter.support.uow.UnitOfWork;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.boot.autoconfigure.ConfigurationCustomizer;
@@ -17,6 +32,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -32,8 +48,6 @@ import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 
 import javax.sql.DataSource;
 import java.io.InputStream;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -69,6 +83,15 @@ public class MybatisEasyAutoConfiguration {
 
   private static final String PROP_AUTOSQL_ENABLED = "mybatis-easy.autosql.enabled";
   private static final String PROP_GENERATOR_ENABLED = "mybatis-easy.generator.enabled";
+  private static final String PROP_CACHE_ENABLED = "mybatis-easy.cache.enabled";
+  private static final String PROP_CACHE_INVALIDATION_ENABLED = "mybatis-easy.cache.invalidation.enabled";
+  private static final String PROP_REFERENCE_DATA_ENABLED = "mybatis-easy.reference-data.enabled";
+  private static final String PROP_IDENTITY_MAP_ENABLED = "mybatis-easy.identity-map.enabled";
+  private static final String PROP_DIRTY_CHECKING_ENABLED = "mybatis-easy.dirty-checking.enabled";
+  private static final String PROP_BULK_LOAD_ENABLED = "mybatis-easy.bulk-load.enabled";
+  private static final String PROP_WRITE_BEHIND_ENABLED = "mybatis-easy.write-behind.enabled";
+  private static final String PROP_UNIT_OF_WORK_ENABLED = "mybatis-easy.unit-of-work.enabled";
+  private static final String PROP_SOFT_DELETE_LIFECYCLE_ENABLED = "mybatis-easy.soft-delete-lifecycle.enabled";
 
   private static final String MYBATIS_EASY_MARKER =
       "  <!-- MyBatis-Easy: AUTO CRUD BEGIN -->\n";
@@ -80,9 +103,204 @@ public class MybatisEasyAutoConfiguration {
       "(?s)\\Q" + MYBATIS_EASY_MARKER.trim() + "\\E\\s*.*?\\s*\\Q" + MYBATIS_EASY_MARKER_END.trim() + "\\E"
   );
 
+  // 사용자가 직접 선언한 2차 캐시 설정
+  private static final Pattern USER_CACHE_PATTERN =
+      Pattern.compile("<cache(-ref)?[\\s/>]", Pattern.CASE_INSENSITIVE);
+
+  @Bean
+  public ParameterMappingInterceptor parameterMappingInterceptor(MybatisEasyProperties props,
+                                                                 ObjectProvider<EntityCacheManager> entityCacheManager,
+                                                                 ObjectProvider<InvalidationLog> invalidationLog,
+                                                                 ObjectProvider<ReferenceDataManager> referenceDataManager,
+                                                                 ObjectProvider<TransactionIdentityMap> identityMap,
+                                                                 ObjectProvider<DirtyTracker> dirtyTracker,
+                                                                 ObjectProvider<IdGenerator> idGenerator,
+                                                                 ObjectProvider<UnitOfWork> unitOfWork) {
+    ParameterMappingInterceptor interceptor = new ParameterMappingInterceptor();
+    interceptor.setFailOnVersionConflict(props.getAutoSql().getUpdate().isFailOnVersionConflict());
+    interceptor.setAllowEmptyUpdateSet(props.getAutoSql().getUpdate().isAllowEmptySet());
+    entityCacheManager.ifAvailable(interceptor::setEntityCacheManager);
+    invalidationLog.ifAvailable(interceptor::setInvalidationLog);
+    referenceDataManager.ifAvailable(interceptor::setReferenceDataManager);
+    identityMap.ifAvailable(interceptor::setIdentityMap);
+    dirtyTracker.ifAvailable(interceptor::setDirtyTracker);
+    unitOfWork.ifAvailable(interceptor::setUnitOfWork);
+
+    // PK 사전 할당 (클라이언트 할당 전략일 때만): 사용자 IdGenerator 빈 우선
+    MybatisEasyProperties.AutoSql.GeneratedKey gk = props.getAutoSql().getGeneratedKey();
+    if (gk.getStrategy() != null && gk.getStrategy().isClientAssigned()) {
+      interceptor.setIdGenerator(idGenerator.getIfAvailable(() -> IdGenerator.forStrategy(
+          gk.getStrategy(), gk, AutoSqlBuilder.resolveDialect(null, props.getPagination()))));
+    }
+    return interceptor;
+  }
+
+  /**
+   * 자동 CRUD update dirty checking (mybatis-easy.dirty-checking.enabled=true 일 때만)
+   */
+  @Bean
+  @ConditionalOnMissingBean(DirtyTracker.class)
+  @ConditionalOnProperty(name = PROP_DIRTY_CHECKING_ENABLED, havingValue = "true")
+  public DirtyTracker mybatisEasyDirtyTracker() {
+    return new DirtyTracker();
+  }
+
+  /**
+   * 트랜잭션 단위 쓰기 지연 + batch flush (mybatis-easy.unit-of-work.enabled=true 일 때만)
+   */
+  @Bean
+  @ConditionalOnMissingBean(UnitOfWork.class)
+  @ConditionalOnProperty(name = PROP_UNIT_OF_WORK_ENABLED, havingValue = "true")
+  public UnitOfWork mybatisEasyUnitOfWork() {
+    return new UnitOfWork();
+  }
+
+  /**
+   * 대량 적재 (COPY / LOAD DATA / batch) (mybatis-easy.bulk-load.enabled=true 일 때만)
+   */
+  @Bean
+  @ConditionalOnMissingBean(BulkLoader.class)
+  @ConditionalOnProperty(name = PROP_BULK_LOAD_ENABLED, havingValue = "true")
+  public BulkLoader mybatisEasyBulkLoader(MybatisEasyProperties props, DataSource dataSource) {
+    MybatisEasyProperties.BulkLoad bulk = props.getBulkLoad();
+    return new BulkLoader(dataSource, AutoSqlBuilder.resolveDialect(null, props.getPagination()),
+        bulk.getNativeThreshold(), bulk.getBatchSize(), props.getAutoSql().isQuoteIdentifiers());
+  }
+
+  /**
+   * chunk 단위 병렬 적재 (mybatis-easy.bulk-load.enabled=true 일 때만)
+   */
+  @Bean
+  @ConditionalOnMissingBean(ParallelBulkLoader.class)
+  @ConditionalOnProperty(name = PROP_BULK_LOAD_ENABLED, havingValue = "true")
+  public ParallelBulkLoader mybatisEasyParallelBulkLoader(MybatisEasyProperties props, BulkLoader bulkLoader) {
+    MybatisEasyProperties.BulkLoad bulk = props.getBulkLoad();
+    return new ParallelBulkLoader(bulkLoader, bulk.getParallelism(), bulk.getChunkSize(), null);
+  }
+
+  /**
+   * append-only 엔티티 비동기 insert 버퍼 (mybatis-easy.write-behind.enabled=true 일 때만)
+   * - BulkLoader 빈이 없으면 batch 전용 BulkLoader를 내부에서 생성
+   * - 컨텍스트 종료 시 남은 row flush (DisposableBean)
+   */
+  @Bean
+  @ConditionalOnMissingBean(WriteBehindBuffer.class)
+  @ConditionalOnProperty(name = PROP_WRITE_BEHIND_ENABLED, havingValue = "true")
+  public WriteBehindBuffer mybatisEasyWriteBehindBuffer(MybatisEasyProperties props,
+                                                        ObjectProvider<BulkLoader> bulkLoader,
+                                                        DataSource dataSource) {
+    MybatisEasyProperties.WriteBehind wb = props.getWriteBehind();
+    BulkLoader loader = bulkLoader.getIfAvailable(() -> new BulkLoader(dataSource,
+        AutoSqlBuilder.resolveDialect(null, props.getPagination()), Integer.MAX_VALUE, wb.getFlushSize(),
+        props.getAutoSql().isQuoteIdentifiers()));
+    return new WriteBehindBuffer(loader, wb.getCapacity(), wb.getFlushSize(), wb.getFlushInterval(),
+        wb.getOverflow(), wb.getBlockTimeout());
+  }
+
+  /**
+   * soft delete row archive/purge 주기 작업 (mybatis-easy.soft-delete-lifecycle.enabled=true 일 때만)
+   */
+  @Bean
+  @ConditionalOnMissingBean(SoftDeleteLifecycleJob.class)
+  @ConditionalOnProperty(name = PROP_SOFT_DELETE_LIFECYCLE_ENABLED, havingValue = "true")
+  public SoftDeleteLifecycleJob mybatisEasySoftDeleteLifecycleJob(MybatisEasyProperties props,
+                                                                  DataSource dataSource,
+                                                                  ObjectProvider<SqlSessionFactory> sqlSessionFactory) {
+    MybatisEasyProperties.SoftDeleteLifecycle lc = props.getSoftDeleteLifecycle();
+    SoftDeleteLifecycleJob job = new SoftDeleteLifecycleJob(
+        dataSource,
+        sqlSessionFactory::getIfAvailable,
+        AutoSqlBuilder.resolveDialect(resolveDbProductName(), props.getPagination()),
+        lc.getMode(),
+        lc.getRetention(),
+        lc.getInterval(),
+        lc.getBatchSize(),
+        lc.getPause(),
+        lc.getArchiveSuffix(),
+        lc.getCheckpointTable()
+    );
+    if (lc.isInitializeSchema()) {
+      job.initializeSchema();
+    }
+    return job;
+  }
+
+  /**
+   * 트랜잭션 단위 identity map (mybatis-easy.identity-map.enabled=true 일 때만)
+   */
   @Bean
-  public ParameterMappingInterceptor parameterMappingInterceptor() {
-    return new ParameterMappingInterceptor();
+  @ConditionalOnMissingBean(TransactionIdentityMap.class)
+  @ConditionalOnProperty(name = PROP_IDENTITY_MAP_ENABLED, havingValue = "true")
+  public TransactionIdentityMap mybatisEasyTransactionIdentityMap() {
+    return new TransactionIdentityMap();
+  }
+
+  /**
+   * @ReferenceData 엔티티 스냅샷 (시작 시 전체 적재, 주기 갱신)
+   */
+  @Bean
+  @ConditionalOnMissingBean(ReferenceDataManager.class)
+  @ConditionalOnProperty(name = PROP_REFERENCE_DATA_ENABLED, havingValue = "true", matchIfMissing = true)
+  public ReferenceDataManager mybatisEasyReferenceDataManager(MybatisEasyProperties props,
+                                                              ObjectProvider<SqlSessionFactory> sqlSessionFactory) {
+    return new ReferenceDataManager(sqlSessionFactory::getIfAvailable, props.getReferenceData().getRefreshInterval());
+  }
+
+  /**
+   * findById 엔티티 캐시 (mybatis-easy.cache.enabled=true 일 때만)
+   */
+  @Bean(destroyMethod = "clearAll")
+  @ConditionalOnMissingBean(EntityCacheManager.class)
+  @ConditionalOnProperty(name = PROP_CACHE_ENABLED, havingValue = "true")
+  public EntityCacheManager mybatisEasyEntityCacheManager(MybatisEasyProperties props) {
+    return new EntityCacheManager(props.getCache());
+  }
+
+  /**
+   * 노드 간 캐시 invalidation 로그 (mybatis-easy.cache.invalidation.enabled=true 일 때만)
+   */
+  @Bean
+  @ConditionalOnMissingBean(InvalidationLog.class)
+  @ConditionalOnProperty(name = PROP_CACHE_INVALIDATION_ENABLED, havingValue = "true")
+  public InvalidationLog mybatisEasyInvalidationLog(MybatisEasyProperties props, DataSource dataSource) {
+    MybatisEasyProperties.Cache.Invalidation inv = props.getCache().getInvalidation();
+
+    String nodeId = (inv.getNodeId() == null || inv.getNodeId().isBlank())
+        ? UUID.randomUUID().toString()
+        : inv.getNodeId();
+    Dialect dialect = AutoSqlBuilder.resolveDialect(resolveDbProductName(), props.getPagination());
+
+    InvalidationLog invalidationLog = new InvalidationLog(inv.getTableName(), nodeId, dialect);
+    if (inv.isInitializeSchema()) {
+      invalidationLog.initializeSchema(dataSource);
+    }
+    return invalidationLog;
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(InvalidationLogPoller.class)
+  @ConditionalOnProperty(name = PROP_CACHE_INVALIDATION_ENABLED, havingValue = "true")
+  public InvalidationLogPoller mybatisEasyInvalidationLogPoller(MybatisEasyProperties props,
+                                                                DataSource dataSource,
+                                                                InvalidationLog invalidationLog,
+                                                                ObjectProvider<EntityCacheManager> entityCacheManager,
+                                                                ObjectProvider<SqlSessionFactory> sqlSessionFactory) {
+    MybatisEasyProperties.Cache.Invalidation inv = props.getCache().getInvalidation();
+
+    InvalidationLogPoller poller = new InvalidationLogPoller(
+        dataSource,
+        invalidationLog,
+        entityCacheManager.getIfAvailable(),
+        () -> {
+          SqlSessionFactory f = sqlSessionFactory.getIfAvailable();
+          return (f == null) ? null : f.getConfiguration();
+        },
+        inv.getPollInterval(),
+        inv.getGrace(),
+        inv.getRetention()
+    );
+    poller.start();
+    return poller;
   }
 
   @Bean
@@ -377,10 +595,11 @@ public class MybatisEasyAutoConfiguration {
         return "";
       }
 
-      Class<?> entityClass = resolveEntityType(mapperClass);
+      Class<?> entityClass = MapperTypeResolver.resolveEntityType(mapperClass);
       if (entityClass == null) return "";
 
-      return AutoSqlBuilder.build(entityClass, xmlContent, props, dbProductName);
+      String autoSql = AutoSqlBuilder.build(entityClass, xmlContent, props, dbProductName);
+      return prependOffHeapCache(mapperClass, xmlContent, autoSql, props);
 
     } catch (ClassNotFoundException e) {
       log.debug("MyBatis-Easy: namespace is not a class: {}", namespace);
@@ -391,6 +610,32 @@ public class MybatisEasyAutoConfiguration {
     }
   }
 
+  /**
+   * cache.off-heap.namespaces 대상이면 auto sql 앞에 &lt;cache type="OffHeapCache"&gt; 추가
+   * - 사용자 XML에 이미 cache 설정이 있으면 그대로 둠
+   */
+  private String prependOffHeapCache(Class<?> mapperClass, String xmlContent, String autoSql, MybatisEasyProperties props) {
+    if (autoSql == null || autoSql.isBlank()) return autoSql;
+
+    MybatisEasyProperties.Cache.OffHeap offHeap = props.getCache().getOffHeap();
+    List<String> targets = offHeap.getNamespaces();
+    if (targets == null || targets.isEmpty()) return autoSql;
+    if (!targets.contains(mapperClass.getName()) && !targets.contains(mapperClass.getSimpleName())) return autoSql;
+
+    // 이전에 주입된 marker block 안의 cache는 제외하고 판단
+    String userXml = AUTOCRUD_BLOCK_PATTERN.matcher(xmlContent).replaceAll("");
+    if (USER_CACHE_PATTERN.matcher(userXml).find()) {
+      log.info("MyBatis-Easy: off-heap cache skipped (mapper already declares cache). ns={}", mapperClass.getName());
+      return autoSql;
+    }
+
+    return "  <cache type=\"" + OffHeapCache.class.getName() + "\">\n"
+        + "    <property name=\"capacityBytes\" value=\"" + offHeap.getCapacityBytes() + "\"/>\n"
+        + "    <property name=\"blockSize\" value=\"" + offHeap.getBlockSize() + "\"/>\n"
+        + "  </cache>\n"
+        + autoSql;
+  }
+
   private String resolveDbProductName() {
     try {
       DataSource ds = applicationContext.getBean(DataSource.class);
@@ -402,42 +647,4 @@ public class MybatisEasyAutoConfiguration {
       return "unknown";
     }
   }
-
-  // ==========================================================
-  // (중요 수정) BaseMapper<T,ID>의 T를 "상속/중첩 인터페이스"까지 재귀로 탐색
-  // ==========================================================
-  private Class<?> resolveEntityType(Class<?> mapperClass) {
-    return resolveEntityTypeRecursive(mapperClass, new HashSet<>());
-  }
-
-  private Class<?> resolveEntityTypeRecursive(Class<?> type, Set<Class<?>> visited) {
-    if (type == null || !visited.add(type)) return null;
-
-    for (Type gi : type.getGenericInterfaces()) {
-      Class<?> found = resolveFromType(gi);
-      if (found != null) return found;
-
-      if (gi instanceof Class<?> c) {
-        Class<?> rec = resolveEntityTypeRecursive(c, visited);
-        if (rec != null) return rec;
-      } else if (gi instanceof ParameterizedType pt && pt.getRawType() instanceof Class<?> raw) {
-        Class<?> rec = resolveEntityTypeRecursive(raw, visited);
-        if (rec != null) return rec;
-      }
-    }
-
-    return resolveEntityTypeRecursive(type.getSuperclass(), visited);
-  }
-
-  private Class<?> resolveFromType(Type t) {
-    if (!(t instanceof ParameterizedType pt)) return null;
-
-    Type raw = pt.getRawType();
-    if (!(raw instanceof Class<?> rawClass)) return null;
-
-    if (!BaseMapper.class.isAssignableFrom(rawClass)) return null;
-
-    Type arg0 = pt.getActualTypeArguments()[0];
-    return (arg0 instanceof Class<?> c) ? c : null;
-  }
 }
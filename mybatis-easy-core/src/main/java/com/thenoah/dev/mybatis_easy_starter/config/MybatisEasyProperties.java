@@ -1,5 +1,10 @@
 package com.thenoah.dev.mybatis_easy_starter.config;
 
+import com.thenoah.dev.mybatis_easy_starter.support.bulk.WriteBehindBuffer;
+import com.thenoah.dev.mybatis_easy_starter.support.lifecycle.SoftDeleteLifecycleJob;
+
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,11 +18,29 @@ public class MybatisEasyProperties {
   private final Generator generator = new Generator();
   private final Logging logging = new Logging();
   private final Pagination pagination = new Pagination();
+  private final Export export = new Export();
+  private final Cache cache = new Cache();
+  private final ReferenceData referenceData = new ReferenceData();
+  private final IdentityMap identityMap = new IdentityMap();
+  private final DirtyChecking dirtyChecking = new DirtyChecking();
+  private final BulkLoad bulkLoad = new BulkLoad();
+  private final WriteBehind writeBehind = new WriteBehind();
+  private final UnitOfWork unitOfWork = new UnitOfWork();
+  private final SoftDeleteLifecycle softDeleteLifecycle = new SoftDeleteLifecycle();
 
   public AutoSql getAutoSql() { return autoSql; }
   public Generator getGenerator() { return generator; }
   public Logging getLogging() { return logging; }
   public Pagination getPagination() { return pagination; }
+  public Export getExport() { return export; }
+  public Cache getCache() { return cache; }
+  public ReferenceData getReferenceData() { return referenceData; }
+  public IdentityMap getIdentityMap() { return identityMap; }
+  public DirtyChecking getDirtyChecking() { return dirtyChecking; }
+  public BulkLoad getBulkLoad() { return bulkLoad; }
+  public WriteBehind getWriteBehind() { return writeBehind; }
+  public UnitOfWork getUnitOfWork() { return unitOfWork; }
+  public SoftDeleteLifecycle getSoftDeleteLifecycle() { return softDeleteLifecycle; }
 
   // ------------------------------------------------------------
   // AutoSql
@@ -42,6 +65,11 @@ public class MybatisEasyProperties {
      */
     private boolean quoteIdentifiers = false;
 
+    /**
+     * @SoftDelete 엔티티마다 soft delete 조건용 인덱스 DDL 제안을 시작 로그(INFO)로 출력
+     */
+    private boolean softDeleteIndexHint = true;
+
     private final Update update = new Update();
     private final GeneratedKey generatedKey = new GeneratedKey();
 
@@ -54,6 +82,9 @@ public class MybatisEasyProperties {
     public boolean isQuoteIdentifiers() { return quoteIdentifiers; }
     public void setQuoteIdentifiers(boolean quoteIdentifiers) { this.quoteIdentifiers = quoteIdentifiers; }
 
+    public boolean isSoftDeleteIndexHint() { return softDeleteIndexHint; }
+    public void setSoftDeleteIndexHint(boolean softDeleteIndexHint) { this.softDeleteIndexHint = softDeleteIndexHint; }
+
     public Update getUpdate() { return update; }
     public GeneratedKey getGeneratedKey() { return generatedKey; }
 
@@ -66,8 +97,16 @@ public class MybatisEasyProperties {
        */
       private boolean allowEmptySet = false;
 
+      /**
+       * @Version 엔티티의 update/deleteByIdAndVersion이 0건(버전 불일치)이면
+       * OptimisticLockingFailureException을 던짐 (false면 0 반환만)
+       */
+      private boolean failOnVersionConflict = true;
+
       public boolean isAllowEmptySet() { return allowEmptySet; }
       public void setAllowEmptySet(boolean allowEmptySet) { this.allowEmptySet = allowEmptySet; }
+      public boolean isFailOnVersionConflict() { return failOnVersionConflict; }
+      public void setFailOnVersionConflict(boolean failOnVersionConflict) { this.failOnVersionConflict = failOnVersionConflict; }
     }
 
     public static class GeneratedKey {
@@ -75,6 +114,9 @@ public class MybatisEasyProperties {
        * AUTO: DB별 추천값 선택(현재는 JDBC로 fallback)
        * JDBC: useGeneratedKeys 기반
        * NONE: 키 회수 안함
+       * POOLED_SEQUENCE: DB 시퀀스에서 allocationSize 단위 블록 할당 (정수형 PK)
+       * UUID_V7: 시간 순서 UUID 클라이언트 생성 (UUID/String PK)
+       * SNOWFLAKE: 64bit 시간 순서 정수 클라이언트 생성 (Long PK)
        */
       private Strategy strategy = Strategy.AUTO;
 
@@ -84,14 +126,47 @@ public class MybatisEasyProperties {
        */
       private String keyColumn = "id";
 
+      /**
+       * POOLED_SEQUENCE 시퀀스 이름 ({table} → 테이블명)
+       */
+      private String sequenceName = "{table}_seq";
+
+      /**
+       * POOLED_SEQUENCE 블록 크기 (시퀀스의 INCREMENT BY와 같아야 함)
+       */
+      private int allocationSize = 50;
+
+      /**
+       * SNOWFLAKE 노드 id (0~1023, 음수면 호스트명/PID로 추정)
+       */
+      private long workerId = -1;
+
       public Strategy getStrategy() { return strategy; }
       public void setStrategy(Strategy strategy) { this.strategy = strategy; }
 
       public String getKeyColumn() { return keyColumn; }
       public void setKeyColumn(String keyColumn) { this.keyColumn = keyColumn; }
+
+      public String getSequenceName() { return sequenceName; }
+      public void setSequenceName(String sequenceName) { this.sequenceName = sequenceName; }
+
+      public int getAllocationSize() { return allocationSize; }
+      public void setAllocationSize(int allocationSize) { this.allocationSize = allocationSize; }
+
+      public long getWorkerId() { return workerId; }
+      public void setWorkerId(long workerId) { this.workerId = workerId; }
     }
 
-    public enum Strategy { AUTO, JDBC, NONE }
+    public enum Strategy {
+      AUTO, JDBC, NONE, POOLED_SEQUENCE, UUID_V7, SNOWFLAKE;
+
+      /**
+       * insert 전에 클라이언트가 PK를 채우는 전략인지 (generated key 회수 없음)
+       */
+      public boolean isClientAssigned() {
+        return this == POOLED_SEQUENCE || this == UUID_V7 || this == SNOWFLAKE;
+      }
+    }
   }
 
   // ------------------------------------------------------------
@@ -220,4 +295,375 @@ public class MybatisEasyProperties {
       public enum Direction { ASC, DESC }
     }
   }
+
+  // ------------------------------------------------------------
+  // Export
+  // ------------------------------------------------------------
+  public static class Export {
+
+    /**
+     * exportAll statement의 fetchSize (드라이버가 한 번에 가져오는 row 수)
+     * - MySQL(Connector/J)은 스트리밍을 위해 자동으로 Integer.MIN_VALUE 사용
+     * - Postgres는 트랜잭션(autocommit=false) 안에서 실행해야 커서 스트리밍이 적용됨
+     */
+    private int fetchSize = 1000;
+
+    public int getFetchSize() { return fetchSize; }
+    public void setFetchSize(int fetchSize) { this.fetchSize = fetchSize; }
+  }
+
+  // ------------------------------------------------------------
+  // Cache
+  // ------------------------------------------------------------
+  public static class Cache {
+
+    /**
+     * findById 엔티티 캐시 전체 스위치 (기본 OFF)
+     * - 켜도 @EntityCache 또는 entities 설정이 있는 엔티티만 캐시됨
+     */
+    private boolean enabled = false;
+
+    /** 엔티티별 최대 엔트리 수 기본값 (LRU eviction) */
+    private int maxSize = 10_000;
+
+    /** 조회 결과 TTL 기본값 */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /** 미존재 결과(negative caching) TTL 기본값 (0이면 사용 안함) */
+    private Duration negativeTtl = Duration.ofSeconds(5);
+
+    /**
+     * 엔티티별 설정 (key: 엔티티 FQCN 또는 simple name)
+     * 예) mybatis-easy.cache.entities.User.ttl=30s
+     */
+    private Map<String, Entity> entities = new LinkedHashMap<>();
+
+    /** 자동 CRUD namespace용 off-heap MyBatis 2차 캐시 */
+    private OffHeap offHeap = new OffHeap();
+
+    /** DB 로그 테이블 기반 노드 간 캐시 invalidation */
+    private Invalidation invalidation = new Invalidation();
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getMaxSize() { return maxSize; }
+    public void setMaxSize(int maxSize) { this.maxSize = maxSize; }
+
+    public Duration getTtl() { return ttl; }
+    public void setTtl(Duration ttl) { this.ttl = ttl; }
+
+    public Duration getNegativeTtl() { return negativeTtl; }
+    public void setNegativeTtl(Duration negativeTtl) { this.negativeTtl = negativeTtl; }
+
+    public Map<String, Entity> getEntities() { return entities; }
+    public void setEntities(Map<String, Entity> entities) { this.entities = entities; }
+
+    public OffHeap getOffHeap() { return offHeap; }
+    public void setOffHeap(OffHeap offHeap) { this.offHeap = offHeap; }
+
+    public Invalidation getInvalidation() { return invalidation; }
+    public void setInvalidation(Invalidation invalidation) { this.invalidation = invalidation; }
+
+    public static class Entity {
+      /** null이면 상위 기본값 사용 */
+      private Integer maxSize;
+      private Duration ttl;
+      private Duration negativeTtl;
+
+      public Integer getMaxSize() { return maxSize; }
+      public void setMaxSize(Integer maxSize) { this.maxSize = maxSize; }
+
+      public Duration getTtl() { return ttl; }
+      public void setTtl(Duration ttl) { this.ttl = ttl; }
+
+      public Duration getNegativeTtl() { return negativeTtl; }
+      public void setNegativeTtl(Duration negativeTtl) { this.negativeTtl = negativeTtl; }
+    }
+
+    public static class OffHeap {
+      /**
+       * &lt;cache type="OffHeapCache"&gt;를 주입할 mapper namespace 목록 (FQCN 또는 simple name)
+       * - 비어 있으면 주입 안함 (cache.enabled와 무관하게 동작)
+       * - XML에 이미 &lt;cache&gt; / &lt;cache-ref&gt;가 있으면 건너뜀
+       */
+      private List<String> namespaces = new ArrayList<>();
+
+      /** namespace별 off-heap 용량 (bytes) */
+      private long capacityBytes = 64L * 1024 * 1024;
+
+      /** 할당 블록 크기 (bytes). 평균 결과 직렬화 크기에 맞추면 낭비가 적음 */
+      private int blockSize = 4096;
+
+      public List<String> getNamespaces() { return namespaces; }
+      public void setNamespaces(List<String> namespaces) { this.namespaces = namespaces; }
+
+      public long getCapacityBytes() { return capacityBytes; }
+      public void setCapacityBytes(long capacityBytes) { this.capacityBytes = capacityBytes; }
+
+      public int getBlockSize() { return blockSize; }
+      public void setBlockSize(int blockSize) { this.blockSize = blockSize; }
+    }
+
+    public static class Invalidation {
+      /**
+       * 자동 CRUD 쓰기 시 (entity, id)를 같은 트랜잭션으로 로그 테이블에 기록하고,
+       * 각 노드가 주기적으로 읽어 로컬 캐시(엔티티 캐시/MyBatis namespace 캐시)를 제거 (기본 OFF)
+       */
+      private boolean enabled = false;
+
+      /** 로그 테이블명 */
+      private String tableName = "mybatis_easy_invalidation_log";
+
+      /** 테이블이 없으면 시작 시 생성 */
+      private boolean initializeSchema = true;
+
+      /** polling 주기 */
+      private Duration pollInterval = Duration.ofSeconds(1);
+
+      /**
+       * 마지막으로 본 로그 id보다 작은데 아직 안 보인 id(커밋 전 트랜잭션)를 기다리는 시간
+       * - 이보다 오래 걸려 커밋된 쓰기의 로그는 놓칠 수 있음 → 가장 긴 쓰기 트랜잭션 시간보다 크게 설정
+       * - retention보다 짧게는 삭제하지 않음
+       */
+      private Duration grace = Duration.ofMinutes(5);
+
+      /** 이보다 오래된 로그는 삭제 (0이면 삭제 안함) */
+      private Duration retention = Duration.ofHours(1);
+
+      /** 노드 식별자 (null이면 시작 시 랜덤 생성). 자기 노드 로그는 건너뜀 */
+      private String nodeId;
+
+      public boolean isEnabled() { return enabled; }
+      public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+      public String getTableName() { return tableName; }
+      public void setTableName(String tableName) { this.tableName = tableName; }
+
+      public boolean isInitializeSchema() { return initializeSchema; }
+      public void setInitializeSchema(boolean initializeSchema) { this.initializeSchema = initializeSchema; }
+
+      public Duration getPollInterval() { return pollInterval; }
+      public void setPollInterval(Duration pollInterval) { this.pollInterval = pollInterval; }
+
+      public Duration getGrace() { return grace; }
+      public void setGrace(Duration grace) { this.grace = grace; }
+
+      public Duration getRetention() { return retention; }
+      public void setRetention(Duration retention) { this.retention = retention; }
+
+      public String getNodeId() { return nodeId; }
+      public void setNodeId(String nodeId) { this.nodeId = nodeId; }
+    }
+  }
+
+  // ------------------------------------------------------------
+  // ReferenceData
+  // ------------------------------------------------------------
+  public static class ReferenceData {
+
+    /**
+     * @ReferenceData 엔티티 전체 메모리 적재 (어노테이션이 붙은 엔티티만 대상)
+     */
+    private boolean enabled = true;
+
+    /** 변경 감지 주기 기본값 (0이면 주기 갱신 안함, 쓰기 시 재적재만) */
+    private Duration refreshInterval = Duration.ofSeconds(60);
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Duration getRefreshInterval() { return refreshInterval; }
+    public void setRefreshInterval(Duration refreshInterval) { this.refreshInterval = refreshInterval; }
+  }
+
+  // ------------------------------------------------------------
+  // IdentityMap
+  // ------------------------------------------------------------
+  public static class IdentityMap {
+
+    /**
+     * 트랜잭션 단위 identity map (기본 OFF)
+     * - 같은 트랜잭션 안의 반복 findById는 처음 읽은 인스턴스를 DB 조회 없이 반환
+     */
+    private boolean enabled = false;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+  }
+
+  // ------------------------------------------------------------
+  // DirtyChecking
+  // ------------------------------------------------------------
+  public static class DirtyChecking {
+
+    /**
+     * 자동 CRUD update dirty checking (기본 OFF)
+     * - 자동 CRUD 조회로 읽은 엔티티는 바뀐 컬럼만 UPDATE, 바뀐 게 없으면 실행하지 않음(0 반환)
+     */
+    private boolean enabled = false;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+  }
+
+  // ------------------------------------------------------------
+  // BulkLoad
+  // ------------------------------------------------------------
+  public static class BulkLoad {
+
+    /** BulkLoader 빈 등록 (기본 OFF) */
+    private boolean enabled = false;
+
+    /**
+     * 이 건수 이상이면 COPY / LOAD DATA 사용 (미만이면 JDBC batch)
+     * - 크기를 알 수 없는 Iterable은 항상 native 시도
+     */
+    private int nativeThreshold = 10_000;
+
+    /** batch 경로의 executeBatch 단위 */
+    private int batchSize = 1000;
+
+    /** ParallelBulkLoader 동시 적재 chunk 수 (= 사용 커넥션 수, 풀 크기보다 작게) */
+    private int parallelism = 4;
+
+    /** ParallelBulkLoader chunk 크기 (chunk마다 별도 트랜잭션) */
+    private int chunkSize = 10_000;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getNativeThreshold() { return nativeThreshold; }
+    public void setNativeThreshold(int nativeThreshold) { this.nativeThreshold = nativeThreshold; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public int getParallelism() { return parallelism; }
+    public void setParallelism(int parallelism) { this.parallelism = parallelism; }
+
+    public int getChunkSize() { return chunkSize; }
+    public void setChunkSize(int chunkSize) { this.chunkSize = chunkSize; }
+  }
+
+  // ------------------------------------------------------------
+  // WriteBehind
+  // ------------------------------------------------------------
+  public static class WriteBehind {
+
+    /** WriteBehindBuffer 빈 등록 (기본 OFF) */
+    private boolean enabled = false;
+
+    /** 엔티티 타입별 큐 최대 row 수 */
+    private int capacity = 10_000;
+
+    /** 이 건수가 모이면 즉시 flush (한 번에 insert하는 최대 row 수) */
+    private int flushSize = 500;
+
+    /** 건수가 안 차도 이 주기마다 flush */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /** 큐가 가득 찼을 때: BLOCK / DROP / CALLER_RUNS */
+    private WriteBehindBuffer.Overflow overflow = WriteBehindBuffer.Overflow.BLOCK;
+
+    /** BLOCK 대기 최대 시간 (넘으면 버림) */
+    private Duration blockTimeout = Duration.ofSeconds(5);
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getCapacity() { return capacity; }
+    public void setCapacity(int capacity) { this.capacity = capacity; }
+
+    public int getFlushSize() { return flushSize; }
+    public void setFlushSize(int flushSize) { this.flushSize = flushSize; }
+
+    public Duration getFlushInterval() { return flushInterval; }
+    public void setFlushInterval(Duration flushInterval) { this.flushInterval = flushInterval; }
+
+    public WriteBehindBuffer.Overflow getOverflow() { return overflow; }
+    public void setOverflow(WriteBehindBuffer.Overflow overflow) { this.overflow = overflow; }
+
+    public Duration getBlockTimeout() { return blockTimeout; }
+    public void setBlockTimeout(Duration blockTimeout) { this.blockTimeout = blockTimeout; }
+  }
+
+  // ------------------------------------------------------------
+  // UnitOfWork
+  // ------------------------------------------------------------
+  public static class UnitOfWork {
+
+    /**
+     * 트랜잭션 안의 자동 CRUD insert/update를 커밋 직전까지 모아 JDBC batch로 실행 (기본 OFF)
+     * - insert는 클라이언트 PK 할당 전략일 때만 지연 (DB 생성 키는 바로 실행)
+     * - 지연된 쓰기의 반환값은 1, 제약 조건 오류는 flush(커밋) 시점에 발생
+     */
+    private boolean enabled = false;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+  }
+
+  // ------------------------------------------------------------
+  // SoftDeleteLifecycle
+  // ------------------------------------------------------------
+  public static class SoftDeleteLifecycle {
+
+    /**
+     * soft delete 후 retention이 지난 row를 주기적으로 archive/purge (기본 OFF)
+     * - 여러 노드가 있으면 한 노드에서만 켤 것
+     */
+    private boolean enabled = false;
+
+    /** ARCHIVE: &lt;table&gt;&lt;archive-suffix&gt; 테이블로 이동 / PURGE: 삭제 */
+    private SoftDeleteLifecycleJob.Mode mode = SoftDeleteLifecycleJob.Mode.PURGE;
+
+    /** 삭제 시각이 이보다 오래된 row만 대상 */
+    private Duration retention = Duration.ofDays(30);
+
+    /** 실행 주기 */
+    private Duration interval = Duration.ofHours(1);
+
+    /** 한 트랜잭션에서 처리하는 최대 row 수 */
+    private int batchSize = 500;
+
+    /** batch 사이 대기 (lock/부하 분산) */
+    private Duration pause = Duration.ofMillis(200);
+
+    /** archive 테이블명 = 원본 테이블명 + suffix (미리 생성 필요) */
+    private String archiveSuffix = "_archive";
+
+    /** 진행 위치 기록 테이블 */
+    private String checkpointTable = "mybatis_easy_lifecycle_checkpoint";
+
+    /** checkpoint 테이블이 없으면 시작 시 생성 */
+    private boolean initializeSchema = true;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public SoftDeleteLifecycleJob.Mode getMode() { return mode; }
+    public void setMode(SoftDeleteLifecycleJob.Mode mode) { this.mode = mode; }
+
+    public Duration getRetention() { return retention; }
+    public void setRetention(Duration retention) { this.retention = retention; }
+
+    public Duration getInterval() { return interval; }
+    public void setInterval(Duration interval) { this.interval = interval; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public Duration getPause() { return pause; }
+    public void setPause(Duration pause) { this.pause = pause; }
+
+    public String getArchiveSuffix() { return archiveSuffix; }
+    public void setArchiveSuffix(String archiveSuffix) { this.archiveSuffix = archiveSuffix; }
+
+    public String getCheckpointTable() { return checkpointTable; }
+    public void setCheckpointTable(String checkpointTable) { this.checkpointTable = checkpointTable; }
+
+    public boolean isInitializeSchema() { return initializeSchema; }
+    public void setInitializeSchema(boolean initializeSchema) { this.initializeSchema = initializeSchema; }
+  }
 }
@@ -5,6 +5,11 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * 부모 삭제(deleteById/deleteAllByIds) 시 자식 테이블 row를 먼저 set 기반으로 삭제
+ * - 관계 필드(List&lt;Child&gt; 등)에 선언하며, 컬럼으로 매핑되지 않음
+ * - 자식 엔티티 타입에 @SoftDelete가 있으면 DELETE 대신 soft delete UPDATE
+ */
 @Target(ElementType.FIELD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface CascadeDelete {
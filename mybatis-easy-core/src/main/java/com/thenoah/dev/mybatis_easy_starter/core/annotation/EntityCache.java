@@ -0,0 +1,18 @@
+package com.thenoah.dev.mybatis_easy_starter.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 자동 CRUD findById 앞단 엔티티 캐시 활성화 (mybatis-easy.cache.enabled=true 필요)
+ * - 음수 값은 mybatis-easy.cache.* 기본값 사용
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EntityCache {
+  int maxSize() default -1;            // 최대 엔트리 수 (LRU eviction)
+  long ttlSeconds() default -1;        // 조회 결과 TTL
+  long negativeTtlSeconds() default -1; // 미존재(miss) 결과 TTL (0이면 negative caching 안함)
+}
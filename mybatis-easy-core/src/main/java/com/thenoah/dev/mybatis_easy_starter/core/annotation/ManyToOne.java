@@ -0,0 +1,16 @@
+package com.thenoah.dev.mybatis_easy_starter.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * N:1 관계 (이 엔티티의 FK 컬럼 → 대상 엔티티 PK)
+ * - AssociationLoader로 명시적으로 일괄 적재 (lazy proxy 없음), 컬럼으로 매핑되지 않음
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ManyToOne {
+  String foreignKey();     // 이 엔티티 테이블의 외래키 컬럼명
+}
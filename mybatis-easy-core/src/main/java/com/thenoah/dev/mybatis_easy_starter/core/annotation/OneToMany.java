@@ -0,0 +1,17 @@
+package com.thenoah.dev.mybatis_easy_starter.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 1:N 관계 (자식 테이블의 FK 컬럼 → 이 엔티티 PK)
+ * - List&lt;Child&gt;/Set&lt;Child&gt;/Child[] 필드에 선언, 컬럼으로 매핑되지 않음
+ * - AssociationLoader로 명시적으로 일괄 적재 (lazy proxy 없음)
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OneToMany {
+  String foreignKey();     // 자식 테이블의 외래키 컬럼명
+}
@@ -0,0 +1,18 @@
+package com.thenoah.dev.mybatis_easy_starter.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 파티션 키 컬럼 (range/list 파티션 테이블의 partition pruning용, 엔티티당 1개)
+ * - 자동 CRUD update/updateReturning: WHERE에 파티션 조건 추가
+ *   · dirty tracking 중인 엔티티: 변경 전 값으로 AND col = #{변경 전 값} (파티션 키를 바꾸는 update도 가능)
+ *   · 그 외 파라미터: 값이 있으면 AND col = #{필드} (파티션 키를 바꾸려면 dirty tracking 필요, 아니면 0건)
+ * - findByIdInPartition / deleteByIdInPartition / findPageInPartition 생성
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PartitionKey {
+}
@@ -0,0 +1,19 @@
+package com.thenoah.dev.mybatis_easy_starter.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 작은 참조 테이블(코드/통화/상태 등)을 시작 시 전체 메모리에 적재
+ * - 자동 CRUD findById / findAll / existsById 를 DB 조회 없이 스냅샷에서 응답
+ * - 주기적으로 변경 감지 후 전체 재적재하여 원자적으로 교체
+ * - 음수 값은 mybatis-easy.reference-data.* 기본값 사용
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReferenceData {
+  long refreshSeconds() default -1; // 변경 감지 주기 (0이면 주기 갱신 안함)
+  boolean copyOnRead() default true; // false면 스냅샷 인스턴스를 그대로 반환 (수정 금지)
+}
@@ -0,0 +1,36 @@
+package com.thenoah.dev.mybatis_easy_starter.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 물리 테이블 분할 라우팅 (events → events_2026_10 / events_3 등)
+ * - @PartitionKey 필드 값으로 호출마다 물리 테이블을 결정
+ * - 값이 없는 호출(findAll 등)은 논리 테이블(@Table 이름) 그대로 실행
+ * - 물리 테이블 간 id가 겹칠 수 있어 엔티티 캐시(@EntityCache)와 트랜잭션 identity map은 적용하지 않음
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardedTable {
+
+  Strategy strategy();
+
+  /** HASH: 물리 테이블 수 (&lt;table&gt;_0 ~ &lt;table&gt;_(shards-1)) */
+  int shards() default 0;
+
+  /** 날짜 버킷 계산 시 Instant/Date 값의 time zone */
+  String zone() default "UTC";
+
+  enum Strategy {
+    /** &lt;table&gt;_yyyy */
+    YEARLY,
+    /** &lt;table&gt;_yyyy_MM */
+    MONTHLY,
+    /** &lt;table&gt;_yyyy_MM_dd */
+    DAILY,
+    /** &lt;table&gt;_(hash % shards) */
+    HASH
+  }
+}
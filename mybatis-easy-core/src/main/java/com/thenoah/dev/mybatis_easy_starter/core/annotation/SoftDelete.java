@@ -9,6 +9,9 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface SoftDelete {
   // 특정 값을 사용할 경우 (플래그 방식)
+  // 예) @SoftDelete(deletedValue = "Y", notDeletedValue = "N") → 조회 col = 'N' / 삭제 SET col = 'Y'
+  // - notDeletedValue를 생략하면 NULL 또는 deletedValue가 아닌 값을 살아있는 row로 봄
+  // - insert 시 필드가 null이면 notDeletedValue로 기록
   String deletedValue() default "";
   String notDeletedValue() default "";
 
@@ -0,0 +1,16 @@
+package com.thenoah.dev.mybatis_easy_starter.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 잠금 버전 컬럼 (정수형 필드)
+ * - 자동 CRUD update: SET version = version + 1, WHERE version = #{version}
+ * - 자동 CRUD insert: 값이 없으면 0으로 저장
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Version {
+}
@@ -1,19 +1,41 @@
 package com.thenoah.dev.mybatis_easy_starter.core.interceptor;
 
-import com.thenoah.dev.mybatis_easy_starter.core.mapper.BaseMapper;
+import com.thenoah.dev.mybatis_easy_starter.support.ColumnAnalyzer;
 import com.thenoah.dev.mybatis_easy_starter.support.EntityParser;
+import com.thenoah.dev.mybatis_easy_starter.support.MapperTypeResolver;
+import com.thenoah.dev.mybatis_easy_starter.support.cache.BoundedEntityCache;
+import com.thenoah.dev.mybatis_easy_starter.support.cache.EntityCacheManager;
+import com.thenoah.dev.mybatis_easy_starter.support.cache.InvalidationLog;
+import com.thenoah.dev.mybatis_easy_starter.support.cache.ReferenceDataManager;
+import com.thenoah.dev.mybatis_easy_starter.support.cache.ReferenceDataSnapshot;
+import com.thenoah.dev.mybatis_easy_starter.support.cache.TransactionIdentityMap;
+import com.thenoah.dev.mybatis_easy_starter.support.dialect.Dialect;
+import com.thenoah.dev.mybatis_easy_starter.support.dirty.DirtyTracker;
+import com.thenoah.dev.mybatis_easy_starter.support.id.IdGenerator;
+import com.thenoah.dev.mybatis_easy_starter.support.shard.ShardRouter;
+import com.thenoah.dev.mybatis_easy_starter.support.uow.UnitOfWork;
+import com.thenoah.dev.mybatis_easy_starter.tool.generator.AutoSqlBuilder;
 import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.BatchExecutor;
 import org.apache.ibatis.executor.Executor;
 import org.apache.ibatis.mapping.BoundSql;
 import org.apache.ibatis.mapping.MappedStatement;
 import org.apache.ibatis.mapping.SqlCommandType;
 import org.apache.ibatis.plugin.*;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.transaction.Transaction;
+import org.mybatis.spring.transaction.SpringManagedTransaction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
 
 import java.lang.reflect.*;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.time.temporal.Temporal;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -28,7 +50,12 @@ import java.util.concurrent.ConcurrentHashMap;
 
     // query(ms, param, rowBounds, resultHandler, cacheKey, boundSql)  <= 오버로드
     @Signature(type = Executor.class, method = "query",
-        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+
+    // select로 실행된 insertReturning/updateReturning 이후 commit/rollback 강제 (SqlSession dirty 보정)
+    @Signature(type = Executor.class, method = "commit", args = {boolean.class}),
+    @Signature(type = Executor.class, method = "rollback", args = {boolean.class}),
+    @Signature(type = Executor.class, method = "close", args = {boolean.class})
 })
 public class ParameterMappingInterceptor implements Interceptor {
 
@@ -37,27 +64,111 @@ public class ParameterMappingInterceptor implements Interceptor {
   // mapperFQCN -> entityClass 캐시
   private final Map<String, Class<?>> entityTypeCache = new ConcurrentHashMap<>();
 
+  // select로 쓰기(insertReturning/updateReturning)를 실행한 Executor (DefaultSqlSession은 select에서 dirty를 켜지 않음)
+  private final Set<Executor> returningWriters = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+  // entityClass -> update SET 대상 프로퍼티
+  private final Map<Class<?>, List<String>> updatablePropertyCache = new ConcurrentHashMap<>();
+
   // BaseMapper 자동 CRUD 메서드
+  // *InPartition 조회는 id만 key로 쓰는 엔티티 캐시/identity map/참조 스냅샷을 거치지 않음 (파티션 조건이 무시되므로)
   private static final Set<String> AUTO_CRUD_METHODS = Set.of(
-      "insert", "update", "deleteById", "findById", "findAll", "findPage", "countAll"
+      "insert", "update", "insertReturning", "updateReturning",
+      "increment", "incrementAll", "claimIds", "markClaimed", "deleteById", "deleteByIdAndVersion", "deleteAllByIds",
+      "findById", "existsById", "findAllByIds", "findAll", "findPage", "countAll",
+      "findAllIds", "findIdsPage", "exportAll",
+      "findByIdInPartition", "findPageInPartition", "deleteByIdInPartition"
+  );
+
+  // @ReferenceData 스냅샷으로 응답하는 조회 메서드
+  private static final Set<String> REFERENCE_READ_METHODS = Set.of(
+      "findById", "existsById", "findAll"
   );
 
+  // 캐시 invalidate 대상 쓰기 메서드
+  private static final Set<String> WRITE_METHODS = Set.of(
+      "insert", "update", "insertReturning", "updateReturning", "increment", "incrementAll", "markClaimed", "deleteById", "deleteByIdAndVersion",
+      "deleteAllByIds", "deleteByIdInPartition"
+  );
+
+  // unit of work로 지연 실행할 수 있는 쓰기 메서드
+  private static final Set<String> DEFERRABLE_METHODS = Set.of("insert", "update");
+
+  // dirty checking 스냅샷을 기록하는 조회 메서드 (엔티티 결과)
+  private static final Set<String> DIRTY_CAPTURE_METHODS = Set.of(
+      "findById", "findAllByIds", "findAll", "findPage", "findByIdInPartition", "findPageInPartition"
+  );
+
+  private EntityCacheManager entityCacheManager;
+  private InvalidationLog invalidationLog;
+  private ReferenceDataManager referenceDataManager;
+  private TransactionIdentityMap identityMap;
+  private DirtyTracker dirtyTracker;
+  private boolean failOnVersionConflict = true;
+  private boolean allowEmptyUpdateSet = false;
+  private IdGenerator idGenerator;
+  private UnitOfWork unitOfWork;
+  private final ShardRouter shardRouter = new ShardRouter();
+  private final Set<String> cursorWarnedStatements = ConcurrentHashMap.newKeySet();
+
+  public void setEntityCacheManager(EntityCacheManager entityCacheManager) {
+    this.entityCacheManager = entityCacheManager;
+  }
+
+  public void setInvalidationLog(InvalidationLog invalidationLog) {
+    this.invalidationLog = invalidationLog;
+  }
+
+  public void setReferenceDataManager(ReferenceDataManager referenceDataManager) {
+    this.referenceDataManager = referenceDataManager;
+  }
+
+  public void setIdentityMap(TransactionIdentityMap identityMap) {
+    this.identityMap = identityMap;
+  }
+
+  public void setDirtyTracker(DirtyTracker dirtyTracker) {
+    this.dirtyTracker = dirtyTracker;
+  }
+
+  /**
+   * insert 전 PK 사전 할당 (POOLED_SEQUENCE / UUID_V7 / SNOWFLAKE)
+   */
+  public void setIdGenerator(IdGenerator idGenerator) {
+    this.idGenerator = idGenerator;
+  }
+
+  /**
+   * 트랜잭션 안의 자동 CRUD insert/update를 커밋(또는 관련 조회) 직전까지 모아 batch 실행
+   */
+  public void setUnitOfWork(UnitOfWork unitOfWork) {
+    this.unitOfWork = unitOfWork;
+  }
+
+  /**
+   * @Version 엔티티의 update/deleteByIdAndVersion이 0건이면 OptimisticLockingFailureException (기본 true)
+   */
+  public void setFailOnVersionConflict(boolean failOnVersionConflict) {
+    this.failOnVersionConflict = failOnVersionConflict;
+  }
+
+  /**
+   * auto-sql.update.allow-empty-set과 동일하게 (false면 수정할 값이 없는 update는 0건 no-op 분기로 실행됨)
+   */
+  public void setAllowEmptyUpdateSet(boolean allowEmptyUpdateSet) {
+    this.allowEmptyUpdateSet = allowEmptyUpdateSet;
+  }
+
   @Override
   public Object intercept(Invocation invocation) throws Throwable {
     Object[] args = invocation.getArgs();
+    if (args != null && args.length == 1 && args[0] instanceof Boolean) {
+      return proceedCompletion(invocation);
+    }
     if (args == null || args.length < 2) return invocation.proceed();
 
     // 공통: args[0]=MappedStatement, args[1]=parameter
     if (!(args[0] instanceof MappedStatement ms)) return invocation.proceed();
-    Object parameter = args[1];
-    if (parameter == null) return invocation.proceed();
-
-    // Map/primitive/collection은 그대로
-    if (parameter instanceof Map) return invocation.proceed();
-
-    Class<?> pClass = parameter.getClass();
-    if (isPrimitiveLike(pClass)) return invocation.proceed();
-    if (parameter instanceof Iterable || pClass.isArray()) return invocation.proceed();
 
     String msId = ms.getId(); // e.g. com.foo.MemberMapper.insert
     int lastDot = msId.lastIndexOf('.');
@@ -66,13 +177,535 @@ public class ParameterMappingInterceptor implements Interceptor {
     String mapperFqcn = msId.substring(0, lastDot);
     String methodName = msId.substring(lastDot + 1);
 
+    // unit of work: 지연 가능한 쓰기가 아니면 대기 중인 쓰기를 먼저 실행 (순서/조회 일관성)
+    if (unitOfWork != null && !DEFERRABLE_METHODS.contains(methodName)) {
+      flushPendingWrites(invocation, ms, mapperFqcn, methodName);
+    }
+
     // 자동 CRUD 외에는 개입하지 않음
     if (!AUTO_CRUD_METHODS.contains(methodName)) {
       return invocation.proceed();
     }
 
     Class<?> entityClass = entityTypeCache.computeIfAbsent(mapperFqcn, this::resolveEntityTypeSafely);
-    if (entityClass == null) return invocation.proceed();
+    if (entityClass == null) {
+      if (unitOfWork != null) flushPendingWrites(invocation, ms, mapperFqcn, methodName);
+      return invocation.proceed();
+    }
+
+    // @ShardedTable: 라우팅 값이 있으면 물리 테이블 statement로 교체
+    if (shardRouter.isSharded(entityClass)) {
+      ms = routeShard(invocation, ms, entityClass);
+    }
+
+    // findById: 트랜잭션 identity map 앞단 (miss면 아래 경로로 조회 후 적재)
+    Object result;
+    if ("findById".equals(methodName) && usesIdentityMap(entityClass) && !hasResultHandler(args) && identityMap.isActive()) {
+      result = findByIdWithIdentityMap(invocation, ms, entityClass, mapperFqcn);
+    } else {
+      result = interceptAutoCrud(invocation, ms, entityClass, mapperFqcn, methodName);
+    }
+
+    if (dirtyTracker != null && DIRTY_CAPTURE_METHODS.contains(methodName)) {
+      captureSnapshots(entityClass, result);
+    }
+    return result;
+  }
+
+  private Object interceptAutoCrud(Invocation invocation,
+                                   MappedStatement ms,
+                                   Class<?> entityClass,
+                                   String mapperFqcn,
+                                   String methodName) throws Throwable {
+    Object[] args = invocation.getArgs();
+
+    // @ReferenceData: 스냅샷에서 응답 (DB 미조회)
+    if (referenceDataManager != null && REFERENCE_READ_METHODS.contains(methodName)
+        && !hasResultHandler(args) && isDefaultRowBounds(args)) {
+      ReferenceDataSnapshot snapshot = referenceDataManager.snapshotOf(entityClass);
+      if (snapshot != null) {
+        return readFromSnapshot(snapshot, methodName, args[1]);
+      }
+    }
+
+    // findById: 엔티티 캐시 앞단
+    if ("findById".equals(methodName) && entityCacheManager != null && !hasResultHandler(args)) {
+      BoundedEntityCache cache = entityCacheManager.cacheFor(entityClass);
+      if (cache != null) {
+        return findByIdWithCache(invocation, cache, entityClass, args[1]);
+      }
+    }
+
+    if ("increment".equals(methodName) || "incrementAll".equals(methodName)) {
+      validateIncrementColumn(entityClass, readParam(args[1], "column"));
+    }
+    if ("claimIds".equals(methodName)) {
+      requireTransactionForClaim((Executor) invocation.getTarget(), entityClass);
+    }
+    if ("exportAll".equals(methodName) || "findAllIds".equals(methodName)) {
+      warnIfCursorDisabled((Executor) invocation.getTarget(), ms);
+    }
+
+    // insertReturning/updateReturning은 결과 row를 파라미터에 반영한 뒤 insert/update와 같게 처리
+    boolean returning = methodName.endsWith("Returning");
+    if (returning) {
+      methodName = methodName.substring(0, methodName.length() - "Returning".length());
+      if (ms.getSqlCommandType() == SqlCommandType.SELECT) returningWriters.add((Executor) invocation.getTarget());
+    }
+
+    String versionProperty = ColumnAnalyzer.analyzeClass(entityClass).getVersionField();
+    if (!WRITE_METHODS.contains(methodName)
+        || (!returning && entityCacheManager == null && invalidationLog == null && referenceDataManager == null
+            && identityMap == null && dirtyTracker == null && versionProperty == null && idGenerator == null
+            && unitOfWork == null && ColumnAnalyzer.getCascadeDeleteFields(entityClass).isEmpty())) {
+      return proceedWithParameterMapping(invocation, ms, entityClass);
+    }
+
+    if (idGenerator != null && "insert".equals(methodName)) {
+      assignGeneratedId((Executor) invocation.getTarget(), entityClass, args);
+    }
+
+    Object originalParam = args[1];
+    Object versionBefore = (versionProperty == null) ? null
+        : "deleteByIdAndVersion".equals(methodName) ? readParam(originalParam, "version")
+        : readProperty(originalParam, versionProperty);
+
+    // dirty checking: 추적 중인 엔티티면 바뀐 컬럼만 UPDATE, 바뀐 게 없으면 실행하지 않음
+    boolean tracked = false;
+    if (dirtyTracker != null && "update".equals(methodName) && entityClass.isInstance(originalParam)) {
+      Map<String, Object> changed = dirtyTracker.changedProperties(originalParam);
+      if (changed != null) {
+        if (changed.isEmpty()) {
+          // row는 이미 엔티티 상태와 같음 → 성공(1건)으로 보고 (0이면 호출부가 실패로 오인)
+          log.debug("MyBatis-Easy: update skipped (no dirty fields). msId={}", ms.getId());
+          return 1;
+        }
+        String idProperty = resolveIdProperty(entityClass);
+        changed.put(idProperty, readProperty(originalParam, idProperty));
+        if (versionProperty != null) changed.put(versionProperty, versionBefore);
+        putPartitionKey(entityClass, originalParam, changed);
+        args[1] = changed;
+        tracked = true;
+      }
+    }
+
+    Object result;
+    if (!returning && deferWrite(invocation, ms, entityClass, methodName, versionProperty)) {
+      result = 1;
+    } else {
+      if (unitOfWork != null && DEFERRABLE_METHODS.contains(methodName)) {
+        flushPendingWrites(invocation, ms, mapperFqcn, methodName);
+      }
+      if ("deleteById".equals(methodName) || "deleteAllByIds".equals(methodName)
+          || "deleteByIdInPartition".equals(methodName) || "deleteByIdAndVersion".equals(methodName)) {
+        cascadeDelete((Executor) invocation.getTarget(), ms, entityClass, mapperFqcn, methodName, args[1]);
+      }
+      result = proceedWithParameterMapping(invocation, ms, entityClass);
+    }
+    int affected = (result instanceof Integer n) ? n : -1;
+
+    if (returning) {
+      if (result instanceof List<?> rows) {
+        // RETURNING/OUTPUT/FINAL TABLE: 결과 row → 파라미터, mapper 반환값은 처리 건수
+        affected = rows.size();
+        if (!rows.isEmpty()) {
+          applyReturnedValues(entityClass, rows.get(0), originalParam, args[1]);
+        }
+        List<Object> count = new ArrayList<>(1);
+        count.add(affected);
+        result = count;
+      } else if (args[1] instanceof Map<?, ?> outParams && args[1] != originalParam) {
+        // Oracle RETURNING INTO: OUT 파라미터가 변환 Map에 채워짐 → DTO로 반영
+        applyReturnedValues(entityClass, outParams, originalParam, null);
+      }
+    }
+
+    // 수정할 값이 없어 no-op 분기(WHERE 1 = 0)로 실행된 update는 버전 충돌이 아님
+    Long newVersion = null;
+    if (versionProperty != null && !("update".equals(methodName) && isEmptyUpdateSet(entityClass, args[1], returning))) {
+      newVersion = applyVersion(ms, methodName, originalParam, versionProperty, versionBefore, affected);
+    }
+    if (tracked || (returning && affected > 0 && dirtyTracker != null && dirtyTracker.isTracked(originalParam))) {
+      dirtyTracker.recapture(originalParam);
+    }
+
+    // 쓰기 성공 후 invalidate (args[1]은 DTO 변환된 Map일 수 있음: 생성 키 포함)
+    for (Object id : resolveWrittenIds(entityClass, methodName, args[1])) {
+      if (entityCacheManager != null && id != null) {
+        entityCacheManager.invalidate(entityClass, id);
+      }
+      if (invalidationLog != null) {
+        appendInvalidationLog((Executor) invocation.getTarget(), ms, entityClass, mapperFqcn, id);
+      }
+      if (usesIdentityMap(entityClass) && id != null) {
+        applyWriteToIdentityMap(entityClass, methodName, id, originalParam, affected);
+      }
+    }
+    if (referenceDataManager != null) {
+      referenceDataManager.requestRefresh(entityClass);
+    }
+
+    return result;
+  }
+
+  /**
+   * Executor.commit/rollback/close(boolean): select로 실행된 쓰기가 있었다면 required(force)를 true로
+   * (SqlSession을 직접 쓸 때 commit()이 dirty=false로 보고 커밋을 건너뛰는 문제 방지)
+   */
+  private Object proceedCompletion(Invocation invocation) throws Throwable {
+    if (returningWriters.remove(invocation.getTarget())) {
+      invocation.getArgs()[0] = Boolean.TRUE;
+    }
+    return invocation.proceed();
+  }
+
+  private MappedStatement routeShard(Invocation invocation, MappedStatement ms, Class<?> entityClass) {
+    Object[] args = invocation.getArgs();
+    if (shardRouter.resolveTable(entityClass, args[1]) == null) return ms;
+
+    MappedStatement routed = shardRouter.route(ms, entityClass);
+    args[0] = routed;
+    // query(ms, param, rowBounds, handler, cacheKey, boundSql): BoundSql/CacheKey도 물리 테이블 기준으로 다시 생성
+    if (args.length == 6) {
+      BoundSql boundSql = routed.getBoundSql(args[1]);
+      args[5] = boundSql;
+      args[4] = ((Executor) invocation.getTarget()).createCacheKey(routed, args[1], (RowBounds) args[2], boundSql);
+    }
+    return routed;
+  }
+
+  private Object findByIdWithIdentityMap(Invocation invocation,
+                                         MappedStatement ms,
+                                         Class<?> entityClass,
+                                         String mapperFqcn) throws Throwable {
+    Object id = readParam(invocation.getArgs()[1], "id");
+    if (id == null) return interceptAutoCrud(invocation, ms, entityClass, mapperFqcn, "findById");
+
+    Object known = identityMap.get(entityClass, id);
+    if (known == TransactionIdentityMap.TOMBSTONE) {
+      return new ArrayList<>(0);
+    }
+    if (known != null) {
+      List<Object> one = new ArrayList<>(1);
+      one.add(known);
+      return one;
+    }
+
+    Object result = interceptAutoCrud(invocation, ms, entityClass, mapperFqcn, "findById");
+    if (result instanceof List<?> list && list.size() == 1) {
+      identityMap.put(entityClass, id, list.get(0));
+    }
+    return result;
+  }
+
+  /**
+   * @CascadeDelete 자식 삭제를 부모 삭제 전에 JDBC batch 한 번으로 실행
+   * - 자식 테이블당 statement 1개 (부모 id 컬렉션을 IN으로) → 자식 row 수와 무관
+   * - statement가 부모 삭제 조건(살아있는 row, version, partitionKey)을 다시 확인하므로 지워질 부모의 자식만 삭제
+   * - 같은 Transaction(커넥션)에서 실행하므로 부모 삭제와 함께 커밋/롤백
+   * - 자식 엔티티의 캐시/identity map은 id를 알 수 없어 타입 단위로 비움
+   *   → 엔티티 캐시는 트랜잭션 완료 후 한 번 더 비우고, 다른 노드용 invalidation 로그도 타입 단위로 기록
+   */
+  private void cascadeDelete(Executor executor,
+                             MappedStatement ms,
+                             Class<?> entityClass,
+                             String mapperFqcn,
+                             String methodName,
+                             Object parameter) throws SQLException {
+    List<Field> cascades = ColumnAnalyzer.getCascadeDeleteFields(entityClass);
+    if (cascades.isEmpty()) return;
+
+    Collection<?> ids;
+    if (!"deleteAllByIds".equals(methodName)) {
+      Object id = readParam(parameter, "id");
+      ids = (id == null) ? List.of() : Collections.singletonList(id);
+    } else {
+      ids = (readParam(parameter, "ids") instanceof Collection<?> c) ? c : List.of();
+    }
+    if (ids.isEmpty()) return;
+
+    Configuration configuration = ms.getConfiguration();
+    Map<String, Object> cascadeParam = new HashMap<>();
+    cascadeParam.put("ids", ids);
+    cascadeParam.put("version", "deleteByIdAndVersion".equals(methodName) ? readParam(parameter, "version") : null);
+    cascadeParam.put("partitionKey",
+        "deleteByIdInPartition".equals(methodName) ? readParam(parameter, "partitionKey") : null);
+    if (parameter instanceof Map<?, ?> m && m.containsKey(ShardRouter.SHARD_TABLE_PARAM)) {
+      cascadeParam.put(ShardRouter.SHARD_TABLE_PARAM, m.get(ShardRouter.SHARD_TABLE_PARAM));
+    }
+
+    // close()는 Transaction(커넥션)을 닫으므로 호출하지 않음 (statement는 flush에서 닫힘)
+    BatchExecutor batch = new BatchExecutor(configuration, executor.getTransaction());
+    for (Field cascade : cascades) {
+      String statementId = mapperFqcn + "." + AutoSqlBuilder.cascadeDeleteStatementId(cascade);
+      if (!configuration.hasStatement(statementId, false)) {
+        log.warn("MyBatis-Easy: cascade delete statement not found, skipped. statementId={}", statementId);
+        continue;
+      }
+      MappedStatement cascadeMs = configuration.getMappedStatement(statementId);
+      // 샤딩된 부모: 부모 조건 서브쿼리의 논리 테이블을 partitionKey의 물리 테이블로
+      if (shardRouter.isSharded(entityClass)) cascadeMs = shardRouter.route(cascadeMs, entityClass);
+      batch.update(cascadeMs, cascadeParam);
+    }
+    batch.flushStatements();
+
+    for (Field cascade : cascades) {
+      Class<?> childType = ColumnAnalyzer.resolveElementType(cascade);
+      if (childType == null) continue;
+      if (entityCacheManager != null) entityCacheManager.invalidateAll(childType);
+      if (identityMap != null) identityMap.evictAll(childType);
+      if (invalidationLog != null && entityCacheManager != null && entityCacheManager.cacheFor(childType) != null) {
+        // id null = 다른 노드에서 자식 엔티티 캐시 전체 제거
+        invalidationLog.append(executor.getTransaction().getConnection(), childType.getName(), null, null);
+      }
+    }
+  }
+
+  /**
+   * dirty checking update Map에 @PartitionKey 값 추가
+   * - 현재 값은 항상 포함 (SET + 분할 테이블 라우팅), 변경 전 값은 WHERE의 파티션 조건용
+   * - 변경 전 값은 null이어도 키를 넣음 → WHERE가 현재 값(바꿀 값)으로 대체 조건을 만들지 않음
+   * - @ShardedTable은 파티션 키가 물리 테이블을 정하므로 변경 불가 (다른 테이블로 옮길 수 없음)
+   */
+  private void putPartitionKey(Class<?> entityClass, Object entity, Map<String, Object> changed) {
+    Field partitionField = ColumnAnalyzer.getPartitionKeyField(entityClass);
+    if (partitionField == null) return;
+
+    String prop = partitionField.getName();
+    Object current = readProperty(entity, prop);
+    Object before = dirtyTracker.originalValue(entity, prop);
+    if (current != null) changed.put(prop, current);
+
+    if (before != null && shardRouter.isSharded(entityClass) && !before.equals(current)) {
+      throw new IllegalStateException("MyBatis-Easy: @PartitionKey of a @ShardedTable entity cannot be changed by update"
+          + " (insert into the new shard and delete the old row). entity=" + entityClass.getName()
+          + " property=" + prop);
+    }
+    changed.put(AutoSqlBuilder.PARTITION_KEY_BEFORE_PARAM, before);
+  }
+
+  /**
+   * unit of work 지연 대상이면 파라미터 스냅샷을 큐에 넣음 (실제 실행은 flush 시점)
+   * - insert: 클라이언트 PK 할당 전략(POOLED_SEQUENCE/UUID_V7/SNOWFLAKE)인 경우만. DB 생성 키는 바로 실행
+   * - update: @Version 엔티티는 충돌 감지를 위해 바로 실행
+   * - 2차 캐시(namespace cache)가 있는 statement는 캐시 flush를 위해 바로 실행
+   */
+  private boolean deferWrite(Invocation invocation,
+                             MappedStatement ms,
+                             Class<?> entityClass,
+                             String methodName,
+                             String versionProperty) {
+    if (unitOfWork == null || !DEFERRABLE_METHODS.contains(methodName) || !unitOfWork.isActive()) return false;
+    if (ms.getCache() != null) return false;
+    if ("update".equals(methodName) && versionProperty != null) return false;
+
+    Object[] args = invocation.getArgs();
+    Object parameter = args[1];
+    if (parameter == null || parameter instanceof Iterable || isPrimitiveLike(parameter.getClass())) return false;
+    if ("insert".equals(methodName)
+        && (idGenerator == null || readProperty(parameter, resolveIdProperty(entityClass)) == null)) return false;
+
+    // 호출 후 엔티티를 수정해도 실행 값이 바뀌지 않도록 스냅샷 (DTO는 엔티티 키 Map으로 변환)
+    Map<String, Object> snapshot;
+    if (parameter instanceof Map<?, ?> m) {
+      snapshot = new HashMap<>();
+      m.forEach((k, v) -> snapshot.put(String.valueOf(k), v));
+    } else if (entityClass.isInstance(parameter)) {
+      snapshot = new HashMap<>();
+      for (Field f : ColumnAnalyzer.getMappedFields(entityClass)) {
+        Object v = readProperty(parameter, f.getName());
+        if (v != null) snapshot.put(f.getName(), v);
+      }
+    } else {
+      snapshot = EntityParser.toEntityKeyedMap(parameter, entityClass);
+      args[1] = snapshot;
+    }
+
+    Executor executor = (Executor) invocation.getTarget();
+    unitOfWork.enqueue(ms, snapshot, entityClass, executor.getTransaction());
+    return true;
+  }
+
+  /**
+   * 대기 중인 쓰기 실행
+   * - 자동 CRUD 조회는 같은 엔티티 쓰기가 대기 중일 때만, 그 외 statement는 항상
+   * - 실행 후 이 세션의 local cache를 비움 (지연 쓰기 전에 캐시된 조회 결과 제거)
+   */
+  private void flushPendingWrites(Invocation invocation, MappedStatement ms, String mapperFqcn, String methodName)
+      throws SQLException {
+    if (!unitOfWork.hasPending()) return;
+
+    if (ms.getSqlCommandType() == SqlCommandType.SELECT && AUTO_CRUD_METHODS.contains(methodName)
+        && !methodName.endsWith("Returning")) {
+      Class<?> entityClass = entityTypeCache.computeIfAbsent(mapperFqcn, this::resolveEntityTypeSafely);
+      if (entityClass != null && !unitOfWork.hasPending(entityClass)) return;
+    }
+
+    unitOfWork.flush();
+    ((Executor) invocation.getTarget()).clearLocalCache();
+  }
+
+  private void captureSnapshots(Class<?> entityClass, Object result) {
+    if (!(result instanceof List<?> list)) return;
+    for (Object row : list) {
+      if (entityClass.isInstance(row)) dirtyTracker.capture(row);
+    }
+  }
+
+  /**
+   * RETURNING 결과(엔티티 row 또는 OUT 파라미터 Map)의 non-null 매핑 필드 값을 파라미터에 반영
+   * - DB 기본값/트리거/생성 키가 같은 round trip으로 채워짐
+   * - mappedParam: DTO를 변환한 Map (캐시 invalidate 등에서 id를 읽으므로 함께 반영)
+   */
+  @SuppressWarnings("unchecked")
+  private void applyReturnedValues(Class<?> entityClass, Object returned, Object parameter, Object mappedParam) {
+    if (returned == null || parameter == null) return;
+    Object[] targets = (mappedParam == null || mappedParam == parameter)
+        ? new Object[] {parameter}
+        : new Object[] {parameter, mappedParam};
+
+    for (Field f : ColumnAnalyzer.getMappedFields(entityClass)) {
+      String prop = f.getName();
+      Object value = (returned instanceof Map<?, ?> m) ? (m.containsKey(prop) ? m.get(prop) : null)
+          : readProperty(returned, prop);
+      if (value == null) continue;
+
+      for (Object target : targets) {
+        if (target == returned) continue;
+        if (target instanceof Map<?, ?> m) {
+          try {
+            ((Map<String, Object>) m).put(prop, value);
+          } catch (UnsupportedOperationException ignored) {
+            // 불변 Map이면 반영 생략
+          }
+        } else {
+          setPropertyOrField(target, prop, value);
+        }
+      }
+    }
+  }
+
+  /**
+   * 클라이언트 할당 전략: PK가 비어 있으면 미리 채움 (직접 지정한 id 우선)
+   * - DTO는 entityKeyed Map으로 변환해 id를 넣고, DTO에도 best-effort write-back
+   */
+  @SuppressWarnings("unchecked")
+  private void assignGeneratedId(Executor executor, Class<?> entityClass, Object[] args) throws SQLException {
+    Object parameter = args[1];
+    if (parameter == null || parameter instanceof Iterable || isPrimitiveLike(parameter.getClass())) return;
+
+    String idProperty = resolveIdProperty(entityClass);
+    if (readProperty(parameter, idProperty) != null) return;
+
+    Class<?> idType = ColumnAnalyzer.analyzeClass(entityClass).getIdType();
+    // 클라이언트 할당 전략은 INSERT에 PK 컬럼을 포함하므로 id 없이 진행하면 NULL PK가 됨 → 즉시 실패
+    Object id = idGenerator.nextId(entityClass, idType, executor.getTransaction().getConnection());
+    if (id == null || (idType != null && !ClassUtils.resolvePrimitiveIfNecessary(idType).isInstance(id))) {
+      throw new IllegalStateException("MyBatis-Easy: " + idGenerator.getClass().getSimpleName()
+          + " cannot assign an id of type " + (idType == null ? "unknown" : idType.getName())
+          + " (generated=" + (id == null ? "null" : id.getClass().getName()) + "). entity=" + entityClass.getName());
+    }
+
+    if (parameter instanceof Map<?, ?> m) {
+      ((Map<String, Object>) m).put(idProperty, id);
+      return;
+    }
+    if (entityClass.isInstance(parameter)) {
+      setPropertyOrField(parameter, idProperty, id);
+      return;
+    }
+
+    Map<String, Object> converted = EntityParser.toEntityKeyedMap(parameter, entityClass);
+    converted.put(idProperty, id);
+    setPropertyOrField(parameter, idProperty, id);
+    args[1] = converted;
+  }
+
+  /**
+   * @Version 처리: 충돌(0건) 검사 + 새 버전을 파라미터에 write-back
+   *
+   * @return 기록된 새 버전 (알 수 없으면 null)
+   */
+  private Long applyVersion(MappedStatement ms,
+                            String methodName,
+                            Object parameter,
+                            String versionProperty,
+                            Object versionBefore,
+                            int affected) {
+    if ("insert".equals(methodName)) {
+      if (versionBefore != null) return ((Number) versionBefore).longValue();
+      if (affected > 0 && !(parameter instanceof Map)) setPropertyOrField(parameter, versionProperty, 0L);
+      return 0L;
+    }
+    if (!(versionBefore instanceof Number before)) return null;
+
+    if (affected == 0 && failOnVersionConflict) {
+      throw new OptimisticLockingFailureException(
+          "MyBatis-Easy: version conflict (row changed or not found). msId=" + ms.getId() + " version=" + before);
+    }
+    if (affected <= 0) return null;
+
+    long next = before.longValue() + 1;
+    if ("update".equals(methodName)) writeBackVersion(parameter, versionProperty, next);
+    return next;
+  }
+
+  /**
+   * 생성된 update/updateReturning의 nonEmpty 조건과 동일: SET 대상 프로퍼티가 모두 null이면 no-op 분기
+   * (updateReturning은 allow-empty-set과 무관하게 항상 no-op 분기를 가짐)
+   */
+  private boolean isEmptyUpdateSet(Class<?> entityClass, Object parameter, boolean returning) {
+    if (!returning && allowEmptyUpdateSet) return false;
+    List<String> props = updatablePropertyCache.computeIfAbsent(entityClass, AutoSqlBuilder::updatableProperties);
+    for (String prop : props) {
+      if (readProperty(parameter, prop) != null) return false;
+    }
+    return true;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void writeBackVersion(Object parameter, String versionProperty, long version) {
+    if (parameter instanceof Map<?, ?> m) {
+      try {
+        ((Map<String, Object>) m).put(versionProperty, version);
+      } catch (UnsupportedOperationException ignored) {
+        // 불변 Map이면 write-back 생략
+      }
+      return;
+    }
+    if (!setPropertyOrField(parameter, versionProperty, version)) {
+      log.warn("MyBatis-Easy: version write-back failed. targetType={} prop={}",
+          parameter.getClass().getName(), versionProperty);
+    }
+  }
+
+  // @ShardedTable은 id가 물리 테이블 간에 겹칠 수 있어 id만 key로 쓰는 identity map을 쓰지 않음
+  private boolean usesIdentityMap(Class<?> entityClass) {
+    return identityMap != null && !shardRouter.isSharded(entityClass);
+  }
+
+  private void applyWriteToIdentityMap(Class<?> entityClass, String methodName, Object id, Object originalParam, int affected) {
+    switch (methodName) {
+      case "deleteById", "deleteAllByIds" -> identityMap.markDeleted(entityClass, id);
+      case "deleteByIdAndVersion", "deleteByIdInPartition" -> {
+        if (affected > 0) identityMap.markDeleted(entityClass, id);
+      }
+      case "update" -> identityMap.afterUpdate(entityClass, id, originalParam);
+      default -> identityMap.evict(entityClass, id);
+    }
+  }
+
+  private Object proceedWithParameterMapping(Invocation invocation, MappedStatement ms, Class<?> entityClass) throws Throwable {
+    Object[] args = invocation.getArgs();
+    Object parameter = args[1];
+    if (parameter == null) return invocation.proceed();
+
+    // Map/primitive/collection은 그대로
+    if (parameter instanceof Map) return invocation.proceed();
+
+    Class<?> pClass = parameter.getClass();
+    if (isPrimitiveLike(pClass)) return invocation.proceed();
+    if (parameter instanceof Iterable || pClass.isArray()) return invocation.proceed();
 
     // VO면 그대로
     if (entityClass.isAssignableFrom(pClass)) {
@@ -92,6 +725,184 @@ public class ParameterMappingInterceptor implements Interceptor {
     return result;
   }
 
+  private Object findByIdWithCache(Invocation invocation,
+                                   BoundedEntityCache cache,
+                                   Class<?> entityClass,
+                                   Object parameter) throws Throwable {
+    Object id = readParam(parameter, "id");
+    if (id == null) return invocation.proceed();
+
+    Object cached = cache.get(id);
+    if (cached == BoundedEntityCache.NEGATIVE) {
+      return new ArrayList<>(0);
+    }
+    if (cached != null) {
+      List<Object> one = new ArrayList<>(1);
+      one.add(cached);
+      return one;
+    }
+
+    // 조회 중 다른 스레드의 invalidate가 끼면 이전 row를 적재하지 않도록 세대 확인
+    long stamp = cache.stamp();
+    Object result = invocation.proceed();
+
+    // 현재 트랜잭션에서 쓴 id는 커밋 전 값일 수 있으므로 적재하지 않음
+    if (result instanceof List<?> list && !entityCacheManager.isWrittenInCurrentTransaction(entityClass, id)) {
+      if (list.isEmpty()) {
+        cache.putNegative(id, stamp);
+      } else if (list.size() == 1) {
+        cache.put(id, list.get(0), stamp);
+      }
+    }
+    return result;
+  }
+
+  private List<Object> readFromSnapshot(ReferenceDataSnapshot snapshot, String methodName, Object parameter) {
+    if ("findAll".equals(methodName)) {
+      return snapshot.findAll();
+    }
+
+    Object id = readParam(parameter, "id");
+    if ("existsById".equals(methodName)) {
+      List<Object> one = new ArrayList<>(1);
+      one.add(snapshot.existsById(id));
+      return one;
+    }
+
+    Object row = snapshot.findById(id);
+    if (row == null) return new ArrayList<>(0);
+
+    List<Object> one = new ArrayList<>(1);
+    one.add(row);
+    return one;
+  }
+
+  /**
+   * 쓰기 대상 id 목록 (단건 메서드는 1개, id를 모르면 null 1개 → 전체 무효화)
+   */
+  private List<Object> resolveWrittenIds(Class<?> entityClass, String methodName, Object parameter) {
+    if ("incrementAll".equals(methodName) || "markClaimed".equals(methodName) || "deleteAllByIds".equals(methodName)) {
+      Object ids = readParam(parameter, "ids");
+      return (ids instanceof Collection<?> c) ? new ArrayList<>(c) : List.of();
+    }
+    Object id = ("deleteById".equals(methodName) || "deleteByIdAndVersion".equals(methodName)
+        || "deleteByIdInPartition".equals(methodName) || "increment".equals(methodName))
+        ? readParam(parameter, "id")
+        : readProperty(parameter, resolveIdProperty(entityClass));
+    return Collections.singletonList(id);
+  }
+
+  /**
+   * claimBatch 잠금은 트랜잭션이 끝날 때까지만 유지 → 문장마다 커밋되는 연결이면 즉시 실패
+   * - autocommit 연결, 또는 Spring 트랜잭션 없이 SqlSessionTemplate으로 호출한 경우 (호출마다 커밋)
+   */
+  private void requireTransactionForClaim(Executor executor, Class<?> entityClass) throws SQLException {
+    Transaction transaction = executor.getTransaction();
+    boolean perStatementCommit = transaction.getConnection().getAutoCommit()
+        || (transaction instanceof SpringManagedTransaction
+            && !TransactionSynchronizationManager.isActualTransactionActive());
+    if (perStatementCommit) {
+      throw new IllegalStateException("MyBatis-Easy: claimBatch requires an active transaction"
+          + " (row locks are released at each commit). entity=" + entityClass.getName());
+    }
+  }
+
+  /**
+   * increment 대상 컬럼 검증 (숫자형 매핑 필드만, PK/@Version 제외)
+   */
+  /**
+   * PostgreSQL JDBC는 autocommit이면 fetchSize를 무시하고 결과 전체를 메모리에 읽음 → statement별로 한 번 경고
+   */
+  private void warnIfCursorDisabled(Executor executor, MappedStatement ms) throws SQLException {
+    if (cursorWarnedStatements.contains(ms.getId())) return;
+    Connection conn = executor.getTransaction().getConnection();
+    if (!conn.getAutoCommit()
+        || Dialect.fromProductName(conn.getMetaData().getDatabaseProductName()) != Dialect.POSTGRES) return;
+    if (cursorWarnedStatements.add(ms.getId())) {
+      log.warn("MyBatis-Easy: {} runs with autocommit on PostgreSQL, so fetchSize is ignored and the whole result"
+          + " is buffered in memory. Call it inside a transaction to stream.", ms.getId());
+    }
+  }
+
+  private void validateIncrementColumn(Class<?> entityClass, Object column) {
+    ColumnAnalyzer.TableInfo info = ColumnAnalyzer.analyzeClass(entityClass);
+    if (column instanceof String name && !name.isBlank()) {
+      for (Field f : ColumnAnalyzer.getMappedFields(entityClass)) {
+        if (!name.equals(f.getName()) && !name.equals(ColumnAnalyzer.getColumnName(f))) continue;
+        if (ColumnAnalyzer.isNumericField(f)
+            && !f.getName().equals(resolveIdProperty(entityClass))
+            && !f.getName().equals(info.getVersionField())) {
+          return;
+        }
+      }
+    }
+    throw new IllegalArgumentException("MyBatis-Easy: increment column must be a numeric property of "
+        + entityClass.getName() + ". column=" + column);
+  }
+
+  /**
+   * 다른 노드용 invalidation 로그 기록 (쓰기와 같은 트랜잭션 Connection 사용)
+   * - 이 엔티티/namespace에 캐시가 없으면 기록하지 않음
+   */
+  private void appendInvalidationLog(Executor executor,
+                                     MappedStatement ms,
+                                     Class<?> entityClass,
+                                     String namespace,
+                                     Object id) throws SQLException {
+    boolean entityCached = entityCacheManager != null && entityCacheManager.cacheFor(entityClass) != null;
+    boolean namespaceCached = ms.getCache() != null;
+    if (!entityCached && !namespaceCached) return;
+
+    Connection conn = executor.getTransaction().getConnection();
+    invalidationLog.append(conn, entityClass.getName(), namespaceCached ? namespace : null, id);
+  }
+
+  private boolean hasResultHandler(Object[] args) {
+    return args.length > 3 && args[3] instanceof ResultHandler;
+  }
+
+  private boolean isDefaultRowBounds(Object[] args) {
+    return args.length < 3 || args[2] == null || args[2] == RowBounds.DEFAULT;
+  }
+
+  private String resolveIdProperty(Class<?> entityClass) {
+    String idField = ColumnAnalyzer.analyzeClass(entityClass).getIdField();
+    return (idField == null || idField.isBlank()) ? "id" : idField;
+  }
+
+  /**
+   * @Param 단일 인자(ParamMap) 또는 primitive 파라미터에서 값 추출
+   * - ParamMap.get()은 없는 key에 예외를 던지므로 containsKey로 먼저 확인
+   */
+  private Object readParam(Object parameter, String name) {
+    if (parameter instanceof Map<?, ?> m) {
+      return m.containsKey(name) ? m.get(name) : null;
+    }
+    if (parameter != null && isPrimitiveLike(parameter.getClass())) {
+      return parameter;
+    }
+    return null;
+  }
+
+  /**
+   * 엔티티/DTO/entityKeyed Map에서 프로퍼티 값 읽기 (best-effort)
+   */
+  private Object readProperty(Object target, String prop) {
+    if (target == null || prop == null) return null;
+    if (target instanceof Map<?, ?> m) {
+      return m.containsKey(prop) ? m.get(prop) : null;
+    }
+
+    Field f = findField(target.getClass(), prop);
+    if (f == null) return null;
+    try {
+      if (!f.canAccess(target)) f.setAccessible(true);
+      return f.get(target);
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
   private void tryWriteBackGeneratedKey(MappedStatement ms, Object originalParam, Map<String, Object> convertedMap) {
     if (ms == null || originalParam == null || convertedMap == null) return;
 
@@ -218,46 +1029,12 @@ public class ParameterMappingInterceptor implements Interceptor {
   private Class<?> resolveEntityTypeSafely(String mapperFqcn) {
     try {
       Class<?> mapper = Class.forName(mapperFqcn);
-      return resolveEntityTypeRecursive(mapper, new HashSet<>());
+      return MapperTypeResolver.resolveEntityType(mapper);
     } catch (Exception e) {
       return null;
     }
   }
 
-  // BaseMapper<T,ID>의 T를 재귀적으로 찾음
-  private Class<?> resolveEntityTypeRecursive(Class<?> type, Set<Class<?>> visited) {
-    if (type == null || !visited.add(type)) return null;
-
-    for (Type gi : type.getGenericInterfaces()) {
-      Class<?> found = resolveFromType(gi);
-      if (found != null) return found;
-
-      if (gi instanceof Class<?> c) {
-        Class<?> rec = resolveEntityTypeRecursive(c, visited);
-        if (rec != null) return rec;
-      } else if (gi instanceof ParameterizedType pt && pt.getRawType() instanceof Class<?> raw) {
-        Class<?> rec = resolveEntityTypeRecursive(raw, visited);
-        if (rec != null) return rec;
-      }
-    }
-
-    return resolveEntityTypeRecursive(type.getSuperclass(), visited);
-  }
-
-  private Class<?> resolveFromType(Type t) {
-    if (!(t instanceof ParameterizedType pt)) return null;
-
-    Type raw = pt.getRawType();
-    if (!(raw instanceof Class<?> rawClass)) return null;
-
-    if (!BaseMapper.class.isAssignableFrom(rawClass)) return null;
-
-    Type arg0 = pt.getActualTypeArguments()[0];
-    if (arg0 instanceof Class<?> c) return c;
-
-    return null;
-  }
-
   private boolean isPrimitiveLike(Class<?> clazz) {
     if (clazz.isPrimitive()) return true;
     if (Number.class.isAssignableFrom(clazz)) return true;
@@ -1,7 +1,21 @@
 package com.thenoah.dev.mybatis_easy_starter.core.mapper;
 
+import com.thenoah.dev.mybatis_easy_starter.support.ColumnAnalyzer;
+import com.thenoah.dev.mybatis_easy_starter.support.MapperTypeResolver;
+import com.thenoah.dev.mybatis_easy_starter.support.export.ExportFormat;
+import com.thenoah.dev.mybatis_easy_starter.support.export.RowExportHandler;
+import com.thenoah.dev.mybatis_easy_starter.support.result.PrimitiveIdCollector;
+import com.thenoah.dev.mybatis_easy_starter.support.result.SpillableResultList;
+import com.thenoah.dev.mybatis_easy_starter.support.result.SpillingResultHandler;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -19,17 +33,67 @@ public interface BaseMapper<T, ID> {
      */
     int insert(Object entity);
 
+    /**
+     * 삽입 후 DB가 채운 값(생성 키, DEFAULT, 트리거 값)을 같은 round trip으로 받아 파라미터에 반영합니다.
+     * (가상 XML의 id="insertReturning"와 매핑)
+     * - PostgreSQL/SQLite/MariaDB: RETURNING, H2: FINAL TABLE, SQL Server: OUTPUT INSERTED, Oracle: RETURNING INTO
+     * - DB 의존 메서드: MySQL 등 지원하지 않는 DB에서는 호출 시 IllegalStateException(사유 포함)이 발생합니다.
+     * - 결과 row를 받기 위해 SELECT로 실행되지만 SqlSession은 쓰기로 표시되어 commit() 시 커밋됩니다.
+     */
+    int insertReturning(Object entity);
+
     /**
      * ID를 기반으로 단건 조회를 수행합니다. (가상 XML의 id="findById"와 매핑)
      */
     Optional<T> findById(@Param("id") ID id);
 
+    /**
+     * findById에 @PartitionKey 조건을 더해 한 파티션만 조회합니다. (가상 XML의 id="findByIdInPartition"와 매핑)
+     * - @PartitionKey 필드가 있는 엔티티에만 생성됩니다.
+     * - id만 key로 쓰는 엔티티 캐시/identity map/@ReferenceData 스냅샷을 거치지 않고 항상 DB를 조회합니다.
+     */
+    Optional<T> findByIdInPartition(@Param("id") ID id, @Param("partitionKey") Object partitionKey);
+
+    /**
+     * ID 존재 여부를 조회합니다. (가상 XML의 id="existsById"와 매핑)
+     * - 엔티티를 만들지 않고 COUNT만 조회하며, SoftDelete 조건이 적용됩니다.
+     */
+    boolean existsById(@Param("id") ID id);
+
+    /**
+     * 여러 ID를 IN (...) 한 번으로 조회합니다. (가상 XML의 id="findAllByIds"와 매핑)
+     * - 결과 순서는 보장하지 않으며, 없는 ID는 결과에서 빠집니다.
+     * - 빈 컬렉션이면 항상 거짓 조건(1 = 0)으로 실행되어 빈 결과를 반환합니다.
+     */
+    List<T> findAllByIds(@Param("ids") Collection<ID> ids);
+
     /**
      * 모든 데이터를 조회합니다. (가상 XML의 id="findAll"와 매핑)
      * - 권장하지 않는 메서드 (대신 findPage 사용 권장)
      */
     List<T> findAll();
 
+    /**
+     * findAll과 같은 SQL을 실행하되 결과를 List로 모으지 않고 handler로 한 건씩 전달합니다.
+     */
+    void findAll(ResultHandler<T> handler);
+
+    /**
+     * findAll 결과 중 앞쪽 maxInMemoryRows 건만 힙에 두고, 나머지는 임시 파일로 spill 합니다.
+     * - 반환값은 반드시 close() 해야 임시 파일이 삭제됩니다 (try-with-resources 권장)
+     * - spill 대상 엔티티는 Serializable 이어야 합니다
+     */
+    default SpillableResultList<T> findAllSpillable(int maxInMemoryRows) {
+        SpillingResultHandler<T> handler = new SpillingResultHandler<>(maxInMemoryRows);
+        try {
+            findAll(handler);
+        } catch (RuntimeException e) {
+            handler.getResult().close();
+            throw e;
+        }
+        return handler.getResult();
+    }
+
     /**
      * Slice 스타일 페이징 (COUNT 없이 데이터만 조회)
      * 가상 XML의 id="findPage"와 매핑
@@ -40,21 +104,181 @@ public interface BaseMapper<T, ID> {
     List<T> findPage(@Param("offset") long offset,
                      @Param("limit") int limit);
 
+    /**
+     * findPage를 한 파티션(@PartitionKey = partitionKey) 안에서 수행합니다. (가상 XML의 id="findPageInPartition"와 매핑)
+     * - @PartitionKey 필드가 있는 엔티티에만 생성됩니다.
+     */
+    List<T> findPageInPartition(@Param("offset") long offset,
+                                @Param("limit") int limit,
+                                @Param("partitionKey") Object partitionKey);
+
+    /**
+     * PK만 조회하여 handler로 전달합니다. (가상 XML의 id="findAllIds"와 매핑)
+     * - 정수형 PK(int/long 계열)일 때만 실제 조회가 생성되며, SoftDelete 조건은 findAll과 동일하게 적용됩니다.
+     * - findAll 정책(CAP/DISABLE)과 무관하게 전체 PK를 스트리밍으로 조회합니다.
+     * - 그 외 PK 타입에서는 호출 시 IllegalStateException(사유 포함)이 발생합니다.
+     */
+    void findAllIds(ResultHandler<Number> handler);
+
+    /**
+     * 전체 PK를 long[]로 반환합니다. (엔티티/박싱된 List 없이 primitive 배열에 바로 적재)
+     */
+    default long[] findAllIds() {
+        PrimitiveIdCollector collector = new PrimitiveIdCollector();
+        findAllIds(collector);
+        return collector.toLongArray();
+    }
+
+    /**
+     * 전체 PK를 int[]로 반환합니다. (int/Integer PK 엔티티용)
+     */
+    default int[] findAllIntIds() {
+        PrimitiveIdCollector collector = new PrimitiveIdCollector();
+        findAllIds(collector);
+        return collector.toIntArray();
+    }
+
+    /**
+     * findPage와 같은 정렬/페이징으로 PK만 조회합니다. (가상 XML의 id="findIdsPage"와 매핑)
+     * - pagination.enabled=true 일 때만 생성됩니다.
+     * - findAllIds와 같이 정수형 PK 전용이며, 그 외 PK 타입에서는 호출 시 IllegalStateException이 발생합니다.
+     */
+    void findIdsPage(@Param("offset") long offset,
+                     @Param("limit") int limit,
+                     ResultHandler<Number> handler);
+
+    default long[] findIdsPage(long offset, int limit) {
+        PrimitiveIdCollector collector = new PrimitiveIdCollector(Math.max(limit, 16));
+        findIdsPage(offset, limit, collector);
+        return collector.toLongArray();
+    }
+
+    /**
+     * 전체 row를 엔티티로 만들지 않고 Map으로 handler에 전달합니다. (가상 XML의 id="exportAll"와 매핑)
+     * - FORWARD_ONLY + fetchSize 스트리밍 설정으로 실행됩니다.
+     * - PostgreSQL은 트랜잭션(autocommit off) 안에서만 커서로 스트리밍되며, 밖에서 호출하면 전체를 메모리에 읽습니다(경고 로그).
+     */
+    void exportAll(ResultHandler<Map<String, Object>> handler);
+
+    /**
+     * 전체 row를 CSV / JSON Lines로 OutputStream에 바로 기록합니다.
+     * - 컬럼 순서는 엔티티 분석 결과(ColumnAnalyzer) 기준
+     * - 일정 건수마다 flush 하므로 대용량에서도 메모리 사용량이 일정합니다.
+     * - OutputStream은 닫지 않습니다.
+     *
+     * @return 기록한 row 수
+     */
+    default long exportAll(OutputStream out, ExportFormat format) {
+        Class<?> entityType = MapperTypeResolver.resolveEntityType(getClass());
+        if (entityType == null) {
+            throw new IllegalStateException("MyBatis-Easy: cannot resolve entity type of mapper " + getClass().getName());
+        }
+
+        List<String> columns = ColumnAnalyzer.analyzeClass(entityType).getFieldColumnMap().values().stream()
+                .filter(c -> c != null && !c.isBlank())
+                .distinct()
+                .toList();
+
+        RowExportHandler handler = new RowExportHandler(out, format, columns);
+        exportAll(handler);
+        return handler.finish();
+    }
+
     /**
      * 전체 건수 조회 (Page 스타일이 필요할 때만 사용)
      * 가상 XML의 id="countAll"와 매핑
      */
     long countAll();
 
+    /**
+     * 숫자형 컬럼을 원자적으로 증감합니다. (가상 XML의 id="increment"와 매핑)
+     * - SET col = col + delta 한 문장으로 처리되어 조회 후 수정 시의 lost update가 없습니다.
+     * - column은 엔티티 프로퍼티명 또는 컬럼명이며, 숫자형 필드가 아니면 IllegalArgumentException
+     */
+    int increment(@Param("id") ID id, @Param("column") String column, @Param("delta") Number delta);
+
+    /**
+     * 여러 ID의 숫자형 컬럼을 한 문장으로 증감합니다. (가상 XML의 id="incrementAll"와 매핑)
+     */
+    int incrementAll(@Param("ids") Collection<ID> ids, @Param("column") String column, @Param("delta") Number delta);
+
+    /**
+     * 작업 큐 점유: 대기 상태 row를 최대 limit건 잠그고 점유 상태로 바꾼 뒤 반환합니다.
+     * - 다른 worker가 잠근 row는 기다리지 않고 건너뜁니다. (FOR UPDATE SKIP LOCKED / READPAST)
+     * - 잠금은 트랜잭션이 끝날 때까지만 유지되므로 트랜잭션 밖(autocommit, Spring 트랜잭션 없는
+     *   SqlSessionTemplate)에서 호출하면 IllegalStateException입니다.
+     * - 이 호출이 점유 상태로 바꾼 row만 반환합니다. 잠근 row 중 일부가 이미 바뀌어 있으면(잠금 없는 DB의 동시 점유)
+     *   어느 row가 자기 것인지 알 수 없으므로 IllegalStateException → 트랜잭션을 롤백하세요.
+     * - statusColumn은 엔티티 프로퍼티명 또는 컬럼명입니다.
+     */
+    default List<T> claimBatch(int limit, String statusColumn, Object pendingValue, Object claimedValue) {
+        if (limit <= 0) return Collections.emptyList();
+
+        List<ID> ids = claimIds(statusColumn, pendingValue, limit, new RowBounds(0, limit));
+        if (ids.isEmpty()) return Collections.emptyList();
+
+        int claimed = markClaimed(ids, statusColumn, pendingValue, claimedValue);
+        if (claimed != ids.size()) {
+            throw new IllegalStateException("MyBatis-Easy: claimBatch marked " + claimed + " of " + ids.size()
+                    + " selected rows (claimed concurrently by another worker); roll back and retry");
+        }
+        return findAllByIds(ids);
+    }
+
+    /**
+     * claimBatch 1단계: 대기 상태 row id 잠금 조회 (가상 XML의 id="claimIds"와 매핑)
+     */
+    List<ID> claimIds(@Param("column") String statusColumn, @Param("from") Object pendingValue,
+                      @Param("limit") int limit, RowBounds rowBounds);
+
+    /**
+     * claimBatch 2단계: 잠근 row를 점유 상태로 변경 (가상 XML의 id="markClaimed"와 매핑)
+     */
+    int markClaimed(@Param("ids") Collection<ID> ids, @Param("column") String statusColumn,
+                    @Param("from") Object pendingValue, @Param("to") Object claimedValue);
+
     /**
      * ID를 기반으로 데이터를 삭제합니다. (가상 XML의 id="deleteById"와 매핑)
      * SoftDelete 설정 시 내부적으로 UPDATE 쿼리가 실행됩니다.
+     * - @CascadeDelete 자식 테이블은 부모보다 먼저 자식 테이블당 한 문장으로 삭제됩니다.
      */
     int deleteById(@Param("id") ID id);
 
+    /**
+     * deleteById에 @PartitionKey 조건을 더해 한 파티션만 삭제합니다. (가상 XML의 id="deleteByIdInPartition"와 매핑)
+     * - @PartitionKey 필드가 있는 엔티티에만 생성됩니다. SoftDelete 처리는 deleteById와 동일합니다.
+     * - @CascadeDelete 자식은 부모 row가 그 파티션에 있을 때만 삭제합니다.
+     */
+    int deleteByIdInPartition(@Param("id") ID id, @Param("partitionKey") Object partitionKey);
+
+    /**
+     * 여러 ID를 IN (...) 한 번으로 삭제합니다. (가상 XML의 id="deleteAllByIds"와 매핑)
+     * - SoftDelete/@CascadeDelete 처리는 deleteById와 동일합니다.
+     * - 빈 컬렉션이면 아무것도 삭제하지 않고 0을 반환합니다.
+     */
+    int deleteAllByIds(@Param("ids") Collection<ID> ids);
+
+    /**
+     * 버전이 일치할 때만 삭제합니다. (가상 XML의 id="deleteByIdAndVersion"와 매핑)
+     * - @Version 필드가 있는 엔티티 전용이며, 버전 불일치 시 0건입니다.
+     * - @Version 필드가 없는 엔티티에서 호출하면 IllegalStateException(사유 포함)이 발생합니다.
+     */
+    int deleteByIdAndVersion(@Param("id") ID id, @Param("version") Long version);
+
     /**
      * 데이터를 수정합니다. (가상 XML의 id="update"와 매핑)
      * 파라미터 타입을 Object로 설정하여 DTO 기반 수정이 가능합니다.
+     * - 수정할 값(null 아닌 필드)이 없으면 0건 no-op이며, @Version 엔티티여도 버전 충돌로 보지 않습니다.
+     * - @PartitionKey 값도 SET에 포함됩니다. 파티션 조건은 dirty checking으로 변경 전 값을 알 때만 붙습니다.
+     * - @ShardedTable 엔티티의 파티션 키 변경은 IllegalStateException입니다. (dirty checking으로 감지된 경우)
      */
     int update(Object entity);
+
+    /**
+     * 수정 후 row의 최신 값(updated_at, 트리거 값 등)을 같은 round trip으로 받아 파라미터에 반영합니다.
+     * (가상 XML의 id="updateReturning"와 매핑)
+     * - update와 같은 SET/WHERE 규칙입니다.
+     * - DB 의존 메서드: MySQL/MariaDB/Oracle에서는 호출 시 IllegalStateException(사유 포함)이 발생합니다.
+     */
+    int updateReturning(Object entity);
 }
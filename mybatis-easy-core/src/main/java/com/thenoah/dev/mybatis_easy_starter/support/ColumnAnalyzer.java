@@ -1,13 +1,21 @@
 package com.thenoah.dev.mybatis_easy_starter.support;
 
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.CascadeDelete;
 import com.thenoah.dev.mybatis_easy_starter.core.annotation.Column;
 import com.thenoah.dev.mybatis_easy_starter.core.annotation.Id;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.ManyToOne;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.OneToMany;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.PartitionKey;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.SoftDelete;
 import com.thenoah.dev.mybatis_easy_starter.core.annotation.Table;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Version;
 import com.thenoah.dev.mybatis_easy_starter.support.naming.NamingStrategy;
 import com.thenoah.dev.mybatis_easy_starter.support.naming.NamingStrategyHolder;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -17,6 +25,7 @@ public final class ColumnAnalyzer {
 
   private static final Map<Class<?>, TableInfo> TABLE_INFO_CACHE = new ConcurrentHashMap<>();
   private static final Map<Class<?>, List<Field>> ALL_FIELDS_CACHE = new ConcurrentHashMap<>();
+  private static final Map<Class<?>, List<Field>> MAPPED_FIELDS_CACHE = new ConcurrentHashMap<>();
 
   /**
    * 캐시 클리어
@@ -25,6 +34,7 @@ public final class ColumnAnalyzer {
   public static void clearCache() {
     TABLE_INFO_CACHE.clear();
     ALL_FIELDS_CACHE.clear();
+    MAPPED_FIELDS_CACHE.clear();
   }
 
   public static TableInfo analyze(Object entity) {
@@ -52,6 +62,9 @@ public final class ColumnAnalyzer {
 
     String idColumn = null;
     String idField = null;
+    Class<?> idType = null;
+    String versionColumn = null;
+    String versionField = null;
 
     for (Field field : allFields) {
       if (isSkippable(field)) continue;
@@ -65,8 +78,14 @@ public final class ColumnAnalyzer {
         if (idField == null) {
           idField = fieldName;
           idColumn = columnName;
+          idType = field.getType();
         }
       }
+
+      if (field.isAnnotationPresent(Version.class) && versionField == null) {
+        versionField = fieldName;
+        versionColumn = columnName;
+      }
     }
 
     if (idField == null) {
@@ -75,12 +94,13 @@ public final class ColumnAnalyzer {
         if ("id".equalsIgnoreCase(field.getName())) {
           idField = field.getName();
           idColumn = getColumnName(field, naming);
+          idType = field.getType();
           break;
         }
       }
     }
 
-    return new TableInfo(tableName, fieldColumnMap, idColumn, idField);
+    return new TableInfo(tableName, fieldColumnMap, idColumn, idField, idType, versionColumn, versionField);
   }
 
   private static String resolveTableName(Class<?> clazz, NamingStrategy naming) {
@@ -97,6 +117,16 @@ public final class ColumnAnalyzer {
     return ALL_FIELDS_CACHE.computeIfAbsent(clazz, ColumnAnalyzer::loadAllFields);
   }
 
+  /**
+   * 컬럼으로 매핑되는 필드만 반환 (static/synthetic/관계 필드 제외)
+   * - Serializable 엔티티의 serialVersionUID 등이 INSERT/UPDATE 컬럼으로 새지 않도록
+   */
+  public static List<Field> getMappedFields(Class<?> clazz) {
+    return MAPPED_FIELDS_CACHE.computeIfAbsent(clazz, c -> getAllFields(c).stream()
+        .filter(f -> !isSkippable(f))
+        .toList());
+  }
+
   private static List<Field> loadAllFields(Class<?> clazz) {
     List<Field> fields = new ArrayList<>();
     Class<?> cur = clazz;
@@ -109,6 +139,72 @@ public final class ColumnAnalyzer {
     return Collections.unmodifiableList(fields);
   }
 
+  /**
+   * @CascadeDelete 관계 필드 (선언 순서)
+   */
+  public static List<Field> getCascadeDeleteFields(Class<?> clazz) {
+    return getAllFields(clazz).stream()
+        .filter(f -> !Modifier.isStatic(f.getModifiers()) && f.isAnnotationPresent(CascadeDelete.class))
+        .toList();
+  }
+
+  /**
+   * @ManyToOne/@OneToMany 관계 필드 (선언 순서)
+   */
+  public static List<Field> getAssociationFields(Class<?> clazz) {
+    return getAllFields(clazz).stream()
+        .filter(f -> !Modifier.isStatic(f.getModifiers()))
+        .filter(f -> f.isAnnotationPresent(ManyToOne.class) || f.isAnnotationPresent(OneToMany.class))
+        .toList();
+  }
+
+  /**
+   * 관계 필드의 대상 엔티티 타입 (List&lt;Child&gt; → Child, Child[] → Child, Child → Child)
+   *
+   * @return raw 컬렉션 등으로 알 수 없으면 null
+   */
+  public static Class<?> resolveElementType(Field field) {
+    Class<?> type = field.getType();
+    if (type.isArray()) return type.getComponentType();
+    if (!Collection.class.isAssignableFrom(type)) return type;
+
+    Type generic = field.getGenericType();
+    if (generic instanceof ParameterizedType pt && pt.getActualTypeArguments().length == 1
+        && pt.getActualTypeArguments()[0] instanceof Class<?> element) {
+      return element;
+    }
+    return null;
+  }
+
+  /**
+   * @SoftDelete 필드 (없으면 null)
+   */
+  public static Field getSoftDeleteField(Class<?> clazz) {
+    return getMappedFields(clazz).stream()
+        .filter(f -> f.isAnnotationPresent(SoftDelete.class))
+        .findFirst()
+        .orElse(null);
+  }
+
+  /**
+   * @PartitionKey 필드 (없으면 null)
+   */
+  public static Field getPartitionKeyField(Class<?> clazz) {
+    return getMappedFields(clazz).stream()
+        .filter(f -> f.isAnnotationPresent(PartitionKey.class))
+        .findFirst()
+        .orElse(null);
+  }
+
+  /**
+   * @SoftDelete 플래그 방식 여부 (deletedValue 지정)
+   * - 미지정이면 날짜형 컬럼: 삭제 시각 기록 / NULL = 살아있음
+   */
+  public static boolean isFlagSoftDelete(Field field) {
+    SoftDelete sd = (field == null) ? null : field.getAnnotation(SoftDelete.class);
+    return sd != null && !sd.deletedValue().isBlank();
+  }
+
   public static String getColumnName(Field field) {
     return getColumnName(field, NamingStrategyHolder.get());
   }
@@ -123,8 +219,20 @@ public final class ColumnAnalyzer {
     return naming.columnName(field.getName());
   }
 
+  /**
+   * 숫자형 필드 여부 (increment 대상 컬럼 판단용)
+   */
+  public static boolean isNumericField(Field field) {
+    Class<?> t = field.getType();
+    if (t.isPrimitive()) return t != boolean.class && t != char.class;
+    return Number.class.isAssignableFrom(t);
+  }
+
   private static boolean isSkippable(Field field) {
-    return Modifier.isStatic(field.getModifiers()) || field.isSynthetic();
+    return Modifier.isStatic(field.getModifiers()) || field.isSynthetic()
+        || field.isAnnotationPresent(CascadeDelete.class)
+        || field.isAnnotationPresent(ManyToOne.class)
+        || field.isAnnotationPresent(OneToMany.class);
   }
 
   public static final class TableInfo {
@@ -132,17 +240,59 @@ public final class ColumnAnalyzer {
     private final Map<String, String> fieldColumnMap;
     private final String idColumn;
     private final String idField;
+    private final Class<?> idType;
+    private final String versionColumn;
+    private final String versionField;
 
     public TableInfo(String tableName, Map<String, String> fieldColumnMap, String idColumn, String idField) {
+      this(tableName, fieldColumnMap, idColumn, idField, null);
+    }
+
+    public TableInfo(String tableName, Map<String, String> fieldColumnMap, String idColumn, String idField, Class<?> idType) {
+      this(tableName, fieldColumnMap, idColumn, idField, idType, null, null);
+    }
+
+    public TableInfo(String tableName, Map<String, String> fieldColumnMap, String idColumn, String idField, Class<?> idType,
+                     String versionColumn, String versionField) {
       this.tableName = tableName;
       this.fieldColumnMap = Collections.unmodifiableMap(new LinkedHashMap<>(fieldColumnMap));
       this.idColumn = idColumn;
       this.idField = idField;
+      this.idType = idType;
+      this.versionColumn = versionColumn;
+      this.versionField = versionField;
     }
 
     public String getTableName() { return tableName; }
     public Map<String, String> getFieldColumnMap() { return fieldColumnMap; }
     public String getIdColumn() { return idColumn; }
     public String getIdField() { return idField; }
+    public Class<?> getIdType() { return idType; }
+    public String getVersionColumn() { return versionColumn; }
+    public String getVersionField() { return versionField; }
+
+    /**
+     * @Version 필드(낙관적 잠금) 존재 여부
+     */
+    public boolean isVersioned() {
+      return versionField != null;
+    }
+
+    /**
+     * PK가 정수형(int/long 계열)인지 여부 (findAllIds 등 primitive 조회 대상 판단용)
+     */
+    public boolean isIntegralId() {
+      return idType == long.class || idType == Long.class
+          || idType == int.class || idType == Integer.class
+          || idType == short.class || idType == Short.class;
+    }
+
+    /**
+     * PK가 int 범위 타입인지 여부
+     */
+    public boolean isIntId() {
+      return idType == int.class || idType == Integer.class
+          || idType == short.class || idType == Short.class;
+    }
   }
 }
@@ -0,0 +1,55 @@
+package com.thenoah.dev.mybatis_easy_starter.support;
+
+import com.thenoah.dev.mybatis_easy_starter.core.mapper.BaseMapper;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * BaseMapper&lt;T, ID&gt;의 T(엔티티 타입)를 "상속/중첩 인터페이스/프록시"까지 재귀로 탐색
+ * - AutoConfiguration(가상 XML 생성), Interceptor(DTO 변환), BaseMapper default 메서드에서 공통 사용
+ */
+public final class MapperTypeResolver {
+
+  private MapperTypeResolver() {}
+
+  /**
+   * @return 엔티티 타입, 찾지 못하면 null
+   */
+  public static Class<?> resolveEntityType(Class<?> mapperClass) {
+    return resolveEntityTypeRecursive(mapperClass, new HashSet<>());
+  }
+
+  private static Class<?> resolveEntityTypeRecursive(Class<?> type, Set<Class<?>> visited) {
+    if (type == null || !visited.add(type)) return null;
+
+    for (Type gi : type.getGenericInterfaces()) {
+      Class<?> found = resolveFromType(gi);
+      if (found != null) return found;
+
+      if (gi instanceof Class<?> c) {
+        Class<?> rec = resolveEntityTypeRecursive(c, visited);
+        if (rec != null) return rec;
+      } else if (gi instanceof ParameterizedType pt && pt.getRawType() instanceof Class<?> raw) {
+        Class<?> rec = resolveEntityTypeRecursive(raw, visited);
+        if (rec != null) return rec;
+      }
+    }
+
+    return resolveEntityTypeRecursive(type.getSuperclass(), visited);
+  }
+
+  private static Class<?> resolveFromType(Type t) {
+    if (!(t instanceof ParameterizedType pt)) return null;
+
+    Type raw = pt.getRawType();
+    if (!(raw instanceof Class<?> rawClass)) return null;
+
+    if (!BaseMapper.class.isAssignableFrom(rawClass)) return null;
+
+    Type arg0 = pt.getActualTypeArguments()[0];
+    return (arg0 instanceof Class<?> c) ? c : null;
+  }
+}
@@ -0,0 +1,589 @@
+package com.thenoah.dev.mybatis_easy_starter.support.bulk;
+
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.SoftDelete;
+import com.thenoah.dev.mybatis_easy_starter.support.ColumnAnalyzer;
+import com.thenoah.dev.mybatis_easy_starter.support.EntityParser;
+import com.thenoah.dev.mybatis_easy_starter.support.dialect.Dialect;
+import com.thenoah.dev.mybatis_easy_starter.support.dialect.IdentifierQuoter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 대량 insert 전용 로더 (MyBatis statement를 거치지 않고 JDBC로 직접 적재)
+ *
+ * - PostgreSQL: COPY ... FROM STDIN (CSV) → CopyManager.copyIn
+ * - MySQL/MariaDB: LOAD DATA LOCAL INFILE + 드라이버 setLocalInfileInputStream (allowLoadLocalInfile 필요)
+ *   클라이언트/서버(local_infile)에서 거부되면 row를 읽기 전이므로 batch로 재시도, 이후 적재는 바로 batch
+ * - 그 외 DB / 드라이버 API 없음 / 건수가 nativeThreshold 미만: JDBC batch INSERT
+ * - row는 필요할 때마다 인코딩해 스트림으로 흘려보냄 (임시 파일/전체 버퍼 없음)
+ * - 컬럼 순서는 ColumnAnalyzer.TableInfo 기준, DTO는 EntityParser로 엔티티 키 Map 변환
+ * - 테이블/컬럼명은 auto-sql.quote-identifiers 설정에 따라 자동 CRUD와 같게 quote
+ * - Spring 트랜잭션 안이면 그 커넥션을 사용, 밖이면 적재 전체를 한 트랜잭션으로 커밋
+ * - loadDetached: 호출 스레드의 트랜잭션과 무관하게 전용 커넥션으로 적재 후 바로 커밋 (WriteBehindBuffer용)
+ *
+ * 주의: 자동 CRUD insert와 달리 null 필드도 NULL로 기록 (DB DEFAULT 미적용, @Version null은 0)
+ *       PK 컬럼은 첫 row에 id가 있을 때만 포함
+ *       캐시/identity map/invalidation 로그는 갱신하지 않음
+ */
+public class BulkLoader {
+
+  private static final Logger log = LoggerFactory.getLogger(BulkLoader.class);
+
+  public static final int DEFAULT_NATIVE_THRESHOLD = 10_000;
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+
+  private static final String PG_CONNECTION = "org.postgresql.PGConnection";
+  private static final String[] LOCAL_INFILE_STATEMENTS = {
+      "com.mysql.cj.jdbc.JdbcStatement",
+      "org.mariadb.jdbc.Statement"
+  };
+
+  public enum Mode {
+    /** 건수/DB/드라이버에 따라 자동 선택 */
+    AUTO,
+    /** 가능하면 COPY / LOAD DATA (불가하면 batch) */
+    NATIVE,
+    BATCH
+  }
+
+  public enum Path {
+    COPY,
+    LOAD_DATA,
+    BATCH
+  }
+
+  private final DataSource dataSource;
+  private final int nativeThreshold;
+  private final int batchSize;
+  private final boolean quoteIdentifiers;
+  private volatile Dialect dialect;
+  // LOAD DATA LOCAL이 거부된 적 있으면 (allowLoadLocalInfile / local_infile) 이후 바로 batch
+  private volatile boolean localInfileRejected;
+
+  public BulkLoader(DataSource dataSource) {
+    this(dataSource, null, DEFAULT_NATIVE_THRESHOLD, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * @param dialect null/UNKNOWN이면 첫 적재 시 Connection 메타데이터로 판별
+   */
+  public BulkLoader(DataSource dataSource, Dialect dialect, int nativeThreshold, int batchSize) {
+    this(dataSource, dialect, nativeThreshold, batchSize, false);
+  }
+
+  /**
+   * @param quoteIdentifiers true면 테이블/컬럼명을 dialect별로 quote (auto-sql.quote-identifiers와 동일하게)
+   */
+  public BulkLoader(DataSource dataSource, Dialect dialect, int nativeThreshold, int batchSize, boolean quoteIdentifiers) {
+    this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+    if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be > 0");
+    this.nativeThreshold = Math.max(nativeThreshold, 0);
+    this.batchSize = batchSize;
+    this.quoteIdentifiers = quoteIdentifiers;
+    this.dialect = (dialect == Dialect.UNKNOWN) ? null : dialect;
+  }
+
+  public BulkLoadResult load(Class<?> entityClass, Iterable<?> rows) {
+    return load(entityClass, rows, Mode.AUTO);
+  }
+
+  /**
+   * @param rows 엔티티, DTO, 또는 (프로퍼티명 → 값) Map
+   */
+  public BulkLoadResult load(Class<?> entityClass, Iterable<?> rows, Mode mode) {
+    return load(entityClass, rows, mode, false);
+  }
+
+  /**
+   * 현재 스레드의 Spring 트랜잭션에 참여하지 않고 DataSource에서 커넥션을 새로 받아 적재 후 커밋
+   * (다른 producer의 row가 호출자 트랜잭션에 섞여 함께 커밋/롤백되지 않도록)
+   */
+  public BulkLoadResult loadDetached(Class<?> entityClass, Iterable<?> rows) {
+    return load(entityClass, rows, Mode.AUTO, true);
+  }
+
+  private BulkLoadResult load(Class<?> entityClass, Iterable<?> rows, Mode mode, boolean detached) {
+    Objects.requireNonNull(entityClass, "entityClass must not be null");
+    Objects.requireNonNull(rows, "rows must not be null");
+
+    Iterator<?> it = rows.iterator();
+    if (!it.hasNext()) return new BulkLoadResult(0, Path.BATCH, 0);
+
+    // 첫 row로 컬럼 구성 결정 (PK 포함 여부)
+    Object first = it.next();
+    RowSchema schema = RowSchema.of(entityClass, first);
+    Iterator<Object> all = prepend(first, it);
+
+    boolean large = !(rows instanceof Collection<?> c) || c.size() >= nativeThreshold;
+    boolean tryNative = mode == Mode.NATIVE || (mode == Mode.AUTO && large);
+
+    long start = System.nanoTime();
+    Connection conn = openConnection(detached, schema);
+    boolean manageTx = false;
+    boolean autoCommit = true;
+    try {
+      autoCommit = conn.getAutoCommit();
+      manageTx = detached || (autoCommit && !DataSourceUtils.isConnectionTransactional(conn, dataSource));
+      if (manageTx && autoCommit) conn.setAutoCommit(false);
+
+      IdentifierQuoter quoter = new IdentifierQuoter(resolveDialect(conn), quoteIdentifiers);
+      Path path = tryNative ? nativePath(conn, schema) : Path.BATCH;
+      long loaded = switch (path) {
+        case COPY -> copyIn(conn, quoter, schema, all);
+        case LOAD_DATA -> loadData(conn, quoter, schema, all);
+        case BATCH -> batchInsert(conn, quoter, schema, all);
+      };
+      if (loaded < 0) {
+        // LOAD DATA LOCAL 거부: row를 하나도 읽지 않았으므로 같은 iterator로 batch 적재
+        path = Path.BATCH;
+        loaded = batchInsert(conn, quoter, schema, all);
+      }
+
+      if (manageTx) conn.commit();
+
+      long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+      log.debug("MyBatis-Easy: bulk load done. table={} rows={} path={} elapsedMs={}",
+          schema.table, loaded, path, elapsedMillis);
+      return new BulkLoadResult(loaded, path, elapsedMillis);
+    } catch (SQLException | RuntimeException e) {
+      if (manageTx) rollbackQuietly(conn);
+      throw new IllegalStateException("MyBatis-Easy: bulk load failed. table=" + schema.table, e);
+    } finally {
+      if (manageTx && autoCommit) restoreAutoCommit(conn);
+      if (detached) {
+        closeQuietly(conn);
+      } else {
+        DataSourceUtils.releaseConnection(conn, dataSource);
+      }
+    }
+  }
+
+  private Connection openConnection(boolean detached, RowSchema schema) {
+    if (!detached) return DataSourceUtils.getConnection(dataSource);
+    try {
+      return dataSource.getConnection();
+    } catch (SQLException e) {
+      throw new IllegalStateException("MyBatis-Easy: bulk load connection failed. table=" + schema.table, e);
+    }
+  }
+
+  private Path nativePath(Connection conn, RowSchema schema) throws SQLException {
+    Dialect d = resolveDialect(conn);
+    Class<?> pgConnectionType = (d == Dialect.POSTGRES) ? loadClass(PG_CONNECTION, conn) : null;
+    if (pgConnectionType != null && conn.isWrapperFor(pgConnectionType)) {
+      return Path.COPY;
+    }
+    if ((d == Dialect.MYSQL || d == Dialect.MARIADB) && !schema.hasBinary && !localInfileRejected) {
+      try (Statement st = conn.createStatement()) {
+        if (localInfileSetter(st) != null) return Path.LOAD_DATA;
+      }
+    }
+    log.debug("MyBatis-Easy: native bulk load unavailable, using batch insert. table={} dialect={}", schema.table, d);
+    return Path.BATCH;
+  }
+
+  private long copyIn(Connection conn, IdentifierQuoter quoter, RowSchema schema, Iterator<Object> rows) throws SQLException {
+    String sql = "COPY " + quoter.table(schema.table) + " (" + columnList(quoter, schema) + ") FROM STDIN WITH (FORMAT csv)";
+    try {
+      Class<?> pgConnectionType = loadClass(PG_CONNECTION, conn);
+      Object copyApi = pgConnectionType.getMethod("getCopyAPI").invoke(conn.unwrap(pgConnectionType));
+      Method copyIn = copyApi.getClass().getMethod("copyIn", String.class, InputStream.class);
+      return ((Number) copyIn.invoke(copyApi, sql, new RowStream(schema, rows, Path.COPY))).longValue();
+    } catch (InvocationTargetException e) {
+      throw asSqlException(e.getCause());
+    } catch (ReflectiveOperationException e) {
+      throw new SQLException("MyBatis-Easy: PostgreSQL CopyManager not accessible", e);
+    }
+  }
+
+  /**
+   * @return 적재 건수, LOAD DATA LOCAL이 row를 읽기 전에 거부되면 -1 (호출부가 batch로 재시도)
+   */
+  private long loadData(Connection conn, IdentifierQuoter quoter, RowSchema schema, Iterator<Object> rows) throws SQLException {
+    String sql = "LOAD DATA LOCAL INFILE 'mybatis-easy-bulk' INTO TABLE " + quoter.table(schema.table)
+        + " CHARACTER SET utf8mb4"
+        + " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\'"
+        + " LINES TERMINATED BY '\\n'"
+        + " (" + columnList(quoter, schema) + ")";
+    RowStream stream = new RowStream(schema, rows, Path.LOAD_DATA);
+    try (Statement st = conn.createStatement()) {
+      Method setter = localInfileSetter(st);
+      setter.invoke(st.unwrap(setter.getDeclaringClass()), stream);
+      try {
+        return st.executeLargeUpdate(sql);
+      } catch (SQLException e) {
+        if (stream.started()) throw e;
+        if (isLocalInfileRejection(e)) localInfileRejected = true;
+        log.warn("MyBatis-Easy: LOAD DATA LOCAL INFILE failed before reading rows, falling back to batch insert. "
+            + "Check allowLoadLocalInfile(MySQL)/allowLocalInfile(MariaDB) and server local_infile. table={} cause={}",
+            schema.table, e.getMessage());
+        return -1;
+      }
+    } catch (InvocationTargetException e) {
+      throw asSqlException(e.getCause());
+    } catch (ReflectiveOperationException e) {
+      throw new SQLException("MyBatis-Easy: LOAD DATA input stream not accessible", e);
+    }
+  }
+
+  private long batchInsert(Connection conn, IdentifierQuoter quoter, RowSchema schema, Iterator<Object> rows) throws SQLException {
+    String sql = "INSERT INTO " + quoter.table(schema.table) + " (" + columnList(quoter, schema) + ") VALUES ("
+        + schema.columns.stream().map(c -> "?").collect(Collectors.joining(", ")) + ")";
+
+    long loaded = 0;
+    int pending = 0;
+    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+      while (rows.hasNext()) {
+        Object[] values = schema.valuesOf(rows.next());
+        for (int i = 0; i < values.length; i++) {
+          ps.setObject(i + 1, values[i]);
+        }
+        ps.addBatch();
+        loaded++;
+        if (++pending == batchSize) {
+          ps.executeBatch();
+          pending = 0;
+        }
+      }
+      if (pending > 0) ps.executeBatch();
+    }
+    return loaded;
+  }
+
+  private static String columnList(IdentifierQuoter quoter, RowSchema schema) {
+    return schema.columns.stream().map(quoter::column).collect(Collectors.joining(", "));
+  }
+
+  // 1148 ER_NOT_ALLOWED_COMMAND / 3948 ER_CLIENT_LOCAL_FILES_DISABLED, 드라이버 자체 거부는 메시지로 판별
+  private static boolean isLocalInfileRejection(SQLException e) {
+    if (e.getErrorCode() == 1148 || e.getErrorCode() == 3948) return true;
+    String msg = (e.getMessage() == null) ? "" : e.getMessage().toLowerCase(Locale.ROOT);
+    return msg.contains("local data") || msg.contains("local infile") || msg.contains("localinfile");
+  }
+
+  private Dialect resolveDialect(Connection conn) throws SQLException {
+    Dialect d = this.dialect;
+    if (d == null) {
+      d = Dialect.fromProductName(conn.getMetaData().getDatabaseProductName());
+      this.dialect = d;
+    }
+    return d;
+  }
+
+  private static Method localInfileSetter(Statement st) throws SQLException {
+    for (String name : LOCAL_INFILE_STATEMENTS) {
+      try {
+        Class<?> type = loadClass(name, st.getConnection());
+        if (type != null && st.isWrapperFor(type)) return type.getMethod("setLocalInfileInputStream", InputStream.class);
+      } catch (NoSuchMethodException ignored) {
+        // 드라이버 버전에 따라 없음
+      }
+    }
+    return null;
+  }
+
+  // 드라이버는 애플리케이션 classpath에만 있을 수 있어 context → 드라이버 구현 class loader 순으로 시도
+  private static Class<?> loadClass(String name, Connection conn) {
+    ClassLoader[] loaders = {
+        Thread.currentThread().getContextClassLoader(),
+        conn.getClass().getClassLoader(),
+        BulkLoader.class.getClassLoader()
+    };
+    for (ClassLoader cl : loaders) {
+      if (cl == null) continue;
+      try {
+        return Class.forName(name, false, cl);
+      } catch (ClassNotFoundException ignored) {
+        // 다음 loader
+      }
+    }
+    return null;
+  }
+
+  private static SQLException asSqlException(Throwable t) {
+    if (t instanceof SQLException se) return se;
+    return new SQLException(t.getMessage(), t);
+  }
+
+  private static void rollbackQuietly(Connection conn) {
+    try {
+      conn.rollback();
+    } catch (SQLException e) {
+      log.warn("MyBatis-Easy: bulk load rollback failed", e);
+    }
+  }
+
+  private static void closeQuietly(Connection conn) {
+    try {
+      conn.close();
+    } catch (SQLException e) {
+      log.warn("MyBatis-Easy: bulk load connection close failed", e);
+    }
+  }
+
+  private static void restoreAutoCommit(Connection conn) {
+    try {
+      conn.setAutoCommit(true);
+    } catch (SQLException e) {
+      log.warn("MyBatis-Easy: bulk load autocommit restore failed", e);
+    }
+  }
+
+  private static Iterator<Object> prepend(Object first, Iterator<?> rest) {
+    return new Iterator<>() {
+      private boolean firstTaken;
+
+      @Override
+      public boolean hasNext() {
+        return !firstTaken || rest.hasNext();
+      }
+
+      @Override
+      public Object next() {
+        if (!firstTaken) {
+          firstTaken = true;
+          return first;
+        }
+        return rest.next();
+      }
+    };
+  }
+
+  /**
+   * 적재 대상 컬럼과 row → 값 배열 변환
+   */
+  static final class RowSchema {
+    final Class<?> entityClass;
+    final String table;
+    final List<String> columns = new ArrayList<>();
+    final List<Field> fields = new ArrayList<>();
+    final String versionField;
+    final boolean hasBinary;
+    // 플래그 방식 @SoftDelete: 값이 없으면 notDeletedValue (insert와 동일)
+    final String flagField;
+    final Object notDeletedValue;
+
+    private RowSchema(Class<?> entityClass, Object first) {
+      ColumnAnalyzer.TableInfo info = ColumnAnalyzer.analyzeClass(entityClass);
+      String idProperty = (info.getIdField() == null || info.getIdField().isBlank()) ? "id" : info.getIdField();
+
+      this.entityClass = entityClass;
+      this.table = info.getTableName();
+      this.versionField = info.getVersionField();
+
+      boolean binary = false;
+      Map<String, Object> firstValues = null;
+      for (Field f : ColumnAnalyzer.getMappedFields(entityClass)) {
+        if (f.getName().equals(idProperty)) {
+          if (firstValues == null) firstValues = propertiesOf(first);
+          if (firstValues.get(idProperty) == null) continue;
+        }
+        f.setAccessible(true);
+        fields.add(f);
+        columns.add(ColumnAnalyzer.getColumnName(f));
+        binary |= (f.getType() == byte[].class);
+      }
+      this.hasBinary = binary;
+
+      Field softDelete = ColumnAnalyzer.getSoftDeleteField(entityClass);
+      String notDeleted = (softDelete == null) ? "" : softDelete.getAnnotation(SoftDelete.class).notDeletedValue();
+      boolean defaulted = ColumnAnalyzer.isFlagSoftDelete(softDelete) && !notDeleted.isBlank();
+      this.flagField = defaulted ? softDelete.getName() : null;
+      this.notDeletedValue = defaulted ? flagValue(softDelete.getType(), notDeleted.trim()) : null;
+    }
+
+    static RowSchema of(Class<?> entityClass, Object first) {
+      return new RowSchema(entityClass, first);
+    }
+
+    Object[] valuesOf(Object row) {
+      Object[] values = new Object[fields.size()];
+      if (entityClass.isInstance(row)) {
+        for (int i = 0; i < values.length; i++) {
+          values[i] = read(fields.get(i), row);
+        }
+      } else {
+        Map<String, Object> m = propertiesOf(row);
+        for (int i = 0; i < values.length; i++) {
+          values[i] = m.get(fields.get(i).getName());
+        }
+      }
+
+      // insert와 같게 @Version 초기값 0
+      if (versionField != null) {
+        for (int i = 0; i < values.length; i++) {
+          if (values[i] == null && fields.get(i).getName().equals(versionField)) values[i] = 0;
+        }
+      }
+      if (flagField != null) {
+        for (int i = 0; i < values.length; i++) {
+          if (values[i] == null && fields.get(i).getName().equals(flagField)) values[i] = notDeletedValue;
+        }
+      }
+      return values;
+    }
+
+    // AutoSqlBuilder 플래그 literal과 같은 규칙: 숫자형 + 정수 값 / boolean + true·false / 그 외 문자열
+    private static Object flagValue(Class<?> type, String value) {
+      Class<?> boxed = ClassUtils.resolvePrimitiveIfNecessary(type);
+      if (Number.class.isAssignableFrom(boxed) && value.matches("-?\\d+")) {
+        if (boxed == Byte.class) return Byte.valueOf(value);
+        if (boxed == Short.class) return Short.valueOf(value);
+        if (boxed == Integer.class) return Integer.valueOf(value);
+        if (boxed == Long.class) return Long.valueOf(value);
+        if (boxed == Float.class) return Float.valueOf(value);
+        if (boxed == Double.class) return Double.valueOf(value);
+        if (boxed == BigInteger.class) return new BigInteger(value);
+        return new BigDecimal(value);
+      }
+      if (boxed == Boolean.class && (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false"))) {
+        return Boolean.valueOf(value);
+      }
+      return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> propertiesOf(Object row) {
+      if (row == null) throw new IllegalArgumentException("MyBatis-Easy: bulk load row must not be null");
+      if (row instanceof Map<?, ?> m) return (Map<String, Object>) m;
+      if (entityClass.isInstance(row)) {
+        Map<String, Object> out = new HashMap<>();
+        for (Field f : ColumnAnalyzer.getMappedFields(entityClass)) {
+          f.setAccessible(true);
+          out.put(f.getName(), read(f, row));
+        }
+        return out;
+      }
+      return EntityParser.toEntityKeyedMap(row, entityClass);
+    }
+
+    private static Object read(Field f, Object target) {
+      try {
+        return f.get(target);
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException("MyBatis-Easy: cannot read field " + f, e);
+      }
+    }
+  }
+
+  /**
+   * row를 읽는 만큼만 텍스트로 인코딩하는 InputStream
+   * - COPY: CSV (NULL = 빈 값, 나머지는 항상 quote)
+   * - LOAD_DATA: TSV (NULL = \N, 역슬래시 escape)
+   */
+  static final class RowStream extends InputStream {
+    private static final int TARGET_CHUNK = 64 * 1024;
+
+    private final RowSchema schema;
+    private final Iterator<Object> rows;
+    private final boolean csv;
+    private final StringBuilder text = new StringBuilder(TARGET_CHUNK + 1024);
+
+    private byte[] buf = new byte[0];
+    private int pos;
+    private boolean started;
+
+    RowStream(RowSchema schema, Iterator<Object> rows, Path path) {
+      this.schema = schema;
+      this.rows = rows;
+      this.csv = (path == Path.COPY);
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (!fill()) return -1;
+      return buf[pos++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) return 0;
+      if (!fill()) return -1;
+      int n = Math.min(len, buf.length - pos);
+      System.arraycopy(buf, pos, b, off, n);
+      pos += n;
+      return n;
+    }
+
+    /** 드라이버가 row를 하나라도 읽었는지 (false면 iterator는 그대로) */
+    boolean started() {
+      return started;
+    }
+
+    private boolean fill() {
+      if (pos < buf.length) return true;
+      if (!rows.hasNext()) return false;
+
+      started = true;
+      text.setLength(0);
+      while (rows.hasNext() && text.length() < TARGET_CHUNK) {
+        appendRow(schema.valuesOf(rows.next()));
+      }
+      buf = text.toString().getBytes(StandardCharsets.UTF_8);
+      pos = 0;
+      return buf.length > 0;
+    }
+
+    private void appendRow(Object[] values) {
+      for (int i = 0; i < values.length; i++) {
+        if (i > 0) text.append(csv ? ',' : '\t');
+        Object v = values[i];
+        if (v == null) {
+          if (!csv) text.append("\\N");
+          continue;
+        }
+        String s = format(v);
+        if (csv) {
+          text.append('"').append(s.replace("\"", "\"\"")).append('"');
+        } else {
+          appendEscaped(s);
+        }
+      }
+      text.append('\n');
+    }
+
+    private String format(Object v) {
+      if (v instanceof Boolean b) return csv ? b.toString() : (b ? "1" : "0");
+      if (v instanceof BigDecimal d) return d.toPlainString();
+      if (v instanceof LocalDateTime t) return t.toString().replace('T', ' ');
+      if (v instanceof java.util.Date d) {
+        return (d instanceof Timestamp ts) ? ts.toString() : new Timestamp(d.getTime()).toString();
+      }
+      if (v instanceof Enum<?> e) return e.name();
+      if (v instanceof byte[] b) return "\\x" + HexFormat.of().formatHex(b);
+      return v.toString();
+    }
+
+    private void appendEscaped(String s) {
+      for (int i = 0; i < s.length(); i++) {
+        char c = s.charAt(i);
+        switch (c) {
+          case '\\' -> text.append("\\\\");
+          case '\t' -> text.append("\\t");
+          case '\n' -> text.append("\\n");
+          case '\r' -> text.append("\\r");
+          case '\0' -> text.append("\\0");
+          default -> text.append(c);
+        }
+      }
+    }
+  }
+
+  public record BulkLoadResult(long rows, Path path, long elapsedMillis) {}
+}
@@ -0,0 +1,151 @@
+package com.thenoah.dev.mybatis_easy_starter.support.bulk;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 대량 적재를 chunk 단위로 나눠 여러 커넥션에서 동시에 실행
+ *
+ * - 입력(Iterable/Iterator/Stream)을 chunkSize건씩 잘라 chunk마다 BulkLoader로 적재
+ *   (chunk마다 DataSource에서 별도 커넥션 + 별도 트랜잭션)
+ * - 동시 실행 chunk 수는 parallelism으로 제한 → 입력을 다 읽어 메모리에 쌓지 않음 (backpressure)
+ * - 실패한 chunk가 있어도 나머지는 계속 적재하고, 결과에 실패 chunk 목록을 담아 반환
+ * - 실행 스레드는 virtual thread 사용 가능 시 virtual thread, 아니면 cached pool
+ *
+ * 주의: chunk마다 따로 커밋되므로 전체가 원자적이지 않음 (호출자의 트랜잭션에도 참여하지 않음)
+ *       실패 chunk 재시도는 ChunkFailure의 시작 위치/건수로 호출자가 처리
+ *       parallelism은 커넥션 풀 크기보다 작게 설정
+ */
+public class ParallelBulkLoader {
+
+  private static final Logger log = LoggerFactory.getLogger(ParallelBulkLoader.class);
+
+  public static final int DEFAULT_PARALLELISM = 4;
+  public static final int DEFAULT_CHUNK_SIZE = 10_000;
+
+  private final BulkLoader bulkLoader;
+  private final int parallelism;
+  private final int chunkSize;
+  private final ExecutorService executor;
+
+  public ParallelBulkLoader(BulkLoader bulkLoader) {
+    this(bulkLoader, DEFAULT_PARALLELISM, DEFAULT_CHUNK_SIZE, null);
+  }
+
+  /**
+   * @param executor chunk 실행 스레드 (null이면 호출마다 virtual thread / cached pool 생성 후 종료)
+   */
+  public ParallelBulkLoader(BulkLoader bulkLoader, int parallelism, int chunkSize, ExecutorService executor) {
+    this.bulkLoader = Objects.requireNonNull(bulkLoader, "bulkLoader must not be null");
+    if (parallelism <= 0) throw new IllegalArgumentException("parallelism must be > 0");
+    if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize must be > 0");
+    this.parallelism = parallelism;
+    this.chunkSize = chunkSize;
+    this.executor = executor;
+  }
+
+  public ParallelLoadResult load(Class<?> entityClass, Iterable<?> rows) {
+    return load(entityClass, Objects.requireNonNull(rows, "rows must not be null").iterator(), BulkLoader.Mode.AUTO);
+  }
+
+  public ParallelLoadResult load(Class<?> entityClass, Stream<?> rows) {
+    try (Stream<?> s = Objects.requireNonNull(rows, "rows must not be null")) {
+      return load(entityClass, s.iterator(), BulkLoader.Mode.AUTO);
+    }
+  }
+
+  /**
+   * @param mode chunk별 BulkLoader 경로 선택 (AUTO면 chunkSize와 nativeThreshold 비교)
+   */
+  public ParallelLoadResult load(Class<?> entityClass, Iterator<?> rows, BulkLoader.Mode mode) {
+    Objects.requireNonNull(entityClass, "entityClass must not be null");
+    Objects.requireNonNull(rows, "rows must not be null");
+
+    ExecutorService workers = (executor != null) ? executor : defaultExecutor();
+    Semaphore inFlight = new Semaphore(parallelism);
+    LongAdder loaded = new LongAdder();
+    Queue<ChunkFailure> failures = new ConcurrentLinkedQueue<>();
+
+    long start = System.nanoTime();
+    int chunks = 0;
+    long offset = 0;
+    try {
+      while (rows.hasNext()) {
+        List<Object> chunk = new ArrayList<>(chunkSize);
+        while (rows.hasNext() && chunk.size() < chunkSize) chunk.add(rows.next());
+
+        int index = chunks++;
+        long firstRow = offset;
+        offset += chunk.size();
+
+        // 동시 실행 chunk가 parallelism개면 하나가 끝날 때까지 입력 읽기를 멈춤
+        inFlight.acquireUninterruptibly();
+        try {
+          workers.execute(() -> {
+            try {
+              loaded.add(bulkLoader.load(entityClass, chunk, mode).rows());
+            } catch (RuntimeException e) {
+              log.warn("MyBatis-Easy: bulk load chunk failed. entity={} chunk={} firstRow={} size={}",
+                  entityClass.getName(), index, firstRow, chunk.size(), e);
+              failures.add(new ChunkFailure(index, firstRow, chunk.size(), e));
+            } finally {
+              inFlight.release();
+            }
+          });
+        } catch (RejectedExecutionException e) {
+          inFlight.release();
+          failures.add(new ChunkFailure(index, firstRow, chunk.size(), e));
+        }
+      }
+
+      // 남은 chunk 완료 대기
+      inFlight.acquireUninterruptibly(parallelism);
+      inFlight.release(parallelism);
+    } finally {
+      if (executor == null) workers.shutdown();
+    }
+
+    List<ChunkFailure> failed = new ArrayList<>(failures);
+    failed.sort(Comparator.comparingInt(ChunkFailure::index));
+
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+    log.debug("MyBatis-Easy: parallel bulk load done. entity={} rows={} chunks={} failed={} elapsedMs={}",
+        entityClass.getName(), loaded.sum(), chunks, failed.size(), elapsedMillis);
+    return new ParallelLoadResult(loaded.sum(), chunks, List.copyOf(failed), elapsedMillis);
+  }
+
+  /**
+   * Java 21+ 이면 virtual thread per task, 아니면 daemon cached pool
+   */
+  private static ExecutorService defaultExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "mybatis-easy-bulk");
+        t.setDaemon(true);
+        return t;
+      });
+    }
+  }
+
+  /**
+   * @param firstRow 입력 기준 chunk 시작 위치 (0부터)
+   */
+  public record ChunkFailure(int index, long firstRow, int size, Throwable error) {}
+
+  public record ParallelLoadResult(long rows, int chunks, List<ChunkFailure> failures, long elapsedMillis) {
+    public boolean isSuccess() {
+      return failures.isEmpty();
+    }
+
+    public long failedRows() {
+      return failures.stream().mapToLong(ChunkFailure::size).sum();
+    }
+  }
+}
@@ -0,0 +1,276 @@
+package com.thenoah.dev.mybatis_easy_starter.support.bulk;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비동기 write-behind insert 버퍼 (감사 로그/이벤트처럼 append-only 테이블용, opt-in)
+ *
+ * - 엔티티 타입별 bounded 큐 (ConcurrentLinkedQueue + 용량 Semaphore, 큐 자체는 lock 없음)
+ * - 백그라운드 flusher가 flushSize건이 모이거나 flushInterval이 지나면 BulkLoader로 묶어서 insert
+ * - 큐가 가득 차면 overflow 정책: BLOCK(blockTimeout까지 대기) / DROP(버림) / CALLER_RUNS(호출 스레드가 직접 flush)
+ * - 용량은 insert가 끝난 뒤 반환 → 기록 중인 row도 capacity에 포함 (DB가 느리면 overflow 정책이 동작)
+ * - 컨텍스트 종료(destroy) 시 남은 row를 모두 flush (종료와 겹친 enqueue는 호출 스레드가 직접 기록)
+ *
+ * 주의: enqueue 성공은 DB 반영을 의미하지 않음 (flush 실패 row는 로그 + failed 카운트만 남고 재시도하지 않음)
+ *       호출자의 트랜잭션과 무관하게 별도 커넥션으로 커밋됨 (CALLER_RUNS/flush()로 호출 스레드에서 기록할 때도 동일)
+ *       프로세스가 비정상 종료되면 큐에 남은 row는 유실
+ */
+public class WriteBehindBuffer implements DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(WriteBehindBuffer.class);
+
+  public enum Overflow {
+    BLOCK,
+    DROP,
+    CALLER_RUNS
+  }
+
+  private final BulkLoader bulkLoader;
+  private final int capacity;
+  private final int flushSize;
+  private final long flushIntervalMillis;
+  private final Overflow overflow;
+  private final long blockTimeoutNanos;
+
+  private final Map<Class<?>, Lane> lanes = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService flusher;
+  private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+  private volatile boolean closed;
+
+  private static final class Lane {
+    final Class<?> entityClass;
+    final int capacity;
+    final Queue<Object> queue = new ConcurrentLinkedQueue<>();
+    final Semaphore free;
+
+    final LongAdder enqueued = new LongAdder();
+    final LongAdder flushed = new LongAdder();
+    final LongAdder dropped = new LongAdder();
+    final LongAdder failed = new LongAdder();
+    final LongAdder callerRuns = new LongAdder();
+
+    Lane(Class<?> entityClass, int capacity) {
+      this.entityClass = entityClass;
+      this.capacity = capacity;
+      this.free = new Semaphore(capacity);
+    }
+
+    // ConcurrentLinkedQueue.size()는 O(n)이라 확보된 용량으로 계산 (기록 중인 row 포함)
+    int depth() {
+      return capacity - free.availablePermits();
+    }
+  }
+
+  /**
+   * @param capacity      엔티티 타입별 큐 최대 row 수
+   * @param flushSize     이 건수가 모이면 즉시 flush (한 번에 insert하는 최대 row 수)
+   * @param flushInterval 건수가 안 차도 이 주기마다 flush
+   * @param blockTimeout  BLOCK 정책에서 대기 최대 시간 (넘으면 DROP)
+   */
+  public WriteBehindBuffer(BulkLoader bulkLoader,
+                           int capacity,
+                           int flushSize,
+                           Duration flushInterval,
+                           Overflow overflow,
+                           Duration blockTimeout) {
+    this.bulkLoader = Objects.requireNonNull(bulkLoader, "bulkLoader must not be null");
+    if (capacity <= 0) throw new IllegalArgumentException("capacity must be > 0");
+    if (flushSize <= 0) throw new IllegalArgumentException("flushSize must be > 0");
+    this.capacity = capacity;
+    this.flushSize = Math.min(flushSize, capacity);
+    this.flushIntervalMillis = (flushInterval == null) ? 1000 : Math.max(flushInterval.toMillis(), 1);
+    this.overflow = (overflow == null) ? Overflow.BLOCK : overflow;
+    this.blockTimeoutNanos = (blockTimeout == null) ? TimeUnit.SECONDS.toNanos(5) : Math.max(blockTimeout.toNanos(), 0);
+
+    this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "mybatis-easy-write-behind");
+      t.setDaemon(true);
+      return t;
+    });
+    flusher.scheduleWithFixedDelay(this::flushAllSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 엔티티 인스턴스 적재 예약 (엔티티 타입 = entity.getClass())
+   *
+   * @return 큐에 넣었거나 호출 스레드에서 기록했으면 true, DROP 되었으면 false
+   */
+  public boolean enqueue(Object entity) {
+    Objects.requireNonNull(entity, "entity must not be null");
+    return enqueue(entity.getClass(), entity);
+  }
+
+  /**
+   * @param row 엔티티, DTO, 또는 (프로퍼티명 → 값) Map
+   */
+  public boolean enqueue(Class<?> entityClass, Object row) {
+    Objects.requireNonNull(entityClass, "entityClass must not be null");
+    Objects.requireNonNull(row, "row must not be null");
+    if (closed) throw new IllegalStateException("WriteBehindBuffer is closed");
+
+    Lane lane = lanes.computeIfAbsent(entityClass, k -> new Lane(k, capacity));
+    if (!lane.free.tryAcquire()) {
+      if (overflow == Overflow.CALLER_RUNS) return runInCaller(lane, row);
+      if (!awaitCapacity(lane)) return false;
+    }
+
+    lane.queue.add(row);
+    lane.enqueued.increment();
+    // add 직전에 destroy()의 마지막 flush가 끝났을 수 있음 → 다시 확인해 직접 기록
+    if (closed) {
+      drain(lane);
+    } else if (lane.depth() >= flushSize) {
+      requestFlush();
+    }
+    return true;
+  }
+
+  /**
+   * BLOCK: blockTimeout까지 자리가 나길 기다림 / DROP: 바로 버림
+   */
+  private boolean awaitCapacity(Lane lane) {
+    if (overflow == Overflow.BLOCK) {
+      requestFlush();
+      try {
+        if (lane.free.tryAcquire(blockTimeoutNanos, TimeUnit.NANOSECONDS)) return true;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      log.warn("MyBatis-Easy: write-behind queue full, row dropped. entity={} capacity={}",
+          lane.entityClass.getName(), capacity);
+    }
+    lane.dropped.increment();
+    return false;
+  }
+
+  /**
+   * CALLER_RUNS: 호출 스레드가 한 묶음을 직접 기록해 자리를 만들고, 그래도 없으면 자기 row를 바로 기록
+   */
+  private boolean runInCaller(Lane lane, Object row) {
+    lane.callerRuns.increment();
+    flushLane(lane);
+    if (lane.free.tryAcquire()) {
+      lane.queue.add(row);
+      lane.enqueued.increment();
+      if (closed) drain(lane);
+      return true;
+    }
+
+    lane.enqueued.increment();
+    write(lane, List.of(row));
+    return true;
+  }
+
+  private void requestFlush() {
+    if (closed || !flushRequested.compareAndSet(false, true)) return;
+    try {
+      flusher.execute(() -> {
+        flushRequested.set(false);
+        flushAllSafely();
+      });
+    } catch (RejectedExecutionException e) {
+      flushRequested.set(false);
+    }
+  }
+
+  /**
+   * 모든 엔티티 타입의 대기 row를 즉시 기록 (호출 스레드에서 실행)
+   */
+  public void flush() {
+    for (Lane lane : lanes.values()) drain(lane);
+  }
+
+  private void drain(Lane lane) {
+    while (flushLane(lane) > 0) {
+      // 큐가 빌 때까지 flushSize 단위로 반복
+    }
+  }
+
+  private void flushAllSafely() {
+    try {
+      for (Lane lane : lanes.values()) {
+        while (flushLane(lane) >= flushSize) {
+          // 가득 찬 묶음이었으면 남은 row가 있을 수 있으므로 반복
+        }
+      }
+    } catch (Exception e) {
+      log.warn("MyBatis-Easy: write-behind flush failed", e);
+    }
+  }
+
+  /**
+   * @return 큐에서 꺼낸 row 수
+   */
+  private int flushLane(Lane lane) {
+    List<Object> batch = new ArrayList<>(Math.min(flushSize, Math.max(lane.depth(), 1)));
+    Object row;
+    while (batch.size() < flushSize && (row = lane.queue.poll()) != null) {
+      batch.add(row);
+    }
+    if (batch.isEmpty()) return 0;
+
+    // 기록이 끝날 때까지 용량을 잡아 둠 (꺼낸 row도 메모리에 있으므로)
+    try {
+      write(lane, batch);
+    } finally {
+      lane.free.release(batch.size());
+    }
+    return batch.size();
+  }
+
+  // 호출 스레드(CALLER_RUNS/flush())에서 실행돼도 그 스레드의 @Transactional에 참여하지 않도록 전용 커넥션
+  private void write(Lane lane, List<Object> rows) {
+    try {
+      bulkLoader.loadDetached(lane.entityClass, rows);
+      lane.flushed.add(rows.size());
+    } catch (RuntimeException e) {
+      lane.failed.add(rows.size());
+      log.error("MyBatis-Easy: write-behind insert failed, rows discarded. entity={} rows={}",
+          lane.entityClass.getName(), rows.size(), e);
+    }
+  }
+
+  public WriteBehindStats stats(Class<?> entityClass) {
+    Lane lane = lanes.get(entityClass);
+    if (lane == null) return new WriteBehindStats(0, 0, 0, 0, 0, 0);
+    return new WriteBehindStats(lane.depth(), lane.enqueued.sum(), lane.flushed.sum(),
+        lane.dropped.sum(), lane.failed.sum(), lane.callerRuns.sum());
+  }
+
+  /**
+   * 엔티티 타입별 현재 큐 깊이
+   */
+  public Map<Class<?>, Integer> depths() {
+    Map<Class<?>, Integer> out = new LinkedHashMap<>();
+    for (Lane lane : lanes.values()) out.put(lane.entityClass, lane.depth());
+    return out;
+  }
+
+  /**
+   * 컨텍스트 종료 시 flusher를 멈추고 남은 row를 모두 기록
+   */
+  @Override
+  public void destroy() {
+    closed = true;
+    flusher.shutdown();
+    try {
+      if (!flusher.awaitTermination(flushIntervalMillis + 5000, TimeUnit.MILLISECONDS)) {
+        flusher.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flush();
+  }
+
+  public record WriteBehindStats(int depth, long enqueued, long flushed, long dropped, long failed, long callerRuns) {}
+}
@@ -0,0 +1,180 @@
+package com.thenoah.dev.mybatis_easy_starter.support.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 엔티티 1종에 대한 id -> entity 캐시
+ * - access-order LinkedHashMap 기반 LRU (maxSize 초과 시 가장 오래 안 쓴 엔트리 제거)
+ * - 엔트리별 TTL, 미존재 결과(negative)는 별도 TTL
+ * - 보관/반환 모두 얕은 복사본 (캐시 원본 오염 방지)
+ * - invalidate/clear마다 세대(generation) 증가 → 조회 시작 후 무효화가 끼면 적재 생략 (stale put 방지)
+ */
+public final class BoundedEntityCache {
+
+  /** get() 결과: DB에 없다고 캐시된 id */
+  public static final Object NEGATIVE = new Object();
+
+  private final String name;
+  private final int maxSize;
+  private final long ttlNanos;
+  private final long negativeTtlNanos;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final LinkedHashMap<Object, Entry> map;
+  private long generation; // lock 보호
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder negativeHits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder puts = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder invalidations = new LongAdder();
+
+  private record Entry(Object value, long expiresAt) {}
+
+  public BoundedEntityCache(String name, int maxSize, long ttlNanos, long negativeTtlNanos) {
+    this.name = name;
+    this.maxSize = Math.max(maxSize, 1);
+    this.ttlNanos = ttlNanos;
+    this.negativeTtlNanos = negativeTtlNanos;
+    this.map = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+        if (size() > BoundedEntityCache.this.maxSize) {
+          evictions.increment();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return 엔티티 복사본 / {@link #NEGATIVE} / null(miss)
+   */
+  public Object get(Object id) {
+    Object key = normalizeKey(id);
+    if (key == null) return null;
+
+    Entry e;
+    lock.lock();
+    try {
+      e = map.get(key);
+      if (e != null && e.expiresAt - System.nanoTime() <= 0) {
+        map.remove(key);
+        e = null;
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    if (e == null) {
+      misses.increment();
+      return null;
+    }
+    if (e.value == null) {
+      negativeHits.increment();
+      return NEGATIVE;
+    }
+
+    Object copy = EntityCopier.copy(e.value);
+    if (copy == null) {
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    return copy;
+  }
+
+  /**
+   * DB 조회 시작 전에 받아두고 put/putNegative에 전달 (그 사이 invalidate/clear가 있었으면 적재 안함)
+   */
+  public long stamp() {
+    lock.lock();
+    try {
+      return generation;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void put(Object id, Object entity, long stamp) {
+    Object key = normalizeKey(id);
+    if (key == null || entity == null || ttlNanos <= 0) return;
+
+    Object copy = EntityCopier.copy(entity);
+    if (copy == null) return;
+
+    putEntry(key, new Entry(copy, System.nanoTime() + ttlNanos), stamp);
+  }
+
+  public void putNegative(Object id, long stamp) {
+    Object key = normalizeKey(id);
+    if (key == null || negativeTtlNanos <= 0) return;
+
+    putEntry(key, new Entry(null, System.nanoTime() + negativeTtlNanos), stamp);
+  }
+
+  public void invalidate(Object id) {
+    Object key = normalizeKey(id);
+    if (key == null) return;
+
+    lock.lock();
+    try {
+      generation++; // 키가 없어도 증가: 진행 중인 조회가 이전 값을 적재하지 못하게
+      if (map.remove(key) != null) invalidations.increment();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void clear() {
+    lock.lock();
+    try {
+      generation++;
+      map.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public CacheStats stats() {
+    int size;
+    lock.lock();
+    try {
+      size = map.size();
+    } finally {
+      lock.unlock();
+    }
+    return new CacheStats(hits.sum(), negativeHits.sum(), misses.sum(), puts.sum(),
+        evictions.sum(), invalidations.sum(), size);
+  }
+
+  private void putEntry(Object key, Entry entry, long stamp) {
+    lock.lock();
+    try {
+      if (generation != stamp) return;
+      map.put(key, entry);
+    } finally {
+      lock.unlock();
+    }
+    puts.increment();
+  }
+
+  /**
+   * findById(1) / findById(1L) / entity.id(Long) 가 같은 키가 되도록 정수형은 Long으로 통일
+   */
+  static Object normalizeKey(Object id) {
+    if (id instanceof Integer || id instanceof Short || id instanceof Byte) {
+      return ((Number) id).longValue();
+    }
+    return id;
+  }
+}
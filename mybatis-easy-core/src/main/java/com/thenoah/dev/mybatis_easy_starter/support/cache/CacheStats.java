@@ -0,0 +1,19 @@
+package com.thenoah.dev.mybatis_easy_starter.support.cache;
+
+/**
+ * 엔티티 캐시 통계 스냅샷
+ */
+public record CacheStats(
+    long hits,
+    long negativeHits,
+    long misses,
+    long puts,
+    long evictions,
+    long invalidations,
+    int size
+) {
+  public double hitRate() {
+    long total = hits + negativeHits + misses;
+    return (total == 0) ? 0.0 : (double) (hits + negativeHits) / total;
+  }
+}
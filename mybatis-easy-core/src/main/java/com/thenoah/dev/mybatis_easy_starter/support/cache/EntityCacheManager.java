@@ -0,0 +1,204 @@
+package com.thenoah.dev.mybatis_easy_starter.support.cache;
+
+import com.thenoah.dev.mybatis_easy_starter.config.MybatisEasyProperties;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.EntityCache;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.ShardedTable;
+import com.thenoah.dev.mybatis_easy_starter.support.ColumnAnalyzer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔티티별 findById 캐시 관리
+ *
+ * - 활성화: mybatis-easy.cache.enabled=true 이고,
+ *   엔티티에 @EntityCache 가 있거나 mybatis-easy.cache.entities[엔티티명] 이 설정된 경우
+ * - 쓰기(update/deleteById/insert) 시 즉시 invalidate +
+ *   Spring 트랜잭션 안이면 커밋/롤백 완료 후 한 번 더 invalidate
+ * - 트랜잭션 안에서 쓴 id는 완료 전까지 캐시에 다시 적재하지 않음 (롤백 시 오염 방지)
+ * - @ShardedTable 엔티티는 대상에서 제외 (물리 테이블 간 id 충돌)
+ */
+public class EntityCacheManager {
+
+  private static final Logger log = LoggerFactory.getLogger(EntityCacheManager.class);
+
+  private static final Object TX_WRITTEN_KEYS = new Object();
+
+  // invalidateAll 기록용 id (해당 엔티티 전체)
+  private static final Object ALL_IDS = new Object();
+
+  private final MybatisEasyProperties.Cache props;
+  private final Map<Class<?>, Optional<BoundedEntityCache>> caches = new ConcurrentHashMap<>();
+
+  public EntityCacheManager(MybatisEasyProperties.Cache props) {
+    this.props = Objects.requireNonNull(props, "props must not be null");
+  }
+
+  /**
+   * @return 캐시 대상이 아니면 null
+   */
+  public BoundedEntityCache cacheFor(Class<?> entityClass) {
+    if (entityClass == null) return null;
+    return caches.computeIfAbsent(entityClass, this::createCache).orElse(null);
+  }
+
+  public void invalidate(Class<?> entityClass, Object id) {
+    BoundedEntityCache cache = cacheFor(entityClass);
+    if (cache == null || id == null) return;
+
+    cache.invalidate(id);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      writtenKeysOfCurrentTransaction().add(new WrittenKey(entityClass, BoundedEntityCache.normalizeKey(id)));
+    }
+  }
+
+  /**
+   * id를 알 수 없는 쓰기용 (예: @CascadeDelete 자식): 엔티티 캐시 전체 제거
+   * - invalidate와 같이 Spring 트랜잭션 안이면 완료 후 한 번 더 비우고, 완료 전까지 적재 금지
+   */
+  public void invalidateAll(Class<?> entityClass) {
+    BoundedEntityCache cache = cacheFor(entityClass);
+    if (cache == null) return;
+
+    cache.clear();
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      writtenKeysOfCurrentTransaction().add(new WrittenKey(entityClass, ALL_IDS));
+    }
+  }
+
+  /**
+   * 다른 노드의 쓰기 반영용: 트랜잭션 기록 없이 로컬 캐시만 제거
+   * - 이 노드에서 아직 캐시가 만들어지지 않은 엔티티면 무시
+   *
+   * @param entityId 로그에 기록된 문자열 id (null이면 해당 엔티티 캐시 전체 제거)
+   */
+  public void evictLocal(String entityClassName, String entityId) {
+    if (entityClassName == null) return;
+
+    for (Map.Entry<Class<?>, Optional<BoundedEntityCache>> e : caches.entrySet()) {
+      if (!e.getKey().getName().equals(entityClassName)) continue;
+
+      BoundedEntityCache cache = e.getValue().orElse(null);
+      if (cache == null) return;
+
+      if (entityId == null) {
+        cache.clear();
+        return;
+      }
+      cache.invalidate(toIdValue(e.getKey(), entityId));
+      return;
+    }
+  }
+
+  /**
+   * 현재 트랜잭션에서 이미 쓴 id인지 (true면 캐시 적재 금지)
+   */
+  public boolean isWrittenInCurrentTransaction(Class<?> entityClass, Object id) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) return false;
+
+    @SuppressWarnings("unchecked")
+    Set<WrittenKey> keys = (Set<WrittenKey>) TransactionSynchronizationManager.getResource(TX_WRITTEN_KEYS);
+    return keys != null
+        && (keys.contains(new WrittenKey(entityClass, ALL_IDS))
+        || keys.contains(new WrittenKey(entityClass, BoundedEntityCache.normalizeKey(id))));
+  }
+
+  public Map<String, CacheStats> stats() {
+    Map<String, CacheStats> out = new TreeMap<>();
+    caches.values().forEach(o -> o.ifPresent(c -> out.put(c.getName(), c.stats())));
+    return out;
+  }
+
+  /**
+   * 전체 캐시 비우기 (컨텍스트 종료 시 destroy 메서드로도 사용)
+   */
+  public void clearAll() {
+    caches.values().forEach(o -> o.ifPresent(BoundedEntityCache::clear));
+    EntityCopier.clearCache();
+  }
+
+  private Set<WrittenKey> writtenKeysOfCurrentTransaction() {
+    @SuppressWarnings("unchecked")
+    Set<WrittenKey> keys = (Set<WrittenKey>) TransactionSynchronizationManager.getResource(TX_WRITTEN_KEYS);
+    if (keys != null) return keys;
+
+    Set<WrittenKey> created = new HashSet<>();
+    TransactionSynchronizationManager.bindResource(TX_WRITTEN_KEYS, created);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(TX_WRITTEN_KEYS);
+        for (WrittenKey k : created) {
+          BoundedEntityCache cache = cacheFor(k.entityClass());
+          if (cache == null) continue;
+          if (k.id() == ALL_IDS) {
+            cache.clear();
+          } else {
+            cache.invalidate(k.id());
+          }
+        }
+      }
+    });
+    return created;
+  }
+
+  // 문자열 id를 캐시 key 타입으로 복원 (정수형은 normalizeKey와 같은 Long)
+  private Object toIdValue(Class<?> entityClass, String raw) {
+    ColumnAnalyzer.TableInfo info = ColumnAnalyzer.analyzeClass(entityClass);
+    Class<?> idType = info.getIdType();
+    try {
+      if (info.isIntegralId()) return Long.parseLong(raw);
+      if (idType == UUID.class) return UUID.fromString(raw);
+    } catch (IllegalArgumentException ignored) {
+      // 타입이 맞지 않으면 문자열 그대로
+    }
+    return raw;
+  }
+
+  private Optional<BoundedEntityCache> createCache(Class<?> entityClass) {
+    if (!props.isEnabled()) return Optional.empty();
+
+    EntityCache ann = entityClass.getAnnotation(EntityCache.class);
+    MybatisEasyProperties.Cache.Entity spec = props.getEntities().get(entityClass.getName());
+    if (spec == null) spec = props.getEntities().get(entityClass.getSimpleName());
+
+    if (ann == null && spec == null) return Optional.empty();
+
+    // 캐시 key가 id뿐이라 물리 테이블 간 id가 겹치면 다른 샤드의 row를 돌려줄 수 있음
+    if (entityClass.isAnnotationPresent(ShardedTable.class)) {
+      log.warn("MyBatis-Easy: entity cache is not supported for @ShardedTable, disabled. entity={}", entityClass.getName());
+      return Optional.empty();
+    }
+
+    int maxSize = props.getMaxSize();
+    Duration ttl = props.getTtl();
+    Duration negativeTtl = props.getNegativeTtl();
+
+    if (ann != null) {
+      if (ann.maxSize() >= 0) maxSize = ann.maxSize();
+      if (ann.ttlSeconds() >= 0) ttl = Duration.ofSeconds(ann.ttlSeconds());
+      if (ann.negativeTtlSeconds() >= 0) negativeTtl = Duration.ofSeconds(ann.negativeTtlSeconds());
+    }
+    if (spec != null) {
+      if (spec.getMaxSize() != null) maxSize = spec.getMaxSize();
+      if (spec.getTtl() != null) ttl = spec.getTtl();
+      if (spec.getNegativeTtl() != null) negativeTtl = spec.getNegativeTtl();
+    }
+
+    return Optional.of(new BoundedEntityCache(
+        entityClass.getName(),
+        maxSize,
+        (ttl == null) ? 0 : ttl.toNanos(),
+        (negativeTtl == null) ? 0 : negativeTtl.toNanos()
+    ));
+  }
+
+  private record WrittenKey(Class<?> entityClass, Object id) {}
+}
@@ -0,0 +1,62 @@
+package com.thenoah.dev.mybatis_easy_starter.support.cache;
+
+import com.thenoah.dev.mybatis_easy_starter.support.ColumnAnalyzer;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시 보관/반환용 얕은 복사 (매핑 필드만)
+ * - 호출자가 반환받은 엔티티를 수정해도 캐시 원본이 오염되지 않도록
+ * - no-arg 생성자가 없으면 복사 불가 → null 반환 (호출측에서 캐시 생략)
+ */
+final class EntityCopier {
+
+  private static final Map<Class<?>, Constructor<?>> CTOR_CACHE = new ConcurrentHashMap<>();
+  private static final Constructor<?> NO_CTOR;
+
+  static {
+    try {
+      NO_CTOR = Object.class.getDeclaredConstructor();
+    } catch (NoSuchMethodException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private EntityCopier() {}
+
+  static Object copy(Object source) {
+    if (source == null) return null;
+
+    Class<?> type = source.getClass();
+    Constructor<?> ctor = CTOR_CACHE.computeIfAbsent(type, EntityCopier::findNoArgConstructor);
+    if (ctor == NO_CTOR) return null;
+
+    try {
+      Object target = ctor.newInstance();
+      for (Field f : ColumnAnalyzer.getMappedFields(type)) {
+        if (!f.canAccess(source)) f.setAccessible(true);
+        f.set(target, f.get(source));
+      }
+      return target;
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  static void clearCache() {
+    CTOR_CACHE.clear();
+  }
+
+  private static Constructor<?> findNoArgConstructor(Class<?> type) {
+    try {
+      Constructor<?> c = type.getDeclaredConstructor();
+      c.setAccessible(true);
+      return c;
+    } catch (Exception e) {
+      return NO_CTOR;
+    }
+  }
+}
@@ -0,0 +1,249 @@
+package com.thenoah.dev.mybatis_easy_starter.support.cache;
+
+import com.thenoah.dev.mybatis_easy_starter.support.dialect.Dialect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * 노드 간 캐시 invalidation 로그 테이블 접근
+ *
+ * 테이블: (id, node_id, entity_name, namespace, entity_id, created_at)
+ * - append: 쓰기와 같은 Connection(트랜잭션)으로 기록 → 롤백되면 로그도 사라짐
+ * - readAfter/readIds: id(identity) 기준 증분 조회 (InvalidationLogPoller가 사용)
+ * - created_at은 retention 삭제에만 사용
+ */
+public class InvalidationLog {
+
+  private static final Logger log = LoggerFactory.getLogger(InvalidationLog.class);
+
+  private static final Pattern SAFE_TABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+  private static final int MAX_INDEX_NAME_LENGTH = 30;
+
+  // readIds의 IN 목록 최대 크기 (Oracle 1000, SQL Server 2100 파라미터 제한 이하)
+  private static final int MAX_IN_LIST = 500;
+
+  private static final String SELECT_COLUMNS = "SELECT id, node_id, entity_name, namespace, entity_id, created_at FROM ";
+
+  private final String tableName;
+  private final String nodeId;
+  private final Dialect dialect;
+
+  private final String insertSql;
+  private final String selectAfterSql;
+  private final String purgeSql;
+
+  public record Entry(long id, String nodeId, String entityName, String namespace, String entityId, Timestamp createdAt) {}
+
+  public InvalidationLog(String tableName, String nodeId, Dialect dialect) {
+    if (tableName == null || !SAFE_TABLE_NAME.matcher(tableName).matches()) {
+      throw new IllegalArgumentException("MyBatis-Easy: invalid invalidation log table name: " + tableName);
+    }
+    this.tableName = tableName;
+    this.nodeId = Objects.requireNonNull(nodeId, "nodeId must not be null");
+    this.dialect = (dialect == null) ? Dialect.UNKNOWN : dialect;
+
+    this.insertSql = "INSERT INTO " + tableName
+        + " (node_id, entity_name, namespace, entity_id) VALUES (?, ?, ?, ?)";
+    this.selectAfterSql = SELECT_COLUMNS + tableName + " WHERE id > ? ORDER BY id";
+    this.purgeSql = "DELETE FROM " + tableName + " WHERE created_at < ?";
+  }
+
+  public String getTableName() {
+    return tableName;
+  }
+
+  public String getNodeId() {
+    return nodeId;
+  }
+
+  /**
+   * 쓰기 트랜잭션의 Connection으로 로그 1건 기록
+   *
+   * @param entityId null이면 엔티티 캐시 전체 대상
+   */
+  public void append(Connection conn, String entityName, String namespace, Object entityId) throws SQLException {
+    try (PreparedStatement ps = conn.prepareStatement(insertSql)) {
+      ps.setString(1, nodeId);
+      ps.setString(2, entityName);
+      ps.setString(3, namespace);
+      ps.setString(4, (entityId == null) ? null : String.valueOf(entityId));
+      ps.executeUpdate();
+    }
+  }
+
+  /**
+   * afterId보다 큰 id의 로그 (id 오름차순)
+   */
+  public List<Entry> readAfter(Connection conn, long afterId) throws SQLException {
+    List<Entry> out = new ArrayList<>();
+    try (PreparedStatement ps = conn.prepareStatement(selectAfterSql)) {
+      ps.setFetchSize(500);
+      ps.setLong(1, afterId);
+      readEntries(ps, out);
+    }
+    return out;
+  }
+
+  /**
+   * 지정한 id의 로그 (poller가 아직 못 본 id 재확인용, 없는 id는 결과에서 빠짐)
+   */
+  public List<Entry> readIds(Connection conn, Collection<Long> ids) throws SQLException {
+    List<Entry> out = new ArrayList<>();
+    List<Long> all = new ArrayList<>(ids);
+    for (int from = 0; from < all.size(); from += MAX_IN_LIST) {
+      List<Long> chunk = all.subList(from, Math.min(from + MAX_IN_LIST, all.size()));
+      String sql = SELECT_COLUMNS + tableName + " WHERE id IN ("
+          + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+      try (PreparedStatement ps = conn.prepareStatement(sql)) {
+        for (int i = 0; i < chunk.size(); i++) ps.setLong(i + 1, chunk.get(i));
+        readEntries(ps, out);
+      }
+    }
+    return out;
+  }
+
+  private static void readEntries(PreparedStatement ps, List<Entry> out) throws SQLException {
+    try (ResultSet rs = ps.executeQuery()) {
+      while (rs.next()) {
+        out.add(new Entry(
+            rs.getLong(1),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getString(4),
+            rs.getString(5),
+            rs.getTimestamp(6)
+        ));
+      }
+    }
+  }
+
+  /**
+   * 로그 중 가장 큰 id와 가장 최근 created_at (없으면 null). poller 시작 지점으로 사용
+   */
+  public Entry latest(Connection conn) throws SQLException {
+    try (Statement st = conn.createStatement();
+         ResultSet rs = st.executeQuery("SELECT MAX(id), MAX(created_at) FROM " + tableName)) {
+      if (!rs.next()) return null;
+      long id = rs.getLong(1);
+      return rs.wasNull() ? null : new Entry(id, null, null, null, null, rs.getTimestamp(2));
+    }
+  }
+
+  public int purgeOlderThan(Connection conn, Timestamp before) throws SQLException {
+    try (PreparedStatement ps = conn.prepareStatement(purgeSql)) {
+      ps.setTimestamp(1, before);
+      return ps.executeUpdate();
+    }
+  }
+
+  /**
+   * 테이블이 없으면 생성 (dialect별 identity / timestamp 기본값)
+   */
+  public void initializeSchema(DataSource dataSource) {
+    try (Connection conn = dataSource.getConnection()) {
+      if (tableExists(conn)) return;
+
+      try (Statement st = conn.createStatement()) {
+        st.execute(createTableSql());
+        st.execute(createIndexSql());
+      }
+      if (!conn.getAutoCommit()) conn.commit();
+      log.info("MyBatis-Easy: invalidation log table created. table={} dialect={}", tableName, dialect);
+    } catch (SQLException e) {
+      throw new IllegalStateException("MyBatis-Easy: failed to initialize invalidation log table: " + tableName, e);
+    }
+  }
+
+  private boolean tableExists(Connection conn) throws SQLException {
+    String schema = null;
+    String table = tableName;
+    int dot = tableName.indexOf('.');
+    if (dot > 0) {
+      schema = tableName.substring(0, dot);
+      table = tableName.substring(dot + 1);
+    }
+
+    // 드라이버별 식별자 대소문자 저장 방식이 달라 원본/대문자/소문자 순으로 확인
+    DatabaseMetaData md = conn.getMetaData();
+    String[][] candidates = {
+        {schema, table},
+        {upper(schema), upper(table)},
+        {lower(schema), lower(table)}
+    };
+    for (String[] c : candidates) {
+      try (ResultSet rs = md.getTables(null, c[0], c[1], new String[]{"TABLE"})) {
+        if (rs.next()) return true;
+      }
+    }
+    return false;
+  }
+
+  private static String upper(String s) {
+    return (s == null) ? null : s.toUpperCase(Locale.ROOT);
+  }
+
+  private static String lower(String s) {
+    return (s == null) ? null : s.toLowerCase(Locale.ROOT);
+  }
+
+  private String createTableSql() {
+    String idCol;
+    String text = "VARCHAR";
+    String createdAt;
+
+    switch (dialect) {
+      case POSTGRES -> {
+        idCol = "id BIGSERIAL PRIMARY KEY";
+        createdAt = "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL";
+      }
+      case MYSQL, MARIADB -> {
+        idCol = "id BIGINT AUTO_INCREMENT PRIMARY KEY";
+        createdAt = "created_at DATETIME(3) DEFAULT CURRENT_TIMESTAMP(3) NOT NULL";
+      }
+      case SQLSERVER -> {
+        idCol = "id BIGINT IDENTITY(1,1) PRIMARY KEY";
+        createdAt = "created_at DATETIME2 DEFAULT SYSDATETIME() NOT NULL";
+      }
+      case ORACLE -> {
+        idCol = "id NUMBER(19) GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY";
+        text = "VARCHAR2";
+        createdAt = "created_at TIMESTAMP DEFAULT SYSTIMESTAMP NOT NULL";
+      }
+      case SQLITE -> {
+        idCol = "id INTEGER PRIMARY KEY AUTOINCREMENT";
+        createdAt = "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL";
+      }
+      default -> {
+        idCol = "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY";
+        createdAt = "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL";
+      }
+    }
+
+    return "CREATE TABLE " + tableName + " ("
+        + idCol + ", "
+        + "node_id " + text + "(64) NOT NULL, "
+        + "entity_name " + text + "(255) NOT NULL, "
+        + "namespace " + text + "(255), "
+        + "entity_id " + text + "(255), "
+        + createdAt
+        + ")";
+  }
+
+  private String createIndexSql() {
+    String base = tableName.substring(tableName.indexOf('.') + 1);
+    String indexName = "ix_" + base + "_created";
+    if (indexName.length() > MAX_INDEX_NAME_LENGTH) indexName = indexName.substring(0, MAX_INDEX_NAME_LENGTH);
+    return "CREATE INDEX " + indexName + " ON " + tableName + " (created_at)";
+  }
+}
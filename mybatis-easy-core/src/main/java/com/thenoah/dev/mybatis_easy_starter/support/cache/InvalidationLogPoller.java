@@ -0,0 +1,192 @@
+package com.thenoah.dev.mybatis_easy_starter.support.cache;
+
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.session.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * invalidation 로그 테이블을 주기적으로 읽어 로컬 캐시를 제거
+ *
+ * - id(identity) 기준 증분 조회. 마지막으로 본 id보다 작은데 아직 못 본 id(gap)는
+ *   그 id를 받은 트랜잭션이 아직 커밋 전일 수 있으므로 grace 동안 기억해 두고 매번 다시 확인
+ *   → 긴 트랜잭션이 늦게 커밋한 로그도 grace 안이면 반영 (롤백/sequence 캐시로 생긴 빈 id는 grace 후 포기)
+ * - grace보다 오래 걸린 트랜잭션의 로그는 놓칠 수 있음 → 가장 긴 쓰기 트랜잭션보다 크게 설정
+ * - id가 커밋 순서가 아니라 발급 순서라는 전제 (Oracle RAC의 NOORDER sequence처럼 노드별로 발급 순서가 섞이면 gap으로 처리)
+ * - 자기 노드(nodeId)가 쓴 로그는 쓰기 시점에 이미 invalidate 했으므로 무시
+ * - 엔티티 캐시는 id 단위, MyBatis namespace 캐시는 namespace 단위로 clear
+ * - retention 삭제 기준 시각은 DB 시계(created_at) → 노드 간 시계 차이 영향 없음
+ */
+public class InvalidationLogPoller implements DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(InvalidationLogPoller.class);
+
+  // 기억해 둘 gap 최대 수 (넘으면 오래된 것부터 포기)
+  private static final int MAX_GAPS = 10_000;
+
+  private final DataSource dataSource;
+  private final InvalidationLog invalidationLog;
+  private final EntityCacheManager entityCacheManager;
+  private final Supplier<Configuration> configurationSupplier;
+
+  private final long pollIntervalMillis;
+  private final long graceMillis;
+  private final long retentionMillis;
+
+  private ScheduledExecutorService scheduler;
+
+  // pollOnce(synchronized) 안에서만 접근
+  private long lastId = -1;
+  private final TreeMap<Long, Long> gaps = new TreeMap<>(); // 못 본 id → 처음 gap으로 본 시각(로컬)
+  private Timestamp latestCreatedAt;
+  private long lastPurgeAt;
+
+  /**
+   * @param entityCacheManager    null 가능 (엔티티 캐시 미사용)
+   * @param configurationSupplier null 가능 (MyBatis namespace 캐시 clear 생략)
+   */
+  public InvalidationLogPoller(DataSource dataSource,
+                               InvalidationLog invalidationLog,
+                               EntityCacheManager entityCacheManager,
+                               Supplier<Configuration> configurationSupplier,
+                               Duration pollInterval,
+                               Duration grace,
+                               Duration retention) {
+    this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+    this.invalidationLog = Objects.requireNonNull(invalidationLog, "invalidationLog must not be null");
+    this.entityCacheManager = entityCacheManager;
+    this.configurationSupplier = configurationSupplier;
+    this.pollIntervalMillis = Math.max(toMillis(pollInterval), 50);
+    this.graceMillis = Math.max(toMillis(grace), 0);
+    this.retentionMillis = Math.max(toMillis(retention), 0);
+  }
+
+  public synchronized void start() {
+    if (scheduler != null) return;
+
+    scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "mybatis-easy-invalidation-poller");
+      t.setDaemon(true);
+      return t;
+    });
+    scheduler.scheduleWithFixedDelay(this::pollSafely, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    log.info("MyBatis-Easy: invalidation poller started. table={} node={} interval={}ms",
+        invalidationLog.getTableName(), invalidationLog.getNodeId(), pollIntervalMillis);
+  }
+
+  @Override
+  public synchronized void destroy() {
+    if (scheduler == null) return;
+    scheduler.shutdownNow();
+    scheduler = null;
+  }
+
+  private void pollSafely() {
+    try {
+      pollOnce();
+    } catch (Exception e) {
+      log.warn("MyBatis-Easy: invalidation poll failed. table={}", invalidationLog.getTableName(), e);
+    }
+  }
+
+  /**
+   * 1회 polling (스케줄러 없이 수동 호출도 가능)
+   *
+   * @return 이번에 반영한 로그 수
+   */
+  public synchronized int pollOnce() throws Exception {
+    try (Connection conn = dataSource.getConnection()) {
+      if (lastId < 0) {
+        InvalidationLog.Entry latest = invalidationLog.latest(conn);
+        lastId = (latest == null) ? 0 : latest.id();
+        if (latest != null) latestCreatedAt = latest.createdAt();
+        // 시작 시점 이전 로그는 이 노드 캐시와 무관 (캐시가 비어 있음)
+        return 0;
+      }
+
+      long now = System.currentTimeMillis();
+      List<InvalidationLog.Entry> entries = new ArrayList<>();
+      if (!gaps.isEmpty()) entries.addAll(invalidationLog.readIds(conn, gaps.keySet()));
+      entries.addAll(invalidationLog.readAfter(conn, lastId));
+
+      int applied = 0;
+      Set<String> namespaces = new LinkedHashSet<>();
+      for (InvalidationLog.Entry e : entries) {
+        if (e.id() > lastId) {
+          rememberGaps(lastId + 1, e.id(), now);
+          lastId = e.id();
+        } else if (gaps.remove(e.id()) == null) {
+          continue; // 이미 처리
+        }
+        if (latestCreatedAt == null || e.createdAt().after(latestCreatedAt)) latestCreatedAt = e.createdAt();
+        if (invalidationLog.getNodeId().equals(e.nodeId())) continue;
+
+        if (entityCacheManager != null) {
+          entityCacheManager.evictLocal(e.entityName(), e.entityId());
+        }
+        if (e.namespace() != null) namespaces.add(e.namespace());
+        applied++;
+      }
+
+      clearNamespaceCaches(namespaces);
+
+      // grace 동안 커밋되지 않은 gap은 롤백 등으로 비어 있는 id로 보고 포기
+      gaps.values().removeIf(firstSeen -> now - firstSeen > graceMillis);
+
+      purgeIfDue(conn);
+      return applied;
+    }
+  }
+
+  // [from, to) 구간의 못 본 id를 gap으로 기억
+  private void rememberGaps(long from, long to, long now) {
+    for (long id = Math.max(from, to - MAX_GAPS); id < to; id++) gaps.put(id, now);
+    while (gaps.size() > MAX_GAPS) gaps.pollFirstEntry();
+  }
+
+  private void clearNamespaceCaches(Set<String> namespaces) {
+    if (namespaces.isEmpty() || configurationSupplier == null) return;
+
+    Configuration configuration = configurationSupplier.get();
+    if (configuration == null) return;
+
+    for (String ns : namespaces) {
+      if (!configuration.hasCache(ns)) continue;
+      Cache cache = configuration.getCache(ns);
+      cache.clear();
+    }
+  }
+
+  private void purgeIfDue(Connection conn) throws Exception {
+    if (retentionMillis <= 0) return;
+
+    // retention의 1/10 주기로만 삭제 (최소 1분)
+    long now = System.currentTimeMillis();
+    if (now - lastPurgeAt < Math.max(retentionMillis / 10, 60_000L)) return;
+    lastPurgeAt = now;
+
+    if (latestCreatedAt == null) return;
+    // 아직 기다리는 gap이 지워지지 않도록 grace보다 짧게는 잡지 않음
+    Timestamp before = new Timestamp(latestCreatedAt.getTime() - Math.max(retentionMillis, graceMillis));
+    int purged = invalidationLog.purgeOlderThan(conn, before);
+    if (!conn.getAutoCommit()) conn.commit();
+    if (purged > 0) {
+      log.debug("MyBatis-Easy: invalidation log purged. table={} rows={}", invalidationLog.getTableName(), purged);
+    }
+  }
+
+  private static long toMillis(Duration d) {
+    return (d == null) ? 0 : d.toMillis();
+  }
+}
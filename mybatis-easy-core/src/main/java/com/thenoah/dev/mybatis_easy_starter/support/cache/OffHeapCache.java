@@ -0,0 +1,312 @@
+package com.thenoah.dev.mybatis_easy_starter.support.cache;
+
+import org.apache.ibatis.builder.InitializingObject;
+import org.apache.ibatis.cache.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회 결과를 직렬화하여 off-heap(direct ByteBuffer) slab에 보관하는 MyBatis 2차 캐시
+ *
+ * - 전체 용량(capacityBytes)을 blockSize 단위 블록으로 나누고, 엔트리는 필요한 블록 수만큼 점유
+ * - 블록이 부족하면 가장 오래 안 쓴(LRU) 엔트리부터 제거
+ * - 힙에는 key(CacheKey)와 블록 인덱스만 남으므로 대용량 참조 데이터 캐시 시 GC 부담이 작음
+ * - 값은 매 조회마다 역직렬화된 복사본 (호출자가 수정해도 캐시 원본 불변)
+ *
+ * 주의: 캐시되는 결과 타입은 Serializable 이어야 함 (아니면 캐시하지 않고 통과)
+ *
+ * mapper XML 예)
+ * &lt;cache type="...OffHeapCache"&gt;
+ *   &lt;property name="capacityBytes" value="67108864"/&gt;
+ *   &lt;property name="blockSize" value="4096"/&gt;
+ * &lt;/cache&gt;
+ */
+public class OffHeapCache implements Cache, InitializingObject {
+
+  private static final Logger log = LoggerFactory.getLogger(OffHeapCache.class);
+
+  /** slab 1개 최대 크기 (direct buffer 1개당 할당 단위) */
+  private static final int MAX_SLAB_BYTES = 16 * 1024 * 1024;
+
+  private final String id;
+
+  private long capacityBytes = 64L * 1024 * 1024;
+  private int blockSize = 4096;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private ByteBuffer[] slabs;
+  private int blocksPerSlab;
+  private int totalBlocks;
+
+  private int[] freeBlocks;
+  private int freeTop;
+
+  private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  private volatile boolean warnedNotSerializable;
+
+  private record Entry(int[] blocks, int length) {}
+
+  public OffHeapCache(String id) {
+    this.id = id;
+  }
+
+  // ---- <property> setters (MyBatis CacheBuilder가 호출) ----
+
+  public void setCapacityBytes(long capacityBytes) {
+    this.capacityBytes = capacityBytes;
+  }
+
+  public void setBlockSize(int blockSize) {
+    this.blockSize = blockSize;
+  }
+
+  @Override
+  public void initialize() {
+    if (blockSize <= 0) throw new IllegalStateException("blockSize must be > 0. id=" + id);
+    if (capacityBytes < blockSize) throw new IllegalStateException("capacityBytes must be >= blockSize. id=" + id);
+
+    long blocks = capacityBytes / blockSize;
+    if (blocks > Integer.MAX_VALUE) {
+      throw new IllegalStateException("too many blocks (increase blockSize). id=" + id);
+    }
+    this.totalBlocks = (int) blocks;
+    this.blocksPerSlab = Math.max(1, MAX_SLAB_BYTES / blockSize);
+
+    int slabCount = (totalBlocks + blocksPerSlab - 1) / blocksPerSlab;
+    this.slabs = new ByteBuffer[slabCount];
+    for (int i = 0; i < slabCount; i++) {
+      int blocksInSlab = Math.min(blocksPerSlab, totalBlocks - i * blocksPerSlab);
+      slabs[i] = ByteBuffer.allocateDirect(blocksInSlab * blockSize);
+    }
+
+    this.freeBlocks = new int[totalBlocks];
+    for (int i = 0; i < totalBlocks; i++) {
+      freeBlocks[i] = totalBlocks - 1 - i;
+    }
+    this.freeTop = totalBlocks;
+  }
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  @Override
+  public void putObject(Object key, Object value) {
+    // TransactionalCache는 miss 결과를 null로 put 함 → 보관할 필요 없음
+    if (value == null) {
+      removeObject(key);
+      return;
+    }
+
+    byte[] bytes = serialize(value);
+    if (bytes == null) {
+      // 캐시하지 않는 값이어도 같은 key의 이전 값은 더 이상 유효하지 않음
+      removeObject(key);
+      return;
+    }
+
+    int needed = Math.max(1, (bytes.length + blockSize - 1) / blockSize);
+
+    lock.lock();
+    try {
+      ensureInitialized();
+      release(entries.remove(key));
+      // 전체 용량보다 큰 값은 캐시하지 않음
+      if (needed > totalBlocks) return;
+
+      while (freeTop < needed) {
+        var it = entries.entrySet().iterator();
+        if (!it.hasNext()) return;
+        Entry eldest = it.next().getValue();
+        it.remove();
+        release(eldest);
+        evictions.increment();
+      }
+
+      int[] blocks = new int[needed];
+      for (int i = 0; i < needed; i++) {
+        blocks[i] = freeBlocks[--freeTop];
+      }
+      write(blocks, bytes);
+      entries.put(key, new Entry(blocks, bytes.length));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public Object getObject(Object key) {
+    byte[] bytes;
+    lock.lock();
+    try {
+      Entry e = entries.get(key);
+      if (e == null) {
+        misses.increment();
+        return null;
+      }
+      bytes = read(e);
+    } finally {
+      lock.unlock();
+    }
+
+    hits.increment();
+    return deserialize(bytes);
+  }
+
+  @Override
+  public Object removeObject(Object key) {
+    lock.lock();
+    try {
+      release(entries.remove(key));
+    } finally {
+      lock.unlock();
+    }
+    return null;
+  }
+
+  @Override
+  public void clear() {
+    lock.lock();
+    try {
+      entries.values().forEach(this::release);
+      entries.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int getSize() {
+    lock.lock();
+    try {
+      return entries.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public CacheStats stats() {
+    int size = getSize();
+    return new CacheStats(hits.sum(), 0, misses.sum(), 0, evictions.sum(), 0, size);
+  }
+
+  /**
+   * 사용 중인 off-heap 바이트 (블록 단위)
+   */
+  public long usedBytes() {
+    lock.lock();
+    try {
+      return (long) (totalBlocks - freeTop) * blockSize;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void ensureInitialized() {
+    if (slabs == null) initialize();
+  }
+
+  private void release(Entry e) {
+    if (e == null) return;
+    for (int b : e.blocks()) {
+      freeBlocks[freeTop++] = b;
+    }
+  }
+
+  private void write(int[] blocks, byte[] bytes) {
+    int offset = 0;
+    for (int b : blocks) {
+      int len = Math.min(blockSize, bytes.length - offset);
+      if (len <= 0) break;
+      slab(b).put(position(b), bytes, offset, len);
+      offset += len;
+    }
+  }
+
+  private byte[] read(Entry e) {
+    byte[] out = new byte[e.length()];
+    int offset = 0;
+    for (int b : e.blocks()) {
+      int len = Math.min(blockSize, out.length - offset);
+      if (len <= 0) break;
+      slab(b).get(position(b), out, offset, len);
+      offset += len;
+    }
+    return out;
+  }
+
+  private ByteBuffer slab(int block) {
+    return slabs[block / blocksPerSlab];
+  }
+
+  private int position(int block) {
+    return (block % blocksPerSlab) * blockSize;
+  }
+
+  private byte[] serialize(Object value) {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream(512);
+    try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+      oos.writeObject(value);
+    } catch (NotSerializableException e) {
+      if (!warnedNotSerializable) {
+        warnedNotSerializable = true;
+        log.warn("MyBatis-Easy: off-heap cache skipped (result is not Serializable). id={} type={}", id, e.getMessage());
+      }
+      return null;
+    } catch (IOException e) {
+      log.debug("MyBatis-Easy: off-heap cache serialize failed. id={}", id, e);
+      return null;
+    }
+    return bos.toByteArray();
+  }
+
+  private Object deserialize(byte[] bytes) {
+    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes)) {
+      @Override
+      protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        if (cl != null) {
+          try {
+            return Class.forName(desc.getName(), false, cl);
+          } catch (ClassNotFoundException ignored) { }
+        }
+        return super.resolveClass(desc);
+      }
+    }) {
+      return ois.readObject();
+    } catch (Exception e) {
+      log.debug("MyBatis-Easy: off-heap cache deserialize failed. id={}", id, e);
+      return null;
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof Cache other)) return false;
+    return id.equals(other.getId());
+  }
+
+  @Override
+  public int hashCode() {
+    return id.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "OffHeapCache{id=" + id + ", capacityBytes=" + capacityBytes + ", blockSize=" + blockSize + "}";
+  }
+}
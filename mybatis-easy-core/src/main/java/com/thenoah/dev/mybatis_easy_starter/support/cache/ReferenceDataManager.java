@@ -0,0 +1,259 @@
+package com.thenoah.dev.mybatis_easy_starter.support.cache;
+
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.ReferenceData;
+import com.thenoah.dev.mybatis_easy_starter.core.mapper.BaseMapper;
+import com.thenoah.dev.mybatis_easy_starter.support.ColumnAnalyzer;
+import com.thenoah.dev.mybatis_easy_starter.support.MapperTypeResolver;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * @ReferenceData 엔티티 스냅샷 관리
+ *
+ * - 시작 시(모든 싱글톤 생성 후) 대상 mapper를 찾아 전체 적재
+ * - 주기적으로 fingerprint(건수 + MAX(updated_at))를 조회해 바뀌었을 때만 재적재
+ *   (updated_at 컬럼이 없으면 매 주기 재적재)
+ * - 자동 CRUD 쓰기 발생 시 (트랜잭션이면 커밋 후) 즉시 재적재
+ * - 스냅샷 교체는 AtomicReference로 원자적 → 읽기는 lock 없음
+ */
+public class ReferenceDataManager implements SmartInitializingSingleton, DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(ReferenceDataManager.class);
+
+  /** 전체 적재용 statement id (AutoSqlBuilder가 생성) */
+  public static final String LOAD_STATEMENT = "__referenceDataLoad";
+
+  /** 변경 감지용 statement id (updated_at 컬럼이 있을 때만 생성) */
+  public static final String FINGERPRINT_STATEMENT = "__referenceDataFingerprint";
+
+  private final Supplier<SqlSessionFactory> sqlSessionFactorySupplier;
+  private final Duration defaultRefreshInterval;
+
+  private final Map<Class<?>, Registration> registrations = new ConcurrentHashMap<>();
+
+  private volatile SqlSessionFactory sqlSessionFactory;
+  private ScheduledExecutorService scheduler;
+
+  private static final class Registration {
+    final Class<?> entityClass;
+    final String namespace;
+    final Field idField;
+    final boolean integralId;
+    final boolean copyOnRead;
+    final boolean hasFingerprint;
+    final AtomicReference<ReferenceDataSnapshot> snapshot = new AtomicReference<>();
+
+    Registration(Class<?> entityClass, String namespace, Field idField, boolean integralId,
+                 boolean copyOnRead, boolean hasFingerprint) {
+      this.entityClass = entityClass;
+      this.namespace = namespace;
+      this.idField = idField;
+      this.integralId = integralId;
+      this.copyOnRead = copyOnRead;
+      this.hasFingerprint = hasFingerprint;
+    }
+  }
+
+  public ReferenceDataManager(Supplier<SqlSessionFactory> sqlSessionFactorySupplier, Duration defaultRefreshInterval) {
+    this.sqlSessionFactorySupplier = Objects.requireNonNull(sqlSessionFactorySupplier, "sqlSessionFactorySupplier must not be null");
+    this.defaultRefreshInterval = defaultRefreshInterval;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    SqlSessionFactory factory = sqlSessionFactorySupplier.get();
+    if (factory == null) return;
+    initialize(factory);
+  }
+
+  /**
+   * 대상 mapper 탐색 + 최초 적재 + 주기 갱신 예약
+   */
+  public synchronized void initialize(SqlSessionFactory factory) {
+    if (this.sqlSessionFactory != null) return;
+    this.sqlSessionFactory = factory;
+
+    Configuration configuration = factory.getConfiguration();
+    for (Class<?> mapper : configuration.getMapperRegistry().getMappers()) {
+      if (!BaseMapper.class.isAssignableFrom(mapper)) continue;
+
+      Class<?> entityClass = MapperTypeResolver.resolveEntityType(mapper);
+      if (entityClass == null || !entityClass.isAnnotationPresent(ReferenceData.class)) continue;
+
+      String namespace = mapper.getName();
+      if (!configuration.hasStatement(namespace + "." + LOAD_STATEMENT, false)) {
+        log.warn("MyBatis-Easy: @ReferenceData ignored (load statement not generated). entity={} ns={}",
+            entityClass.getName(), namespace);
+        continue;
+      }
+
+      Registration reg = register(entityClass, namespace, configuration);
+      if (reg == null) continue;
+
+      reload(reg);
+      scheduleRefresh(reg);
+    }
+  }
+
+  /**
+   * @return 스냅샷이 없으면(대상 아님/적재 실패) null → 호출측은 DB 조회
+   */
+  public ReferenceDataSnapshot snapshotOf(Class<?> entityClass) {
+    Registration reg = registrations.get(entityClass);
+    return (reg == null) ? null : reg.snapshot.get();
+  }
+
+  public boolean isReferenceData(Class<?> entityClass) {
+    return registrations.containsKey(entityClass);
+  }
+
+  /**
+   * 쓰기 발생 시 재적재 요청 (트랜잭션 안이면 커밋 후)
+   */
+  public void requestRefresh(Class<?> entityClass) {
+    Registration reg = registrations.get(entityClass);
+    if (reg == null) return;
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          submitReload(reg);
+        }
+      });
+      return;
+    }
+    submitReload(reg);
+  }
+
+  /**
+   * 변경 감지 후 필요할 때만 재적재
+   *
+   * @return 재적재 했으면 true
+   */
+  public boolean refresh(Class<?> entityClass) {
+    Registration reg = registrations.get(entityClass);
+    if (reg == null) return false;
+    return refreshIfChanged(reg);
+  }
+
+  @Override
+  public synchronized void destroy() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+    registrations.clear();
+  }
+
+  private Registration register(Class<?> entityClass, String namespace, Configuration configuration) {
+    ColumnAnalyzer.TableInfo info = ColumnAnalyzer.analyzeClass(entityClass);
+    String idProperty = (info.getIdField() == null || info.getIdField().isBlank()) ? "id" : info.getIdField();
+
+    Field idField = ColumnAnalyzer.getMappedFields(entityClass).stream()
+        .filter(f -> f.getName().equals(idProperty))
+        .findFirst()
+        .orElse(null);
+    if (idField == null) {
+      log.warn("MyBatis-Easy: @ReferenceData ignored (id field not found). entity={}", entityClass.getName());
+      return null;
+    }
+    idField.setAccessible(true);
+
+    ReferenceData ann = entityClass.getAnnotation(ReferenceData.class);
+    boolean hasFingerprint = configuration.hasStatement(namespace + "." + FINGERPRINT_STATEMENT, false);
+
+    Registration reg = new Registration(entityClass, namespace, idField, info.isIntegralId(), ann.copyOnRead(), hasFingerprint);
+    registrations.put(entityClass, reg);
+    return reg;
+  }
+
+  private void scheduleRefresh(Registration reg) {
+    ReferenceData ann = reg.entityClass.getAnnotation(ReferenceData.class);
+    long intervalMillis = (ann.refreshSeconds() >= 0)
+        ? TimeUnit.SECONDS.toMillis(ann.refreshSeconds())
+        : (defaultRefreshInterval == null ? 0 : defaultRefreshInterval.toMillis());
+    if (intervalMillis <= 0) return;
+
+    ensureScheduler().scheduleWithFixedDelay(() -> {
+      try {
+        refreshIfChanged(reg);
+      } catch (Exception e) {
+        log.warn("MyBatis-Easy: reference data refresh failed. entity={}", reg.entityClass.getName(), e);
+      }
+    }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void submitReload(Registration reg) {
+    ensureScheduler().execute(() -> {
+      try {
+        reload(reg);
+      } catch (Exception e) {
+        log.warn("MyBatis-Easy: reference data reload failed. entity={}", reg.entityClass.getName(), e);
+      }
+    });
+  }
+
+  private synchronized ScheduledExecutorService ensureScheduler() {
+    if (scheduler == null) {
+      scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "mybatis-easy-reference-data");
+        t.setDaemon(true);
+        return t;
+      });
+    }
+    return scheduler;
+  }
+
+  private boolean refreshIfChanged(Registration reg) {
+    if (reg.hasFingerprint) {
+      ReferenceDataSnapshot current = reg.snapshot.get();
+      Object fingerprint = loadFingerprint(reg);
+      if (current != null && Objects.equals(current.getFingerprint(), fingerprint)) {
+        return false;
+      }
+    }
+    reload(reg);
+    return true;
+  }
+
+  private void reload(Registration reg) {
+    SqlSessionFactory factory = this.sqlSessionFactory;
+    if (factory == null) return;
+
+    Object fingerprint;
+    List<Object> rows;
+    try (SqlSession session = factory.openSession()) {
+      // fingerprint를 먼저 읽어야 적재 도중 변경이 있어도 다음 주기에 다시 감지됨
+      fingerprint = reg.hasFingerprint ? session.selectOne(reg.namespace + "." + FINGERPRINT_STATEMENT) : null;
+      rows = session.selectList(reg.namespace + "." + LOAD_STATEMENT);
+    }
+
+    ReferenceDataSnapshot next = new ReferenceDataSnapshot(rows, reg.idField, reg.integralId, reg.copyOnRead, fingerprint);
+    reg.snapshot.set(next);
+    log.debug("MyBatis-Easy: reference data loaded. entity={} rows={}", reg.entityClass.getName(), next.size());
+  }
+
+  private Object loadFingerprint(Registration reg) {
+    try (SqlSession session = sqlSessionFactory.openSession()) {
+      return session.selectOne(reg.namespace + "." + FINGERPRINT_STATEMENT);
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package com.thenoah.dev.mybatis_easy_starter.support.cache;
+
+import java.lang.reflect.Field;
+import java.util.*;
+
+/**
+ * @ReferenceData 엔티티 전체 row의 불변 스냅샷
+ *
+ * - 정수형 PK: 정렬된 long[] + 이진 탐색 (박싱된 key/HashMap 없이 조회)
+ * - 그 외 PK: 불변 Map
+ * - 생성 후 변경되지 않으므로 여러 스레드가 lock 없이 읽음
+ */
+public final class ReferenceDataSnapshot {
+
+  private final List<Object> rows;
+
+  // 정수형 PK 인덱스
+  private final long[] sortedIds;
+  private final Object[] rowsBySortedId;
+
+  // 그 외 PK 인덱스
+  private final Map<Object, Object> rowsByKey;
+
+  private final boolean copyOnRead;
+  private final Object fingerprint;
+  private final long loadedAtMillis;
+
+  ReferenceDataSnapshot(List<?> loaded, Field idField, boolean integralId, boolean copyOnRead, Object fingerprint) {
+    this.rows = List.copyOf(loaded);
+    this.copyOnRead = copyOnRead;
+    this.fingerprint = fingerprint;
+    this.loadedAtMillis = System.currentTimeMillis();
+
+    if (integralId) {
+      Object[] sorted = rows.stream()
+          .filter(r -> readId(idField, r) != null)
+          .sorted(Comparator.comparingLong(r -> ((Number) readId(idField, r)).longValue()))
+          .toArray();
+
+      long[] ids = new long[sorted.length];
+      for (int i = 0; i < sorted.length; i++) {
+        ids[i] = ((Number) readId(idField, sorted[i])).longValue();
+      }
+      this.sortedIds = ids;
+      this.rowsBySortedId = sorted;
+      this.rowsByKey = null;
+    } else {
+      Map<Object, Object> byKey = new HashMap<>(Math.max(16, rows.size() * 2));
+      for (Object r : rows) {
+        Object id = readId(idField, r);
+        if (id != null) byKey.putIfAbsent(id, r);
+      }
+      this.sortedIds = null;
+      this.rowsBySortedId = null;
+      this.rowsByKey = Collections.unmodifiableMap(byKey);
+    }
+  }
+
+  /**
+   * @return 없으면 null
+   */
+  public Object findById(Object id) {
+    Object row = lookup(id);
+    return (row == null) ? null : copy(row);
+  }
+
+  public boolean existsById(Object id) {
+    return lookup(id) != null;
+  }
+
+  /**
+   * 호출자가 정렬/필터할 수 있도록 항상 새 List (copyOnRead=false면 원소는 스냅샷 인스턴스 그대로)
+   */
+  public List<Object> findAll() {
+    if (!copyOnRead) return new ArrayList<>(rows);
+
+    List<Object> out = new ArrayList<>(rows.size());
+    for (Object r : rows) out.add(copy(r));
+    return out;
+  }
+
+  public int size() {
+    return rows.size();
+  }
+
+  public Object getFingerprint() {
+    return fingerprint;
+  }
+
+  public long getLoadedAtMillis() {
+    return loadedAtMillis;
+  }
+
+  private Object lookup(Object id) {
+    if (id == null) return null;
+
+    if (sortedIds != null) {
+      if (!(id instanceof Number n)) return null;
+      int idx = Arrays.binarySearch(sortedIds, n.longValue());
+      return (idx < 0) ? null : rowsBySortedId[idx];
+    }
+    return rowsByKey.get(id);
+  }
+
+  private Object copy(Object row) {
+    if (!copyOnRead) return row;
+    Object copied = EntityCopier.copy(row);
+    return (copied == null) ? row : copied;
+  }
+
+  private static Object readId(Field idField, Object row) {
+    try {
+      return idField.get(row);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("MyBatis-Easy: cannot read id field " + idField, e);
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.thenoah.dev.mybatis_easy_starter.support.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Spring 트랜잭션 단위 identity map (자동 CRUD findById 전용)
+ *
+ * - 같은 트랜잭션 안에서 같은 (엔티티, id)의 findById는 처음 읽은 인스턴스를 그대로 반환
+ * - update: 파라미터가 map의 인스턴스 자신이면 유지, 아니면 해당 key만 제거
+ * - deleteById: tombstone 기록 → 이후 findById는 DB 조회 없이 빈 결과
+ * - insert: 해당 key만 제거 (DB 기본값이 반영된 row는 다음 조회 때 적재)
+ * - 트랜잭션 종료 시 폐기 (MyBatis localCache와 달리 다른 쓰기로 전체가 비워지지 않음)
+ */
+public class TransactionIdentityMap {
+
+  /** 삭제된 key 표시 */
+  public static final Object TOMBSTONE = new Object();
+
+  private final Object resourceKey = new Object();
+
+  private record Key(Class<?> entityClass, Object id) {}
+
+  /**
+   * 실제 트랜잭션 안에서만 동작 (트랜잭션 밖 조회는 그대로 DB)
+   */
+  public boolean isActive() {
+    return TransactionSynchronizationManager.isSynchronizationActive()
+        && TransactionSynchronizationManager.isActualTransactionActive();
+  }
+
+  /**
+   * @return 적재된 인스턴스, 삭제된 key면 {@link #TOMBSTONE}, 없으면 null
+   */
+  public Object get(Class<?> entityClass, Object id) {
+    Map<Key, Object> map = current(false);
+    if (map == null || id == null) return null;
+    return map.get(key(entityClass, id));
+  }
+
+  public void put(Class<?> entityClass, Object id, Object entity) {
+    if (id == null || entity == null || !isActive()) return;
+    current(true).put(key(entityClass, id), entity);
+  }
+
+  public void markDeleted(Class<?> entityClass, Object id) {
+    if (id == null || !isActive()) return;
+    current(true).put(key(entityClass, id), TOMBSTONE);
+  }
+
+  public void evict(Class<?> entityClass, Object id) {
+    Map<Key, Object> map = current(false);
+    if (map == null || id == null) return;
+    map.remove(key(entityClass, id));
+  }
+
+  /**
+   * 엔티티 타입 단위 제거 (id를 알 수 없는 set 기반 쓰기 후)
+   */
+  public void evictAll(Class<?> entityClass) {
+    Map<Key, Object> map = current(false);
+    if (map == null) return;
+    map.keySet().removeIf(k -> k.entityClass() == entityClass);
+  }
+
+  /**
+   * update 직후 호출: map의 인스턴스를 그대로 수정해 저장한 경우만 유지
+   */
+  public void afterUpdate(Class<?> entityClass, Object id, Object parameter) {
+    Map<Key, Object> map = current(false);
+    if (map == null || id == null) return;
+
+    Key k = key(entityClass, id);
+    if (map.get(k) != parameter) map.remove(k);
+  }
+
+  private Key key(Class<?> entityClass, Object id) {
+    return new Key(entityClass, BoundedEntityCache.normalizeKey(id));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<Key, Object> current(boolean create) {
+    if (!isActive()) return null;
+
+    Map<Key, Object> map = (Map<Key, Object>) TransactionSynchronizationManager.getResource(resourceKey);
+    if (map != null || !create) return map;
+
+    Map<Key, Object> created = new HashMap<>();
+    TransactionSynchronizationManager.bindResource(resourceKey, created);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      // REQUIRES_NEW 등으로 바깥 트랜잭션이 중단되면 내부 트랜잭션에서 보이지 않도록 분리
+      @Override
+      public void suspend() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+      }
+
+      @Override
+      public void resume() {
+        TransactionSynchronizationManager.bindResource(resourceKey, created);
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+      }
+    });
+    return created;
+  }
+}
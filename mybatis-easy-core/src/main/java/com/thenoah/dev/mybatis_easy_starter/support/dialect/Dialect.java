@@ -0,0 +1,35 @@
+package com.thenoah.dev.mybatis_easy_starter.support.dialect;
+
+import java.util.Locale;
+
+/**
+ * DB 제품 구분 (SQL 생성 / DDL 분기용)
+ * - UNKNOWN은 표준 SQL 기반으로 처리
+ */
+public enum Dialect {
+  POSTGRES,
+  MYSQL,
+  MARIADB,
+  H2,
+  SQLITE,
+  SQLSERVER,
+  ORACLE,
+  UNKNOWN;
+
+  /**
+   * DatabaseMetaData#getDatabaseProductName 값으로 추론
+   */
+  public static Dialect fromProductName(String dbProductName) {
+    String db = (dbProductName == null) ? "" : dbProductName.trim().toLowerCase(Locale.ROOT);
+
+    if (db.contains("postgresql") || db.contains("postgres")) return POSTGRES;
+    if (db.contains("mariadb")) return MARIADB;
+    if (db.contains("mysql")) return MYSQL;
+    if (db.contains("microsoft sql server") || db.contains("sql server") || db.contains("mssql")) return SQLSERVER;
+    if (db.contains("oracle")) return ORACLE;
+    if (db.contains("h2")) return H2;
+    if (db.contains("sqlite")) return SQLITE;
+
+    return UNKNOWN;
+  }
+}
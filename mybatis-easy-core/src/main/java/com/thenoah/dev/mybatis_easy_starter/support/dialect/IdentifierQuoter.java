@@ -0,0 +1,86 @@
+package com.thenoah.dev.mybatis_easy_starter.support.dialect;
+
+/**
+ * Dialect-aware identifier quoting
+ * - schema.table, a.b, table.* 같은 dot-path를 segment 별로 quote
+ * - enabled=false면 그대로 반환 (auto-sql.quote-identifiers)
+ */
+public final class IdentifierQuoter {
+  private final Dialect dialect;
+  private final boolean enabled;
+
+  public IdentifierQuoter(Dialect dialect, boolean enabled) {
+    this.dialect = (dialect == null) ? Dialect.UNKNOWN : dialect;
+    this.enabled = enabled;
+  }
+
+  public Dialect dialect() {
+    return dialect;
+  }
+
+  public String table(String name) {
+    return quotePath(name);
+  }
+
+  public String column(String name) {
+    return quotePath(name);
+  }
+
+  private String quotePath(String raw) {
+    if (!enabled) return raw;
+    if (raw == null || raw.isBlank()) return raw;
+
+    String s = raw.trim();
+    if ("*".equals(s)) return s;
+
+    // 이미 전체가 quote인 경우는 그대로 둠 (단일 식별자)
+    if (isFullyQuoted(s)) return s;
+
+    // dot-path 분해 (schema.table / a.b / table.*)
+    if (s.indexOf('.') >= 0) {
+      String[] parts = s.split("\\.");
+      StringBuilder out = new StringBuilder(s.length() + parts.length * 2);
+
+      for (int i = 0; i < parts.length; i++) {
+        if (i > 0) out.append('.');
+        String part = parts[i] == null ? "" : parts[i].trim();
+        if (part.isEmpty()) {
+          // 비정상 케이스: ".." 같은 입력은 그대로 반영
+          continue;
+        }
+        if ("*".equals(part)) {
+          out.append('*');
+          continue;
+        }
+        if (isFullyQuoted(part)) {
+          out.append(part);
+          continue;
+        }
+        out.append(quoteSingle(part));
+      }
+      return out.toString();
+    }
+
+    return quoteSingle(s);
+  }
+
+  private boolean isFullyQuoted(String s) {
+    if (s == null || s.length() < 2) return false;
+    return (s.startsWith("`") && s.endsWith("`"))
+        || (s.startsWith("\"") && s.endsWith("\""))
+        || (s.startsWith("[") && s.endsWith("]"));
+  }
+
+  private String quoteSingle(String token) {
+    if (token == null || token.isBlank()) return token;
+
+    // 이미 보호된 형태면 유지
+    if (isFullyQuoted(token)) return token;
+
+    return switch (dialect) {
+      case MYSQL, MARIADB -> "`" + token + "`";
+      case SQLSERVER -> "[" + token + "]";
+      case POSTGRES, ORACLE, H2, SQLITE, UNKNOWN -> "\"" + token + "\"";
+    };
+  }
+}
@@ -0,0 +1,161 @@
+package com.thenoah.dev.mybatis_easy_starter.support.dirty;
+
+import com.thenoah.dev.mybatis_easy_starter.support.ColumnAnalyzer;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 자동 CRUD 조회로 적재된 엔티티의 원본 값 스냅샷 (dirty checking용)
+ *
+ * - key는 엔티티 인스턴스 identity (weak reference) → 엔티티가 GC되면 스냅샷도 정리
+ * - 스냅샷은 매핑 필드 값 배열(Object[])만 보관
+ * - update 시 바뀐 필드만 골라 파라미터 Map으로 만들고, 바뀐 게 없으면 빈 Map 반환
+ *
+ * 주의: 자동 CRUD update는 null 필드를 쓰지 않으므로 null로 바꾼 필드도 변경으로 보지 않음
+ */
+public class DirtyTracker {
+
+  private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+  private final ConcurrentHashMap<IdentityKey, Object[]> snapshots = new ConcurrentHashMap<>();
+
+  /**
+   * 조회 결과 스냅샷 기록 (이미 추적 중인 인스턴스는 유지)
+   */
+  public void capture(Object entity) {
+    if (entity == null) return;
+    expunge();
+    snapshots.putIfAbsent(new IdentityKey(entity, queue), snapshotOf(entity));
+  }
+
+  /**
+   * update 성공 후 현재 값을 새 원본으로 기록
+   */
+  public void recapture(Object entity) {
+    if (entity == null) return;
+    expunge();
+    snapshots.put(new IdentityKey(entity, queue), snapshotOf(entity));
+  }
+
+  public boolean isTracked(Object entity) {
+    return entity != null && snapshots.containsKey(new IdentityKey(entity, null));
+  }
+
+  /**
+   * @return 추적 중이 아니면 null, 바뀐 필드가 없으면 빈 Map, 아니면 (프로퍼티명 → 현재 값)
+   */
+  public Map<String, Object> changedProperties(Object entity) {
+    if (entity == null) return null;
+
+    Object[] original = snapshots.get(new IdentityKey(entity, null));
+    if (original == null) return null;
+
+    List<Field> fields = ColumnAnalyzer.getMappedFields(entity.getClass());
+    if (fields.size() != original.length) return null;
+
+    Map<String, Object> changed = new LinkedHashMap<>();
+    for (int i = 0; i < original.length; i++) {
+      Object current = read(fields.get(i), entity);
+      if (current != null && !sameValue(original[i], current)) {
+        changed.put(fields.get(i).getName(), current);
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * 스냅샷에 기록된 원본 값 (추적 중이 아니거나 매핑 필드가 아니면 null)
+   */
+  public Object originalValue(Object entity, String property) {
+    if (entity == null || property == null) return null;
+
+    Object[] original = snapshots.get(new IdentityKey(entity, null));
+    if (original == null) return null;
+
+    List<Field> fields = ColumnAnalyzer.getMappedFields(entity.getClass());
+    if (fields.size() != original.length) return null;
+    for (int i = 0; i < original.length; i++) {
+      if (fields.get(i).getName().equals(property)) return original[i];
+    }
+    return null;
+  }
+
+  public int size() {
+    expunge();
+    return snapshots.size();
+  }
+
+  public void clear() {
+    snapshots.clear();
+  }
+
+  private Object[] snapshotOf(Object entity) {
+    List<Field> fields = ColumnAnalyzer.getMappedFields(entity.getClass());
+    Object[] values = new Object[fields.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = defensiveCopy(read(fields.get(i), entity));
+    }
+    return values;
+  }
+
+  private void expunge() {
+    Reference<?> ref;
+    while ((ref = queue.poll()) != null) {
+      snapshots.remove(ref);
+    }
+  }
+
+  private static Object read(Field f, Object target) {
+    try {
+      if (!f.canAccess(target)) f.setAccessible(true);
+      return f.get(target);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("MyBatis-Easy: cannot read field " + f, e);
+    }
+  }
+
+  // 가변 값은 복사해 둬야 같은 인스턴스를 수정했을 때 변경으로 감지됨
+  private static Object defensiveCopy(Object v) {
+    if (v instanceof byte[] b) return b.clone();
+    if (v instanceof Date d) return d.clone();
+    return v;
+  }
+
+  private static boolean sameValue(Object a, Object b) {
+    if (a == b) return true;
+    if (a == null || b == null) return false;
+    if (a instanceof BigDecimal x && b instanceof BigDecimal y) return x.compareTo(y) == 0;
+    if (a instanceof byte[] x && b instanceof byte[] y) return Arrays.equals(x, y);
+    return a.equals(b);
+  }
+
+  /**
+   * 엔티티 identity 기반 weak key (equals/hashCode를 엔티티 구현과 무관하게)
+   */
+  private static final class IdentityKey extends WeakReference<Object> {
+    private final int hash;
+
+    IdentityKey(Object referent, ReferenceQueue<Object> q) {
+      super(referent, q);
+      this.hash = System.identityHashCode(referent);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof IdentityKey other)) return false;
+      Object mine = get();
+      return mine != null && mine == other.get();
+    }
+  }
+}
@@ -0,0 +1,8 @@
+package com.thenoah.dev.mybatis_easy_starter.support.export;
+
+/**
+ * exportAll 출력 포맷
+ * - CSV: 첫 줄 헤더(컬럼명), RFC 4180 quoting
+ * - JSON_LINES: row 1건당 JSON 객체 1줄 (key=컬럼명)
+ */
+public enum ExportFormat { CSV, JSON_LINES }
@@ -0,0 +1,179 @@
+package com.thenoah.dev.mybatis_easy_starter.support.export;
+
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * exportAll statement(resultType=map)의 row를 엔티티로 만들지 않고 바로 OutputStream에 기록
+ *
+ * - 컬럼 순서/헤더는 ColumnAnalyzer.TableInfo의 컬럼 리스트 기준
+ * - flushEveryRows 건마다 flush → 대용량 export에서도 메모리 사용량 일정
+ * - 전달받은 OutputStream은 닫지 않음 (호출자 소유)
+ */
+public class RowExportHandler implements ResultHandler<Map<String, Object>> {
+
+  public static final int DEFAULT_FLUSH_EVERY_ROWS = 1000;
+
+  private final Writer writer;
+  private final ExportFormat format;
+  private final List<String> columns;
+  private final String[][] keyCandidates;
+  private final int flushEveryRows;
+
+  private long rowCount;
+  private boolean headerWritten;
+
+  public RowExportHandler(OutputStream out, ExportFormat format, List<String> columns) {
+    this(out, format, columns, DEFAULT_FLUSH_EVERY_ROWS);
+  }
+
+  public RowExportHandler(OutputStream out, ExportFormat format, List<String> columns, int flushEveryRows) {
+    this.writer = new BufferedWriter(new OutputStreamWriter(
+        Objects.requireNonNull(out, "out must not be null"), StandardCharsets.UTF_8), 64 * 1024);
+    this.format = Objects.requireNonNull(format, "format must not be null");
+    this.columns = List.copyOf(columns);
+    this.flushEveryRows = Math.max(flushEveryRows, 1);
+
+    // 드라이버별 label 대소문자(H2/Oracle=대문자, Postgres=소문자) 대응
+    this.keyCandidates = new String[this.columns.size()][];
+    for (int i = 0; i < this.columns.size(); i++) {
+      String c = this.columns.get(i);
+      this.keyCandidates[i] = new String[]{c, c.toUpperCase(Locale.ROOT), c.toLowerCase(Locale.ROOT)};
+    }
+  }
+
+  @Override
+  public void handleResult(ResultContext<? extends Map<String, Object>> resultContext) {
+    Map<String, Object> row = resultContext.getResultObject();
+    if (row == null) return;
+
+    try {
+      if (format == ExportFormat.CSV) {
+        writeHeaderIfNeeded();
+        writeCsvRow(row);
+      } else {
+        writeJsonRow(row);
+      }
+
+      rowCount++;
+      if (rowCount % flushEveryRows == 0) writer.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException("MyBatis-Easy: export write failed. row=" + rowCount, e);
+    }
+  }
+
+  /**
+   * 남은 버퍼를 flush 하고 기록한 row 수를 반환 (OutputStream은 닫지 않음)
+   */
+  public long finish() {
+    try {
+      if (format == ExportFormat.CSV) writeHeaderIfNeeded();
+      writer.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException("MyBatis-Easy: export flush failed", e);
+    }
+    return rowCount;
+  }
+
+  public long getRowCount() {
+    return rowCount;
+  }
+
+  private void writeHeaderIfNeeded() throws IOException {
+    if (headerWritten) return;
+    headerWritten = true;
+
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) writer.write(',');
+      writeCsvValue(columns.get(i));
+    }
+    writer.write("\r\n");
+  }
+
+  private void writeCsvRow(Map<String, Object> row) throws IOException {
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) writer.write(',');
+      Object v = valueOf(row, i);
+      if (v != null) writeCsvValue(toText(v));
+    }
+    writer.write("\r\n");
+  }
+
+  private void writeCsvValue(String s) throws IOException {
+    boolean needQuote = s.indexOf(',') >= 0 || s.indexOf('"') >= 0 || s.indexOf('\n') >= 0 || s.indexOf('\r') >= 0;
+    if (!needQuote) {
+      writer.write(s);
+      return;
+    }
+    writer.write('"');
+    writer.write(s.replace("\"", "\"\""));
+    writer.write('"');
+  }
+
+  private void writeJsonRow(Map<String, Object> row) throws IOException {
+    writer.write('{');
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) writer.write(',');
+      writeJsonString(columns.get(i));
+      writer.write(':');
+
+      Object v = valueOf(row, i);
+      if (v == null) {
+        writer.write("null");
+      } else if (v instanceof Boolean || (v instanceof Number n && isFinite(n))) {
+        writer.write(toText(v));
+      } else {
+        writeJsonString(toText(v));
+      }
+    }
+    writer.write("}\n");
+  }
+
+  private void writeJsonString(String s) throws IOException {
+    writer.write('"');
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      switch (c) {
+        case '"' -> writer.write("\\\"");
+        case '\\' -> writer.write("\\\\");
+        case '\n' -> writer.write("\\n");
+        case '\r' -> writer.write("\\r");
+        case '\t' -> writer.write("\\t");
+        default -> {
+          if (c < 0x20) {
+            writer.write(String.format("\\u%04x", (int) c));
+          } else {
+            writer.write(c);
+          }
+        }
+      }
+    }
+    writer.write('"');
+  }
+
+  private Object valueOf(Map<String, Object> row, int columnIndex) {
+    for (String key : keyCandidates[columnIndex]) {
+      Object v = row.get(key);
+      if (v != null) return v;
+    }
+    return null;
+  }
+
+  // NaN/Infinity는 JSON number로 표현 불가 → 문자열로 기록
+  private boolean isFinite(Number n) {
+    if (n instanceof Double d) return Double.isFinite(d);
+    if (n instanceof Float f) return Float.isFinite(f);
+    return true;
+  }
+
+  private String toText(Object v) {
+    if (v instanceof BigDecimal bd) return bd.toPlainString();
+    if (v instanceof byte[] bytes) return Base64.getEncoder().encodeToString(bytes);
+    return String.valueOf(v);
+  }
+}
@@ -0,0 +1,47 @@
+package com.thenoah.dev.mybatis_easy_starter.support.id;
+
+import com.thenoah.dev.mybatis_easy_starter.config.MybatisEasyProperties;
+import com.thenoah.dev.mybatis_easy_starter.support.dialect.Dialect;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 자동 CRUD insert 전에 PK를 미리 할당 (generated key 회수 round trip 없이 배치 insert 가능)
+ *
+ * - POOLED_SEQUENCE: DB 시퀀스에서 allocationSize 단위로 블록 할당 (pooled-lo)
+ * - UUID_V7: 시간 순서 UUID (클라이언트 생성)
+ * - SNOWFLAKE: 64bit 시간 순서 정수 (클라이언트 생성)
+ */
+public interface IdGenerator {
+
+  /**
+   * @param idType     엔티티 PK 필드 타입
+   * @param connection 현재 실행 중인 Connection (시퀀스 조회용, 클라이언트 생성 방식은 사용 안함)
+   * @return 할당한 id, PK 타입을 지원하지 않으면 null (→ interceptor가 IllegalStateException으로 insert 중단)
+   */
+  Object nextId(Class<?> entityClass, Class<?> idType, Connection connection) throws SQLException;
+
+  /**
+   * 설정된 전략에 맞는 구현 (JDBC/NONE/AUTO면 null)
+   */
+  static IdGenerator forStrategy(MybatisEasyProperties.AutoSql.Strategy strategy,
+                                 MybatisEasyProperties.AutoSql.GeneratedKey props,
+                                 Dialect dialect) {
+    if (strategy == null) return null;
+    return switch (strategy) {
+      case POOLED_SEQUENCE -> new PooledSequenceIdGenerator(props.getSequenceName(), props.getAllocationSize(), dialect);
+      case UUID_V7 -> new UuidV7Generator();
+      case SNOWFLAKE -> new SnowflakeIdGenerator(props.getWorkerId());
+      case AUTO, JDBC, NONE -> null;
+    };
+  }
+
+  static boolean isLongType(Class<?> t) {
+    return t == Long.class || t == long.class;
+  }
+
+  static boolean isIntegralType(Class<?> t) {
+    return isLongType(t) || t == Integer.class || t == int.class;
+  }
+}
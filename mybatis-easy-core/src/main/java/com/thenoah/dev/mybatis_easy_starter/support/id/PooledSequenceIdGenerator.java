@@ -0,0 +1,114 @@
+package com.thenoah.dev.mybatis_easy_starter.support.id;
+
+import com.thenoah.dev.mybatis_easy_starter.support.ColumnAnalyzer;
+import com.thenoah.dev.mybatis_easy_starter.support.dialect.Dialect;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * DB 시퀀스 블록 할당 (pooled-lo)
+ *
+ * - 시퀀스 값 v를 하나 받으면 [v, v + allocationSize) 범위를 메모리에서 소진
+ *   → allocationSize건마다 시퀀스 조회 1회
+ * - 시퀀스는 INCREMENT BY allocationSize 로 만들어야 노드 간 범위가 겹치지 않음
+ *   예) CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50
+ * - 시퀀스 이름은 템플릿의 {table}을 엔티티 테이블명으로 치환
+ * - MYSQL/SQLITE는 시퀀스가 없어 사용 불가
+ */
+public class PooledSequenceIdGenerator implements IdGenerator {
+
+  private static final Pattern SAFE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_$.]*");
+
+  private final String sequenceNameTemplate;
+  private final int allocationSize;
+  private volatile Dialect dialect;
+
+  private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+  private static final class Block {
+    final ReentrantLock lock = new ReentrantLock();
+    long next;
+    long limit; // exclusive
+  }
+
+  /**
+   * @param dialect UNKNOWN/null이면 첫 조회 시 Connection 메타데이터로 판별
+   */
+  public PooledSequenceIdGenerator(String sequenceNameTemplate, int allocationSize, Dialect dialect) {
+    if (sequenceNameTemplate == null || sequenceNameTemplate.isBlank()) {
+      throw new IllegalArgumentException("sequenceName must not be blank");
+    }
+    if (allocationSize <= 0) throw new IllegalArgumentException("allocationSize must be > 0");
+    this.sequenceNameTemplate = sequenceNameTemplate.trim();
+    this.allocationSize = allocationSize;
+    this.dialect = (dialect == Dialect.UNKNOWN) ? null : dialect;
+  }
+
+  @Override
+  public Object nextId(Class<?> entityClass, Class<?> idType, Connection connection) throws SQLException {
+    if (!IdGenerator.isIntegralType(idType)) return null;
+
+    long id = next(sequenceNameOf(entityClass), connection);
+    return IdGenerator.isLongType(idType) ? (Object) id : (Object) Math.toIntExact(id);
+  }
+
+  public long next(String sequenceName, Connection connection) throws SQLException {
+    Block block = blocks.computeIfAbsent(sequenceName, k -> new Block());
+
+    block.lock.lock();
+    try {
+      if (block.next >= block.limit) {
+        long lo = fetchSequence(sequenceName, connection);
+        block.next = lo;
+        block.limit = lo + allocationSize;
+      }
+      return block.next++;
+    } finally {
+      block.lock.unlock();
+    }
+  }
+
+  String sequenceNameOf(Class<?> entityClass) {
+    String table = ColumnAnalyzer.analyzeClass(entityClass).getTableName();
+    String name = sequenceNameTemplate.replace("{table}", table);
+    if (!SAFE_NAME.matcher(name).matches()) {
+      throw new IllegalArgumentException("MyBatis-Easy: invalid sequence name: " + name);
+    }
+    return name;
+  }
+
+  private long fetchSequence(String sequenceName, Connection connection) throws SQLException {
+    try (Statement st = connection.createStatement();
+         ResultSet rs = st.executeQuery(nextValueSql(resolveDialect(connection), sequenceName))) {
+      if (!rs.next()) throw new SQLException("MyBatis-Easy: sequence returned no value: " + sequenceName);
+      return rs.getLong(1);
+    }
+  }
+
+  private Dialect resolveDialect(Connection connection) throws SQLException {
+    Dialect d = dialect;
+    if (d == null) {
+      d = Dialect.fromProductName(connection.getMetaData().getDatabaseProductName());
+      dialect = d;
+    }
+    return d;
+  }
+
+  private static String nextValueSql(Dialect dialect, String seq) {
+    return switch (dialect) {
+      case POSTGRES -> "SELECT nextval('" + seq + "')";
+      case ORACLE -> "SELECT " + seq + ".NEXTVAL FROM DUAL";
+      case MARIADB -> "SELECT NEXTVAL(" + seq + ")";
+      case SQLSERVER, H2 -> "SELECT NEXT VALUE FOR " + seq;
+      case MYSQL, SQLITE, UNKNOWN -> throw new IllegalStateException(
+          "MyBatis-Easy: POOLED_SEQUENCE is not supported on " + dialect + " (no sequences)");
+    };
+  }
+}
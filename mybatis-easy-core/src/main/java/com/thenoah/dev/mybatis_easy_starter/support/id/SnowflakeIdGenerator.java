@@ -0,0 +1,110 @@
+package com.thenoah.dev.mybatis_easy_starter.support.id;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.sql.Connection;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Snowflake 방식 64bit id
+ *
+ * - 41bit: 2020-01-01 기준 millis / 10bit: workerId / 12bit: millis 내 순번
+ * - 노드 간 중복을 막으려면 노드마다 다른 workerId(0~1023)를 지정해야 함
+ *   (미지정 시 호스트명 + PID 해시로 추정 → 충돌 가능성이 있으므로 운영에서는 명시 권장)
+ * - PK 타입이 Long일 때만 사용
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+  private static final Logger log = LoggerFactory.getLogger(SnowflakeIdGenerator.class);
+
+  /** 2020-01-01T00:00:00Z */
+  public static final long EPOCH_MILLIS = 1577836800000L;
+
+  private static final int WORKER_BITS = 10;
+  private static final int SEQUENCE_BITS = 12;
+  private static final long MAX_WORKER_ID = (1L << WORKER_BITS) - 1;
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+  /** 이 이상 시계가 뒤로 가면 대기하지 않고 실패 */
+  private static final long MAX_BACKWARD_MILLIS = 5;
+
+  private final long workerId;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private long lastMillis = -1;
+  private long sequence;
+
+  /**
+   * @param workerId 0~1023, 음수면 호스트명 + PID로 추정
+   */
+  public SnowflakeIdGenerator(long workerId) {
+    if (workerId > MAX_WORKER_ID) {
+      throw new IllegalArgumentException("workerId must be <= " + MAX_WORKER_ID + ": " + workerId);
+    }
+    this.workerId = (workerId < 0) ? deriveWorkerId() : workerId;
+  }
+
+  @Override
+  public Object nextId(Class<?> entityClass, Class<?> idType, Connection connection) {
+    return IdGenerator.isLongType(idType) ? next() : null;
+  }
+
+  public long next() {
+    lock.lock();
+    try {
+      long now = System.currentTimeMillis();
+
+      if (now < lastMillis) {
+        long behind = lastMillis - now;
+        if (behind > MAX_BACKWARD_MILLIS) {
+          throw new IllegalStateException("MyBatis-Easy: clock moved backwards by " + behind + "ms (snowflake)");
+        }
+        now = waitUntil(lastMillis);
+      }
+
+      if (now == lastMillis) {
+        sequence = (sequence + 1) & SEQUENCE_MASK;
+        if (sequence == 0) now = waitUntil(lastMillis + 1);
+      } else {
+        sequence = 0;
+      }
+
+      lastMillis = now;
+      return ((now - EPOCH_MILLIS) << (WORKER_BITS + SEQUENCE_BITS))
+          | (workerId << SEQUENCE_BITS)
+          | sequence;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public long getWorkerId() {
+    return workerId;
+  }
+
+  private static long waitUntil(long targetMillis) {
+    long now = System.currentTimeMillis();
+    while (now < targetMillis) {
+      Thread.onSpinWait();
+      now = System.currentTimeMillis();
+    }
+    return now;
+  }
+
+  private static long deriveWorkerId() {
+    String host;
+    try {
+      host = InetAddress.getLocalHost().getHostName();
+    } catch (Exception e) {
+      host = "unknown";
+    }
+    String runtime = ManagementFactory.getRuntimeMXBean().getName(); // pid@host
+    long id = ((host + "/" + runtime).hashCode() & 0x7FFFFFFF) % (MAX_WORKER_ID + 1);
+    log.warn("MyBatis-Easy: snowflake workerId not configured, derived {} from host/pid. "
+        + "Set mybatis-easy.autosql.generated-key.worker-id per node to avoid collisions.", id);
+    return id;
+  }
+}
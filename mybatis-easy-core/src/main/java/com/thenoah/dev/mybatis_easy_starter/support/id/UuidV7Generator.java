@@ -0,0 +1,57 @@
+package com.thenoah.dev.mybatis_easy_starter.support.id;
+
+import java.sql.Connection;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * UUIDv7 (RFC 9562) 생성기
+ *
+ * - 상위 48bit: unix epoch millis → 시간 순서 정렬 (B-tree 인덱스 끝에 append, page split 감소)
+ * - rand_a 12bit: 같은 millis 안에서 단조 증가 카운터 (같은 노드 내 순서 보장)
+ * - 나머지 62bit: 랜덤
+ * - PK 타입이 UUID 또는 String일 때만 사용
+ */
+public class UuidV7Generator implements IdGenerator {
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private long lastMillis = -1;
+  private int counter;
+
+  @Override
+  public Object nextId(Class<?> entityClass, Class<?> idType, Connection connection) {
+    if (idType == UUID.class) return next();
+    if (idType == String.class) return next().toString();
+    return null;
+  }
+
+  public UUID next() {
+    long millis;
+    int seq;
+
+    lock.lock();
+    try {
+      millis = System.currentTimeMillis();
+      if (millis > lastMillis) {
+        lastMillis = millis;
+        // 카운터 시작값을 랜덤으로 두되 overflow 여유를 남김
+        counter = ThreadLocalRandom.current().nextInt(0x800);
+      } else {
+        // 시계가 뒤로 가거나 같은 millis: 직전 timestamp 유지 + 카운터 증가
+        millis = lastMillis;
+        if (++counter > 0xFFF) {
+          millis = ++lastMillis;
+          counter = 0;
+        }
+      }
+      seq = counter;
+    } finally {
+      lock.unlock();
+    }
+
+    long msb = (millis << 16) | 0x7000L | (seq & 0xFFFL);
+    long lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(msb, lsb);
+  }
+}
@@ -0,0 +1,417 @@
+package com.thenoah.dev.mybatis_easy_starter.support.lifecycle;
+
+import com.thenoah.dev.mybatis_easy_starter.core.mapper.BaseMapper;
+import com.thenoah.dev.mybatis_easy_starter.support.ColumnAnalyzer;
+import com.thenoah.dev.mybatis_easy_starter.support.MapperTypeResolver;
+import com.thenoah.dev.mybatis_easy_starter.support.dialect.Dialect;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.*;
+import java.time.Duration;
+import java.time.temporal.Temporal;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * soft delete된 row 정리 작업 (archive 테이블로 이동 또는 purge, opt-in)
+ *
+ * - 대상: 등록된 BaseMapper 엔티티 중 @SoftDelete 필드가 날짜형인 엔티티 (플래그 방식은 삭제 시각이 없어 제외)
+ * - 삭제 시각이 retention보다 오래된 row를 PK 순서(keyset)로 batchSize건씩 처리
+ *   batch마다 별도 트랜잭션으로 커밋하고 pause만큼 쉬어 긴 lock을 잡지 않음
+ * - ARCHIVE: INSERT INTO &lt;table&gt;&lt;archiveSuffix&gt; SELECT ... 후 DELETE (archive 테이블은 미리 생성, 같은 컬럼 필요)
+ *   PURGE: DELETE만
+ * - 진행 위치(마지막 PK)는 checkpoint 테이블에 batch와 같은 트랜잭션으로 기록 → 중단 후 재시작 시 이어서 처리
+ *   한 바퀴를 끝까지 돌면 checkpoint를 지워 다음 실행은 처음부터
+ *
+ * 주의: 여러 노드에서 동시에 실행하지 말 것 (한 노드에서만 enabled)
+ *       PK는 정수형/문자열/UUID/BigInteger/BigDecimal만 지원 (checkpoint 문자열을 PK 타입으로 되돌려 재개)
+ */
+public class SoftDeleteLifecycleJob implements SmartInitializingSingleton, DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(SoftDeleteLifecycleJob.class);
+
+  private static final Pattern SAFE_TABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+  public enum Mode {
+    ARCHIVE,
+    PURGE
+  }
+
+  private final DataSource dataSource;
+  private final Supplier<SqlSessionFactory> sqlSessionFactorySupplier;
+  private final Dialect dialect;
+  private final Mode mode;
+  private final Duration retention;
+  private final long intervalMillis;
+  private final int batchSize;
+  private final long pauseMillis;
+  private final String archiveSuffix;
+  private final String checkpointTable;
+
+  private final List<Target> targets = new ArrayList<>();
+  private ScheduledExecutorService scheduler;
+
+  // 스케줄 실행과 수동 runOnce가 겹치지 않도록
+  private final ReentrantLock runLock = new ReentrantLock();
+
+  private volatile boolean closed;
+
+  private record Target(Class<?> entityClass, String table, String pkColumn, Function<String, Object> keyParser,
+                        String softDeleteColumn, List<String> columns) {}
+
+  public SoftDeleteLifecycleJob(DataSource dataSource,
+                                Supplier<SqlSessionFactory> sqlSessionFactorySupplier,
+                                Dialect dialect,
+                                Mode mode,
+                                Duration retention,
+                                Duration interval,
+                                int batchSize,
+                                Duration pause,
+                                String archiveSuffix,
+                                String checkpointTable) {
+    this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+    this.sqlSessionFactorySupplier = Objects.requireNonNull(sqlSessionFactorySupplier, "sqlSessionFactorySupplier must not be null");
+    this.dialect = (dialect == null) ? Dialect.UNKNOWN : dialect;
+    this.mode = (mode == null) ? Mode.PURGE : mode;
+    this.retention = Objects.requireNonNull(retention, "retention must not be null");
+    if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be > 0");
+    if (checkpointTable == null || !SAFE_TABLE_NAME.matcher(checkpointTable).matches()) {
+      throw new IllegalArgumentException("MyBatis-Easy: invalid checkpoint table name: " + checkpointTable);
+    }
+    this.intervalMillis = (interval == null) ? TimeUnit.HOURS.toMillis(1) : Math.max(interval.toMillis(), 1000);
+    this.batchSize = batchSize;
+    this.pauseMillis = (pause == null) ? 0 : Math.max(pause.toMillis(), 0);
+    this.archiveSuffix = (archiveSuffix == null || archiveSuffix.isBlank()) ? "_archive" : archiveSuffix;
+    this.checkpointTable = checkpointTable;
+  }
+
+  /**
+   * 대상 엔티티 탐색 + 주기 실행 예약
+   */
+  @Override
+  public synchronized void afterSingletonsInstantiated() {
+    SqlSessionFactory factory = sqlSessionFactorySupplier.get();
+    if (factory == null || scheduler != null) return;
+
+    for (Class<?> mapper : factory.getConfiguration().getMapperRegistry().getMappers()) {
+      if (!BaseMapper.class.isAssignableFrom(mapper)) continue;
+      Class<?> entityClass = MapperTypeResolver.resolveEntityType(mapper);
+      if (entityClass == null || targets.stream().anyMatch(t -> t.entityClass() == entityClass)) continue;
+
+      Target target = targetOf(entityClass);
+      if (target != null) targets.add(target);
+    }
+    if (targets.isEmpty()) return;
+
+    scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "mybatis-easy-soft-delete-lifecycle");
+      t.setDaemon(true);
+      return t;
+    });
+    scheduler.scheduleWithFixedDelay(this::runSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    log.info("MyBatis-Easy: soft delete lifecycle scheduled. mode={} retention={} entities={}",
+        mode, retention, targets.stream().map(t -> t.entityClass().getSimpleName()).toList());
+  }
+
+  private Target targetOf(Class<?> entityClass) {
+    Field softDelete = ColumnAnalyzer.getSoftDeleteField(entityClass);
+    if (softDelete == null) return null;
+
+    Class<?> type = softDelete.getType();
+    if (ColumnAnalyzer.isFlagSoftDelete(softDelete)
+        || (!Temporal.class.isAssignableFrom(type) && !java.util.Date.class.isAssignableFrom(type))) {
+      log.debug("MyBatis-Easy: soft delete lifecycle skipped (no deletion timestamp). entity={}", entityClass.getName());
+      return null;
+    }
+
+    ColumnAnalyzer.TableInfo info = ColumnAnalyzer.analyzeClass(entityClass);
+    String table = info.getTableName();
+    if (!SAFE_TABLE_NAME.matcher(table).matches()) {
+      log.warn("MyBatis-Easy: soft delete lifecycle skipped (unsupported table name). entity={} table={}",
+          entityClass.getName(), table);
+      return null;
+    }
+
+    String pkColumn = (info.getIdColumn() == null || info.getIdColumn().isBlank()) ? "id" : info.getIdColumn();
+    Function<String, Object> keyParser = keyParser(info.getIdType());
+    if (keyParser == null) {
+      log.warn("MyBatis-Easy: soft delete lifecycle skipped (unsupported id type for keyset resume). entity={} idType={}",
+          entityClass.getName(), info.getIdType());
+      return null;
+    }
+    List<String> columns = info.getFieldColumnMap().values().stream()
+        .filter(Objects::nonNull)
+        .distinct()
+        .toList();
+    return new Target(entityClass, table, pkColumn, keyParser, ColumnAnalyzer.getColumnName(softDelete), columns);
+  }
+
+  // checkpoint(문자열) → PK 타입 (드라이버가 PK 컬럼과 비교할 수 있는 값으로 바인딩)
+  private static Function<String, Object> keyParser(Class<?> idType) {
+    if (idType == long.class || idType == Long.class) return Long::valueOf;
+    if (idType == int.class || idType == Integer.class) return Integer::valueOf;
+    if (idType == short.class || idType == Short.class) return Short::valueOf;
+    if (idType == String.class) return key -> key;
+    if (idType == UUID.class) return UUID::fromString;
+    if (idType == BigInteger.class) return BigInteger::new;
+    if (idType == BigDecimal.class) return BigDecimal::new;
+    return null;
+  }
+
+  private void runSafely() {
+    try {
+      runOnce();
+    } catch (Exception e) {
+      log.warn("MyBatis-Easy: soft delete lifecycle run failed", e);
+    }
+  }
+
+  /**
+   * 전체 대상 1회 처리 (스케줄러 없이 수동 호출도 가능)
+   *
+   * @return 엔티티별 정리한 row 수
+   */
+  public Map<Class<?>, Long> runOnce() throws SQLException {
+    Map<Class<?>, Long> out = new LinkedHashMap<>();
+    runLock.lock();
+    try {
+      for (Target target : targets) {
+        if (closed) break;
+        out.put(target.entityClass(), process(target));
+      }
+    } finally {
+      runLock.unlock();
+    }
+    return out;
+  }
+
+  private long process(Target target) throws SQLException {
+    Timestamp cutoff = new Timestamp(System.currentTimeMillis() - retention.toMillis());
+    long total = 0;
+    int batches = 0;
+
+    try (Connection conn = dataSource.getConnection()) {
+      boolean autoCommit = conn.getAutoCommit();
+      conn.setAutoCommit(false);
+      try {
+        Object lastKey = loadCheckpoint(conn, target);
+        conn.commit();
+
+        while (!closed) {
+          List<Object> ids = selectExpiredIds(conn, target, cutoff, lastKey);
+          if (ids.isEmpty()) {
+            clearCheckpoint(conn, target);
+            conn.commit();
+            break;
+          }
+
+          if (mode == Mode.ARCHIVE) archive(conn, target, ids, cutoff);
+          total += delete(conn, target, ids, cutoff);
+          lastKey = ids.get(ids.size() - 1);
+
+          // 마지막 batch면 한 바퀴 완료 → checkpoint 제거 (다음 실행은 처음부터)
+          boolean done = ids.size() < batchSize;
+          if (done) clearCheckpoint(conn, target);
+          else saveCheckpoint(conn, target, lastKey);
+          conn.commit();
+          batches++;
+
+          if (done) break;
+          pause();
+        }
+      } catch (SQLException | RuntimeException e) {
+        conn.rollback();
+        throw e;
+      } finally {
+        conn.setAutoCommit(autoCommit);
+      }
+    }
+
+    if (total > 0) {
+      log.info("MyBatis-Easy: soft delete lifecycle {} done. entity={} rows={} batches={}",
+          mode, target.entityClass().getSimpleName(), total, batches);
+    }
+    return total;
+  }
+
+  private List<Object> selectExpiredIds(Connection conn, Target target, Timestamp cutoff, Object lastKey) throws SQLException {
+    String sql = "SELECT " + target.pkColumn() + " FROM " + target.table()
+        + " WHERE " + target.softDeleteColumn() + " < ?"
+        + ((lastKey == null) ? "" : " AND " + target.pkColumn() + " > ?")
+        + " ORDER BY " + target.pkColumn();
+
+    List<Object> ids = new ArrayList<>(batchSize);
+    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+      // LIMIT 문법이 DB마다 달라 maxRows로 제한
+      ps.setMaxRows(batchSize);
+      ps.setTimestamp(1, cutoff);
+      if (lastKey != null) ps.setObject(2, lastKey);
+      try (ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) ids.add(rs.getObject(1));
+      }
+    }
+    return ids;
+  }
+
+  private void archive(Connection conn, Target target, List<Object> ids, Timestamp cutoff) throws SQLException {
+    String columns = String.join(", ", target.columns());
+    String sql = "INSERT INTO " + target.table() + archiveSuffix + " (" + columns + ")"
+        + " SELECT " + columns + " FROM " + target.table()
+        + " WHERE " + target.pkColumn() + " IN (" + placeholders(ids.size()) + ")"
+        + " AND " + target.softDeleteColumn() + " < ?";
+    executeForIds(conn, sql, ids, cutoff);
+  }
+
+  // 조회 후 복구된 row는 건너뛰도록 삭제 조건을 다시 확인
+  private int delete(Connection conn, Target target, List<Object> ids, Timestamp cutoff) throws SQLException {
+    String sql = "DELETE FROM " + target.table()
+        + " WHERE " + target.pkColumn() + " IN (" + placeholders(ids.size()) + ")"
+        + " AND " + target.softDeleteColumn() + " < ?";
+    return executeForIds(conn, sql, ids, cutoff);
+  }
+
+  private static int executeForIds(Connection conn, String sql, List<Object> ids, Timestamp cutoff) throws SQLException {
+    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+      int i = 1;
+      for (Object id : ids) ps.setObject(i++, id);
+      ps.setTimestamp(i, cutoff);
+      return ps.executeUpdate();
+    }
+  }
+
+  private static String placeholders(int n) {
+    return String.join(", ", Collections.nCopies(n, "?"));
+  }
+
+  private Object loadCheckpoint(Connection conn, Target target) throws SQLException {
+    try (PreparedStatement ps = conn.prepareStatement(
+        "SELECT last_key FROM " + checkpointTable + " WHERE table_name = ?")) {
+      ps.setString(1, target.table());
+      try (ResultSet rs = ps.executeQuery()) {
+        if (!rs.next()) return null;
+        String key = rs.getString(1);
+        if (key == null) return null;
+        return target.keyParser().apply(key);
+      }
+    }
+  }
+
+  private void saveCheckpoint(Connection conn, Target target, Object lastKey) throws SQLException {
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+    try (PreparedStatement ps = conn.prepareStatement(
+        "UPDATE " + checkpointTable + " SET last_key = ?, updated_at = ? WHERE table_name = ?")) {
+      ps.setString(1, String.valueOf(lastKey));
+      ps.setTimestamp(2, now);
+      ps.setString(3, target.table());
+      if (ps.executeUpdate() > 0) return;
+    }
+    try (PreparedStatement ps = conn.prepareStatement(
+        "INSERT INTO " + checkpointTable + " (table_name, last_key, updated_at) VALUES (?, ?, ?)")) {
+      ps.setString(1, target.table());
+      ps.setString(2, String.valueOf(lastKey));
+      ps.setTimestamp(3, now);
+      ps.executeUpdate();
+    }
+  }
+
+  private void clearCheckpoint(Connection conn, Target target) throws SQLException {
+    try (PreparedStatement ps = conn.prepareStatement("DELETE FROM " + checkpointTable + " WHERE table_name = ?")) {
+      ps.setString(1, target.table());
+      ps.executeUpdate();
+    }
+  }
+
+  private void pause() {
+    if (pauseMillis <= 0) return;
+    try {
+      Thread.sleep(pauseMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      closed = true;
+    }
+  }
+
+  /**
+   * checkpoint 테이블이 없으면 생성
+   */
+  public void initializeSchema() {
+    try (Connection conn = dataSource.getConnection()) {
+      if (tableExists(conn)) return;
+
+      String text = (dialect == Dialect.ORACLE) ? "VARCHAR2" : "VARCHAR";
+      try (Statement st = conn.createStatement()) {
+        st.execute("CREATE TABLE " + checkpointTable + " ("
+            + "table_name " + text + "(255) NOT NULL PRIMARY KEY, "
+            + "last_key " + text + "(255), "
+            + "updated_at TIMESTAMP)");
+      }
+      if (!conn.getAutoCommit()) conn.commit();
+      log.info("MyBatis-Easy: soft delete checkpoint table created. table={}", checkpointTable);
+    } catch (SQLException e) {
+      throw new IllegalStateException("MyBatis-Easy: failed to initialize checkpoint table: " + checkpointTable, e);
+    }
+  }
+
+  private boolean tableExists(Connection conn) throws SQLException {
+    String schema = null;
+    String table = checkpointTable;
+    int dot = checkpointTable.indexOf('.');
+    if (dot > 0) {
+      schema = checkpointTable.substring(0, dot);
+      table = checkpointTable.substring(dot + 1);
+    }
+
+    // 드라이버별 식별자 대소문자 저장 방식이 달라 원본/대문자/소문자 순으로 확인
+    DatabaseMetaData md = conn.getMetaData();
+    String[][] candidates = {
+        {schema, table},
+        {upper(schema), upper(table)},
+        {lower(schema), lower(table)}
+    };
+    for (String[] c : candidates) {
+      try (ResultSet rs = md.getTables(null, c[0], c[1], new String[]{"TABLE"})) {
+        if (rs.next()) return true;
+      }
+    }
+    return false;
+  }
+
+  private static String upper(String s) {
+    return (s == null) ? null : s.toUpperCase(Locale.ROOT);
+  }
+
+  private static String lower(String s) {
+    return (s == null) ? null : s.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * 현재 대상 엔티티 (테이블명)
+   */
+  public List<String> targetTables() {
+    return targets.stream().map(Target::table).toList();
+  }
+
+  // 실행 중인 batch는 pause 중 interrupt로 멈춤 (진행 위치는 checkpoint에 남음)
+  @Override
+  public synchronized void destroy() {
+    closed = true;
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+  }
+}
@@ -0,0 +1,227 @@
+package com.thenoah.dev.mybatis_easy_starter.support.loader;
+
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.ManyToOne;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.OneToMany;
+import com.thenoah.dev.mybatis_easy_starter.support.ColumnAnalyzer;
+import com.thenoah.dev.mybatis_easy_starter.support.MapperTypeResolver;
+import com.thenoah.dev.mybatis_easy_starter.tool.generator.AutoSqlBuilder;
+import org.apache.ibatis.session.SqlSession;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @ManyToOne / @OneToMany 관계 일괄 적재 (N+1 제거, lazy proxy 없음)
+ *
+ * - 부모 목록에서 키를 모아 관계마다 IN 쿼리(chunkSize 단위)로 조회 후 메모리에서 연결
+ *   - @ManyToOne: 대상 엔티티 mapper의 findAllByIds
+ *   - @OneToMany: 부모 mapper에 생성된 findAssociation_&lt;필드명&gt; (자식 FK IN)
+ * - 조회 횟수 = 관계 수 × chunk 수 (부모 수와 무관)
+ * - SqlSessionTemplate을 넘기면 호출자의 트랜잭션 안에서 조회
+ * - 같은 키를 가진 부모들은 같은 대상 인스턴스를 공유
+ *
+ * 예)
+ * AssociationLoader loader = new AssociationLoader(sqlSessionTemplate);
+ * List&lt;Order&gt; orders = orderMapper.findPage(0, 50);
+ * loader.load(orders, "customer", "items");
+ */
+public class AssociationLoader {
+
+  /** Oracle IN 목록 최대 1000 */
+  public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+  private final SqlSession sqlSession;
+  private final int chunkSize;
+
+  // 엔티티 타입 → BaseMapper namespace
+  private final Map<Class<?>, String> namespaceCache = new ConcurrentHashMap<>();
+
+  public AssociationLoader(SqlSession sqlSession) {
+    this(sqlSession, DEFAULT_CHUNK_SIZE);
+  }
+
+  public AssociationLoader(SqlSession sqlSession, int chunkSize) {
+    this.sqlSession = Objects.requireNonNull(sqlSession, "sqlSession must not be null");
+    if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize must be > 0");
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * @param associations 적재할 관계 필드명 (비우면 선언된 관계 전부)
+   */
+  public void load(Collection<?> parents, String... associations) {
+    if (parents == null || parents.isEmpty()) return;
+
+    Object first = parents.stream().filter(Objects::nonNull).findFirst().orElse(null);
+    if (first == null) return;
+    Class<?> parentClass = first.getClass();
+
+    for (Field association : resolveAssociations(parentClass, associations)) {
+      if (association.isAnnotationPresent(ManyToOne.class)) {
+        loadManyToOne(parents, parentClass, association);
+      } else {
+        loadOneToMany(parents, parentClass, association);
+      }
+    }
+  }
+
+  private void loadManyToOne(Collection<?> parents, Class<?> parentClass, Field association) {
+    Field fkField = fieldForColumn(parentClass, association.getAnnotation(ManyToOne.class).foreignKey());
+    Class<?> targetClass = association.getType();
+    Field targetId = idFieldOf(targetClass);
+
+    Set<Object> keys = new LinkedHashSet<>();
+    for (Object parent : parents) {
+      Object fk = (parent == null) ? null : read(fkField, parent);
+      if (fk != null) keys.add(normalizeKey(fk));
+    }
+
+    Map<Object, Object> byId = new HashMap<>(Math.max(16, keys.size() * 2));
+    String statement = namespaceOf(targetClass) + ".findAllByIds";
+    for (List<Object> chunk : chunks(keys)) {
+      for (Object row : sqlSession.selectList(statement, Map.of("ids", chunk))) {
+        Object id = (row == null) ? null : read(targetId, row);
+        if (id != null) byId.putIfAbsent(normalizeKey(id), row);
+      }
+    }
+
+    for (Object parent : parents) {
+      if (parent == null) continue;
+      Object fk = read(fkField, parent);
+      write(association, parent, (fk == null) ? null : byId.get(normalizeKey(fk)));
+    }
+  }
+
+  private void loadOneToMany(Collection<?> parents, Class<?> parentClass, Field association) {
+    Class<?> childClass = ColumnAnalyzer.resolveElementType(association);
+    if (childClass == null) {
+      throw new IllegalStateException("MyBatis-Easy: @OneToMany element type unknown. field=" + association);
+    }
+    Field parentId = idFieldOf(parentClass);
+    Field childFk = fieldForColumn(childClass, association.getAnnotation(OneToMany.class).foreignKey());
+
+    Set<Object> keys = new LinkedHashSet<>();
+    for (Object parent : parents) {
+      Object id = (parent == null) ? null : read(parentId, parent);
+      if (id != null) keys.add(normalizeKey(id));
+    }
+
+    Map<Object, List<Object>> byParent = new HashMap<>(Math.max(16, keys.size() * 2));
+    String statement = namespaceOf(parentClass) + "." + AutoSqlBuilder.associationStatementId(association);
+    for (List<Object> chunk : chunks(keys)) {
+      for (Object row : sqlSession.selectList(statement, Map.of("ids", chunk))) {
+        Object fk = (row == null) ? null : read(childFk, row);
+        if (fk != null) byParent.computeIfAbsent(normalizeKey(fk), k -> new ArrayList<>()).add(row);
+      }
+    }
+
+    for (Object parent : parents) {
+      if (parent == null) continue;
+      Object id = read(parentId, parent);
+      List<Object> children = (id == null) ? List.of() : byParent.getOrDefault(normalizeKey(id), List.of());
+      write(association, parent, toFieldValue(association.getType(), childClass, children));
+    }
+  }
+
+  private List<Field> resolveAssociations(Class<?> parentClass, String... names) {
+    List<Field> declared = ColumnAnalyzer.getAssociationFields(parentClass);
+    if (names == null || names.length == 0) return declared;
+
+    List<Field> out = new ArrayList<>(names.length);
+    for (String name : names) {
+      Field found = declared.stream().filter(f -> f.getName().equals(name)).findFirst()
+          .orElseThrow(() -> new IllegalArgumentException("MyBatis-Easy: association not declared. entity="
+              + parentClass.getName() + ", field=" + name));
+      out.add(found);
+    }
+    return out;
+  }
+
+  /**
+   * 엔티티 타입의 BaseMapper namespace (등록된 mapper 중 첫 번째)
+   */
+  private String namespaceOf(Class<?> entityClass) {
+    return namespaceCache.computeIfAbsent(entityClass, c -> {
+      for (Class<?> mapper : sqlSession.getConfiguration().getMapperRegistry().getMappers()) {
+        if (MapperTypeResolver.resolveEntityType(mapper) == c) return mapper.getName();
+      }
+      throw new IllegalStateException("MyBatis-Easy: no BaseMapper registered for entity " + c.getName());
+    });
+  }
+
+  private List<List<Object>> chunks(Collection<Object> keys) {
+    List<List<Object>> out = new ArrayList<>();
+    List<Object> chunk = new ArrayList<>(Math.min(chunkSize, keys.size()));
+    for (Object key : keys) {
+      chunk.add(key);
+      if (chunk.size() == chunkSize) {
+        out.add(chunk);
+        chunk = new ArrayList<>(chunkSize);
+      }
+    }
+    if (!chunk.isEmpty()) out.add(chunk);
+    return out;
+  }
+
+  private static Object toFieldValue(Class<?> fieldType, Class<?> childClass, List<Object> children) {
+    if (fieldType.isArray()) {
+      Object array = Array.newInstance(childClass, children.size());
+      for (int i = 0; i < children.size(); i++) Array.set(array, i, children.get(i));
+      return array;
+    }
+    if (Set.class.isAssignableFrom(fieldType)) return new LinkedHashSet<>(children);
+    return new ArrayList<>(children);
+  }
+
+  // FK 컬럼명(또는 프로퍼티명)으로 매핑 필드 탐색
+  private static Field fieldForColumn(Class<?> clazz, String column) {
+    for (Field f : ColumnAnalyzer.getMappedFields(clazz)) {
+      if (f.getName().equals(column) || ColumnAnalyzer.getColumnName(f).equalsIgnoreCase(column)) {
+        f.setAccessible(true);
+        return f;
+      }
+    }
+    throw new IllegalStateException("MyBatis-Easy: foreign key column not mapped. entity="
+        + clazz.getName() + ", column=" + column);
+  }
+
+  private static Field idFieldOf(Class<?> entityClass) {
+    String idProperty = ColumnAnalyzer.analyzeClass(entityClass).getIdField();
+    if (idProperty == null || idProperty.isBlank()) idProperty = "id";
+
+    for (Field f : ColumnAnalyzer.getMappedFields(entityClass)) {
+      if (f.getName().equals(idProperty)) {
+        f.setAccessible(true);
+        return f;
+      }
+    }
+    throw new IllegalStateException("MyBatis-Easy: id field not found. entity=" + entityClass.getName());
+  }
+
+  private static Object read(Field f, Object target) {
+    try {
+      return f.get(target);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("MyBatis-Easy: cannot read field " + f, e);
+    }
+  }
+
+  private static void write(Field f, Object target, Object value) {
+    try {
+      if (!f.canAccess(target)) f.setAccessible(true);
+      f.set(target, value);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("MyBatis-Easy: cannot write field " + f, e);
+    }
+  }
+
+  // FK(Integer)와 PK(Long)처럼 정수형 타입이 달라도 같은 키가 되도록 Long으로 통일
+  private static Object normalizeKey(Object id) {
+    if (id instanceof Integer || id instanceof Short || id instanceof Byte) {
+      return ((Number) id).longValue();
+    }
+    return id;
+  }
+}
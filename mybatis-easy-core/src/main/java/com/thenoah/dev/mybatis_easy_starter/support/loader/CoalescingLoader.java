@@ -0,0 +1,255 @@
+package com.thenoah.dev.mybatis_easy_starter.support.loader;
+
+import com.thenoah.dev.mybatis_easy_starter.core.mapper.BaseMapper;
+import com.thenoah.dev.mybatis_easy_starter.support.ColumnAnalyzer;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * findById 요청 병합 로더 (DataLoader 스타일, opt-in)
+ *
+ * - single-flight: 같은 id로 진행 중인 요청이 있으면 그 결과를 공유
+ * - micro-batch: window 안에 들어온 서로 다른 id를 모아 findAllByIds (IN 쿼리) 한 번으로 조회 후 분배
+ *   (maxBatchSize에 도달하면 window를 기다리지 않고 바로 실행)
+ * - lock은 ReentrantLock만 사용 (virtual thread pinning 없음)
+ * - 같은 id 요청자들은 같은 엔티티 인스턴스를 공유하므로 반환값을 수정하지 말 것
+ *
+ * 주의: 배치 쿼리는 별도 스레드에서 실행되므로 호출자의 트랜잭션 밖에서 조회됨
+ *       (같은 트랜잭션에서 쓴 값을 읽어야 하면 mapper.findById를 직접 사용)
+ *
+ * 예)
+ * CoalescingLoader&lt;User, Long&gt; loader = new CoalescingLoader&lt;&gt;(userMapper, User.class);
+ * Optional&lt;User&gt; u = loader.load(1L);
+ */
+public class CoalescingLoader<T, ID> implements AutoCloseable {
+
+  public static final Duration DEFAULT_WINDOW = Duration.ofMillis(2);
+  public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+  private final BaseMapper<T, ID> mapper;
+  private final Field idField;
+  private final long windowNanos;
+  private final int maxBatchSize;
+
+  private final ConcurrentHashMap<Object, CompletableFuture<Optional<T>>> inFlight = new ConcurrentHashMap<>();
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private Map<Object, Pending<T, ID>> pending = new LinkedHashMap<>();
+  private ScheduledFuture<?> pendingTimer;
+
+  private final ScheduledExecutorService timer;
+  private final ExecutorService dispatcher;
+  private final boolean ownsDispatcher;
+
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+  private final LongAdder batches = new LongAdder();
+
+  private volatile boolean closed;
+
+  public CoalescingLoader(BaseMapper<T, ID> mapper, Class<T> entityClass) {
+    this(mapper, entityClass, DEFAULT_WINDOW, DEFAULT_MAX_BATCH_SIZE, null);
+  }
+
+  /**
+   * @param dispatcher 배치 쿼리 실행 스레드 (null이면 virtual thread 사용 가능 시 virtual thread, 아니면 cached pool)
+   */
+  public CoalescingLoader(BaseMapper<T, ID> mapper,
+                          Class<T> entityClass,
+                          Duration window,
+                          int maxBatchSize,
+                          ExecutorService dispatcher) {
+    this.mapper = Objects.requireNonNull(mapper, "mapper must not be null");
+    this.idField = resolveIdField(Objects.requireNonNull(entityClass, "entityClass must not be null"));
+    this.windowNanos = (window == null) ? 0 : Math.max(window.toNanos(), 0);
+    if (maxBatchSize <= 0) throw new IllegalArgumentException("maxBatchSize must be > 0");
+    this.maxBatchSize = maxBatchSize;
+
+    this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "mybatis-easy-loader-timer");
+      t.setDaemon(true);
+      return t;
+    });
+    this.ownsDispatcher = (dispatcher == null);
+    this.dispatcher = (dispatcher != null) ? dispatcher : defaultDispatcher();
+  }
+
+  /**
+   * 블로킹 조회 (virtual thread에서 호출해도 OS 스레드를 점유하지 않음)
+   */
+  public Optional<T> load(ID id) {
+    try {
+      return loadAsync(id).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("MyBatis-Easy: interrupted while loading id=" + id, e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException re) throw re;
+      throw new IllegalStateException("MyBatis-Easy: load failed. id=" + id, cause);
+    }
+  }
+
+  public CompletableFuture<Optional<T>> loadAsync(ID id) {
+    if (closed) throw new IllegalStateException("CoalescingLoader is closed");
+    if (id == null) return CompletableFuture.completedFuture(Optional.empty());
+
+    requests.increment();
+    Object key = normalizeKey(id);
+
+    CompletableFuture<Optional<T>> created = new CompletableFuture<>();
+    CompletableFuture<Optional<T>> existing = inFlight.putIfAbsent(key, created);
+    if (existing != null) {
+      coalesced.increment();
+      return existing;
+    }
+
+    // 완료되면 in-flight에서 제거 (이후 요청은 새로 조회)
+    created.whenComplete((r, e) -> inFlight.remove(key, created));
+    enqueue(key, new Pending<>(id, created));
+    return created;
+  }
+
+  public LoaderStats stats() {
+    return new LoaderStats(requests.sum(), coalesced.sum(), batches.sum(), inFlight.size());
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    flush();
+    timer.shutdownNow();
+    if (ownsDispatcher) dispatcher.shutdown();
+  }
+
+  /**
+   * 대기 중인 id를 즉시 배치 실행
+   */
+  public void flush() {
+    Map<Object, Pending<T, ID>> batch = takePending();
+    if (batch != null) dispatch(batch);
+  }
+
+  private void enqueue(Object key, Pending<T, ID> p) {
+    Map<Object, Pending<T, ID>> ready = null;
+
+    lock.lock();
+    try {
+      pending.put(key, p);
+
+      if (pending.size() >= maxBatchSize || windowNanos == 0) {
+        ready = takePendingLocked();
+      } else if (pendingTimer == null) {
+        pendingTimer = timer.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    if (ready != null) dispatch(ready);
+  }
+
+  private Map<Object, Pending<T, ID>> takePending() {
+    lock.lock();
+    try {
+      return takePendingLocked();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Map<Object, Pending<T, ID>> takePendingLocked() {
+    if (pendingTimer != null) {
+      pendingTimer.cancel(false);
+      pendingTimer = null;
+    }
+    if (pending.isEmpty()) return null;
+
+    Map<Object, Pending<T, ID>> batch = pending;
+    pending = new LinkedHashMap<>();
+    return batch;
+  }
+
+  private void dispatch(Map<Object, Pending<T, ID>> batch) {
+    try {
+      dispatcher.execute(() -> runBatch(batch));
+    } catch (RejectedExecutionException e) {
+      runBatch(batch);
+    }
+  }
+
+  private void runBatch(Map<Object, Pending<T, ID>> batch) {
+    batches.increment();
+    try {
+      List<ID> ids = new ArrayList<>(batch.size());
+      for (Pending<T, ID> p : batch.values()) ids.add(p.id());
+
+      List<T> rows = mapper.findAllByIds(ids);
+
+      Map<Object, T> byId = new HashMap<>(Math.max(16, rows.size() * 2));
+      for (T row : rows) {
+        if (row == null) continue;
+        Object rowId = idField.get(row);
+        if (rowId != null) byId.putIfAbsent(normalizeKey(rowId), row);
+      }
+
+      for (Map.Entry<Object, Pending<T, ID>> e : batch.entrySet()) {
+        e.getValue().future().complete(Optional.ofNullable(byId.get(e.getKey())));
+      }
+    } catch (Throwable t) {
+      for (Pending<T, ID> p : batch.values()) {
+        p.future().completeExceptionally(t);
+      }
+    }
+  }
+
+  private record Pending<T, ID>(ID id, CompletableFuture<Optional<T>> future) {}
+
+  // findById(1) / findById(1L)이 같은 요청으로 병합되도록 정수형은 Long으로 통일
+  private static Object normalizeKey(Object id) {
+    if (id instanceof Integer || id instanceof Short || id instanceof Byte) {
+      return ((Number) id).longValue();
+    }
+    return id;
+  }
+
+  private static Field resolveIdField(Class<?> entityClass) {
+    String idProperty = ColumnAnalyzer.analyzeClass(entityClass).getIdField();
+    if (idProperty == null || idProperty.isBlank()) idProperty = "id";
+
+    for (Field f : ColumnAnalyzer.getMappedFields(entityClass)) {
+      if (f.getName().equals(idProperty)) {
+        f.setAccessible(true);
+        return f;
+      }
+    }
+    throw new IllegalArgumentException("MyBatis-Easy: id field not found. entity=" + entityClass.getName());
+  }
+
+  /**
+   * Java 21+ 이면 virtual thread per task, 아니면 daemon cached pool
+   */
+  private static ExecutorService defaultDispatcher() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "mybatis-easy-loader");
+        t.setDaemon(true);
+        return t;
+      });
+    }
+  }
+
+  public record LoaderStats(long requests, long coalesced, long batches, int inFlight) {
+    /** 요청 대비 실제 쿼리 비율 (낮을수록 병합 효과 큼) */
+    public double queryRatio() {
+      return (requests == 0) ? 0.0 : (double) batches / requests;
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.thenoah.dev.mybatis_easy_starter.support.result;
+
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.util.Arrays;
+
+/**
+ * PK 컬럼만 조회하는 statement(findAllIds/findIdsPage)용 ResultHandler
+ * - 엔티티/List&lt;Long&gt;을 만들지 않고 growable primitive 배열에 바로 적재
+ * - int 범위 값만 들어오면 int[]로 유지, 범위를 벗어나는 값이 오면 long[]으로 승격
+ */
+public class PrimitiveIdCollector implements ResultHandler<Number> {
+
+  private static final int DEFAULT_CAPACITY = 256;
+
+  private int[] ints;
+  private long[] longs;
+  private int size;
+
+  public PrimitiveIdCollector() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public PrimitiveIdCollector(int initialCapacity) {
+    this.ints = new int[Math.max(initialCapacity, 16)];
+  }
+
+  @Override
+  public void handleResult(ResultContext<? extends Number> resultContext) {
+    Number n = resultContext.getResultObject();
+    if (n == null) return;
+    add(n.longValue());
+  }
+
+  public void add(long value) {
+    if (longs == null && (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)) {
+      promoteToLong();
+    }
+
+    if (longs != null) {
+      if (size == longs.length) longs = Arrays.copyOf(longs, grow(size));
+      longs[size++] = value;
+    } else {
+      if (size == ints.length) ints = Arrays.copyOf(ints, grow(size));
+      ints[size++] = (int) value;
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public long[] toLongArray() {
+    if (longs != null) return Arrays.copyOf(longs, size);
+
+    long[] out = new long[size];
+    for (int i = 0; i < size; i++) out[i] = ints[i];
+    return out;
+  }
+
+  /**
+   * @throws ArithmeticException int 범위를 벗어나는 id가 포함된 경우
+   */
+  public int[] toIntArray() {
+    if (longs == null) return Arrays.copyOf(ints, size);
+
+    int[] out = new int[size];
+    for (int i = 0; i < size; i++) out[i] = Math.toIntExact(longs[i]);
+    return out;
+  }
+
+  private void promoteToLong() {
+    long[] promoted = new long[Math.max(ints.length, 16)];
+    for (int i = 0; i < size; i++) promoted[i] = ints[i];
+    longs = promoted;
+    ints = null;
+  }
+
+  private static int grow(int current) {
+    int next = current + (current >> 1) + 1;
+    if (next < 0) throw new OutOfMemoryError("id array too large");
+    return next;
+  }
+}
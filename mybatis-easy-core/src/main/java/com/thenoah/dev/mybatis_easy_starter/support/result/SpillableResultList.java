@@ -0,0 +1,249 @@
+package com.thenoah.dev.mybatis_easy_starter.support.result;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * 앞쪽 N건은 힙에, 그 이후는 임시 파일에 직렬화해 보관하는 결과 컨테이너
+ *
+ * - 임계치(maxInMemoryRows)까지는 ArrayList에 보관
+ * - 초과분은 [int length][serialized bytes] 레코드로 임시 파일에 append
+ * - 순회 시 임시 파일을 memory-mapped window 단위로 읽어 역직렬화
+ *
+ * 주의:
+ * - 초과분 row 타입은 {@link Serializable} 이어야 함
+ * - 사용 후 반드시 close() (try-with-resources 권장) → 임시 파일 삭제
+ */
+public final class SpillableResultList<T> implements Iterable<T>, AutoCloseable {
+
+  /** mmap window 크기 (레코드가 더 크면 해당 레코드 크기만큼 매핑) */
+  private static final int MAP_WINDOW_BYTES = 64 * 1024 * 1024;
+
+  private final int maxInMemoryRows;
+  private final Path tempDir;
+  private final int mapWindowBytes;
+
+  private final List<T> inMemory;
+
+  private Path spillFile;
+  private DataOutputStream spillOut;
+  private final ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream(256);
+
+  private long spilledCount;
+  private boolean sealed;
+  private boolean closed;
+
+  public SpillableResultList(int maxInMemoryRows) {
+    this(maxInMemoryRows, null);
+  }
+
+  /**
+   * @param maxInMemoryRows 힙에 보관할 최대 row 수 (0이면 전부 파일로)
+   * @param tempDir         임시 파일 위치 (null이면 java.io.tmpdir)
+   */
+  public SpillableResultList(int maxInMemoryRows, Path tempDir) {
+    this(maxInMemoryRows, tempDir, MAP_WINDOW_BYTES);
+  }
+
+  // 테스트용: 작은 window로 재매핑 경로를 실행
+  SpillableResultList(int maxInMemoryRows, Path tempDir, int mapWindowBytes) {
+    if (maxInMemoryRows < 0) {
+      throw new IllegalArgumentException("maxInMemoryRows must be >= 0");
+    }
+    if (mapWindowBytes < Integer.BYTES) {
+      throw new IllegalArgumentException("mapWindowBytes must be >= " + Integer.BYTES);
+    }
+    this.maxInMemoryRows = maxInMemoryRows;
+    this.tempDir = tempDir;
+    this.mapWindowBytes = mapWindowBytes;
+    this.inMemory = new ArrayList<>(Math.min(maxInMemoryRows, 1024));
+  }
+
+  /**
+   * row 추가 (ResultHandler에서 호출)
+   */
+  public void add(T row) {
+    ensureWritable();
+
+    if (inMemory.size() < maxInMemoryRows) {
+      inMemory.add(row);
+      return;
+    }
+
+    try {
+      writeRecord(row);
+      spilledCount++;
+    } catch (NotSerializableException e) {
+      throw new IllegalStateException("MyBatis-Easy: spilled row must be Serializable. type="
+          + (row == null ? "null" : row.getClass().getName()), e);
+    } catch (IOException e) {
+      throw new UncheckedIOException("MyBatis-Easy: failed to spill row to disk. file=" + spillFile, e);
+    }
+  }
+
+  /**
+   * 쓰기 종료 (이후 add 불가). iterator() 호출 시 자동으로 호출됨.
+   */
+  public void seal() {
+    if (sealed) return;
+    sealed = true;
+    if (spillOut != null) {
+      try {
+        spillOut.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException("MyBatis-Easy: failed to finish spill file. file=" + spillFile, e);
+      }
+    }
+  }
+
+  public long size() {
+    return inMemory.size() + spilledCount;
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  public int inMemoryCount() {
+    return inMemory.size();
+  }
+
+  public long spilledCount() {
+    return spilledCount;
+  }
+
+  public boolean isSpilled() {
+    return spilledCount > 0;
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    if (closed) throw new IllegalStateException("SpillableResultList is already closed");
+    seal();
+
+    Iterator<T> head = Collections.unmodifiableList(inMemory).iterator();
+    if (spilledCount == 0) return head;
+
+    return new Iterator<>() {
+      private final SpillReader reader = new SpillReader(spillFile, spilledCount);
+
+      @Override
+      public boolean hasNext() {
+        return head.hasNext() || reader.hasNext();
+      }
+
+      @Override
+      public T next() {
+        if (head.hasNext()) return head.next();
+        return reader.next();
+      }
+    };
+  }
+
+  @Override
+  public void close() {
+    if (closed) return;
+    closed = true;
+    inMemory.clear();
+
+    try {
+      if (spillOut != null) spillOut.close();
+    } catch (IOException ignored) { }
+
+    if (spillFile != null) {
+      try {
+        Files.deleteIfExists(spillFile);
+      } catch (IOException ignored) { }
+    }
+  }
+
+  private void ensureWritable() {
+    if (closed) throw new IllegalStateException("SpillableResultList is already closed");
+    if (sealed) throw new IllegalStateException("SpillableResultList is sealed (iteration started)");
+  }
+
+  private void writeRecord(T row) throws IOException {
+    if (spillOut == null) {
+      spillFile = (tempDir == null)
+          ? Files.createTempFile("mybatis-easy-spill-", ".bin")
+          : Files.createTempFile(tempDir, "mybatis-easy-spill-", ".bin");
+      spillOut = new DataOutputStream(new BufferedOutputStream(
+          Files.newOutputStream(spillFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING), 64 * 1024));
+    }
+
+    recordBuffer.reset();
+    try (ObjectOutputStream oos = new ObjectOutputStream(recordBuffer)) {
+      oos.writeObject(row);
+    }
+
+    spillOut.writeInt(recordBuffer.size());
+    recordBuffer.writeTo(spillOut);
+  }
+
+  /**
+   * mmap window 기반 순차 reader
+   */
+  private final class SpillReader {
+    private final Path file;
+    private final long total;
+
+    private long read;
+    private long windowStart;
+    private MappedByteBuffer window;
+    private long fileSize = -1;
+
+    private SpillReader(Path file, long total) {
+      this.file = file;
+      this.total = total;
+    }
+
+    boolean hasNext() {
+      return read < total;
+    }
+
+    @SuppressWarnings("unchecked")
+    T next() {
+      if (!hasNext()) throw new NoSuchElementException();
+      if (closed) throw new IllegalStateException("SpillableResultList is already closed");
+
+      try {
+        int len = ensureAvailable(Integer.BYTES).getInt();
+        ByteBuffer buf = ensureAvailable(len);
+
+        byte[] bytes = new byte[len];
+        buf.get(bytes);
+        read++;
+
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+          return (T) ois.readObject();
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("MyBatis-Easy: failed to read spilled row. file=" + file, e);
+      } catch (ClassNotFoundException e) {
+        throw new IllegalStateException("MyBatis-Easy: spilled row class not found. file=" + file, e);
+      }
+    }
+
+    private ByteBuffer ensureAvailable(int bytes) throws IOException {
+      if (window != null && window.remaining() >= bytes) return window;
+
+      long pos = (window == null) ? 0 : windowStart + window.position();
+      try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+        if (fileSize < 0) fileSize = ch.size();
+        long length = Math.min(fileSize - pos, Math.max(mapWindowBytes, bytes));
+        if (length < bytes) {
+          throw new EOFException("spill file truncated. pos=" + pos + " need=" + bytes);
+        }
+        window = ch.map(FileChannel.MapMode.READ_ONLY, pos, length);
+        windowStart = pos;
+      }
+      return window;
+    }
+  }
+}
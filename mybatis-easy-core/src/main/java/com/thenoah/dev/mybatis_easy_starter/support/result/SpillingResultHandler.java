@@ -0,0 +1,39 @@
+package com.thenoah.dev.mybatis_easy_starter.support.result;
+
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.nio.file.Path;
+
+/**
+ * 자동 CRUD 목록 조회(findAll 등)용 ResultHandler
+ * - MyBatis가 row를 하나씩 넘겨주면 {@link SpillableResultList}에 적재
+ * - 임계치를 넘는 row는 임시 파일로 spill 되어 힙 사용량이 상한을 가짐
+ *
+ * 예)
+ * SpillingResultHandler<User> h = new SpillingResultHandler<>(10_000);
+ * userMapper.findAll(h);
+ * try (SpillableResultList<User> rows = h.getResult()) { for (User u : rows) { ... } }
+ */
+public class SpillingResultHandler<T> implements ResultHandler<T> {
+
+  private final SpillableResultList<T> result;
+
+  public SpillingResultHandler(int maxInMemoryRows) {
+    this(maxInMemoryRows, null);
+  }
+
+  public SpillingResultHandler(int maxInMemoryRows, Path tempDir) {
+    this.result = new SpillableResultList<>(maxInMemoryRows, tempDir);
+  }
+
+  @Override
+  public void handleResult(ResultContext<? extends T> resultContext) {
+    result.add(resultContext.getResultObject());
+  }
+
+  public SpillableResultList<T> getResult() {
+    result.seal();
+    return result;
+  }
+}
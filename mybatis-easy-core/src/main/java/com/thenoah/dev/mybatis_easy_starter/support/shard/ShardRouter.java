@@ -0,0 +1,290 @@
+package com.thenoah.dev.mybatis_easy_starter.support.shard;
+
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.ShardedTable;
+import com.thenoah.dev.mybatis_easy_starter.support.ColumnAnalyzer;
+import com.thenoah.dev.mybatis_easy_starter.support.EntityParser;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.session.Configuration;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.time.temporal.TemporalAccessor;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * @ShardedTable 엔티티의 자동 CRUD statement를 호출마다 물리 테이블로 라우팅
+ *
+ * - 라우팅 값: 파라미터의 @PartitionKey 필드 값 (엔티티/DTO/Map) 또는 *InPartition 메서드의 partitionKey
+ *   명시적으로 테이블을 지정하려면 Map 파라미터에 SHARD_TABLE_PARAM 키 사용 (ShardedQueryExecutor)
+ * - 원래 statement마다 라우팅용 사본을 하나만 만들어 캐시 → 물리 테이블 수와 무관하게 statement 수로 상한
+ *   (사본의 SqlSource가 호출마다 파라미터로 물리 테이블을 정해 SQL 안의 논리 테이블명만 치환)
+ * - 라우팅 값이 없으면 원래 statement(논리 테이블) 그대로
+ * - HASH 키는 JVM/버전과 무관한 값으로 해시 (정수형/BigInteger/BigDecimal/문자열/enum/UUID만 허용)
+ */
+public class ShardRouter {
+
+  /** Map 파라미터에 물리 테이블을 직접 지정할 때의 키 */
+  public static final String SHARD_TABLE_PARAM = "__shardTable";
+
+  private static final String PARTITION_KEY_PARAM = "partitionKey";
+
+  private static final Pattern SAFE_SUFFIX = Pattern.compile("[A-Za-z0-9_]+");
+
+  private record Rule(ShardedTable sharded, String logicalTable, Field keyField, Pattern tableToken, ZoneId zone) {}
+
+  private static final Rule NONE = new Rule(null, null, null, null, null);
+
+  private final Map<Class<?>, Rule> rules = new ConcurrentHashMap<>();
+
+  // 원래 msId → 라우팅용 statement (statement당 1개)
+  private final Map<String, MappedStatement> routedStatements = new ConcurrentHashMap<>();
+
+  public boolean isSharded(Class<?> entityClass) {
+    return ruleOf(entityClass) != NONE;
+  }
+
+  /**
+   * 파라미터 기준 물리 테이블 (라우팅 값이 없으면 null)
+   */
+  public String resolveTable(Class<?> entityClass, Object parameter) {
+    Rule rule = ruleOf(entityClass);
+    if (rule == NONE || parameter == null) return null;
+
+    if (parameter instanceof Map<?, ?> m) {
+      if (m.containsKey(SHARD_TABLE_PARAM)) {
+        return checkedTable(rule, String.valueOf(m.get(SHARD_TABLE_PARAM)));
+      }
+      Object key = m.containsKey(PARTITION_KEY_PARAM) ? m.get(PARTITION_KEY_PARAM)
+          : m.containsKey(rule.keyField().getName()) ? m.get(rule.keyField().getName()) : null;
+      return (key == null) ? null : physicalTable(rule, key);
+    }
+
+    Object key;
+    if (entityClass.isInstance(parameter)) {
+      key = read(rule.keyField(), parameter);
+    } else if (isPrimitiveLike(parameter) || parameter instanceof Iterable<?> || parameter.getClass().isArray()) {
+      return null;
+    } else {
+      key = EntityParser.toEntityKeyedMap(parameter, entityClass).get(rule.keyField().getName());
+    }
+    return (key == null) ? null : physicalTable(rule, key);
+  }
+
+  /**
+   * 라우팅 값에 해당하는 물리 테이블명
+   */
+  public String physicalTable(Class<?> entityClass, Object shardKey) {
+    Rule rule = ruleOf(entityClass);
+    if (rule == NONE) {
+      throw new IllegalStateException("MyBatis-Easy: entity is not @ShardedTable: " + entityClass.getName());
+    }
+    return physicalTable(rule, shardKey);
+  }
+
+  /**
+   * HASH 전략의 전체 물리 테이블 (날짜 버킷 전략은 null → DB 메타데이터로 조회)
+   */
+  public List<String> hashTables(Class<?> entityClass) {
+    Rule rule = ruleOf(entityClass);
+    if (rule == NONE || rule.sharded().strategy() != ShardedTable.Strategy.HASH) return null;
+    List<String> out = new ArrayList<>(rule.sharded().shards());
+    for (int i = 0; i < rule.sharded().shards(); i++) out.add(rule.logicalTable() + "_" + i);
+    return out;
+  }
+
+  /**
+   * 물리 테이블명이 이 엔티티의 분할 테이블 형식인지 (메타데이터 조회 결과 필터용)
+   */
+  public boolean isPhysicalTableOf(Class<?> entityClass, String table) {
+    Rule rule = ruleOf(entityClass);
+    if (rule == NONE || table == null) return false;
+    String prefix = rule.logicalTable() + "_";
+    if (!table.regionMatches(true, 0, prefix, 0, prefix.length())) return false;
+    String suffix = table.substring(prefix.length());
+    return switch (rule.sharded().strategy()) {
+      case YEARLY -> suffix.matches("\\d{4}");
+      case MONTHLY -> suffix.matches("\\d{4}_\\d{2}");
+      case DAILY -> suffix.matches("\\d{4}_\\d{2}_\\d{2}");
+      case HASH -> suffix.matches("\\d+") && Integer.parseInt(suffix) < rule.sharded().shards();
+    };
+  }
+
+  public String logicalTable(Class<?> entityClass) {
+    Rule rule = ruleOf(entityClass);
+    return (rule == NONE) ? null : rule.logicalTable();
+  }
+
+  /**
+   * 라우팅용 MappedStatement (원래 statement마다 한 번 생성 후 캐시)
+   * - 실행 시 파라미터로 물리 테이블을 정함 (resolveTable과 같은 규칙, 값이 없으면 논리 테이블 그대로)
+   */
+  public MappedStatement route(MappedStatement ms, Class<?> entityClass) {
+    Rule rule = ruleOf(entityClass);
+    if (rule == NONE) return ms;
+    return routedStatements.computeIfAbsent(ms.getId(), k -> copyOf(ms, rule, p -> resolveTable(entityClass, p)));
+  }
+
+  private Rule ruleOf(Class<?> entityClass) {
+    return rules.computeIfAbsent(entityClass, ShardRouter::buildRule);
+  }
+
+  private static Rule buildRule(Class<?> entityClass) {
+    ShardedTable sharded = entityClass.getAnnotation(ShardedTable.class);
+    if (sharded == null) return NONE;
+
+    Field keyField = ColumnAnalyzer.getPartitionKeyField(entityClass);
+    if (keyField == null) {
+      throw new IllegalStateException("MyBatis-Easy: @ShardedTable requires a @PartitionKey field. entity=" + entityClass.getName());
+    }
+    if (sharded.strategy() == ShardedTable.Strategy.HASH && sharded.shards() <= 0) {
+      throw new IllegalStateException("MyBatis-Easy: @ShardedTable(HASH) requires shards > 0. entity=" + entityClass.getName());
+    }
+    keyField.setAccessible(true);
+
+    String logical = ColumnAnalyzer.analyzeClass(entityClass).getTableName();
+    // 식별자 quoting(`t`, "t", [t])이 있어도 테이블명 토큰만 치환 (다른 이름의 일부는 제외)
+    Pattern token = Pattern.compile("(?<![A-Za-z0-9_.])([`\"\\[]?)" + Pattern.quote(logical) + "([`\"\\]]?)(?![A-Za-z0-9_])",
+        Pattern.CASE_INSENSITIVE);
+    return new Rule(sharded, logical, keyField, token, ZoneId.of(sharded.zone()));
+  }
+
+  private static String physicalTable(Rule rule, Object key) {
+    String suffix = switch (rule.sharded().strategy()) {
+      case YEARLY -> String.format("%04d", dateOf(rule, key).getYear());
+      case MONTHLY -> {
+        LocalDate d = dateOf(rule, key);
+        yield String.format("%04d_%02d", d.getYear(), d.getMonthValue());
+      }
+      case DAILY -> {
+        LocalDate d = dateOf(rule, key);
+        yield String.format("%04d_%02d_%02d", d.getYear(), d.getMonthValue(), d.getDayOfMonth());
+      }
+      case HASH -> String.valueOf(Math.floorMod(hashOf(key), rule.sharded().shards()));
+    };
+    return rule.logicalTable() + "_" + suffix;
+  }
+
+  private static String checkedTable(Rule rule, String table) {
+    String prefix = rule.logicalTable() + "_";
+    if (!table.startsWith(prefix) || !SAFE_SUFFIX.matcher(table.substring(prefix.length())).matches()) {
+      throw new IllegalArgumentException("MyBatis-Easy: invalid shard table for " + rule.logicalTable() + ": " + table);
+    }
+    return table;
+  }
+
+  private static LocalDate dateOf(Rule rule, Object key) {
+    if (key instanceof LocalDate d) return d;
+    if (key instanceof LocalDateTime dt) return dt.toLocalDate();
+    if (key instanceof OffsetDateTime odt) return odt.atZoneSameInstant(rule.zone()).toLocalDate();
+    if (key instanceof ZonedDateTime zdt) return zdt.withZoneSameInstant(rule.zone()).toLocalDate();
+    if (key instanceof Instant i) return LocalDate.ofInstant(i, rule.zone());
+    if (key instanceof java.sql.Date d) return d.toLocalDate();
+    if (key instanceof java.util.Date d) return LocalDate.ofInstant(d.toInstant(), rule.zone());
+    if (key instanceof YearMonth ym) return ym.atDay(1);
+    if (key instanceof TemporalAccessor t) return LocalDate.from(t);
+    throw new IllegalArgumentException("MyBatis-Easy: date shard key expected, got " + key.getClass().getName());
+  }
+
+  /**
+   * 샤드 선택용 안정 해시 (Object.hashCode는 JVM/라이브러리 버전에 따라 달라질 수 있어 쓰지 않음)
+   * - 정수형: 타입(Integer/Long/BigInteger 등)과 무관하게 같은 값이면 같은 샤드 (long 기준)
+   * - 문자열: UTF-8 바이트의 CRC32 / enum: name() / UUID: 상하위 64bit
+   */
+  static int hashOf(Object key) {
+    if (key instanceof Integer || key instanceof Long || key instanceof Short || key instanceof Byte) {
+      return Long.hashCode(((Number) key).longValue());
+    }
+    if (key instanceof BigInteger bi) {
+      return (bi.bitLength() < 64) ? Long.hashCode(bi.longValue()) : crc32(bi.toString());
+    }
+    if (key instanceof BigDecimal bd) {
+      BigDecimal n = bd.stripTrailingZeros();
+      if (n.scale() <= 0 && n.precision() - n.scale() < 19) return Long.hashCode(n.longValueExact());
+      return crc32(n.toPlainString());
+    }
+    if (key instanceof CharSequence cs) return crc32(cs.toString());
+    if (key instanceof Enum<?> e) return crc32(e.name());
+    if (key instanceof UUID u) return Long.hashCode(u.getMostSignificantBits() ^ u.getLeastSignificantBits());
+    throw new IllegalArgumentException("MyBatis-Easy: HASH shard key must be an integral number, string, enum or UUID, got "
+        + key.getClass().getName());
+  }
+
+  private static int crc32(String s) {
+    CRC32 crc = new CRC32();
+    crc.update(s.getBytes(StandardCharsets.UTF_8));
+    return (int) crc.getValue();
+  }
+
+  private static MappedStatement copyOf(MappedStatement ms, Rule rule, Function<Object, String> tableResolver) {
+    Configuration configuration = ms.getConfiguration();
+    SqlSource routed = new RoutedSqlSource(configuration, ms.getSqlSource(), rule.tableToken(), tableResolver);
+
+    MappedStatement.Builder b = new MappedStatement.Builder(configuration, ms.getId(), routed, ms.getSqlCommandType())
+        .resource(ms.getResource())
+        .fetchSize(ms.getFetchSize())
+        .timeout(ms.getTimeout())
+        .statementType(ms.getStatementType())
+        .resultSetType(ms.getResultSetType())
+        .parameterMap(ms.getParameterMap())
+        .resultMaps(ms.getResultMaps())
+        .cache(ms.getCache())
+        .flushCacheRequired(ms.isFlushCacheRequired())
+        .useCache(ms.isUseCache())
+        .resultOrdered(ms.isResultOrdered())
+        .keyGenerator(ms.getKeyGenerator())
+        .databaseId(ms.getDatabaseId())
+        .lang(ms.getLang())
+        .dirtySelect(ms.isDirtySelect());
+    if (ms.getKeyProperties() != null) b.keyProperty(String.join(",", ms.getKeyProperties()));
+    if (ms.getKeyColumns() != null) b.keyColumn(String.join(",", ms.getKeyColumns()));
+    if (ms.getResultSets() != null) b.resultSets(String.join(",", ms.getResultSets()));
+    return b.build();
+  }
+
+  /**
+   * 원래 SqlSource의 SQL에서 논리 테이블명만 파라미터 기준 물리 테이블명으로 치환
+   * - foreach 등 additional parameter는 그대로 복사
+   */
+  private record RoutedSqlSource(Configuration configuration,
+                                 SqlSource delegate,
+                                 Pattern tableToken,
+                                 Function<Object, String> tableResolver) implements SqlSource {
+
+    @Override
+    public BoundSql getBoundSql(Object parameterObject) {
+      BoundSql original = delegate.getBoundSql(parameterObject);
+      String physicalTable = tableResolver.apply(parameterObject);
+      if (physicalTable == null) return original;
+
+      String sql = tableToken.matcher(original.getSql())
+          .replaceAll("$1" + Matcher.quoteReplacement(physicalTable) + "$2");
+
+      BoundSql routed = new BoundSql(configuration, sql, original.getParameterMappings(), original.getParameterObject());
+      original.getAdditionalParameters().forEach(routed::setAdditionalParameter);
+      return routed;
+    }
+  }
+
+  private static Object read(Field f, Object target) {
+    try {
+      return f.get(target);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("MyBatis-Easy: cannot read field " + f, e);
+    }
+  }
+
+  private static boolean isPrimitiveLike(Object o) {
+    return o instanceof Number || o instanceof CharSequence || o instanceof Boolean || o instanceof Character
+        || o instanceof Enum<?> || o instanceof TemporalAccessor || o instanceof java.util.Date || o instanceof UUID;
+  }
+}
@@ -0,0 +1,159 @@
+package com.thenoah.dev.mybatis_easy_starter.support.shard;
+
+import com.thenoah.dev.mybatis_easy_starter.core.mapper.BaseMapper;
+import com.thenoah.dev.mybatis_easy_starter.support.MapperTypeResolver;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @ShardedTable 엔티티의 샤드 전체 조회 (fan-out)
+ *
+ * - findAllByIds를 물리 테이블마다 병렬 실행 후 결과를 샤드 순서대로 합침
+ * - 물리 테이블: HASH는 &lt;table&gt;_0 ~ _(shards-1), 날짜 버킷은 DB 메타데이터에서 형식이 맞는 테이블
+ * - 샤드마다 별도 SqlSession(커넥션)으로 실행 → 호출자의 트랜잭션에 참여하지 않음
+ *
+ * 예)
+ * ShardedQueryExecutor shards = new ShardedQueryExecutor(sqlSessionFactory, 8);
+ * List&lt;Event&gt; events = shards.findAllByIds(EventMapper.class, ids);
+ */
+public class ShardedQueryExecutor implements AutoCloseable {
+
+  /** Oracle IN 목록 최대 1000 */
+  public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+  private final SqlSessionFactory sqlSessionFactory;
+  private final ExecutorService executor;
+  private final boolean ownsExecutor;
+  private final ShardRouter router = new ShardRouter();
+
+  public ShardedQueryExecutor(SqlSessionFactory sqlSessionFactory, ExecutorService executor) {
+    this.sqlSessionFactory = Objects.requireNonNull(sqlSessionFactory, "sqlSessionFactory must not be null");
+    this.executor = Objects.requireNonNull(executor, "executor must not be null");
+    this.ownsExecutor = false;
+  }
+
+  /**
+   * @param parallelism 동시에 조회할 샤드 수 (= 동시에 쓰는 커넥션 수)
+   */
+  public ShardedQueryExecutor(SqlSessionFactory sqlSessionFactory, int parallelism) {
+    if (parallelism <= 0) throw new IllegalArgumentException("parallelism must be > 0");
+    this.sqlSessionFactory = Objects.requireNonNull(sqlSessionFactory, "sqlSessionFactory must not be null");
+    AtomicInteger seq = new AtomicInteger();
+    this.executor = Executors.newFixedThreadPool(parallelism, r -> {
+      Thread t = new Thread(r, "mybatis-easy-shard-" + seq.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    });
+    this.ownsExecutor = true;
+  }
+
+  /**
+   * 모든 샤드에서 ids 조회
+   */
+  public <T, ID> List<T> findAllByIds(Class<? extends BaseMapper<T, ID>> mapperType, Collection<ID> ids) {
+    return findAllByIds(mapperType, ids, shardTables(entityTypeOf(mapperType)));
+  }
+
+  /**
+   * 지정한 물리 테이블에서만 ids 조회 (날짜 범위를 알고 있을 때 등)
+   */
+  @SuppressWarnings("unchecked")
+  public <T, ID> List<T> findAllByIds(Class<? extends BaseMapper<T, ID>> mapperType, Collection<ID> ids,
+                                      Collection<String> tables) {
+    if (ids == null || ids.isEmpty() || tables == null || tables.isEmpty()) return new ArrayList<>(0);
+
+    String statement = mapperType.getName() + ".findAllByIds";
+    List<List<ID>> chunks = chunks(new ArrayList<>(new LinkedHashSet<>(ids)));
+
+    Map<String, Future<List<Object>>> futures = new LinkedHashMap<>();
+    for (String table : tables) {
+      futures.put(table, executor.submit(() -> {
+        List<Object> rows = new ArrayList<>();
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+          for (List<ID> chunk : chunks) {
+            Map<String, Object> param = new HashMap<>(4);
+            param.put("ids", chunk);
+            param.put(ShardRouter.SHARD_TABLE_PARAM, table);
+            rows.addAll(session.selectList(statement, param));
+          }
+        }
+        return rows;
+      }));
+    }
+
+    List<T> out = new ArrayList<>();
+    for (Map.Entry<String, Future<List<Object>>> e : futures.entrySet()) {
+      try {
+        out.addAll((List<T>) e.getValue().get());
+      } catch (InterruptedException ie) {
+        Thread.currentThread().interrupt();
+        futures.values().forEach(f -> f.cancel(true));
+        throw new IllegalStateException("MyBatis-Easy: shard query interrupted", ie);
+      } catch (ExecutionException ee) {
+        futures.values().forEach(f -> f.cancel(true));
+        throw new IllegalStateException("MyBatis-Easy: shard query failed. table=" + e.getKey(), ee.getCause());
+      }
+    }
+    return out;
+  }
+
+  /**
+   * 엔티티의 물리 테이블 목록 (정렬)
+   */
+  public List<String> shardTables(Class<?> entityClass) {
+    if (!router.isSharded(entityClass)) {
+      throw new IllegalStateException("MyBatis-Easy: entity is not @ShardedTable: " + entityClass.getName());
+    }
+    List<String> hash = router.hashTables(entityClass);
+    if (hash != null) return hash;
+
+    DataSource dataSource = sqlSessionFactory.getConfiguration().getEnvironment().getDataSource();
+    String logical = router.logicalTable(entityClass);
+    // 드라이버별 식별자 대소문자 저장 방식이 달라 원본/대문자/소문자 순으로 확인
+    Map<String, String> found = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    try (Connection conn = dataSource.getConnection()) {
+      DatabaseMetaData md = conn.getMetaData();
+      for (String prefix : new LinkedHashSet<>(List.of(logical, logical.toUpperCase(Locale.ROOT), logical.toLowerCase(Locale.ROOT)))) {
+        try (ResultSet rs = md.getTables(null, null, prefix + "%", new String[]{"TABLE"})) {
+          while (rs.next()) {
+            String table = rs.getString("TABLE_NAME");
+            if (router.isPhysicalTableOf(entityClass, table)) found.putIfAbsent(table, logical + table.substring(logical.length()));
+          }
+        }
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException("MyBatis-Easy: failed to list shard tables of " + logical, e);
+    }
+    return new ArrayList<>(found.values());
+  }
+
+  private static <ID> List<List<ID>> chunks(List<ID> ids) {
+    List<List<ID>> out = new ArrayList<>();
+    for (int i = 0; i < ids.size(); i += DEFAULT_CHUNK_SIZE) {
+      out.add(ids.subList(i, Math.min(i + DEFAULT_CHUNK_SIZE, ids.size())));
+    }
+    return out;
+  }
+
+  private static Class<?> entityTypeOf(Class<?> mapperType) {
+    Class<?> entityClass = MapperTypeResolver.resolveEntityType(mapperType);
+    if (entityClass == null) {
+      throw new IllegalStateException("MyBatis-Easy: cannot resolve entity type of mapper " + mapperType.getName());
+    }
+    return entityClass;
+  }
+
+  @Override
+  public void close() {
+    if (ownsExecutor) executor.shutdownNow();
+  }
+}
@@ -0,0 +1,212 @@
+package com.thenoah.dev.mybatis_easy_starter.support.uow;
+
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.ExecutorException;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.transaction.Transaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * Spring 트랜잭션 단위 쓰기 지연 큐 (자동 CRUD insert/update 전용, opt-in)
+ *
+ * - 트랜잭션 안의 insert/update를 바로 실행하지 않고 파라미터 스냅샷과 함께 보관
+ * - 커밋 직전, 또는 같은 테이블을 읽는/다른 쓰기를 실행하기 직전에 JDBC batch로 한 번에 실행
+ * - 실행 순서는 호출 순서 그대로 (FK 의존 순서를 알 수 없어 테이블 간 재정렬하지 않음)
+ *   → 연속된 같은 statement(같은 SQL)는 하나의 batch로 묶임
+ * - 트랜잭션의 커넥션을 그대로 쓰므로 커밋/롤백은 트랜잭션을 따름
+ * - PROPAGATION_NESTED: savepoint 통지는 생성 직후라 대기 쓰기를 그 앞에 둘 수 없음
+ *   → 대기 쓰기를 실행하되 복제해 두고, 그 savepoint로 롤백되면 다시 대기열에 넣음
+ *   → nested 범위(savepoint 통지 이후)에서는 지연하지 않음 (savepoint 롤백이 그대로 되돌림)
+ *
+ * 주의: 지연된 쓰기의 반환값은 1로 가정 (실제 건수/제약 조건 오류는 flush 시점에 드러남)
+ */
+public class UnitOfWork {
+
+  private static final Logger log = LoggerFactory.getLogger(UnitOfWork.class);
+
+  private final Object resourceKey = new Object();
+
+  private record PendingWrite(MappedStatement ms, Object parameter, Class<?> entityClass, Transaction transaction) {}
+
+  // savepoint 생성 시점에 대기 중이던 쓰기 (savepoint 뒤에 실행됨 → 롤백되면 재실행 필요)
+  private record SavepointMark(Object savepoint, List<PendingWrite> writes) {}
+
+  private static final class Pending {
+    final List<PendingWrite> writes = new ArrayList<>();
+    final Map<Class<?>, Integer> countsByEntity = new HashMap<>();
+    final List<SavepointMark> savepoints = new ArrayList<>();
+
+    void add(PendingWrite w) {
+      writes.add(w);
+      countsByEntity.merge(w.entityClass(), 1, Integer::sum);
+    }
+
+    void clear() {
+      writes.clear();
+      countsByEntity.clear();
+    }
+
+    /**
+     * savepoint 롤백 (DB 롤백 직전 통지): 대기 쓰기를 savepoint 시점으로 되돌림
+     * - 모르는 savepoint면 이 큐가 savepoint 이후에 만들어진 것 → 대기 쓰기 전부 savepoint 뒤의 것
+     */
+    void rollbackTo(Object savepoint) {
+      int index = -1;
+      for (int i = 0; i < savepoints.size(); i++) {
+        if (savepoints.get(i).savepoint() == savepoint) index = i;
+      }
+      clear();
+      if (index < 0) return;
+      savepoints.get(index).writes().forEach(this::add);
+      // 롤백된 savepoint와 그 안쪽 savepoint는 더 이상 유효하지 않음
+      savepoints.subList(index, savepoints.size()).clear();
+    }
+  }
+
+  /**
+   * 실제 트랜잭션 안에서만 동작 (트랜잭션 밖 쓰기는 그대로 실행)
+   * - NESTED savepoint 이후에는 false (savepoint 해제는 통지되지 않아 트랜잭션 끝까지 지연하지 않음)
+   */
+  public boolean isActive() {
+    if (!isTransactionActive()) return false;
+    Pending pending = (Pending) TransactionSynchronizationManager.getResource(resourceKey);
+    return pending == null || pending.savepoints.isEmpty();
+  }
+
+  private static boolean isTransactionActive() {
+    return TransactionSynchronizationManager.isSynchronizationActive()
+        && TransactionSynchronizationManager.isActualTransactionActive()
+        && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+  }
+
+  /**
+   * @param parameter 실행 시점 값 (호출 후 엔티티를 수정해도 영향 없도록 스냅샷을 넘길 것)
+   */
+  public void enqueue(MappedStatement ms, Object parameter, Class<?> entityClass, Transaction transaction) {
+    current(true).add(new PendingWrite(ms, parameter, entityClass, transaction));
+  }
+
+  public boolean hasPending() {
+    Pending pending = current(false);
+    return pending != null && !pending.writes.isEmpty();
+  }
+
+  public boolean hasPending(Class<?> entityClass) {
+    Pending pending = current(false);
+    return pending != null && pending.countsByEntity.containsKey(entityClass);
+  }
+
+  public int pendingCount() {
+    Pending pending = current(false);
+    return (pending == null) ? 0 : pending.writes.size();
+  }
+
+  /**
+   * 대기 중인 쓰기를 호출 순서대로 batch 실행
+   *
+   * @return 실행한 statement 수
+   */
+  public int flush() throws SQLException {
+    Pending pending = current(false);
+    if (pending == null || pending.writes.isEmpty()) return 0;
+
+    List<PendingWrite> writes = new ArrayList<>(pending.writes);
+    pending.clear();
+
+    // 같은 트랜잭션이어도 SqlSessionFactory가 다르면 Transaction이 다름 → 각각 batch
+    Map<Transaction, BatchExecutor> executors = new LinkedHashMap<>();
+    for (PendingWrite w : writes) {
+      BatchExecutor executor = executors.computeIfAbsent(w.transaction(),
+          tx -> new BatchExecutor(w.ms().getConfiguration(), tx));
+      executor.update(w.ms(), w.parameter());
+    }
+
+    int batches = 0;
+    for (BatchExecutor executor : executors.values()) {
+      // close()는 Transaction(커넥션)을 닫으므로 호출하지 않음 (statement는 flush에서 닫힘)
+      List<BatchResult> results = executor.flushStatements();
+      batches += results.size();
+    }
+    log.debug("MyBatis-Easy: unit of work flushed. statements={} batches={}", writes.size(), batches);
+    return writes.size();
+  }
+
+  private Pending current(boolean create) {
+    if (!isTransactionActive()) return null;
+
+    Pending pending = (Pending) TransactionSynchronizationManager.getResource(resourceKey);
+    if (pending != null || !create) return pending;
+
+    Pending created = new Pending();
+    TransactionSynchronizationManager.bindResource(resourceKey, created);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      // SqlSession 커밋 처리보다 먼저 실행
+      @Override
+      public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+      }
+
+      @Override
+      public void flush() {
+        flushOrThrow();
+      }
+
+      @Override
+      public void beforeCommit(boolean readOnly) {
+        flushOrThrow();
+      }
+
+      // savepoint는 이미 생성됨 → 대기 쓰기는 savepoint 뒤에 실행되므로 롤백 시 재실행하도록 복제해 둠
+      @Override
+      public void savepoint(Object savepoint) {
+        List<PendingWrite> before = new ArrayList<>(created.writes);
+        flushOrThrow();
+        created.savepoints.add(new SavepointMark(savepoint, before));
+      }
+
+      @Override
+      public void savepointRollback(Object savepoint) {
+        created.rollbackTo(savepoint);
+      }
+
+      // REQUIRES_NEW 등으로 바깥 트랜잭션이 중단되면 내부 트랜잭션에서 보이지 않도록 분리
+      @Override
+      public void suspend() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+      }
+
+      @Override
+      public void resume() {
+        TransactionSynchronizationManager.bindResource(resourceKey, created);
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+        created.savepoints.clear();
+        if (!created.writes.isEmpty()) {
+          log.debug("MyBatis-Easy: unit of work discarded {} pending writes (status={})", created.writes.size(), status);
+          created.clear();
+        }
+      }
+    });
+    return created;
+  }
+
+  private void flushOrThrow() {
+    try {
+      UnitOfWork.this.flush();
+    } catch (SQLException | ExecutorException e) {
+      // 제약 조건 위반 등은 BatchExecutorException(ExecutorException)으로 올라옴 → 커밋 중단(롤백)
+      throw new IllegalStateException("MyBatis-Easy: unit of work flush failed", e);
+    }
+  }
+}
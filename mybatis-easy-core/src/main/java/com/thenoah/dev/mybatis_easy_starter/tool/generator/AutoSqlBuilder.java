@@ -1,9 +1,15 @@
 package com.thenoah.dev.mybatis_easy_starter.tool.generator;
 
 import com.thenoah.dev.mybatis_easy_starter.config.MybatisEasyProperties;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.CascadeDelete;
 import com.thenoah.dev.mybatis_easy_starter.core.annotation.Id;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.OneToMany;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.ReferenceData;
 import com.thenoah.dev.mybatis_easy_starter.core.annotation.SoftDelete;
 import com.thenoah.dev.mybatis_easy_starter.support.ColumnAnalyzer;
+import com.thenoah.dev.mybatis_easy_starter.support.cache.ReferenceDataManager;
+import com.thenoah.dev.mybatis_easy_starter.support.dialect.Dialect;
+import com.thenoah.dev.mybatis_easy_starter.support.dialect.IdentifierQuoter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,39 +22,62 @@ public class AutoSqlBuilder {
 
   private static final Logger log = LoggerFactory.getLogger(AutoSqlBuilder.class);
 
+  /**
+   * update/updateReturning 파라미터(Map)에 변경 전 @PartitionKey 값을 넣을 때의 키
+   * - 있을 때만 WHERE에 파티션 조건을 붙임 (파라미터의 파티션 키는 바뀐 값일 수 있음)
+   */
+  public static final String PARTITION_KEY_BEFORE_PARAM = "__partitionKeyBefore";
+
   private static final Pattern ID_INSERT =
       Pattern.compile("<insert\\b[^>]*\\bid\\s*=\\s*([\"'])insert\\1", Pattern.CASE_INSENSITIVE);
   private static final Pattern ID_FIND_BY_ID =
       Pattern.compile("<select\\b[^>]*\\bid\\s*=\\s*([\"'])findById\\1", Pattern.CASE_INSENSITIVE);
+  private static final Pattern ID_EXISTS_BY_ID =
+      Pattern.compile("<select\\b[^>]*\\bid\\s*=\\s*([\"'])existsById\\1", Pattern.CASE_INSENSITIVE);
+  private static final Pattern ID_FIND_ALL_BY_IDS =
+      Pattern.compile("<select\\b[^>]*\\bid\\s*=\\s*([\"'])findAllByIds\\1", Pattern.CASE_INSENSITIVE);
   private static final Pattern ID_FIND_ALL =
       Pattern.compile("<select\\b[^>]*\\bid\\s*=\\s*([\"'])findAll\\1", Pattern.CASE_INSENSITIVE);
   private static final Pattern ID_FIND_PAGE =
       Pattern.compile("<select\\b[^>]*\\bid\\s*=\\s*([\"'])findPage\\1", Pattern.CASE_INSENSITIVE);
+  private static final Pattern ID_FIND_BY_ID_IN_PARTITION =
+      Pattern.compile("<select\\b[^>]*\\bid\\s*=\\s*([\"'])findByIdInPartition\\1", Pattern.CASE_INSENSITIVE);
+  private static final Pattern ID_FIND_PAGE_IN_PARTITION =
+      Pattern.compile("<select\\b[^>]*\\bid\\s*=\\s*([\"'])findPageInPartition\\1", Pattern.CASE_INSENSITIVE);
+  private static final Pattern ID_DELETE_BY_ID_IN_PARTITION =
+      Pattern.compile("<(delete|update)\\b[^>]*\\bid\\s*=\\s*([\"'])deleteByIdInPartition\\2", Pattern.CASE_INSENSITIVE);
+  private static final Pattern ID_FIND_ALL_IDS =
+      Pattern.compile("<select\\b[^>]*\\bid\\s*=\\s*([\"'])findAllIds\\1", Pattern.CASE_INSENSITIVE);
+  private static final Pattern ID_FIND_IDS_PAGE =
+      Pattern.compile("<select\\b[^>]*\\bid\\s*=\\s*([\"'])findIdsPage\\1", Pattern.CASE_INSENSITIVE);
+  private static final Pattern ID_EXPORT_ALL =
+      Pattern.compile("<select\\b[^>]*\\bid\\s*=\\s*([\"'])exportAll\\1", Pattern.CASE_INSENSITIVE);
   private static final Pattern ID_COUNT_ALL =
       Pattern.compile("<select\\b[^>]*\\bid\\s*=\\s*([\"'])countAll\\1", Pattern.CASE_INSENSITIVE);
   private static final Pattern ID_UPDATE =
       Pattern.compile("<update\\b[^>]*\\bid\\s*=\\s*([\"'])update\\1", Pattern.CASE_INSENSITIVE);
   private static final Pattern ID_DELETE_BY_ID =
       Pattern.compile("<(delete|update)\\b[^>]*\\bid\\s*=\\s*([\"'])deleteById\\2", Pattern.CASE_INSENSITIVE);
+  private static final Pattern ID_DELETE_ALL_BY_IDS =
+      Pattern.compile("<(delete|update)\\b[^>]*\\bid\\s*=\\s*([\"'])deleteAllByIds\\2", Pattern.CASE_INSENSITIVE);
+  private static final Pattern ID_INCREMENT =
+      Pattern.compile("<update\\b[^>]*\\bid\\s*=\\s*([\"'])increment\\1", Pattern.CASE_INSENSITIVE);
+  private static final Pattern ID_INCREMENT_ALL =
+      Pattern.compile("<update\\b[^>]*\\bid\\s*=\\s*([\"'])incrementAll\\1", Pattern.CASE_INSENSITIVE);
+  private static final Pattern ID_CLAIM_IDS =
+      Pattern.compile("<select\\b[^>]*\\bid\\s*=\\s*([\"'])claimIds\\1", Pattern.CASE_INSENSITIVE);
+  private static final Pattern ID_MARK_CLAIMED =
+      Pattern.compile("<update\\b[^>]*\\bid\\s*=\\s*([\"'])markClaimed\\1", Pattern.CASE_INSENSITIVE);
+  private static final Pattern ID_INSERT_RETURNING =
+      Pattern.compile("<(select|insert|update)\\b[^>]*\\bid\\s*=\\s*([\"'])insertReturning\\2", Pattern.CASE_INSENSITIVE);
+  private static final Pattern ID_UPDATE_RETURNING =
+      Pattern.compile("<(select|update)\\b[^>]*\\bid\\s*=\\s*([\"'])updateReturning\\2", Pattern.CASE_INSENSITIVE);
+  private static final Pattern ID_DELETE_BY_ID_AND_VERSION =
+      Pattern.compile("<(delete|update)\\b[^>]*\\bid\\s*=\\s*([\"'])deleteByIdAndVersion\\2", Pattern.CASE_INSENSITIVE);
 
   /** fallback */
   private static final String DEFAULT_NOW_FUNCTION = "CURRENT_TIMESTAMP";
 
-  /**
-   * 내부 Dialect (props.pagination.dialect 우선, AUTO일 때만 dbProductName으로 추론)
-   * - UNKNOWN은 "표준 SQL(OFFSET/FETCH, FETCH FIRST)" 기반으로 생성
-   */
-  private enum Dialect {
-    POSTGRES,
-    MYSQL,
-    MARIADB,
-    H2,
-    SQLITE,
-    SQLSERVER,
-    ORACLE,
-    UNKNOWN
-  }
-
   public static String build(Class<?> entityClass,
                              String userXmlContent,
                              MybatisEasyProperties props,
@@ -59,7 +88,7 @@ public class AutoSqlBuilder {
       String rawTableName = tableInfo.getTableName();
       String resultTypeName = entityClass.getName();
 
-      List<Field> fields = ColumnAnalyzer.getAllFields(entityClass);
+      List<Field> fields = ColumnAnalyzer.getMappedFields(entityClass);
 
       // PK 정책 (ColumnAnalyzer 기준)
       String pkColumnRaw = (tableInfo.getIdColumn() == null || tableInfo.getIdColumn().isBlank())
@@ -69,8 +98,15 @@ public class AutoSqlBuilder {
           ? "id"
           : tableInfo.getIdField();
 
-      Field softDeleteField = fields.stream()
-          .filter(f -> f.isAnnotationPresent(SoftDelete.class))
+      Field softDeleteField = ColumnAnalyzer.getSoftDeleteField(entityClass);
+      validateSoftDelete(softDeleteField);
+
+      // @PartitionKey (partition pruning)
+      Field partitionField = ColumnAnalyzer.getPartitionKeyField(entityClass);
+
+      // @Version (낙관적 잠금)
+      Field versionField = fields.stream()
+          .filter(f -> f.getName().equals(tableInfo.getVersionField()))
           .findFirst()
           .orElse(null);
 
@@ -107,6 +143,11 @@ public class AutoSqlBuilder {
       String tableName = quoter.table(rawTableName);
       String pkColumn = quoter.column(pkColumnRaw);
 
+      if (softDeleteField != null && autoSqlProps != null && autoSqlProps.isSoftDeleteIndexHint()) {
+        log.info("MyBatis-Easy: soft delete index hint. entity={} ddl={}",
+            entityClass.getSimpleName(), softDeleteIndexDdl(tableName, pkColumn, softDeleteField, dialect, quoter));
+      }
+
       // SELECT * 제거: 분석된 컬럼 리스트 사용 (+ quote 적용)
       String selectColumns = tableInfo.getFieldColumnMap().values().stream()
           .filter(Objects::nonNull)
@@ -118,37 +159,178 @@ public class AutoSqlBuilder {
       StringBuilder sql = new StringBuilder(4096);
 
       if (!exists(userXmlContent, ID_INSERT)) {
-        sql.append(buildInsert(tableName, fields, pkProperty, quoter.column(keyColumn), strategy, quoter, pkProperty));
+        sql.append(buildInsert(tableName, fields, pkProperty, quoter.column(keyColumn), strategy, quoter, pkProperty, versionField,
+            softDeleteField));
       }
       if (!exists(userXmlContent, ID_FIND_BY_ID)) {
         sql.append(buildFindById(tableName, selectColumns, pkColumn, pkProperty, resultTypeName, softDeleteField, quoter));
       }
+      if (partitionField != null && !exists(userXmlContent, ID_FIND_BY_ID_IN_PARTITION)) {
+        sql.append(buildFindByIdInPartition(tableName, selectColumns, pkColumn, resultTypeName, softDeleteField,
+            partitionField, quoter));
+      }
+
+      if (!exists(userXmlContent, ID_EXISTS_BY_ID)) {
+        sql.append(buildExistsById(tableName, pkColumn, softDeleteField, quoter));
+      }
+
+      if (!exists(userXmlContent, ID_FIND_ALL_BY_IDS)) {
+        sql.append(buildFindAllByIds(tableName, selectColumns, pkColumn, resultTypeName, softDeleteField, quoter));
+      }
+
+      // @ReferenceData: 전체 적재 / 변경 감지용 (findAll 정책(cap 등)과 무관)
+      if (entityClass.isAnnotationPresent(ReferenceData.class)) {
+        sql.append(buildReferenceDataStatements(tableName, selectColumns, resultTypeName, fields, softDeleteField, quoter));
+      }
 
       // findAll: "열어두되" 운영사고 줄이는 정책 지원
       if (!exists(userXmlContent, ID_FIND_ALL)) {
-        String findAllSql = buildFindAll(tableName, selectColumns, resultTypeName, softDeleteField, pageProps, dialect, quoter);
+        String findAllSql = buildFindAll("findAll", tableName, selectColumns, resultTypeName, softDeleteField, pageProps, dialect, quoter);
         if (findAllSql != null && !findAllSql.isBlank()) {
           sql.append(findAllSql);
         }
       }
 
+      // findAllIds/findIdsPage: 정수형 PK일 때만 (primitive 배열 수집용)
+      boolean integralId = tableInfo.isIntegralId();
+      String idResultType = tableInfo.isIntId() ? "int" : "long";
+
+      int exportFetchSize = (props != null && props.getExport() != null) ? props.getExport().getFetchSize() : 1000;
+
+      if (!exists(userXmlContent, ID_FIND_ALL_IDS)) {
+        if (integralId) {
+          sql.append(buildFindAllIds(tableName, pkColumn, idResultType, softDeleteField, exportFetchSize, dialect, quoter));
+        } else {
+          sql.append(buildUnsupported("select", "findAllIds", "long",
+              "findAllIds requires an integral @Id (int/long). entity=" + entityClass.getName()));
+        }
+      }
+
+      if (!exists(userXmlContent, ID_EXPORT_ALL)) {
+        sql.append(buildExportAll(tableName, selectColumns, softDeleteField, exportFetchSize, dialect, quoter));
+      }
+
       // pagination.enabled일 때만 findPage/countAll 생성
       boolean paginationEnabled = pageProps != null && pageProps.isEnabled();
 
       if (paginationEnabled && !exists(userXmlContent, ID_FIND_PAGE)) {
-        sql.append(buildFindPage(tableName, selectColumns, pkColumn, resultTypeName, softDeleteField, dialect, tableInfo, pageProps, quoter));
+        sql.append(buildFindPage("findPage", tableName, selectColumns, pkColumn, resultTypeName, softDeleteField, null, dialect, tableInfo, pageProps, quoter));
+      }
+
+      if (paginationEnabled && !exists(userXmlContent, ID_FIND_IDS_PAGE)) {
+        if (integralId) {
+          sql.append(buildFindPage("findIdsPage", tableName, pkColumn, pkColumn, idResultType, softDeleteField, null, dialect, tableInfo, pageProps, quoter));
+        } else {
+          sql.append(buildUnsupported("select", "findIdsPage", "long",
+              "findIdsPage requires an integral @Id (int/long). entity=" + entityClass.getName()));
+        }
+      }
+      if (paginationEnabled && partitionField != null
+          && !exists(userXmlContent, ID_FIND_PAGE_IN_PARTITION)) {
+        sql.append(buildFindPage("findPageInPartition", tableName, selectColumns, pkColumn, resultTypeName, softDeleteField,
+            partitionField, dialect, tableInfo, pageProps, quoter));
       }
 
       if (paginationEnabled && shouldGenerateCountAll(pageProps) && !exists(userXmlContent, ID_COUNT_ALL)) {
         sql.append(buildCountAll(tableName, softDeleteField, quoter));
       }
 
+      // insertReturning/updateReturning: DB 기본값/트리거 값을 같은 round trip에서 회수
+      ReturningStyle returning = ReturningStyle.of(dialect);
+      // 지원하지 않는 DB는 호출 시 사유를 담은 예외 (BindingException 방지)
+      if (!exists(userXmlContent, ID_INSERT_RETURNING)) {
+        if (returning != ReturningStyle.NONE) {
+          sql.append(buildInsertReturning(returning, tableName, fields, pkProperty, strategy, versionField, softDeleteField,
+              selectColumns, resultTypeName, quoter));
+        } else {
+          sql.append(buildUnsupported("update", "insertReturning", null,
+              "insertReturning is not supported on dialect " + dialect + " (use insert + findById). entity=" + entityClass.getName()));
+        }
+      }
+      if (!exists(userXmlContent, ID_UPDATE_RETURNING)) {
+        if (returning.supportsUpdate(dialect)) {
+          sql.append(buildUpdateReturning(returning, tableName, fields, pkColumn, pkProperty, softDeleteField, versionField,
+              partitionField, selectColumns, resultTypeName, nowFn, quoter));
+        } else {
+          sql.append(buildUnsupported("update", "updateReturning", null,
+              "updateReturning is not supported on dialect " + dialect + " (use update + findById). entity=" + entityClass.getName()));
+        }
+      }
+
       if (!exists(userXmlContent, ID_UPDATE)) {
-        sql.append(buildUpdate(tableName, fields, pkColumn, pkProperty, softDeleteField, allowEmptySet, nowFn, quoter));
+        sql.append(buildUpdate(tableName, fields, pkColumn, pkProperty, softDeleteField, versionField, partitionField,
+            allowEmptySet, nowFn, quoter));
+      }
+
+      // increment/incrementAll: 숫자형 컬럼이 있을 때만
+      List<Field> counterFields = fields.stream()
+          .filter(ColumnAnalyzer::isNumericField)
+          .filter(f -> !isPkField(f, pkProperty))
+          .filter(f -> f != versionField)
+          .collect(Collectors.toList());
+
+      if (!counterFields.isEmpty() && !exists(userXmlContent, ID_INCREMENT)) {
+        sql.append(buildIncrement(false, tableName, fields, counterFields, pkColumn, softDeleteField, versionField, nowFn, quoter));
+      }
+      if (!counterFields.isEmpty() && !exists(userXmlContent, ID_INCREMENT_ALL)) {
+        sql.append(buildIncrement(true, tableName, fields, counterFields, pkColumn, softDeleteField, versionField, nowFn, quoter));
+      }
+
+      // claimBatch: 작업 큐 점유 (SKIP LOCKED 계열을 지원하는 DB만)
+      List<Field> statusFields = fields.stream()
+          .filter(f -> !isPkField(f, pkProperty))
+          .filter(f -> f != versionField && f != softDeleteField)
+          .filter(f -> !"updated_at".equalsIgnoreCase(ColumnAnalyzer.getColumnName(f)))
+          .collect(Collectors.toList());
+      String claimLock = claimLockClause(dialect);
+
+      if (claimLock != null && !statusFields.isEmpty() && !exists(userXmlContent, ID_CLAIM_IDS)) {
+        String idType = (tableInfo.getIdType() == null) ? "object" : boxed(tableInfo.getIdType()).getName();
+        sql.append(buildClaimIds(tableName, statusFields, pkColumn, idType, softDeleteField, dialect, claimLock, quoter));
+      }
+      if (claimLock != null && !statusFields.isEmpty() && !exists(userXmlContent, ID_MARK_CLAIMED)) {
+        sql.append(buildMarkClaimed(tableName, fields, statusFields, pkColumn, versionField, nowFn, quoter));
       }
+
       if (!exists(userXmlContent, ID_DELETE_BY_ID)) {
         sql.append(buildDeleteById(tableName, pkColumn, pkProperty, softDeleteField, nowFn, quoter));
       }
+      if (partitionField != null && !exists(userXmlContent, ID_DELETE_BY_ID_IN_PARTITION)) {
+        sql.append(buildDeleteByIdInPartition(tableName, pkColumn, softDeleteField, partitionField, nowFn, quoter));
+      }
+      if (!exists(userXmlContent, ID_DELETE_BY_ID_AND_VERSION)) {
+        if (versionField != null) {
+          sql.append(buildDeleteByIdAndVersion(tableName, pkColumn, softDeleteField, versionField, nowFn, quoter));
+        } else {
+          sql.append(buildUnsupported("delete", "deleteByIdAndVersion", null,
+              "deleteByIdAndVersion requires a @Version field. entity=" + entityClass.getName()));
+        }
+      }
+      if (!exists(userXmlContent, ID_DELETE_ALL_BY_IDS)) {
+        sql.append(buildDeleteAllByIds(tableName, pkColumn, softDeleteField, nowFn, quoter));
+      }
+
+      // @CascadeDelete: 자식 테이블별 set 기반 삭제 (부모 delete* 전에 interceptor가 batch 실행)
+      for (Field cascade : ColumnAnalyzer.getCascadeDeleteFields(entityClass)) {
+        String statementId = cascadeDeleteStatementId(cascade);
+        Pattern userDefined = Pattern.compile("<(delete|update)\\b[^>]*\\bid\\s*=\\s*([\"'])"
+            + Pattern.quote(statementId) + "\\2", Pattern.CASE_INSENSITIVE);
+        if (!exists(userXmlContent, userDefined)) {
+          sql.append(buildCascadeDelete(statementId, cascade, tableName, pkColumn, softDeleteField,
+              versionField, partitionField, nowFn, quoter));
+        }
+      }
+
+      // @OneToMany: 자식 FK IN 조회 (AssociationLoader용)
+      for (Field association : ColumnAnalyzer.getAssociationFields(entityClass)) {
+        if (!association.isAnnotationPresent(OneToMany.class)) continue;
+        String statementId = associationStatementId(association);
+        Pattern userDefined = Pattern.compile("<select\\b[^>]*\\bid\\s*=\\s*([\"'])"
+            + Pattern.quote(statementId) + "\\1", Pattern.CASE_INSENSITIVE);
+        if (!exists(userXmlContent, userDefined)) {
+          sql.append(buildOneToManySelect(statementId, association, quoter));
+        }
+      }
 
       return sql.toString();
     } catch (Exception e) {
@@ -157,6 +339,19 @@ public class AutoSqlBuilder {
     }
   }
 
+  /**
+   * 생성 불가 statement placeholder (호출 시 BindingException 대신 사유를 담은 예외)
+   */
+  private static String buildUnsupported(String tag, String id, String resultType, String reason) {
+    StringBuilder sb = new StringBuilder();
+    sb.append("  <").append(tag).append(" id=\"").append(id).append("\"");
+    if (resultType != null) sb.append(" resultType=\"").append(resultType).append("\"");
+    sb.append(" lang=\"").append(UnsupportedStatementDriver.class.getName()).append("\">\n")
+        .append("    MyBatis-Easy: ").append(reason).append("\n")
+        .append("  </").append(tag).append(">\n\n");
+    return sb.toString();
+  }
+
   private static boolean exists(String xml, Pattern pattern) {
     if (xml == null || xml.isBlank()) return false;
     return pattern.matcher(xml).find();
@@ -181,24 +376,17 @@ public class AutoSqlBuilder {
     return MybatisEasyProperties.AutoSql.Strategy.JDBC;
   }
 
-  private static Dialect resolveDialect(String dbProductName, MybatisEasyProperties.Pagination pageProps) {
+  /**
+   * props.pagination.dialect 우선, AUTO일 때만 dbProductName으로 추론
+   */
+  public static Dialect resolveDialect(String dbProductName, MybatisEasyProperties.Pagination pageProps) {
     // 사용자가 명시하면 우선
     if (pageProps != null && pageProps.getDialect() != null && pageProps.getDialect() != MybatisEasyProperties.Pagination.Dialect.AUTO) {
       return mapDialect(pageProps.getDialect());
     }
 
     // AUTO 추론
-    String db = normalizeDbName(dbProductName);
-
-    if (db.contains("postgresql") || db.contains("postgres")) return Dialect.POSTGRES;
-    if (db.contains("mariadb")) return Dialect.MARIADB;
-    if (db.contains("mysql")) return Dialect.MYSQL;
-    if (db.contains("microsoft sql server") || db.contains("sql server") || db.contains("mssql")) return Dialect.SQLSERVER;
-    if (db.contains("oracle")) return Dialect.ORACLE;
-    if (db.equals("h2") || db.contains("h2")) return Dialect.H2;
-    if (db.contains("sqlite")) return Dialect.SQLITE;
-
-    return Dialect.UNKNOWN;
+    return Dialect.fromProductName(dbProductName);
   }
 
   private static Dialect mapDialect(MybatisEasyProperties.Pagination.Dialect d) {
@@ -214,11 +402,6 @@ public class AutoSqlBuilder {
     };
   }
 
-  private static String normalizeDbName(String dbProductName) {
-    if (dbProductName == null) return "";
-    return dbProductName.trim().toLowerCase(Locale.ROOT);
-  }
-
   private static String resolveNowFunction(Dialect dialect, MybatisEasyProperties.Pagination pageProps) {
     if (pageProps != null) {
       String override = pageProps.getNowFunction();
@@ -237,13 +420,16 @@ public class AutoSqlBuilder {
                                    String keyColumnQuoted,
                                    MybatisEasyProperties.AutoSql.Strategy strategy,
                                    IdentifierQuoter quoter,
-                                   String keyProperty) {
+                                   String keyProperty,
+                                   Field versionField,
+                                   Field softDeleteField) {
 
-    List<Field> nonPkFields = fields.stream()
-        .filter(f -> !isPkField(f, pkProperty))
-        .collect(Collectors.toList());
+    List<Field> insertFields = insertFieldsOf(fields, pkProperty, strategy);
+    Field defaultedFlag = defaultedFlagField(softDeleteField);
 
-    String anyNotNullTest = buildAnyNotNullTestByProperty(nonPkFields);
+    // 버전/플래그 컬럼은 항상 기록하므로 DEFAULT VALUES 분기 불필요
+    String anyNotNullTest = (versionField != null || defaultedFlag != null)
+        ? "true" : buildAnyNotNullTestByProperty(insertFields);
 
     StringBuilder sb = new StringBuilder();
 
@@ -259,34 +445,71 @@ public class AutoSqlBuilder {
 
     sb.append("    <choose>\n")
         .append("      <when test=\"").append(anyNotNullTest).append("\">\n")
-        .append("        INSERT INTO ").append(tableName).append("\n")
-        .append("        <trim prefix=\"(\" suffix=\")\" suffixOverrides=\",\">\n");
+        .append("        INSERT INTO ").append(tableName).append("\n");
+    appendInsertColumns(sb, insertFields, versionField, defaultedFlag, quoter);
+    appendInsertValues(sb, insertFields, versionField, defaultedFlag, quoter.dialect());
+
+    sb.append("      </when>\n")
+        .append("      <otherwise>\n")
+        .append("        INSERT INTO ").append(tableName).append(" DEFAULT VALUES\n")
+        .append("      </otherwise>\n")
+        .append("    </choose>\n")
+        .append("  </insert>\n\n");
+
+    return sb.toString();
+  }
 
-    for (Field f : nonPkFields) {
+  // 클라이언트 할당 전략(시퀀스 블록/UUIDv7/Snowflake)은 PK 컬럼도 INSERT에 포함
+  private static List<Field> insertFieldsOf(List<Field> fields,
+                                            String pkProperty,
+                                            MybatisEasyProperties.AutoSql.Strategy strategy) {
+    boolean clientKey = strategy != null && strategy.isClientAssigned();
+    return fields.stream()
+        .filter(f -> clientKey || !isPkField(f, pkProperty))
+        .collect(Collectors.toList());
+  }
+
+  private static void appendInsertColumns(StringBuilder sb, List<Field> insertFields, Field versionField,
+                                          Field defaultedFlag, IdentifierQuoter quoter) {
+    sb.append("        <trim prefix=\"(\" suffix=\")\" suffixOverrides=\",\">\n");
+
+    for (Field f : insertFields) {
       String col = quoter.column(ColumnAnalyzer.getColumnName(f));
       String prop = f.getName(); // ✅ DTO/VO 공통: entity field name
+      if (f == versionField || f == defaultedFlag) {
+        sb.append("          ").append(col).append(",\n");
+        continue;
+      }
       sb.append("          <if test=\"").append(prop).append(" != null\">")
           .append(col).append(",</if>\n");
     }
 
-    sb.append("        </trim>\n")
-        .append("        <trim prefix=\"VALUES (\" suffix=\")\" suffixOverrides=\",\">\n");
+    sb.append("        </trim>\n");
+  }
+
+  private static void appendInsertValues(StringBuilder sb, List<Field> insertFields, Field versionField, Field defaultedFlag,
+                                         Dialect dialect) {
+    sb.append("        <trim prefix=\"VALUES (\" suffix=\")\" suffixOverrides=\",\">\n");
 
-    for (Field f : nonPkFields) {
+    for (Field f : insertFields) {
       String prop = f.getName();
+      if (f == versionField) {
+        sb.append("          <choose><when test=\"").append(prop).append(" != null\">#{").append(prop)
+            .append("},</when><otherwise>0,</otherwise></choose>\n");
+        continue;
+      }
+      if (f == defaultedFlag) {
+        String notDeleted = defaultedFlag.getAnnotation(SoftDelete.class).notDeletedValue();
+        sb.append("          <choose><when test=\"").append(prop).append(" != null\">#{").append(prop)
+            .append("},</when><otherwise>").append(softDeleteLiteral(f, notDeleted, dialect))
+            .append(",</otherwise></choose>\n");
+        continue;
+      }
       sb.append("          <if test=\"").append(prop).append(" != null\">")
           .append("#{").append(prop).append("},</if>\n");
     }
 
-    sb.append("        </trim>\n")
-        .append("      </when>\n")
-        .append("      <otherwise>\n")
-        .append("        INSERT INTO ").append(tableName).append(" DEFAULT VALUES\n")
-        .append("      </otherwise>\n")
-        .append("    </choose>\n")
-        .append("  </insert>\n\n");
-
-    return sb.toString();
+    sb.append("        </trim>\n");
   }
 
   private static String stripQuotes(String maybeQuoted) {
@@ -316,15 +539,124 @@ public class AutoSqlBuilder {
         .append("    WHERE ").append(pkColumn).append(" = #{").append(pkProperty).append("}\n");
 
     if (softDeleteField != null) {
-      String sdCol = quoter.column(ColumnAnalyzer.getColumnName(softDeleteField));
-      sb.append("    AND ").append(sdCol).append(" IS NULL\n");
+      sb.append("    AND ").append(softDeleteAlive(softDeleteField, quoter)).append("\n");
     }
 
     sb.append("  </select>\n\n");
     return sb.toString();
   }
 
-  private static String buildFindAll(String tableName,
+  /**
+   * findById + 파티션 키 조건 (#{partitionKey})
+   */
+  private static String buildFindByIdInPartition(String tableName,
+                                                 String selectColumns,
+                                                 String pkColumn,
+                                                 String resultTypeName,
+                                                 Field softDeleteField,
+                                                 Field partitionField,
+                                                 IdentifierQuoter quoter) {
+    StringBuilder sb = new StringBuilder();
+
+    sb.append("  <select id=\"findByIdInPartition\" resultType=\"").append(resultTypeName).append("\">\n")
+        .append("    SELECT ").append(selectColumns).append(" FROM ").append(tableName).append("\n")
+        .append("    WHERE ").append(pkColumn).append(" = #{id}\n")
+        .append("    AND ").append(partitionPredicate(partitionField, quoter)).append("\n");
+
+    if (softDeleteField != null) {
+      sb.append("    AND ").append(softDeleteAlive(softDeleteField, quoter)).append("\n");
+    }
+
+    sb.append("  </select>\n\n");
+    return sb.toString();
+  }
+
+  private static String partitionPredicate(Field partitionField, IdentifierQuoter quoter) {
+    return quoter.column(ColumnAnalyzer.getColumnName(partitionField)) + " = #{partitionKey}";
+  }
+
+  private static String buildExistsById(String tableName,
+                                        String pkColumn,
+                                        Field softDeleteField,
+                                        IdentifierQuoter quoter) {
+    StringBuilder sb = new StringBuilder();
+
+    // PK 조건이라 COUNT는 0/1 → boolean 매핑
+    sb.append("  <select id=\"existsById\" resultType=\"boolean\">\n")
+        .append("    SELECT COUNT(*) FROM ").append(tableName).append("\n")
+        .append("    WHERE ").append(pkColumn).append(" = #{id}\n");
+
+    if (softDeleteField != null) {
+      sb.append("    AND ").append(softDeleteAlive(softDeleteField, quoter)).append("\n");
+    }
+
+    sb.append("  </select>\n\n");
+    return sb.toString();
+  }
+
+  private static String buildFindAllByIds(String tableName,
+                                          String selectColumns,
+                                          String pkColumn,
+                                          String resultTypeName,
+                                          Field softDeleteField,
+                                          IdentifierQuoter quoter) {
+    StringBuilder sb = new StringBuilder();
+
+    sb.append("  <select id=\"findAllByIds\" resultType=\"").append(resultTypeName).append("\">\n")
+        .append("    SELECT ").append(selectColumns).append(" FROM ").append(tableName).append("\n")
+        .append("    <choose>\n")
+        .append("      <when test=\"ids != null and ids.size() > 0\">\n")
+        .append("        WHERE ").append(pkColumn).append(" IN\n")
+        .append("        <foreach collection=\"ids\" item=\"id\" open=\"(\" separator=\",\" close=\")\">#{id}</foreach>\n");
+
+    if (softDeleteField != null) {
+      sb.append("        AND ").append(softDeleteAlive(softDeleteField, quoter)).append("\n");
+    }
+
+    sb.append("      </when>\n")
+        .append("      <otherwise>\n")
+        .append("        WHERE 1 = 0\n")
+        .append("      </otherwise>\n")
+        .append("    </choose>\n")
+        .append("  </select>\n\n");
+    return sb.toString();
+  }
+
+  private static String buildReferenceDataStatements(String tableName,
+                                                     String selectColumns,
+                                                     String resultTypeName,
+                                                     List<Field> fields,
+                                                     Field softDeleteField,
+                                                     IdentifierQuoter quoter) {
+    String where = (softDeleteField != null)
+        ? "    WHERE " + softDeleteAlive(softDeleteField, quoter) + "\n"
+        : "";
+
+    StringBuilder sb = new StringBuilder();
+    sb.append("  <select id=\"").append(ReferenceDataManager.LOAD_STATEMENT).append("\" resultType=\"")
+        .append(resultTypeName).append("\" useCache=\"false\">\n")
+        .append("    SELECT ").append(selectColumns).append(" FROM ").append(tableName).append("\n")
+        .append(where)
+        .append("  </select>\n\n");
+
+    // updated_at이 있으면 (건수, 최종 수정시각)으로 변경 감지. 없으면 매 주기 전체 재적재
+    boolean hasUpdatedAt = fields.stream()
+        .map(ColumnAnalyzer::getColumnName)
+        .anyMatch(c -> "updated_at".equalsIgnoreCase(c));
+
+    if (hasUpdatedAt) {
+      sb.append("  <select id=\"").append(ReferenceDataManager.FINGERPRINT_STATEMENT)
+          .append("\" resultType=\"java.util.LinkedHashMap\" useCache=\"false\">\n")
+          .append("    SELECT COUNT(*) AS row_count, MAX(").append(quoter.column("updated_at")).append(") AS changed_at")
+          .append(" FROM ").append(tableName).append("\n")
+          .append(where)
+          .append("  </select>\n\n");
+    }
+    return sb.toString();
+  }
+
+  private static String buildFindAll(String statementId,
+                                     String tableName,
                                      String selectColumns,
                                      String resultTypeName,
                                      Field softDeleteField,
@@ -345,10 +677,10 @@ public class AutoSqlBuilder {
     if (cap <= 0) cap = 1000;
 
     StringBuilder sb = new StringBuilder();
-    sb.append("  <select id=\"findAll\" resultType=\"").append(resultTypeName).append("\">\n");
+    sb.append("  <select id=\"").append(statementId).append("\" resultType=\"").append(resultTypeName).append("\">\n");
 
     boolean needWhereSoftDelete = (softDeleteField != null);
-    String sdCol = needWhereSoftDelete ? quoter.column(ColumnAnalyzer.getColumnName(softDeleteField)) : null;
+    String alive = needWhereSoftDelete ? softDeleteAlive(softDeleteField, quoter) : null;
 
     // base
     if (policy == MybatisEasyProperties.Pagination.FindAll.Policy.CAP) {
@@ -357,7 +689,7 @@ public class AutoSqlBuilder {
         case ORACLE -> {
           sb.append("    SELECT ").append(selectColumns).append(" FROM (\n")
               .append("      SELECT ").append(selectColumns).append(" FROM ").append(tableName).append("\n");
-          if (needWhereSoftDelete) sb.append("      WHERE ").append(sdCol).append(" IS NULL\n");
+          if (needWhereSoftDelete) sb.append("      WHERE ").append(alive).append("\n");
           sb.append("    )\n")
               .append("    WHERE ROWNUM <= ").append(cap).append("\n")
               .append("  </select>\n\n");
@@ -371,7 +703,7 @@ public class AutoSqlBuilder {
     }
 
     if (needWhereSoftDelete) {
-      sb.append("    WHERE ").append(sdCol).append(" IS NULL\n");
+      sb.append("    WHERE ").append(alive).append("\n");
     }
 
     if (policy == MybatisEasyProperties.Pagination.FindAll.Policy.CAP) {
@@ -388,11 +720,66 @@ public class AutoSqlBuilder {
     return sb.toString();
   }
 
-  private static String buildFindPage(String tableName,
+  /**
+   * exportAll: 엔티티 매핑 없이 row를 Map으로 흘려보내는 스트리밍 조회
+   * - LinkedHashMap: ResultSet 컬럼 순서 유지
+   * - FORWARD_ONLY + fetchSize: 드라이버 커서 스트리밍
+   * - findAll 정책(CAP/DISABLE)은 적용하지 않음 (명시적 export 용도)
+   */
+  /**
+   * findAllIds: PK만 ResultHandler로 스트리밍 (findAll 정책(CAP/DISABLE)과 무관하게 전체)
+   * - 결과를 primitive 배열로만 모으므로 row당 4~8바이트, fetchSize는 exportAll과 동일
+   */
+  private static String buildFindAllIds(String tableName,
+                                        String pkColumn,
+                                        String idResultType,
+                                        Field softDeleteField,
+                                        int fetchSize,
+                                        Dialect dialect,
+                                        IdentifierQuoter quoter) {
+    int effectiveFetchSize = (dialect == Dialect.MYSQL) ? Integer.MIN_VALUE : Math.max(fetchSize, 1);
+
+    StringBuilder sb = new StringBuilder();
+    sb.append("  <select id=\"findAllIds\" resultType=\"").append(idResultType)
+        .append("\" resultSetType=\"FORWARD_ONLY\" fetchSize=\"").append(effectiveFetchSize).append("\" useCache=\"false\">\n")
+        .append("    SELECT ").append(pkColumn).append(" FROM ").append(tableName).append("\n");
+
+    if (softDeleteField != null) {
+      sb.append("    WHERE ").append(softDeleteAlive(softDeleteField, quoter)).append("\n");
+    }
+
+    sb.append("  </select>\n\n");
+    return sb.toString();
+  }
+
+  private static String buildExportAll(String tableName,
+                                       String selectColumns,
+                                       Field softDeleteField,
+                                       int fetchSize,
+                                       Dialect dialect,
+                                       IdentifierQuoter quoter) {
+    int effectiveFetchSize = (dialect == Dialect.MYSQL) ? Integer.MIN_VALUE : Math.max(fetchSize, 1);
+
+    StringBuilder sb = new StringBuilder();
+    sb.append("  <select id=\"exportAll\" resultType=\"java.util.LinkedHashMap\" resultSetType=\"FORWARD_ONLY\" fetchSize=\"")
+        .append(effectiveFetchSize).append("\" useCache=\"false\">\n")
+        .append("    SELECT ").append(selectColumns).append(" FROM ").append(tableName).append("\n");
+
+    if (softDeleteField != null) {
+      sb.append("    WHERE ").append(softDeleteAlive(softDeleteField, quoter)).append("\n");
+    }
+
+    sb.append("  </select>\n\n");
+    return sb.toString();
+  }
+
+  private static String buildFindPage(String statementId,
+                                      String tableName,
                                       String selectColumns,
                                       String pkColumn,
                                       String resultTypeName,
                                       Field softDeleteField,
+                                      Field partitionField,
                                       Dialect dialect,
                                       ColumnAnalyzer.TableInfo tableInfo,
                                       MybatisEasyProperties.Pagination pageProps,
@@ -403,16 +790,22 @@ public class AutoSqlBuilder {
     StringBuilder baseSelect = new StringBuilder();
     baseSelect.append("    SELECT ").append(selectColumns).append(" FROM ").append(tableName).append("\n");
 
+    List<String> where = new ArrayList<>(2);
     if (softDeleteField != null) {
-      String sdCol = quoter.column(ColumnAnalyzer.getColumnName(softDeleteField));
-      baseSelect.append("    WHERE ").append(sdCol).append(" IS NULL\n");
+      where.add(softDeleteAlive(softDeleteField, quoter));
+    }
+    if (partitionField != null) {
+      where.add(partitionPredicate(partitionField, quoter));
+    }
+    if (!where.isEmpty()) {
+      baseSelect.append("    WHERE ").append(String.join(" AND ", where)).append("\n");
     }
 
     int max = (pageProps != null) ? pageProps.getMaxPageSize() : 200;
     if (max <= 0) max = 200;
 
     StringBuilder sb = new StringBuilder();
-    sb.append("  <select id=\"findPage\" resultType=\"").append(resultTypeName).append("\">\n")
+    sb.append("  <select id=\"").append(statementId).append("\" resultType=\"").append(resultTypeName).append("\">\n")
       .append("    <bind name=\"__limit\" value=\"limit > ").append(max).append(" ? ").append(max).append(" : limit\"/>\n");
 
     switch (dialect) {
@@ -504,8 +897,7 @@ public class AutoSqlBuilder {
         .append("    SELECT COUNT(*) FROM ").append(tableName).append("\n");
 
     if (softDeleteField != null) {
-      String sdCol = quoter.column(ColumnAnalyzer.getColumnName(softDeleteField));
-      sb.append("    WHERE ").append(sdCol).append(" IS NULL\n");
+      sb.append("    WHERE ").append(softDeleteAlive(softDeleteField, quoter)).append("\n");
     }
 
     sb.append("  </select>\n\n");
@@ -517,37 +909,272 @@ public class AutoSqlBuilder {
                                     String pkColumn,
                                     String pkProperty,
                                     Field softDeleteField,
+                                    Field versionField,
+                                    Field partitionField,
                                     boolean allowEmptySet,
                                     String nowFn,
                                     IdentifierQuoter quoter) {
 
-    boolean hasUpdatedAt = fields.stream()
-        .map(ColumnAnalyzer::getColumnName)
-        .filter(Objects::nonNull)
-        .anyMatch(c -> "updated_at".equalsIgnoreCase(c));
+    List<Field> updatableFields = updatableFieldsOf(fields, pkProperty, versionField);
+
+    StringBuilder sb = new StringBuilder();
+    sb.append("  <update id=\"update\">\n");
+
+    if (!allowEmptySet) {
+      sb.append("    <choose>\n")
+          .append("      <when test=\"").append(nonEmptyTest(updatableFields)).append("\">\n");
+    }
+
+    sb.append("        UPDATE ").append(tableName).append("\n");
+    appendUpdateSet(sb, updatableFields, hasUpdatedAt(fields), versionField, nowFn, quoter);
+    appendUpdateWhere(sb, pkColumn, pkProperty, softDeleteField, versionField, partitionField, quoter);
+
+    if (!allowEmptySet) {
+      sb.append("      </when>\n")
+          .append("      <otherwise>\n")
+          .append("        UPDATE ").append(tableName).append(" SET ").append(pkColumn).append(" = ").append(pkColumn).append("\n")
+          .append("        WHERE 1 = 0\n")
+          .append("      </otherwise>\n")
+          .append("    </choose>\n");
+    }
+
+    sb.append("  </update>\n\n");
+    return sb.toString();
+  }
+
+  /**
+   * DB별 쓰기 결과 회수 방식
+   */
+  enum ReturningStyle {
+    /** INSERT/UPDATE ... RETURNING cols (MARIADB는 INSERT만) */
+    RETURNING,
+    /** SELECT cols FROM FINAL TABLE (INSERT/UPDATE ...) */
+    FINAL_TABLE,
+    /** OUTPUT INSERTED.cols */
+    OUTPUT,
+    /** BEGIN ... RETURNING cols INTO OUT 파라미터; END; (CALLABLE) */
+    RETURNING_INTO,
+    NONE;
+
+    static ReturningStyle of(Dialect dialect) {
+      return switch (dialect) {
+        case POSTGRES, SQLITE, MARIADB -> RETURNING;
+        case H2 -> FINAL_TABLE;
+        case SQLSERVER -> OUTPUT;
+        case ORACLE -> RETURNING_INTO;
+        case MYSQL, UNKNOWN -> NONE;
+      };
+    }
+
+    // MariaDB는 UPDATE ... RETURNING 미지원
+    // Oracle은 0건이어도 OUT 파라미터(null)가 반영되고 블록 처리 건수로 버전 충돌을 알 수 없어 제외
+    boolean supportsUpdate(Dialect dialect) {
+      return (this == RETURNING && dialect != Dialect.MARIADB) || this == FINAL_TABLE || this == OUTPUT;
+    }
+  }
+
+  private static String buildInsertReturning(ReturningStyle style,
+                                             String tableName,
+                                             List<Field> fields,
+                                             String pkProperty,
+                                             MybatisEasyProperties.AutoSql.Strategy strategy,
+                                             Field versionField,
+                                             Field softDeleteField,
+                                             String selectColumns,
+                                             String resultTypeName,
+                                             IdentifierQuoter quoter) {
+    List<Field> insertFields = insertFieldsOf(fields, pkProperty, strategy);
+    Field defaultedFlag = defaultedFlagField(softDeleteField);
+    String anyNotNullTest = (versionField != null || defaultedFlag != null)
+        ? "true" : buildAnyNotNullTestByProperty(insertFields);
+
+    StringBuilder sb = new StringBuilder();
+    sb.append(returningOpenTag(style, "insertReturning", resultTypeName))
+        .append("    <choose>\n")
+        .append("      <when test=\"").append(anyNotNullTest).append("\">\n");
+
+    if (style == ReturningStyle.FINAL_TABLE) {
+      sb.append("        SELECT ").append(selectColumns).append(" FROM FINAL TABLE (\n");
+    } else if (style == ReturningStyle.RETURNING_INTO) {
+      sb.append("        BEGIN\n");
+    }
+
+    sb.append("        INSERT INTO ").append(tableName).append("\n");
+    appendInsertColumns(sb, insertFields, versionField, defaultedFlag, quoter);
+    if (style == ReturningStyle.OUTPUT) {
+      sb.append("        ").append(outputInserted(fields, quoter)).append("\n");
+    }
+    appendInsertValues(sb, insertFields, versionField, defaultedFlag, quoter.dialect());
+    appendReturningTail(sb, style, fields, selectColumns, quoter);
+
+    sb.append("      </when>\n")
+        .append("      <otherwise>\n");
+
+    switch (style) {
+      case FINAL_TABLE -> sb.append("        SELECT ").append(selectColumns).append(" FROM FINAL TABLE (INSERT INTO ")
+          .append(tableName).append(" DEFAULT VALUES)\n");
+      case OUTPUT -> sb.append("        INSERT INTO ").append(tableName).append(" ")
+          .append(outputInserted(fields, quoter)).append(" DEFAULT VALUES\n");
+      case RETURNING -> sb.append("        INSERT INTO ").append(tableName).append(" DEFAULT VALUES RETURNING ")
+          .append(selectColumns).append("\n");
+      default -> sb.append("        BEGIN INSERT INTO ").append(tableName).append(" DEFAULT VALUES; END;\n");
+    }
+
+    sb.append("      </otherwise>\n")
+        .append("    </choose>\n")
+        .append(style == ReturningStyle.RETURNING_INTO ? "  </update>\n\n" : "  </select>\n\n");
+    return sb.toString();
+  }
+
+  private static String buildUpdateReturning(ReturningStyle style,
+                                             String tableName,
+                                             List<Field> fields,
+                                             String pkColumn,
+                                             String pkProperty,
+                                             Field softDeleteField,
+                                             Field versionField,
+                                             Field partitionField,
+                                             String selectColumns,
+                                             String resultTypeName,
+                                             String nowFn,
+                                             IdentifierQuoter quoter) {
+    List<Field> updatableFields = updatableFieldsOf(fields, pkProperty, versionField);
+
+    StringBuilder sb = new StringBuilder();
+    sb.append(returningOpenTag(style, "updateReturning", resultTypeName))
+        .append("    <choose>\n")
+        .append("      <when test=\"").append(nonEmptyTest(updatableFields)).append("\">\n");
+
+    if (style == ReturningStyle.FINAL_TABLE) {
+      sb.append("        SELECT ").append(selectColumns).append(" FROM FINAL TABLE (\n");
+    }
+
+    sb.append("        UPDATE ").append(tableName).append("\n");
+    appendUpdateSet(sb, updatableFields, hasUpdatedAt(fields), versionField, nowFn, quoter);
+    if (style == ReturningStyle.OUTPUT) {
+      sb.append("        ").append(outputInserted(fields, quoter)).append("\n");
+    }
+    appendUpdateWhere(sb, pkColumn, pkProperty, softDeleteField, versionField, partitionField, quoter);
+    appendReturningTail(sb, style, fields, selectColumns, quoter);
+
+    // 수정할 필드가 없으면 0건 (update와 동일)
+    sb.append("      </when>\n")
+        .append("      <otherwise>\n")
+        .append("        SELECT ").append(selectColumns).append(" FROM ").append(tableName).append(" WHERE 1 = 0\n")
+        .append("      </otherwise>\n")
+        .append("    </choose>\n")
+        .append("  </select>\n\n");
+    return sb.toString();
+  }
+
+  // RETURNING 계열은 결과 row를 받는 select (쓰기이므로 캐시 flush), Oracle은 OUT 파라미터 CALLABLE
+  private static String returningOpenTag(ReturningStyle style, String id, String resultTypeName) {
+    if (style == ReturningStyle.RETURNING_INTO) {
+      return "  <update id=\"" + id + "\" statementType=\"CALLABLE\">\n";
+    }
+    return "  <select id=\"" + id + "\" resultType=\"" + resultTypeName + "\" flushCache=\"true\" useCache=\"false\">\n";
+  }
+
+  private static void appendReturningTail(StringBuilder sb,
+                                          ReturningStyle style,
+                                          List<Field> fields,
+                                          String selectColumns,
+                                          IdentifierQuoter quoter) {
+    switch (style) {
+      case RETURNING -> sb.append("        RETURNING ").append(selectColumns).append("\n");
+      case FINAL_TABLE -> sb.append("        )\n");
+      case RETURNING_INTO -> sb.append("        ").append(oracleReturningInto(fields, quoter)).append(";\n")
+          .append("        END;\n");
+      default -> { }
+    }
+  }
+
+  private static String outputInserted(List<Field> fields, IdentifierQuoter quoter) {
+    return fields.stream()
+        .map(f -> "INSERTED." + quoter.column(ColumnAnalyzer.getColumnName(f)))
+        .collect(Collectors.joining(", ", "OUTPUT ", ""));
+  }
+
+  /**
+   * RETURNING c1, c2 INTO #{p1,mode=OUT,jdbcType=..}, ... (jdbcType을 알 수 없는 타입의 필드는 제외)
+   */
+  private static String oracleReturningInto(List<Field> fields, IdentifierQuoter quoter) {
+    List<String> cols = new ArrayList<>();
+    List<String> outs = new ArrayList<>();
+    for (Field f : fields) {
+      String jdbcType = outJdbcType(f.getType());
+      if (jdbcType == null) continue;
+      cols.add(quoter.column(ColumnAnalyzer.getColumnName(f)));
+      outs.add("#{" + f.getName() + ",mode=OUT,jdbcType=" + jdbcType + "}");
+    }
+    return "RETURNING " + String.join(", ", cols) + " INTO " + String.join(", ", outs);
+  }
+
+  private static String outJdbcType(Class<?> t) {
+    if (t == String.class) return "VARCHAR";
+    if (t == Long.class || t == long.class) return "BIGINT";
+    if (t == Integer.class || t == int.class || t == Short.class || t == short.class) return "INTEGER";
+    if (t == Double.class || t == double.class || t == Float.class || t == float.class) return "DOUBLE";
+    if (t == java.math.BigDecimal.class || t == java.math.BigInteger.class) return "DECIMAL";
+    if (t == Boolean.class || t == boolean.class) return "BOOLEAN";
+    if (t == java.time.LocalDate.class) return "DATE";
+    if (t == java.time.LocalDateTime.class || t == java.time.OffsetDateTime.class
+        || java.util.Date.class.isAssignableFrom(t)) {
+      return "TIMESTAMP";
+    }
+    return null;
+  }
+
+  /**
+   * update SET 대상 프로퍼티 (interceptor가 no-op 분기(WHERE 1 = 0) 실행 여부를 판단할 때 사용)
+   */
+  public static List<String> updatableProperties(Class<?> entityClass) {
+    ColumnAnalyzer.TableInfo tableInfo = ColumnAnalyzer.analyzeClass(entityClass);
+    List<Field> fields = ColumnAnalyzer.getMappedFields(entityClass);
+    String pkProperty = (tableInfo.getIdField() == null || tableInfo.getIdField().isBlank())
+        ? "id"
+        : tableInfo.getIdField();
+    Field versionField = fields.stream()
+        .filter(f -> f.getName().equals(tableInfo.getVersionField()))
+        .findFirst()
+        .orElse(null);
+    return updatableFieldsOf(fields, pkProperty, versionField)
+        .stream()
+        .map(Field::getName)
+        .collect(Collectors.toList());
+  }
 
-    List<Field> updatableFields = fields.stream()
+  private static List<Field> updatableFieldsOf(List<Field> fields, String pkProperty, Field versionField) {
+    return fields.stream()
         .filter(f -> !isPkField(f, pkProperty))
+        .filter(f -> f != versionField)
         .filter(f -> {
           String c = ColumnAnalyzer.getColumnName(f);
           return c == null || !"updated_at".equalsIgnoreCase(c);
         })
         .collect(Collectors.toList());
+  }
 
-    String nonEmptyTest = updatableFields.isEmpty()
+  private static boolean hasUpdatedAt(List<Field> fields) {
+    return fields.stream()
+        .map(ColumnAnalyzer::getColumnName)
+        .filter(Objects::nonNull)
+        .anyMatch(c -> "updated_at".equalsIgnoreCase(c));
+  }
+
+  private static String nonEmptyTest(List<Field> updatableFields) {
+    return updatableFields.isEmpty()
         ? "false"
         : updatableFields.stream().map(f -> f.getName() + " != null").collect(Collectors.joining(" or "));
+  }
 
-    StringBuilder sb = new StringBuilder();
-    sb.append("  <update id=\"update\">\n");
-
-    if (!allowEmptySet) {
-      sb.append("    <choose>\n")
-          .append("      <when test=\"").append(nonEmptyTest).append("\">\n");
-    }
-
-    sb.append("        UPDATE ").append(tableName).append("\n")
-        .append("        <set>\n");
+  private static void appendUpdateSet(StringBuilder sb,
+                                      List<Field> updatableFields,
+                                      boolean hasUpdatedAt,
+                                      Field versionField,
+                                      String nowFn,
+                                      IdentifierQuoter quoter) {
+    sb.append("        <set>\n");
 
     for (Field f : updatableFields) {
       String col = quoter.column(ColumnAnalyzer.getColumnName(f));
@@ -560,27 +1187,256 @@ public class AutoSqlBuilder {
       sb.append("          ").append(quoter.column("updated_at")).append(" = ").append(nowFn).append(",\n");
     }
 
-    sb.append("        </set>\n")
-        .append("        WHERE ").append(pkColumn).append(" = #{").append(pkProperty).append("}\n");
+    if (versionField != null) {
+      sb.append("          ").append(versionIncrement(versionField, quoter)).append(",\n");
+    }
+
+    sb.append("        </set>\n");
+  }
+
+  private static void appendUpdateWhere(StringBuilder sb,
+                                        String pkColumn,
+                                        String pkProperty,
+                                        Field softDeleteField,
+                                        Field versionField,
+                                        Field partitionField,
+                                        IdentifierQuoter quoter) {
+    sb.append("        WHERE ").append(pkColumn).append(" = #{").append(pkProperty).append("}\n");
+
+    // 파티션 탐색 범위 한정 (partition pruning)
+    // - dirty tracking: 변경 전 값으로 (파라미터 값은 SET으로 옮길 새 파티션일 수 있음, 변경 전이 null이면 조건 없음)
+    // - 추적 안 된 파라미터: 파라미터 값이 현재 파티션이라고 보고 그 값으로
+    if (partitionField != null) {
+      String partitionColumn = quoter.column(ColumnAnalyzer.getColumnName(partitionField));
+      String prop = partitionField.getName();
+      sb.append("        <choose>\n")
+          .append("          <when test=\"_parameter instanceof java.util.Map and _parameter.containsKey('")
+          .append(PARTITION_KEY_BEFORE_PARAM).append("')\">\n")
+          .append("            <if test=\"_parameter.").append(PARTITION_KEY_BEFORE_PARAM).append(" != null\">AND ")
+          .append(partitionColumn).append(" = #{").append(PARTITION_KEY_BEFORE_PARAM).append("}</if>\n")
+          .append("          </when>\n")
+          .append("          <when test=\"").append(prop).append(" != null\">AND ")
+          .append(partitionColumn).append(" = #{").append(prop).append("}</when>\n")
+          .append("        </choose>\n");
+    }
+
+    // 버전을 넘긴 경우만 검사 (버전 없는 DTO 수정은 기존처럼 동작)
+    if (versionField != null) {
+      String vProp = versionField.getName();
+      sb.append("        <if test=\"").append(vProp).append(" != null\">AND ")
+          .append(quoter.column(ColumnAnalyzer.getColumnName(versionField)))
+          .append(" = #{").append(vProp).append("}</if>\n");
+    }
 
     if (softDeleteField != null) {
-      String sdCol = quoter.column(ColumnAnalyzer.getColumnName(softDeleteField));
-      sb.append("        AND ").append(sdCol).append(" IS NULL\n");
+      sb.append("        AND ").append(softDeleteAlive(softDeleteField, quoter)).append("\n");
     }
+  }
 
-    if (!allowEmptySet) {
-      sb.append("      </when>\n")
-          .append("      <otherwise>\n")
-          .append("        UPDATE ").append(tableName).append(" SET ").append(pkColumn).append(" = ").append(pkColumn).append("\n")
-          .append("        WHERE 1 = 0\n")
-          .append("      </otherwise>\n")
-          .append("    </choose>\n");
+  /**
+   * SET col = col + #{delta} (읽기-수정-쓰기 없이 원자적 증감)
+   * - column 파라미터는 숫자형 프로퍼티명/컬럼명 화이트리스트로만 SQL에 반영
+   *   (그 외는 interceptor가 IllegalArgumentException, interceptor 없이 실행되면 WHERE 1 = 0 분기로 0건)
+   * - updated_at / @Version / SoftDelete 처리는 buildUpdate와 동일
+   */
+  private static String buildIncrement(boolean batch,
+                                       String tableName,
+                                       List<Field> fields,
+                                       List<Field> counterFields,
+                                       String pkColumn,
+                                       Field softDeleteField,
+                                       Field versionField,
+                                       String nowFn,
+                                       IdentifierQuoter quoter) {
+
+    boolean hasUpdatedAt = hasUpdatedAt(fields);
+
+    String allowedTest = counterFields.stream()
+        .map(AutoSqlBuilder::columnParamTest)
+        .collect(Collectors.joining(" or "));
+    String whenTest = batch
+        ? "ids != null and ids.size() > 0 and (" + allowedTest + ")"
+        : allowedTest;
+
+    StringBuilder sb = new StringBuilder();
+    sb.append("  <update id=\"").append(batch ? "incrementAll" : "increment").append("\">\n")
+        .append("    <choose>\n")
+        .append("      <when test=\"").append(whenTest).append("\">\n")
+        .append("        UPDATE ").append(tableName).append("\n")
+        .append("        <set>\n")
+        .append("          <choose>\n");
+
+    for (Field f : counterFields) {
+      String col = quoter.column(ColumnAnalyzer.getColumnName(f));
+      sb.append("            <when test=\"").append(columnParamTest(f)).append("\">")
+          .append(col).append(" = COALESCE(").append(col).append(", 0) + #{delta},</when>\n");
     }
 
-    sb.append("  </update>\n\n");
+    sb.append("          </choose>\n");
+
+    if (hasUpdatedAt) {
+      sb.append("          ").append(quoter.column("updated_at")).append(" = ").append(nowFn).append(",\n");
+    }
+    if (versionField != null) {
+      sb.append("          ").append(versionIncrement(versionField, quoter)).append(",\n");
+    }
+
+    sb.append("        </set>\n");
+
+    if (batch) {
+      sb.append("        WHERE ").append(pkColumn).append(" IN\n")
+          .append("        <foreach collection=\"ids\" item=\"id\" open=\"(\" separator=\",\" close=\")\">#{id}</foreach>\n");
+    } else {
+      sb.append("        WHERE ").append(pkColumn).append(" = #{id}\n");
+    }
+
+    if (softDeleteField != null) {
+      sb.append("        AND ").append(softDeleteAlive(softDeleteField, quoter)).append("\n");
+    }
+
+    sb.append("      </when>\n")
+        .append("      <otherwise>\n")
+        .append("        UPDATE ").append(tableName).append(" SET ").append(pkColumn).append(" = ").append(pkColumn).append("\n")
+        .append("        WHERE 1 = 0\n")
+        .append("      </otherwise>\n")
+        .append("    </choose>\n")
+        .append("  </update>\n\n");
+
     return sb.toString();
   }
 
+  /**
+   * 다른 worker가 잠근 row는 건너뛰는 잠금 절 (null이면 claimBatch 미생성)
+   * - MYSQL 8+, MARIADB 10.6+ 필요
+   * - SQLSERVER는 테이블 힌트(READPAST)로 처리하므로 빈 문자열
+   * - SQLITE는 row lock이 없어 잠금 절 없이 (DB 단위 쓰기 잠금 + markClaimed 조건으로 보호)
+   */
+  private static String claimLockClause(Dialect dialect) {
+    return switch (dialect) {
+      case POSTGRES, MYSQL, MARIADB, ORACLE, H2 -> "FOR UPDATE SKIP LOCKED";
+      case SQLSERVER, SQLITE -> "";
+      case UNKNOWN -> null;
+    };
+  }
+
+  private static String buildClaimIds(String tableName,
+                                      List<Field> statusFields,
+                                      String pkColumn,
+                                      String idResultType,
+                                      Field softDeleteField,
+                                      Dialect dialect,
+                                      String lockClause,
+                                      IdentifierQuoter quoter) {
+    StringBuilder sb = new StringBuilder();
+    sb.append("  <select id=\"claimIds\" resultType=\"").append(idResultType).append("\" useCache=\"false\">\n")
+        .append("    <choose>\n")
+        .append("      <when test=\"").append(anyColumnParamTest(statusFields)).append("\">\n");
+
+    // Oracle은 FOR UPDATE와 FETCH FIRST/ROWNUM을 함께 쓸 수 없어 RowBounds(limit)로 커서에서 필요한 만큼만 fetch
+    if (dialect == Dialect.SQLSERVER) {
+      sb.append("        SELECT TOP (#{limit}) ").append(pkColumn).append(" FROM ").append(tableName)
+          .append(" WITH (UPDLOCK, ROWLOCK, READPAST)\n");
+    } else {
+      sb.append("        SELECT ").append(pkColumn).append(" FROM ").append(tableName).append("\n");
+    }
+
+    sb.append("        WHERE ").append(columnChoose(statusFields, quoter, " = #{from}")).append("\n");
+    if (softDeleteField != null) {
+      sb.append("        AND ").append(softDeleteAlive(softDeleteField, quoter)).append("\n");
+    }
+    sb.append("        ORDER BY ").append(pkColumn).append("\n");
+
+    if (dialect != Dialect.SQLSERVER && dialect != Dialect.ORACLE) {
+      sb.append("        LIMIT #{limit}\n");
+    }
+    if (!lockClause.isEmpty()) {
+      sb.append("        ").append(lockClause).append("\n");
+    }
+
+    sb.append("      </when>\n")
+        .append("      <otherwise>\n")
+        .append("        SELECT ").append(pkColumn).append(" FROM ").append(tableName).append(" WHERE 1 = 0\n")
+        .append("      </otherwise>\n")
+        .append("    </choose>\n")
+        .append("  </select>\n\n");
+    return sb.toString();
+  }
+
+  /**
+   * claimIds로 잠근 row를 점유 상태로 변경 (아직 from 상태인 row만)
+   */
+  private static String buildMarkClaimed(String tableName,
+                                         List<Field> fields,
+                                         List<Field> statusFields,
+                                         String pkColumn,
+                                         Field versionField,
+                                         String nowFn,
+                                         IdentifierQuoter quoter) {
+    boolean hasUpdatedAt = hasUpdatedAt(fields);
+
+    StringBuilder sb = new StringBuilder();
+    sb.append("  <update id=\"markClaimed\">\n")
+        .append("    <choose>\n")
+        .append("      <when test=\"ids != null and ids.size() > 0 and (").append(anyColumnParamTest(statusFields)).append(")\">\n")
+        .append("        UPDATE ").append(tableName).append("\n")
+        .append("        SET ").append(columnChoose(statusFields, quoter, " = #{to}"));
+
+    if (hasUpdatedAt) {
+      sb.append(", ").append(quoter.column("updated_at")).append(" = ").append(nowFn);
+    }
+    if (versionField != null) {
+      sb.append(", ").append(versionIncrement(versionField, quoter));
+    }
+
+    sb.append("\n")
+        .append("        WHERE ").append(pkColumn).append(" IN\n")
+        .append("        <foreach collection=\"ids\" item=\"id\" open=\"(\" separator=\",\" close=\")\">#{id}</foreach>\n")
+        .append("        AND ").append(columnChoose(statusFields, quoter, " = #{from}")).append("\n")
+        .append("      </when>\n")
+        .append("      <otherwise>\n")
+        .append("        UPDATE ").append(tableName).append(" SET ").append(pkColumn).append(" = ").append(pkColumn).append("\n")
+        .append("        WHERE 1 = 0\n")
+        .append("      </otherwise>\n")
+        .append("    </choose>\n")
+        .append("  </update>\n\n");
+    return sb.toString();
+  }
+
+  private static String anyColumnParamTest(List<Field> candidates) {
+    return candidates.stream()
+        .map(AutoSqlBuilder::columnParamTest)
+        .collect(Collectors.joining(" or "));
+  }
+
+  // column 파라미터 → 화이트리스트 컬럼명 + suffix
+  private static String columnChoose(List<Field> candidates, IdentifierQuoter quoter, String suffix) {
+    StringBuilder sb = new StringBuilder("<choose>");
+    for (Field f : candidates) {
+      sb.append("<when test=\"").append(columnParamTest(f)).append("\">")
+          .append(quoter.column(ColumnAnalyzer.getColumnName(f))).append(suffix).append("</when>");
+    }
+    return sb.append("</choose>").toString();
+  }
+
+  private static Class<?> boxed(Class<?> type) {
+    if (!type.isPrimitive()) return type;
+    if (type == long.class) return Long.class;
+    if (type == int.class) return Integer.class;
+    if (type == short.class) return Short.class;
+    return type;
+  }
+
+  // OGNL에서 한 글자 '...' 리터럴은 char로 해석되므로 문자열 비교는 &quot;로 감쌈
+  private static String columnParamTest(Field f) {
+    String prop = f.getName();
+    String col = ColumnAnalyzer.getColumnName(f);
+    String test = "column == &quot;" + prop + "&quot;";
+    if (col != null && !col.equals(prop)) {
+      test += " or column == &quot;" + col + "&quot;";
+    }
+    return test;
+  }
+
   private static String buildDeleteById(String tableName,
                                         String pkColumn,
                                         String pkProperty,
@@ -589,12 +1445,13 @@ public class AutoSqlBuilder {
                                         IdentifierQuoter quoter) {
     StringBuilder sb = new StringBuilder();
 
+    // 이미 삭제된 row는 건드리지 않음 (삭제 시각 유지, 처리 건수 0)
     if (softDeleteField != null) {
-      String sdCol = quoter.column(ColumnAnalyzer.getColumnName(softDeleteField));
       sb.append("  <update id=\"deleteById\">\n")
           .append("    UPDATE ").append(tableName).append("\n")
-          .append("    SET ").append(sdCol).append(" = ").append(nowFn).append("\n")
+          .append("    SET ").append(softDeleteMark(softDeleteField, nowFn, quoter)).append("\n")
           .append("    WHERE ").append(pkColumn).append(" = #{").append(pkProperty).append("}\n")
+          .append("    AND ").append(softDeleteAlive(softDeleteField, quoter)).append("\n")
           .append("  </update>\n\n");
     } else {
       sb.append("  <delete id=\"deleteById\">\n")
@@ -606,93 +1463,334 @@ public class AutoSqlBuilder {
     return sb.toString();
   }
 
-  private static boolean isPkField(Field f, String pkProperty) {
-    if (f == null) return false;
-    if (pkProperty == null || pkProperty.isBlank()) return false;
+  /**
+   * deleteById + 파티션 키 조건 (#{partitionKey})
+   */
+  private static String buildDeleteByIdInPartition(String tableName,
+                                                   String pkColumn,
+                                                   Field softDeleteField,
+                                                   Field partitionField,
+                                                   String nowFn,
+                                                   IdentifierQuoter quoter) {
+    StringBuilder sb = new StringBuilder();
 
-    if (pkProperty.equals(f.getName())) return true;
+    if (softDeleteField != null) {
+      sb.append("  <update id=\"deleteByIdInPartition\">\n")
+          .append("    UPDATE ").append(tableName).append("\n")
+          .append("    SET ").append(softDeleteMark(softDeleteField, nowFn, quoter)).append("\n")
+          .append("    WHERE ").append(pkColumn).append(" = #{id}\n")
+          .append("    AND ").append(partitionPredicate(partitionField, quoter)).append("\n")
+          .append("    AND ").append(softDeleteAlive(softDeleteField, quoter)).append("\n")
+          .append("  </update>\n\n");
+    } else {
+      sb.append("  <delete id=\"deleteByIdInPartition\">\n")
+          .append("    DELETE FROM ").append(tableName).append("\n")
+          .append("    WHERE ").append(pkColumn).append(" = #{id}\n")
+          .append("    AND ").append(partitionPredicate(partitionField, quoter)).append("\n")
+          .append("  </delete>\n\n");
+    }
 
-    return f.isAnnotationPresent(Id.class) && "id".equals(pkProperty);
+    return sb.toString();
+  }
+
+  private static String buildDeleteAllByIds(String tableName,
+                                            String pkColumn,
+                                            Field softDeleteField,
+                                            String nowFn,
+                                            IdentifierQuoter quoter) {
+    StringBuilder sb = new StringBuilder();
+
+    if (softDeleteField != null) {
+      sb.append("  <update id=\"deleteAllByIds\">\n")
+          .append("    UPDATE ").append(tableName).append("\n")
+          .append("    SET ").append(softDeleteMark(softDeleteField, nowFn, quoter)).append("\n");
+      appendIdsWhere(sb, pkColumn);
+      sb.append("    AND ").append(softDeleteAlive(softDeleteField, quoter)).append("\n")
+          .append("  </update>\n\n");
+    } else {
+      sb.append("  <delete id=\"deleteAllByIds\">\n")
+          .append("    DELETE FROM ").append(tableName).append("\n");
+      appendIdsWhere(sb, pkColumn);
+      sb.append("  </delete>\n\n");
+    }
+    return sb.toString();
   }
 
   /**
-   * Dialect-aware identifier quoting
-   * - schema.table, a.b, table.* 같은 dot-path를 segment 별로 quote
+   * @CascadeDelete 자식 삭제: DELETE FROM child WHERE fk IN (SELECT pk FROM parent WHERE pk IN (#{ids}) AND ...)
+   * - 부모 삭제와 같은 조건(살아있는 row, version, partitionKey)으로 부모를 다시 골라 실제로 지워질 부모의 자식만 삭제
+   *   (이미 soft delete된 부모, 버전 불일치, 다른 파티션이면 자식 유지)
+   * - 자식 엔티티 타입에 @SoftDelete가 있으면 살아있는 row만 soft delete UPDATE
+   * - 파라미터는 부모 id 컬렉션(ids) + version/partitionKey(null이면 조건 없음) → 자식 테이블당 statement 1개
    */
-  private static final class IdentifierQuoter {
-    private final Dialect dialect;
-    private final boolean enabled;
-
-    private IdentifierQuoter(Dialect dialect, boolean enabled) {
-      this.dialect = (dialect == null) ? Dialect.UNKNOWN : dialect;
-      this.enabled = enabled;
-    }
-
-    String table(String name) {
-      return quotePath(name);
-    }
-
-    String column(String name) {
-      return quotePath(name);
-    }
-
-    private String quotePath(String raw) {
-      if (!enabled) return raw;
-      if (raw == null || raw.isBlank()) return raw;
-
-      String s = raw.trim();
-      if ("*".equals(s)) return s;
-
-      // 이미 전체가 quote인 경우는 그대로 둠 (단일 식별자)
-      if (isFullyQuoted(s)) return s;
-
-      // dot-path 분해 (schema.table / a.b / table.*)
-      if (s.indexOf('.') >= 0) {
-        String[] parts = s.split("\\.");
-        StringBuilder out = new StringBuilder(s.length() + parts.length * 2);
-
-        for (int i = 0; i < parts.length; i++) {
-          if (i > 0) out.append('.');
-          String part = parts[i] == null ? "" : parts[i].trim();
-          if (part.isEmpty()) {
-            // 비정상 케이스: ".." 같은 입력은 그대로 반영
-            continue;
-          }
-          if ("*".equals(part)) {
-            out.append('*');
-            continue;
-          }
-          if (isFullyQuoted(part)) {
-            out.append(part);
-            continue;
-          }
-          out.append(quoteSingle(part));
-        }
-        return out.toString();
-      }
+  private static String buildCascadeDelete(String statementId,
+                                           Field cascade,
+                                           String parentTable,
+                                           String parentPkColumn,
+                                           Field parentSoftDelete,
+                                           Field parentVersion,
+                                           Field parentPartition,
+                                           String nowFn,
+                                           IdentifierQuoter quoter) {
+    CascadeDelete cd = cascade.getAnnotation(CascadeDelete.class);
+    String childTable = quoter.table(cd.table());
+    String fkColumn = quoter.column(cd.foreignKey());
+
+    Class<?> childType = ColumnAnalyzer.resolveElementType(cascade);
+    Field childSoftDelete = (childType == null) ? null : ColumnAnalyzer.getSoftDeleteField(childType);
+    validateSoftDelete(childSoftDelete);
+
+    StringBuilder sb = new StringBuilder();
+    if (childSoftDelete != null) {
+      sb.append("  <update id=\"").append(statementId).append("\">\n")
+          .append("    UPDATE ").append(childTable).append("\n")
+          .append("    SET ").append(softDeleteMark(childSoftDelete, nowFn, quoter)).append("\n");
+      appendCascadeWhere(sb, fkColumn, parentTable, parentPkColumn, parentSoftDelete, parentVersion, parentPartition, quoter);
+      sb.append("    AND ").append(softDeleteAlive(childSoftDelete, quoter)).append("\n")
+          .append("  </update>\n\n");
+    } else {
+      sb.append("  <delete id=\"").append(statementId).append("\">\n")
+          .append("    DELETE FROM ").append(childTable).append("\n");
+      appendCascadeWhere(sb, fkColumn, parentTable, parentPkColumn, parentSoftDelete, parentVersion, parentPartition, quoter);
+      sb.append("  </delete>\n\n");
+    }
+    return sb.toString();
+  }
 
-      return quoteSingle(s);
+  // 자식 FK가 삭제 조건을 만족하는 부모 pk 중 하나 (빈 컬렉션이면 거짓 조건)
+  private static void appendCascadeWhere(StringBuilder sb,
+                                         String fkColumn,
+                                         String parentTable,
+                                         String parentPkColumn,
+                                         Field parentSoftDelete,
+                                         Field parentVersion,
+                                         Field parentPartition,
+                                         IdentifierQuoter quoter) {
+    sb.append("    <choose>\n")
+        .append("      <when test=\"ids != null and ids.size() > 0\">\n")
+        .append("        WHERE ").append(fkColumn).append(" IN (SELECT ").append(parentPkColumn)
+        .append(" FROM ").append(parentTable).append("\n")
+        .append("        WHERE ").append(parentPkColumn).append(" IN\n")
+        .append("        <foreach collection=\"ids\" item=\"id\" open=\"(\" separator=\",\" close=\")\">#{id}</foreach>\n");
+    if (parentSoftDelete != null) {
+      sb.append("        AND ").append(softDeleteAlive(parentSoftDelete, quoter)).append("\n");
+    }
+    if (parentVersion != null) {
+      sb.append("        <if test=\"version != null\">AND ")
+          .append(quoter.column(ColumnAnalyzer.getColumnName(parentVersion))).append(" = #{version}</if>\n");
     }
+    if (parentPartition != null) {
+      sb.append("        <if test=\"partitionKey != null\">AND ").append(partitionPredicate(parentPartition, quoter))
+          .append("</if>\n");
+    }
+    sb.append("        )\n")
+        .append("      </when>\n")
+        .append("      <otherwise>\n")
+        .append("        WHERE 1 = 0\n")
+        .append("      </otherwise>\n")
+        .append("    </choose>\n");
+  }
 
-    private boolean isFullyQuoted(String s) {
-      if (s == null || s.length() < 2) return false;
-      return (s.startsWith("`") && s.endsWith("`"))
-          || (s.startsWith("\"") && s.endsWith("\""))
-          || (s.startsWith("[") && s.endsWith("]"));
+  // 빈 컬렉션이면 거짓 조건 (IN () 문법 오류 방지)
+  private static void appendIdsWhere(StringBuilder sb, String column) {
+    sb.append("    <choose>\n")
+        .append("      <when test=\"ids != null and ids.size() > 0\">\n")
+        .append("        WHERE ").append(column).append(" IN\n")
+        .append("        <foreach collection=\"ids\" item=\"id\" open=\"(\" separator=\",\" close=\")\">#{id}</foreach>\n")
+        .append("      </when>\n")
+        .append("      <otherwise>\n")
+        .append("        WHERE 1 = 0\n")
+        .append("      </otherwise>\n")
+        .append("    </choose>\n");
+  }
+
+  /**
+   * @OneToMany 자식 조회: SELECT 자식 컬럼 FROM child WHERE fk IN (#{ids})
+   * - 자식 엔티티에 @SoftDelete가 있으면 살아있는 row만
+   */
+  private static String buildOneToManySelect(String statementId, Field association, IdentifierQuoter quoter) {
+    Class<?> childType = ColumnAnalyzer.resolveElementType(association);
+    if (childType == null) {
+      log.warn("MyBatis-Easy: @OneToMany element type unknown, statement skipped. field={}", association);
+      return "";
     }
 
-    private String quoteSingle(String token) {
-      if (token == null || token.isBlank()) return token;
+    ColumnAnalyzer.TableInfo childInfo = ColumnAnalyzer.analyzeClass(childType);
+    String childColumns = childInfo.getFieldColumnMap().values().stream()
+        .filter(Objects::nonNull)
+        .distinct()
+        .map(quoter::column)
+        .collect(Collectors.joining(", "));
+    Field childSoftDelete = ColumnAnalyzer.getSoftDeleteField(childType);
+    validateSoftDelete(childSoftDelete);
 
-      // 이미 보호된 형태면 유지
-      if (isFullyQuoted(token)) return token;
+    String fkColumn = quoter.column(association.getAnnotation(OneToMany.class).foreignKey());
 
-      return switch (dialect) {
-        case MYSQL, MARIADB -> "`" + token + "`";
-        case SQLSERVER -> "[" + token + "]";
-        case POSTGRES, ORACLE, H2, SQLITE, UNKNOWN -> "\"" + token + "\"";
-      };
+    StringBuilder sb = new StringBuilder();
+    sb.append("  <select id=\"").append(statementId).append("\" resultType=\"").append(childType.getName()).append("\">\n")
+        .append("    SELECT ").append(childColumns.isBlank() ? "*" : childColumns)
+        .append(" FROM ").append(quoter.table(childInfo.getTableName())).append("\n");
+    appendIdsWhere(sb, fkColumn);
+    if (childSoftDelete != null) {
+      sb.append("    AND ").append(softDeleteAlive(childSoftDelete, quoter)).append("\n");
     }
+    sb.append("  </select>\n\n");
+    return sb.toString();
+  }
+
+  /**
+   * @OneToMany 필드별 자식 조회 statement id (부모 mapper namespace 기준)
+   */
+  public static String associationStatementId(Field associationField) {
+    return "findAssociation_" + associationField.getName();
+  }
+
+  /**
+   * @CascadeDelete 필드별 자식 삭제 statement id (mapper namespace 기준)
+   */
+  public static String cascadeDeleteStatementId(Field cascadeField) {
+    return "cascadeDelete_" + cascadeField.getName();
+  }
+
+  private static String buildDeleteByIdAndVersion(String tableName,
+                                                  String pkColumn,
+                                                  Field softDeleteField,
+                                                  Field versionField,
+                                                  String nowFn,
+                                                  IdentifierQuoter quoter) {
+    String vCol = quoter.column(ColumnAnalyzer.getColumnName(versionField));
+    StringBuilder sb = new StringBuilder();
+
+    if (softDeleteField != null) {
+      sb.append("  <update id=\"deleteByIdAndVersion\">\n")
+          .append("    UPDATE ").append(tableName).append("\n")
+          .append("    SET ").append(softDeleteMark(softDeleteField, nowFn, quoter)).append(", ")
+          .append(versionIncrement(versionField, quoter)).append("\n")
+          .append("    WHERE ").append(pkColumn).append(" = #{id}\n")
+          .append("    AND ").append(vCol).append(" = #{version}\n")
+          .append("    AND ").append(softDeleteAlive(softDeleteField, quoter)).append("\n")
+          .append("  </update>\n\n");
+    } else {
+      sb.append("  <delete id=\"deleteByIdAndVersion\">\n")
+          .append("    DELETE FROM ").append(tableName).append("\n")
+          .append("    WHERE ").append(pkColumn).append(" = #{id}\n")
+          .append("    AND ").append(vCol).append(" = #{version}\n")
+          .append("  </delete>\n\n");
+    }
+
+    return sb.toString();
+  }
+
+  /**
+   * 버전 증가식 (기존 row의 NULL 버전은 0으로 간주)
+   */
+  private static String versionIncrement(Field versionField, IdentifierQuoter quoter) {
+    String vCol = quoter.column(ColumnAnalyzer.getColumnName(versionField));
+    return vCol + " = COALESCE(" + vCol + ", 0) + 1";
+  }
+
+  /**
+   * SoftDelete "살아있는 row" 조건 (모든 조회/수정 statement 공통)
+   * - 날짜형: col IS NULL
+   * - 플래그: col = notDeletedValue (notDeletedValue가 없으면 NULL 또는 deletedValue가 아닌 값)
+   */
+  private static String softDeleteAlive(Field softDeleteField, IdentifierQuoter quoter) {
+    String sdCol = quoter.column(ColumnAnalyzer.getColumnName(softDeleteField));
+    if (!ColumnAnalyzer.isFlagSoftDelete(softDeleteField)) {
+      return sdCol + " IS NULL";
+    }
+    SoftDelete sd = softDeleteField.getAnnotation(SoftDelete.class);
+    if (!sd.notDeletedValue().isBlank()) {
+      return sdCol + " = " + softDeleteLiteral(softDeleteField, sd.notDeletedValue(), quoter.dialect());
+    }
+    return "(" + sdCol + " IS NULL OR " + sdCol + " &lt;&gt; " + softDeleteLiteral(softDeleteField, sd.deletedValue(), quoter.dialect()) + ")";
+  }
+
+  /**
+   * SoftDelete 삭제 표시 SET 절 (날짜형: 현재 시각 / 플래그: deletedValue)
+   */
+  private static String softDeleteMark(Field softDeleteField, String nowFn, IdentifierQuoter quoter) {
+    String sdCol = quoter.column(ColumnAnalyzer.getColumnName(softDeleteField));
+    if (!ColumnAnalyzer.isFlagSoftDelete(softDeleteField)) {
+      return sdCol + " = " + nowFn;
+    }
+    return sdCol + " = " + softDeleteLiteral(softDeleteField, softDeleteField.getAnnotation(SoftDelete.class).deletedValue(), quoter.dialect());
+  }
+
+  // insert 시 값이 없으면 notDeletedValue로 채울 플래그 필드 (alive 조건이 = notDeletedValue 이므로)
+  private static Field defaultedFlagField(Field softDeleteField) {
+    if (!ColumnAnalyzer.isFlagSoftDelete(softDeleteField)) return null;
+    return softDeleteField.getAnnotation(SoftDelete.class).notDeletedValue().isBlank() ? null : softDeleteField;
+  }
+
+  /**
+   * 플래그 값 SQL literal
+   * - 숫자형 필드 + 정수 값: 그대로 / boolean 필드 + true/false: TRUE/FALSE / 그 외: 문자열
+   * - SQL Server / Oracle(23c 이전)은 boolean literal 미지원 → 1/0 (BIT / NUMBER(1) 컬럼)
+   */
+  private static String softDeleteLiteral(Field softDeleteField, String value, Dialect dialect) {
+    String v = value.trim();
+    Class<?> type = boxed(softDeleteField.getType());
+    if (Number.class.isAssignableFrom(type) && v.matches("-?\\d+")) {
+      return v;
+    }
+    if (type == Boolean.class && (v.equalsIgnoreCase("true") || v.equalsIgnoreCase("false"))) {
+      boolean b = Boolean.parseBoolean(v);
+      if (dialect == Dialect.SQLSERVER || dialect == Dialect.ORACLE) return b ? "1" : "0";
+      return b ? "TRUE" : "FALSE";
+    }
+    return "'" + v.replace("'", "''").replace("&", "&amp;").replace("<", "&lt;") + "'";
+  }
+
+  private static void validateSoftDelete(Field softDeleteField) {
+    if (softDeleteField == null) return;
+    SoftDelete sd = softDeleteField.getAnnotation(SoftDelete.class);
+    if (sd.deletedValue().isBlank() && !sd.notDeletedValue().isBlank()) {
+      throw new IllegalStateException("MyBatis-Easy: @SoftDelete notDeletedValue requires deletedValue. field=" + softDeleteField);
+    }
+  }
+
+  /**
+   * soft delete 조건을 인덱스로 처리하기 위한 DDL 제안
+   * - PostgreSQL/SQLite/SQL Server: 살아있는 row만 담는 partial(filtered) index
+   * - 그 외(MySQL/MariaDB/Oracle/H2 등 partial index 미지원): (soft delete 컬럼, PK) 복합 인덱스
+   */
+  public static String softDeleteIndexDdl(Class<?> entityClass, Dialect dialect) {
+    Field softDeleteField = ColumnAnalyzer.getSoftDeleteField(entityClass);
+    if (softDeleteField == null) return null;
+    ColumnAnalyzer.TableInfo info = ColumnAnalyzer.analyzeClass(entityClass);
+    String pk = (info.getIdColumn() == null || info.getIdColumn().isBlank()) ? "id" : info.getIdColumn();
+    IdentifierQuoter quoter = new IdentifierQuoter(dialect, false);
+    return softDeleteIndexDdl(info.getTableName(), pk, softDeleteField, dialect, quoter);
+  }
+
+  private static String softDeleteIndexDdl(String tableName, String pkColumn, Field softDeleteField,
+                                           Dialect dialect, IdentifierQuoter quoter) {
+    String sdCol = quoter.column(ColumnAnalyzer.getColumnName(softDeleteField));
+    String indexName = "ix_" + stripQuotes(tableName).replace('.', '_') + "_alive";
+    return switch (dialect) {
+      // SQL Server filtered index는 OR를 허용하지 않음 → = 조건/IS NULL 형태일 때만
+      case POSTGRES, SQLITE -> "CREATE INDEX " + indexName + " ON " + tableName + " (" + pkColumn + ") WHERE "
+          + unescapeXml(softDeleteAlive(softDeleteField, quoter));
+      case SQLSERVER -> unescapeXml(softDeleteAlive(softDeleteField, quoter)).contains(" OR ")
+          ? "CREATE INDEX " + indexName + " ON " + tableName + " (" + sdCol + ", " + pkColumn + ")"
+          : "CREATE INDEX " + indexName + " ON " + tableName + " (" + pkColumn + ") WHERE "
+              + unescapeXml(softDeleteAlive(softDeleteField, quoter));
+      default -> "CREATE INDEX " + indexName + " ON " + tableName + " (" + sdCol + ", " + pkColumn + ")";
+    };
+  }
+
+  private static String unescapeXml(String s) {
+    return s.replace("&lt;", "<").replace("&gt;", ">").replace("&amp;", "&");
+  }
+
+  private static boolean isPkField(Field f, String pkProperty) {
+    if (f == null) return false;
+    if (pkProperty == null || pkProperty.isBlank()) return false;
+
+    if (pkProperty.equals(f.getName())) return true;
+
+    return f.isAnnotationPresent(Id.class) && "id".equals(pkProperty);
   }
 
 }
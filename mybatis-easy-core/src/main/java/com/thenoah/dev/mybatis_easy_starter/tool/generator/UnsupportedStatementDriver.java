@@ -0,0 +1,39 @@
+package com.thenoah.dev.mybatis_easy_starter.tool.generator;
+
+import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.parsing.XNode;
+import org.apache.ibatis.scripting.LanguageDriver;
+import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
+import org.apache.ibatis.session.Configuration;
+
+/**
+ * 엔티티/DB 조건상 생성할 수 없는 BaseMapper 메서드용 placeholder statement
+ *
+ * - AutoSqlBuilder가 lang 속성으로 지정 (body = 사유)
+ * - 호출 시 BindingException 대신 사유를 담은 IllegalStateException
+ */
+public class UnsupportedStatementDriver implements LanguageDriver {
+
+  private final XMLLanguageDriver delegate = new XMLLanguageDriver();
+
+  @Override
+  public ParameterHandler createParameterHandler(MappedStatement mappedStatement, Object parameterObject, BoundSql boundSql) {
+    return delegate.createParameterHandler(mappedStatement, parameterObject, boundSql);
+  }
+
+  @Override
+  public SqlSource createSqlSource(Configuration configuration, XNode script, Class<?> parameterType) {
+    return createSqlSource(configuration, script.getStringBody(""), parameterType);
+  }
+
+  @Override
+  public SqlSource createSqlSource(Configuration configuration, String script, Class<?> parameterType) {
+    String reason = (script == null) ? "" : script.trim();
+    return parameterObject -> {
+      throw new IllegalStateException(reason);
+    };
+  }
+}
@@ -0,0 +1,89 @@
+package com.thenoah.dev.mybatis_easy_starter;
+
+import com.thenoah.dev.mybatis_easy_starter.config.MybatisEasyProperties;
+import com.thenoah.dev.mybatis_easy_starter.support.MapperTypeResolver;
+import com.thenoah.dev.mybatis_easy_starter.tool.generator.AutoSqlBuilder;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.mybatis.spring.transaction.SpringManagedTransactionFactory;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용: H2 in-memory DB + AutoSqlBuilder 생성 XML로 SqlSessionFactory 구성 (Spring 없이)
+ */
+public final class H2MapperFixture {
+
+  private static final AtomicInteger SEQ = new AtomicInteger();
+
+  private final DataSource dataSource;
+  private final Configuration configuration;
+
+  private H2MapperFixture(DataSource dataSource, Configuration configuration) {
+    this.dataSource = dataSource;
+    this.configuration = configuration;
+  }
+
+  public static H2MapperFixture create(Interceptor interceptor, String... ddl) throws SQLException {
+    PooledDataSource ds = new PooledDataSource("org.h2.Driver",
+        "jdbc:h2:mem:easy" + SEQ.incrementAndGet() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    try (Connection conn = ds.getConnection(); Statement st = conn.createStatement()) {
+      for (String sql : ddl) st.execute(sql);
+    }
+
+    Configuration cfg = new Configuration(new Environment("test", new JdbcTransactionFactory(), ds));
+    cfg.setMapUnderscoreToCamelCase(true);
+    if (interceptor != null) cfg.addInterceptor(interceptor);
+    return new H2MapperFixture(ds, cfg);
+  }
+
+  /**
+   * AutoSqlBuilder로 mapper XML을 만들어 등록 (자동 설정의 병합 결과와 동일한 형태)
+   */
+  public H2MapperFixture mapper(Class<?> mapperClass, MybatisEasyProperties props) {
+    Class<?> entityClass = MapperTypeResolver.resolveEntityType(mapperClass);
+    String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+        + "<!DOCTYPE mapper PUBLIC \"-//mybatis.org//DTD Mapper 3.0//EN\" \"http://mybatis.org/dtd/mybatis-3-mapper.dtd\">\n"
+        + "<mapper namespace=\"" + mapperClass.getName() + "\">\n"
+        + AutoSqlBuilder.build(entityClass, "", props, "H2")
+        + "</mapper>\n";
+    new XMLMapperBuilder(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), configuration,
+        mapperClass.getName().replace('.', '/') + ".xml", configuration.getSqlFragments()).parse();
+    if (!configuration.hasMapper(mapperClass)) configuration.addMapper(mapperClass);
+    return this;
+  }
+
+  /**
+   * Spring 트랜잭션(DataSourceTransactionManager)에 참여하도록 전환 (SqlSessionTemplate과 함께 사용)
+   */
+  public H2MapperFixture springManaged() {
+    configuration.setEnvironment(new Environment("test", new SpringManagedTransactionFactory(), dataSource));
+    return this;
+  }
+
+  public SqlSessionFactory sessionFactory() {
+    return new SqlSessionFactoryBuilder().build(configuration);
+  }
+
+  public DataSource dataSource() {
+    return dataSource;
+  }
+
+  public void execute(String sql) throws SQLException {
+    try (Connection conn = dataSource.getConnection(); Statement st = conn.createStatement()) {
+      st.execute(sql);
+    }
+  }
+}
@@ -0,0 +1,531 @@
+package com.thenoah.dev.mybatis_easy_starter.core.interceptor;
+
+import com.thenoah.dev.mybatis_easy_starter.H2MapperFixture;
+import com.thenoah.dev.mybatis_easy_starter.config.MybatisEasyProperties;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.CascadeDelete;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.EntityCache;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Id;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.PartitionKey;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.ShardedTable;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.SoftDelete;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Table;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Version;
+import com.thenoah.dev.mybatis_easy_starter.core.mapper.BaseMapper;
+import com.thenoah.dev.mybatis_easy_starter.support.cache.EntityCacheManager;
+import com.thenoah.dev.mybatis_easy_starter.support.dirty.DirtyTracker;
+import com.thenoah.dev.mybatis_easy_starter.support.id.UuidV7Generator;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParameterMappingInterceptorTest {
+
+  @Table(name = "member")
+  static class Member {
+    @Id
+    Long id;
+    String name;
+  }
+
+  interface MemberMapper extends BaseMapper<Member, Long> {
+  }
+
+  @Table(name = "account")
+  static class Account {
+    @Id
+    Long id;
+    String name;
+    @Version
+    Long version;
+  }
+
+  interface AccountMapper extends BaseMapper<Account, Long> {
+  }
+
+  @EntityCache
+  @Table(name = "event")
+  static class Event {
+    @Id
+    Long id;
+    @PartitionKey
+    Integer tenantId;
+    String payload;
+  }
+
+  interface EventMapper extends BaseMapper<Event, Long> {
+  }
+
+  @EntityCache
+  @Table(name = "event")
+  @ShardedTable(strategy = ShardedTable.Strategy.HASH, shards = 2)
+  static class ShardedEvent {
+    @Id
+    Long id;
+    @PartitionKey
+    Integer tenantId;
+    String payload;
+
+    static ShardedEvent of(int tenantId, String payload) {
+      ShardedEvent e = new ShardedEvent();
+      e.tenantId = tenantId;
+      e.payload = payload;
+      return e;
+    }
+  }
+
+  interface ShardedEventMapper extends BaseMapper<ShardedEvent, Long> {
+  }
+
+  @Table(name = "job")
+  static class Job {
+    @Id
+    Long id;
+    String status;
+  }
+
+  interface JobMapper extends BaseMapper<Job, Long> {
+  }
+
+  @Table(name = "orders")
+  static class Order {
+    @Id
+    Long id;
+    @SoftDelete
+    LocalDateTime deletedAt;
+    @CascadeDelete(table = "order_item", foreignKey = "order_id")
+    List<OrderItem> items;
+  }
+
+  @Table(name = "order_item")
+  static class OrderItem {
+    @Id
+    Long id;
+    Long orderId;
+  }
+
+  interface OrderMapper extends BaseMapper<Order, Long> {
+  }
+
+  @Table(name = "doc")
+  static class Doc {
+    @Id
+    Long id;
+    @Version
+    Long version;
+    @CascadeDelete(table = "doc_line", foreignKey = "doc_id")
+    List<DocLine> lines;
+  }
+
+  @Table(name = "doc_line")
+  static class DocLine {
+    @Id
+    Long id;
+    Long docId;
+  }
+
+  interface DocMapper extends BaseMapper<Doc, Long> {
+  }
+
+  @Table(name = "counter")
+  static class Counter {
+    @Id
+    Long id;
+    String name;
+    Integer hits;
+    LocalDateTime updatedAt;
+    @Version
+    Long version;
+    @SoftDelete
+    LocalDateTime deletedAt;
+  }
+
+  interface CounterMapper extends BaseMapper<Counter, Long> {
+  }
+
+  static MybatisEasyProperties props() {
+    MybatisEasyProperties props = new MybatisEasyProperties();
+    props.getPagination().setEnabled(true);
+    return props;
+  }
+
+  @Test
+  void dirtyUpdateWithoutChangesReportsOneRow() throws Exception {
+    ParameterMappingInterceptor interceptor = new ParameterMappingInterceptor();
+    interceptor.setDirtyTracker(new DirtyTracker());
+    SqlSessionFactory factory = H2MapperFixture.create(interceptor,
+            "CREATE TABLE member (id BIGINT PRIMARY KEY, name VARCHAR(50))",
+            "INSERT INTO member (id, name) VALUES (1, 'kim')")
+        .mapper(MemberMapper.class, props())
+        .sessionFactory();
+
+    try (SqlSession session = factory.openSession()) {
+      MemberMapper mapper = session.getMapper(MemberMapper.class);
+      Member member = mapper.findById(1L).orElseThrow();
+
+      assertThat(mapper.update(member)).isEqualTo(1);
+
+      member.name = "lee";
+      assertThat(mapper.update(member)).isEqualTo(1);
+      assertThat(mapper.findById(1L)).get().extracting(m -> m.name).isEqualTo("lee");
+    }
+  }
+
+  @Test
+  void staleVersionUpdateFailsAndEmptyUpdateDoesNot() throws Exception {
+    SqlSessionFactory factory = H2MapperFixture.create(new ParameterMappingInterceptor(),
+            "CREATE TABLE account (id BIGINT PRIMARY KEY, name VARCHAR(50), version BIGINT)",
+            "INSERT INTO account (id, name, version) VALUES (1, 'kim', 0)")
+        .mapper(AccountMapper.class, props())
+        .sessionFactory();
+
+    try (SqlSession session = factory.openSession()) {
+      AccountMapper mapper = session.getMapper(AccountMapper.class);
+      Account first = mapper.findById(1L).orElseThrow();
+      first.name = "lee";
+      assertThat(mapper.update(first)).isEqualTo(1);
+      assertThat(first.version).isEqualTo(1L);
+
+      Account second = new Account();
+      second.id = 1L;
+      second.name = "park";
+      second.version = 0L;
+      assertThatThrownBy(() -> mapper.update(second))
+          .rootCause()
+          .isInstanceOf(OptimisticLockingFailureException.class);
+
+      // 수정할 값이 없으면 no-op 분기 → 0건이지만 버전 충돌 아님
+      Account empty = new Account();
+      empty.id = 1L;
+      empty.version = 1L;
+      assertThat(mapper.update(empty)).isZero();
+    }
+  }
+
+  @Test
+  void deleteByIdAndVersionWithoutVersionFieldFailsWithReason() throws Exception {
+    SqlSessionFactory factory = H2MapperFixture.create(new ParameterMappingInterceptor(),
+            "CREATE TABLE member (id BIGINT PRIMARY KEY, name VARCHAR(50))")
+        .mapper(MemberMapper.class, props())
+        .sessionFactory();
+
+    try (SqlSession session = factory.openSession()) {
+      MemberMapper mapper = session.getMapper(MemberMapper.class);
+      assertThatThrownBy(() -> mapper.deleteByIdAndVersion(1L, 0L))
+          .rootCause()
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessageContaining("requires a @Version field");
+    }
+  }
+
+  @Test
+  void idGeneratorTypeMismatchFailsInsteadOfOmittingPk() throws Exception {
+    MybatisEasyProperties props = props();
+    props.getAutoSql().getGeneratedKey().setStrategy(MybatisEasyProperties.AutoSql.Strategy.UUID_V7);
+    ParameterMappingInterceptor interceptor = new ParameterMappingInterceptor();
+    interceptor.setIdGenerator(new UuidV7Generator());
+    SqlSessionFactory factory = H2MapperFixture.create(interceptor,
+            "CREATE TABLE member (id BIGINT PRIMARY KEY, name VARCHAR(50))")
+        .mapper(MemberMapper.class, props)
+        .sessionFactory();
+
+    try (SqlSession session = factory.openSession()) {
+      Member member = new Member();
+      member.name = "kim";
+      assertThatThrownBy(() -> session.getMapper(MemberMapper.class).insert(member))
+          .rootCause()
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessageContaining("cannot assign an id of type java.lang.Long");
+    }
+  }
+
+  @Test
+  void insertReturningIsCommittedByPlainSqlSessionCommit() throws Exception {
+    H2MapperFixture fixture = H2MapperFixture.create(new ParameterMappingInterceptor(),
+            "CREATE TABLE member (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(50))")
+        .mapper(MemberMapper.class, props());
+    SqlSessionFactory factory = fixture.sessionFactory();
+
+    Member member = new Member();
+    member.name = "kim";
+    try (SqlSession session = factory.openSession()) {
+      assertThat(session.getMapper(MemberMapper.class).insertReturning(member)).isEqualTo(1);
+      session.commit();
+    }
+    assertThat(member.id).isNotNull();
+
+    try (SqlSession session = factory.openSession()) {
+      assertThat(session.getMapper(MemberMapper.class).findById(member.id)).isPresent();
+    }
+  }
+
+  @Test
+  void inPartitionReadsBypassTheIdKeyedEntityCache() throws Exception {
+    MybatisEasyProperties props = props();
+    props.getCache().setEnabled(true);
+    ParameterMappingInterceptor interceptor = new ParameterMappingInterceptor();
+    interceptor.setEntityCacheManager(new EntityCacheManager(props.getCache()));
+    H2MapperFixture fixture = H2MapperFixture.create(interceptor,
+            "CREATE TABLE event (id BIGINT PRIMARY KEY, tenant_id INT, payload VARCHAR(50))",
+            "INSERT INTO event (id, tenant_id, payload) VALUES (1, 1, 'a')")
+        .mapper(EventMapper.class, props);
+    SqlSessionFactory factory = fixture.sessionFactory();
+
+    try (SqlSession session = factory.openSession()) {
+      assertThat(session.getMapper(EventMapper.class).findById(1L)).isPresent(); // 캐시 적재
+    }
+    try (SqlSession session = factory.openSession()) {
+      EventMapper mapper = session.getMapper(EventMapper.class);
+      assertThat(mapper.findByIdInPartition(1L, 2)).isEmpty();
+      assertThat(mapper.findByIdInPartition(1L, 1)).isPresent();
+      assertThat(mapper.findByIdInPartition(2L, 1)).isEmpty(); // miss를 negative 캐시하지 않음
+    }
+
+    fixture.execute("INSERT INTO event (id, tenant_id, payload) VALUES (2, 1, 'b')");
+    try (SqlSession session = factory.openSession()) {
+      assertThat(session.getMapper(EventMapper.class).findById(2L)).isPresent();
+    }
+  }
+
+  @Test
+  void trackedUpdateMovesPartitionKeyAndMatchesThePreviousValue() throws Exception {
+    ParameterMappingInterceptor interceptor = new ParameterMappingInterceptor();
+    interceptor.setDirtyTracker(new DirtyTracker());
+    SqlSessionFactory factory = H2MapperFixture.create(interceptor,
+            "CREATE TABLE event (id BIGINT PRIMARY KEY, tenant_id INT, payload VARCHAR(50))",
+            "INSERT INTO event (id, tenant_id, payload) VALUES (1, 1, 'a')")
+        .mapper(EventMapper.class, props())
+        .sessionFactory();
+
+    try (SqlSession session = factory.openSession()) {
+      EventMapper mapper = session.getMapper(EventMapper.class);
+      Event event = mapper.findById(1L).orElseThrow();
+
+      // 파티션 키만 바꿔도 no-op 분기가 아니라 실제 UPDATE
+      event.tenantId = 2;
+      assertThat(mapper.update(event)).isEqualTo(1);
+      assertThat(mapper.findByIdInPartition(1L, 2)).isPresent();
+
+      event.payload = "b";
+      assertThat(mapper.update(event)).isEqualTo(1);
+      assertThat(mapper.findByIdInPartition(1L, 2)).get().extracting(e -> e.payload).isEqualTo("b");
+    }
+  }
+
+  @Test
+  void untrackedUpdateMatchesThePartitionKeyItCarries() throws Exception {
+    SqlSessionFactory factory = H2MapperFixture.create(new ParameterMappingInterceptor(),
+            "CREATE TABLE event (id BIGINT PRIMARY KEY, tenant_id INT, payload VARCHAR(50))",
+            "INSERT INTO event (id, tenant_id, payload) VALUES (1, 1, 'a')")
+        .mapper(EventMapper.class, props())
+        .sessionFactory();
+
+    try (SqlSession session = factory.openSession()) {
+      EventMapper mapper = session.getMapper(EventMapper.class);
+
+      Event event = new Event();
+      event.id = 1L;
+      event.tenantId = 2;
+      event.payload = "x";
+      // 다른 파티션 값이면 row를 찾지 못함 (추적 없이 파티션 키를 옮기지 않음)
+      assertThat(mapper.update(event)).isZero();
+
+      event.tenantId = 1;
+      assertThat(mapper.update(event)).isEqualTo(1);
+      assertThat(mapper.findByIdInPartition(1L, 1)).get().extracting(e -> e.payload).isEqualTo("x");
+    }
+  }
+
+  @Test
+  void shardedEntityRoutesPerCallAndSkipsIdKeyedCaches() throws Exception {
+    MybatisEasyProperties props = props();
+    props.getCache().setEnabled(true);
+    EntityCacheManager cacheManager = new EntityCacheManager(props.getCache());
+    ParameterMappingInterceptor interceptor = new ParameterMappingInterceptor();
+    interceptor.setEntityCacheManager(cacheManager);
+    interceptor.setDirtyTracker(new DirtyTracker());
+    H2MapperFixture fixture = H2MapperFixture.create(interceptor,
+            "CREATE TABLE event_0 (id BIGINT AUTO_INCREMENT PRIMARY KEY, tenant_id INT, payload VARCHAR(50))",
+            "CREATE TABLE event_1 (id BIGINT AUTO_INCREMENT PRIMARY KEY, tenant_id INT, payload VARCHAR(50))")
+        .mapper(ShardedEventMapper.class, props);
+
+    try (SqlSession session = fixture.sessionFactory().openSession()) {
+      ShardedEventMapper mapper = session.getMapper(ShardedEventMapper.class);
+      // 샤드마다 별도 시퀀스 → 같은 id가 두 샤드에 존재
+      mapper.insert(ShardedEvent.of(1, "odd"));
+      mapper.insert(ShardedEvent.of(2, "even"));
+
+      assertThat(mapper.findByIdInPartition(1L, 1)).get().extracting(e -> e.payload).isEqualTo("odd");
+      assertThat(mapper.findByIdInPartition(1L, 2)).get().extracting(e -> e.payload).isEqualTo("even");
+      assertThat(cacheManager.cacheFor(ShardedEvent.class)).isNull();
+
+      ShardedEvent odd = mapper.findByIdInPartition(1L, 1).orElseThrow();
+      odd.tenantId = 3;
+      assertThatThrownBy(() -> mapper.update(odd))
+          .rootCause()
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessageContaining("cannot be changed by update");
+
+      odd.tenantId = 1;
+      odd.payload = "odd2";
+      assertThat(mapper.update(odd)).isEqualTo(1);
+      assertThat(mapper.findByIdInPartition(1L, 2)).get().extracting(e -> e.payload).isEqualTo("even");
+    }
+  }
+
+  @Test
+  void concurrentClaimsNeverReturnTheSameRow() throws Exception {
+    SqlSessionFactory factory = H2MapperFixture.create(new ParameterMappingInterceptor(),
+            "CREATE TABLE job (id BIGINT PRIMARY KEY, status VARCHAR(20))",
+            "INSERT INTO job (id, status) VALUES (1, 'PENDING'), (2, 'PENDING'), (3, 'PENDING')")
+        .mapper(JobMapper.class, props())
+        .sessionFactory();
+
+    try (SqlSession first = factory.openSession(); SqlSession second = factory.openSession()) {
+      // first가 커밋 전까지 잠금 유지 → second는 잠긴 row를 건너뜀
+      List<Job> a = first.getMapper(JobMapper.class).claimBatch(2, "status", "PENDING", "CLAIMED");
+      List<Job> b = second.getMapper(JobMapper.class).claimBatch(2, "status", "PENDING", "CLAIMED");
+      first.commit();
+      second.commit();
+
+      assertThat(a).extracting(j -> j.id).containsExactly(1L, 2L);
+      assertThat(b).extracting(j -> j.id).containsExactly(3L);
+      assertThat(a).extracting(j -> j.status).containsOnly("CLAIMED");
+    }
+
+    try (SqlSession session = factory.openSession()) {
+      assertThat(session.getMapper(JobMapper.class).claimBatch(2, "status", "PENDING", "CLAIMED")).isEmpty();
+    }
+  }
+
+  @Test
+  void claimOutsideTransactionFailsFast() throws Exception {
+    SqlSessionFactory factory = H2MapperFixture.create(new ParameterMappingInterceptor(),
+            "CREATE TABLE job (id BIGINT PRIMARY KEY, status VARCHAR(20))",
+            "INSERT INTO job (id, status) VALUES (1, 'PENDING')")
+        .mapper(JobMapper.class, props())
+        .sessionFactory();
+
+    try (SqlSession session = factory.openSession(true)) {
+      assertThatThrownBy(() -> session.getMapper(JobMapper.class).claimBatch(1, "status", "PENDING", "CLAIMED"))
+          .rootCause()
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessageContaining("requires an active transaction");
+    }
+  }
+
+  @Test
+  void cascadeSkipsChildrenOfAlreadySoftDeletedParents() throws Exception {
+    SqlSessionFactory factory = H2MapperFixture.create(new ParameterMappingInterceptor(),
+            "CREATE TABLE orders (id BIGINT PRIMARY KEY, deleted_at TIMESTAMP)",
+            "CREATE TABLE order_item (id BIGINT PRIMARY KEY, order_id BIGINT)",
+            "INSERT INTO orders (id, deleted_at) VALUES (1, NULL), (2, CURRENT_TIMESTAMP)",
+            "INSERT INTO order_item (id, order_id) VALUES (10, 1), (11, 1), (20, 2)")
+        .mapper(OrderMapper.class, props())
+        .sessionFactory();
+
+    try (SqlSession session = factory.openSession()) {
+      assertThat(session.getMapper(OrderMapper.class).deleteAllByIds(List.of(1L, 2L))).isEqualTo(1);
+      session.commit();
+
+      // 이미 삭제된 부모(2)의 자식은 그대로
+      assertThat(count(session, "SELECT COUNT(*) FROM order_item WHERE order_id = 1")).isZero();
+      assertThat(count(session, "SELECT COUNT(*) FROM order_item WHERE order_id = 2")).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void cascadeFollowsTheParentVersionOnDeleteByIdAndVersion() throws Exception {
+    SqlSessionFactory factory = H2MapperFixture.create(new ParameterMappingInterceptor(),
+            "CREATE TABLE doc (id BIGINT PRIMARY KEY, version BIGINT)",
+            "CREATE TABLE doc_line (id BIGINT PRIMARY KEY, doc_id BIGINT)",
+            "INSERT INTO doc (id, version) VALUES (1, 3)",
+            "INSERT INTO doc_line (id, doc_id) VALUES (10, 1), (11, 1)")
+        .mapper(DocMapper.class, props())
+        .sessionFactory();
+
+    try (SqlSession session = factory.openSession()) {
+      DocMapper mapper = session.getMapper(DocMapper.class);
+
+      assertThatThrownBy(() -> mapper.deleteByIdAndVersion(1L, 2L))
+          .rootCause()
+          .isInstanceOf(OptimisticLockingFailureException.class);
+      assertThat(count(session, "SELECT COUNT(*) FROM doc_line")).isEqualTo(2);
+
+      assertThat(mapper.deleteByIdAndVersion(1L, 3L)).isEqualTo(1);
+      session.commit();
+      assertThat(count(session, "SELECT COUNT(*) FROM doc_line")).isZero();
+      assertThat(count(session, "SELECT COUNT(*) FROM doc")).isZero();
+    }
+  }
+
+  @Test
+  void incrementAddsDeltaAndMaintainsUpdatedAtAndVersion() throws Exception {
+    SqlSessionFactory factory = H2MapperFixture.create(new ParameterMappingInterceptor(),
+            "CREATE TABLE counter (id BIGINT PRIMARY KEY, name VARCHAR(20), hits INT, updated_at TIMESTAMP,"
+                + " version BIGINT, deleted_at TIMESTAMP)",
+            "INSERT INTO counter (id, name, hits, version, deleted_at) VALUES"
+                + " (1, 'a', 5, 0, NULL), (2, 'b', NULL, 0, NULL), (3, 'c', 1, 0, CURRENT_TIMESTAMP)")
+        .mapper(CounterMapper.class, props())
+        .sessionFactory();
+
+    try (SqlSession session = factory.openSession()) {
+      CounterMapper mapper = session.getMapper(CounterMapper.class);
+
+      assertThat(mapper.increment(1L, "hits", 3)).isEqualTo(1);
+      assertThat(count(session, "SELECT hits FROM counter WHERE id = 1")).isEqualTo(8);
+      assertThat(count(session, "SELECT version FROM counter WHERE id = 1")).isEqualTo(1);
+
+      // NULL은 0으로 보고 증가
+      assertThat(mapper.increment(2L, "hits", 2)).isEqualTo(1);
+      assertThat(count(session, "SELECT hits FROM counter WHERE id = 2")).isEqualTo(2);
+      assertThat(count(session, "SELECT COUNT(*) FROM counter WHERE updated_at IS NOT NULL")).isEqualTo(2);
+
+      // soft delete된 row(3)는 제외
+      assertThat(mapper.incrementAll(List.of(1L, 2L, 3L), "hits", -1)).isEqualTo(2);
+      assertThat(count(session, "SELECT hits FROM counter WHERE id = 1")).isEqualTo(7);
+      assertThat(count(session, "SELECT hits FROM counter WHERE id = 3")).isEqualTo(1);
+      assertThat(count(session, "SELECT version FROM counter WHERE id = 3")).isZero();
+      assertThat(mapper.increment(3L, "hits", 1)).isZero();
+    }
+  }
+
+  @Test
+  void incrementRejectsUnknownAndNonNumericColumns() throws Exception {
+    SqlSessionFactory factory = H2MapperFixture.create(new ParameterMappingInterceptor(),
+            "CREATE TABLE counter (id BIGINT PRIMARY KEY, name VARCHAR(20), hits INT, updated_at TIMESTAMP,"
+                + " version BIGINT, deleted_at TIMESTAMP)")
+        .mapper(CounterMapper.class, props())
+        .sessionFactory();
+
+    try (SqlSession session = factory.openSession()) {
+      CounterMapper mapper = session.getMapper(CounterMapper.class);
+      for (String column : new String[]{"name", "nope", "version", "id"}) {
+        assertThatThrownBy(() -> mapper.increment(1L, column, 1))
+            .as(column)
+            .rootCause()
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("increment column must be a numeric property");
+      }
+      assertThatThrownBy(() -> mapper.incrementAll(List.of(1L), "name", 1))
+          .rootCause()
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  private static long count(SqlSession session, String sql) throws SQLException {
+    try (Statement st = session.getConnection().createStatement(); ResultSet rs = st.executeQuery(sql)) {
+      rs.next();
+      return rs.getLong(1);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.thenoah.dev.mybatis_easy_starter.support.bulk;
+
+import com.thenoah.dev.mybatis_easy_starter.H2MapperFixture;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Id;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.SoftDelete;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Table;
+import com.thenoah.dev.mybatis_easy_starter.support.dialect.Dialect;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkLoaderTest {
+
+  @Table(name = "item")
+  static class Item {
+    @Id
+    Long id;
+    String value; // H2 예약어
+  }
+
+  @Table(name = "post")
+  static class Post {
+    @Id
+    Long id;
+    @SoftDelete(deletedValue = "Y", notDeletedValue = "N")
+    Integer deleted; // 숫자형이지만 정수가 아닌 값 → 문자열 (AutoSqlBuilder literal과 같은 규칙)
+  }
+
+  @Test
+  void batchInsertQuotesIdentifiers() throws Exception {
+    H2MapperFixture fixture = H2MapperFixture.create(null,
+        "CREATE TABLE \"item\" (\"id\" BIGINT PRIMARY KEY, \"value\" VARCHAR(20))");
+    BulkLoader loader = new BulkLoader(fixture.dataSource(), Dialect.H2, 0, 2, true);
+
+    BulkLoader.BulkLoadResult result = loader.load(Item.class, List.of(
+        Map.of("id", 1L, "value", "a"),
+        Map.of("id", 2L, "value", "b"),
+        Map.of("id", 3L, "value", "c")));
+
+    assertThat(result.rows()).isEqualTo(3);
+    assertThat(result.path()).isEqualTo(BulkLoader.Path.BATCH);
+    try (Connection conn = fixture.dataSource().getConnection();
+         Statement st = conn.createStatement();
+         ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM \"item\"")) {
+      rs.next();
+      assertThat(rs.getLong(1)).isEqualTo(3);
+    }
+  }
+
+  @Test
+  void defaultedFlagFollowsBuilderLiteralRules() throws Exception {
+    H2MapperFixture fixture = H2MapperFixture.create(null,
+        "CREATE TABLE post (id BIGINT PRIMARY KEY, deleted VARCHAR(1))");
+    BulkLoader loader = new BulkLoader(fixture.dataSource(), Dialect.H2, 0, 10);
+
+    assertThat(loader.load(Post.class, List.of(Map.of("id", 1L))).rows()).isEqualTo(1);
+    try (Connection conn = fixture.dataSource().getConnection();
+         Statement st = conn.createStatement();
+         ResultSet rs = st.executeQuery("SELECT deleted FROM post WHERE id = 1")) {
+      rs.next();
+      assertThat(rs.getString(1)).isEqualTo("N");
+    }
+  }
+}
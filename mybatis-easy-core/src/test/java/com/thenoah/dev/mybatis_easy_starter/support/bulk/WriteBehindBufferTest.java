@@ -0,0 +1,95 @@
+package com.thenoah.dev.mybatis_easy_starter.support.bulk;
+
+import com.thenoah.dev.mybatis_easy_starter.H2MapperFixture;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Id;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Table;
+import com.thenoah.dev.mybatis_easy_starter.support.dialect.Dialect;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WriteBehindBufferTest {
+
+  @Table(name = "audit_log")
+  static class AuditLog {
+    @Id
+    Long id;
+    String action;
+  }
+
+  @Test
+  void callerThreadWritesDoNotJoinCallerTransaction() throws Exception {
+    H2MapperFixture fixture = H2MapperFixture.create(null,
+        "CREATE TABLE audit_log (id BIGINT PRIMARY KEY, action VARCHAR(20))");
+    BulkLoader loader = new BulkLoader(fixture.dataSource(), Dialect.H2, Integer.MAX_VALUE, 10);
+    WriteBehindBuffer buffer = new WriteBehindBuffer(loader, 1, 1, Duration.ofHours(1),
+        WriteBehindBuffer.Overflow.CALLER_RUNS, null);
+    TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(fixture.dataSource()));
+
+    try {
+      tx.executeWithoutResult(status -> {
+        buffer.enqueue(AuditLog.class, Map.of("id", 1L, "action", "a"));
+        buffer.enqueue(AuditLog.class, Map.of("id", 2L, "action", "b")); // 큐 가득 참 → 호출 스레드에서 기록
+        buffer.flush();
+        status.setRollbackOnly();
+      });
+    } finally {
+      buffer.destroy();
+    }
+
+    try (Connection conn = fixture.dataSource().getConnection();
+         Statement st = conn.createStatement();
+         ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM audit_log")) {
+      rs.next();
+      assertThat(rs.getLong(1)).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void capacityIsHeldUntilTheInsertFinishes() throws Exception {
+    H2MapperFixture fixture = H2MapperFixture.create(null,
+        "CREATE TABLE audit_log (id BIGINT PRIMARY KEY, action VARCHAR(20))");
+    CountDownLatch writing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    BulkLoader slowLoader = new BulkLoader(fixture.dataSource(), Dialect.H2, Integer.MAX_VALUE, 10) {
+      @Override
+      public BulkLoadResult loadDetached(Class<?> entityClass, Iterable<?> rows) {
+        writing.countDown();
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return super.loadDetached(entityClass, rows);
+      }
+    };
+    WriteBehindBuffer buffer = new WriteBehindBuffer(slowLoader, 1, 1, Duration.ofHours(1),
+        WriteBehindBuffer.Overflow.DROP, null);
+
+    try {
+      assertThat(buffer.enqueue(AuditLog.class, Map.of("id", 1L, "action", "a"))).isTrue();
+      assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+      // 1건이 기록 중이므로 큐가 비어 있어도 용량 없음
+      assertThat(buffer.enqueue(AuditLog.class, Map.of("id", 2L, "action", "b"))).isFalse();
+      assertThat(buffer.stats(AuditLog.class).depth()).isEqualTo(1);
+    } finally {
+      release.countDown();
+      buffer.destroy();
+    }
+
+    assertThat(buffer.stats(AuditLog.class).depth()).isZero();
+    assertThat(buffer.stats(AuditLog.class).flushed()).isEqualTo(1);
+    assertThat(buffer.stats(AuditLog.class).dropped()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,51 @@
+package com.thenoah.dev.mybatis_easy_starter.support.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedEntityCacheTest {
+
+  static class Row {
+    Long id;
+    String name;
+
+    Row() {
+    }
+
+    Row(Long id, String name) {
+      this.id = id;
+      this.name = name;
+    }
+  }
+
+  private final BoundedEntityCache cache = new BoundedEntityCache("row", 16,
+      TimeUnit.MINUTES.toNanos(1), TimeUnit.MINUTES.toNanos(1));
+
+  @Test
+  void putAfterInvalidationDuringLoadIsDropped() {
+    long stamp = cache.stamp();
+    cache.invalidate(1L); // 조회 중 다른 트랜잭션 커밋 (키가 없어도 세대 증가)
+    cache.put(1L, new Row(1L, "stale"), stamp);
+
+    assertThat(cache.get(1L)).isNull();
+  }
+
+  @Test
+  void negativePutAfterClearDuringLoadIsDropped() {
+    long stamp = cache.stamp();
+    cache.clear();
+    cache.putNegative(1L, stamp);
+
+    assertThat(cache.get(1L)).isNull();
+  }
+
+  @Test
+  void putWithCurrentStampIsCached() {
+    cache.put(1, new Row(1L, "fresh"), cache.stamp());
+
+    assertThat(cache.get(1L)).isInstanceOfSatisfying(Row.class, r -> assertThat(r.name).isEqualTo("fresh"));
+  }
+}
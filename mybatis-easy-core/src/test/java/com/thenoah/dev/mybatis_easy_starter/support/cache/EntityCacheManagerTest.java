@@ -0,0 +1,54 @@
+package com.thenoah.dev.mybatis_easy_starter.support.cache;
+
+import com.thenoah.dev.mybatis_easy_starter.config.MybatisEasyProperties;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.EntityCache;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Id;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Table;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityCacheManagerTest {
+
+  @EntityCache
+  @Table(name = "order_item")
+  static class OrderItem {
+    @Id
+    Long id;
+
+    OrderItem() {
+    }
+
+    OrderItem(Long id) {
+      this.id = id;
+    }
+  }
+
+  @Test
+  void invalidateAllBlocksReloadUntilCompletionAndClearsAgain() {
+    MybatisEasyProperties.Cache props = new MybatisEasyProperties.Cache();
+    props.setEnabled(true);
+    EntityCacheManager manager = new EntityCacheManager(props);
+    BoundedEntityCache cache = manager.cacheFor(OrderItem.class);
+    cache.put(1L, new OrderItem(1L), cache.stamp());
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      manager.invalidateAll(OrderItem.class);
+      assertThat(cache.get(1L)).isNull();
+      assertThat(manager.isWrittenInCurrentTransaction(OrderItem.class, 2L)).isTrue();
+
+      // 완료 전 다른 세션이 커밋 전 값을 적재해도 완료 후 제거
+      cache.put(2L, new OrderItem(2L), cache.stamp());
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertThat(cache.get(2L)).isNull();
+    assertThat(manager.isWrittenInCurrentTransaction(OrderItem.class, 2L)).isFalse();
+  }
+}
@@ -0,0 +1,71 @@
+package com.thenoah.dev.mybatis_easy_starter.support.cache;
+
+import com.thenoah.dev.mybatis_easy_starter.H2MapperFixture;
+import com.thenoah.dev.mybatis_easy_starter.config.MybatisEasyProperties;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.EntityCache;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Id;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Table;
+import com.thenoah.dev.mybatis_easy_starter.support.dialect.Dialect;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvalidationLogPollerTest {
+
+  @EntityCache
+  @Table(name = "member")
+  static class Member {
+    @Id
+    Long id;
+
+    Member() {
+    }
+
+    Member(Long id) {
+      this.id = id;
+    }
+  }
+
+  @Test
+  void lateCommittedLogBelowTheLastSeenIdIsStillApplied() throws Exception {
+    DataSource ds = H2MapperFixture.create(null).dataSource();
+    InvalidationLog writer = new InvalidationLog("easy_inv_log", "node-a", Dialect.H2);
+    InvalidationLog reader = new InvalidationLog("easy_inv_log", "node-b", Dialect.H2);
+    writer.initializeSchema(ds);
+
+    MybatisEasyProperties.Cache props = new MybatisEasyProperties.Cache();
+    props.setEnabled(true);
+    EntityCacheManager manager = new EntityCacheManager(props);
+    BoundedEntityCache cache = manager.cacheFor(Member.class);
+    for (long id = 1; id <= 3; id++) cache.put(id, new Member(id), cache.stamp());
+
+    InvalidationLogPoller poller = new InvalidationLogPoller(ds, reader, manager, null,
+        Duration.ofSeconds(1), Duration.ofMinutes(1), Duration.ZERO);
+    assertThat(poller.pollOnce()).isZero();
+
+    try (Connection longTx = ds.getConnection(); Connection shortTx = ds.getConnection()) {
+      longTx.setAutoCommit(false);
+      writer.append(longTx, Member.class.getName(), null, 1L);   // log id 1, 아직 커밋 전
+      writer.append(shortTx, Member.class.getName(), null, 2L);  // log id 2, 바로 커밋
+
+      assertThat(poller.pollOnce()).isEqualTo(1);
+      assertThat(cache.get(2L)).isNull();
+      assertThat(cache.get(1L)).isNotNull();
+
+      // 마지막으로 본 id(2)보다 작은 id 1이 늦게 커밋돼도 반영
+      longTx.commit();
+      assertThat(poller.pollOnce()).isEqualTo(1);
+      assertThat(cache.get(1L)).isNull();
+
+      // 자기 노드 로그는 건너뛰고, 이미 처리한 로그는 다시 적용하지 않음
+      reader.append(shortTx, Member.class.getName(), null, 3L);
+      assertThat(poller.pollOnce()).isZero();
+      assertThat(cache.get(3L)).isNotNull();
+      assertThat(poller.pollOnce()).isZero();
+    }
+  }
+}
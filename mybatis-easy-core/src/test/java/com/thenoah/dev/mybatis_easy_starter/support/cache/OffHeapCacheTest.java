@@ -0,0 +1,87 @@
+package com.thenoah.dev.mybatis_easy_starter.support.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapCacheTest {
+
+  // 64바이트 블록 4개
+  private static OffHeapCache cache() {
+    OffHeapCache cache = new OffHeapCache("test");
+    cache.setCapacityBytes(256);
+    cache.setBlockSize(64);
+    cache.initialize();
+    return cache;
+  }
+
+  @Test
+  void valueSpanningSeveralBlocksIsReadBackAsACopy() {
+    OffHeapCache cache = cache();
+    List<String> value = new ArrayList<>(List.of("a".repeat(40), "b".repeat(40)));
+
+    cache.putObject("k", value);
+
+    assertThat(cache.usedBytes()).isGreaterThan(64);
+    @SuppressWarnings("unchecked")
+    List<String> read = (List<String>) cache.getObject("k");
+    assertThat(read).isEqualTo(value).isNotSameAs(value);
+
+    read.add("changed");
+    assertThat(cache.getObject("k")).isEqualTo(value);
+
+    cache.removeObject("k");
+    assertThat(cache.usedBytes()).isZero();
+    assertThat(cache.getObject("k")).isNull();
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedEntriesUntilTheValueFits() {
+    OffHeapCache cache = cache();
+    for (int i = 1; i <= 4; i++) cache.putObject("k" + i, new byte[20]); // 1블록씩
+    assertThat(cache.usedBytes()).isEqualTo(256);
+
+    cache.getObject("k1");
+    cache.putObject("k5", new byte[20]);
+    assertThat(cache.getObject("k2")).isNull();
+    assertThat(cache.getObject("k1")).isNotNull();
+
+    // 위 조회로 접근 순서는 k3, k4, k5, k1 → 3블록 값은 앞의 세 개를 밀어냄
+    cache.putObject("big", new byte[150]);
+    assertThat(cache.getObject("k3")).isNull();
+    assertThat(cache.getObject("k4")).isNull();
+    assertThat(cache.getObject("k5")).isNull();
+    assertThat(cache.getObject("k1")).isNotNull();
+    assertThat((byte[]) cache.getObject("big")).hasSize(150);
+    assertThat(cache.stats().evictions()).isEqualTo(4);
+    assertThat(cache.getSize()).isEqualTo(2);
+  }
+
+  @Test
+  void valueLargerThanTheWholeCacheIsNotStoredAndDropsTheOldValue() {
+    OffHeapCache cache = cache();
+    cache.putObject("k", new byte[20]);
+    cache.putObject("other", new byte[20]);
+
+    cache.putObject("k", new byte[1000]);
+
+    assertThat(cache.getObject("k")).isNull();
+    assertThat(cache.getObject("other")).isNotNull();
+    assertThat(cache.stats().evictions()).isZero();
+  }
+
+  @Test
+  void nonSerializableValuePassesThroughAndDropsTheOldValue() {
+    OffHeapCache cache = cache();
+    cache.putObject("k", new byte[20]);
+
+    cache.putObject("k", new Object());
+
+    assertThat(cache.getObject("k")).isNull();
+    assertThat(cache.getSize()).isZero();
+    assertThat(cache.usedBytes()).isZero();
+  }
+}
@@ -0,0 +1,99 @@
+package com.thenoah.dev.mybatis_easy_starter.support.cache;
+
+import com.thenoah.dev.mybatis_easy_starter.H2MapperFixture;
+import com.thenoah.dev.mybatis_easy_starter.config.MybatisEasyProperties;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Id;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.ReferenceData;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Table;
+import com.thenoah.dev.mybatis_easy_starter.core.interceptor.ParameterMappingInterceptor;
+import com.thenoah.dev.mybatis_easy_starter.core.mapper.BaseMapper;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReferenceDataManagerTest {
+
+  @ReferenceData(refreshSeconds = 0, copyOnRead = false)
+  @Table(name = "currency")
+  static class Currency {
+    @Id
+    Long id;
+    String code;
+    LocalDateTime updatedAt;
+  }
+
+  interface CurrencyMapper extends BaseMapper<Currency, Long> {
+  }
+
+  @Test
+  void loadsSnapshotAndReloadsOnlyWhenTheFingerprintChanges() throws Exception {
+    ReferenceDataManager manager = new ReferenceDataManager(() -> null, null);
+    ParameterMappingInterceptor interceptor = new ParameterMappingInterceptor();
+    interceptor.setReferenceDataManager(manager);
+    H2MapperFixture fixture = H2MapperFixture.create(interceptor,
+            "CREATE TABLE currency (id BIGINT PRIMARY KEY, code VARCHAR(3), updated_at TIMESTAMP)",
+            "INSERT INTO currency (id, code, updated_at) VALUES (1, 'KRW', TIMESTAMP '2026-01-01 00:00:00'),"
+                + " (2, 'USD', TIMESTAMP '2026-01-01 00:00:00')")
+        .mapper(CurrencyMapper.class, new MybatisEasyProperties());
+    SqlSessionFactory factory = fixture.sessionFactory();
+
+    try {
+      manager.initialize(factory);
+      ReferenceDataSnapshot loaded = manager.snapshotOf(Currency.class);
+      assertThat(loaded).isNotNull();
+      assertThat(loaded.size()).isEqualTo(2);
+      assertThat(loaded.getFingerprint()).isNotNull();
+
+      // 변경 없음 → 재적재 안함
+      assertThat(manager.refresh(Currency.class)).isFalse();
+      assertThat(manager.snapshotOf(Currency.class)).isSameAs(loaded);
+
+      // DB를 직접 바꿔도 스냅샷으로 응답
+      fixture.execute("UPDATE currency SET code = 'EUR', updated_at = TIMESTAMP '2026-02-01 00:00:00' WHERE id = 2");
+      try (SqlSession session = factory.openSession()) {
+        assertThat(session.getMapper(CurrencyMapper.class).findById(2L)).get().extracting(c -> c.code).isEqualTo("USD");
+      }
+
+      assertThat(manager.refresh(Currency.class)).isTrue();
+      assertThat(manager.snapshotOf(Currency.class)).isNotSameAs(loaded);
+      try (SqlSession session = factory.openSession()) {
+        CurrencyMapper mapper = session.getMapper(CurrencyMapper.class);
+        assertThat(mapper.findById(2L)).get().extracting(c -> c.code).isEqualTo("EUR");
+        assertThat(mapper.existsById(3L)).isFalse();
+      }
+    } finally {
+      manager.destroy();
+    }
+  }
+
+  @Test
+  void findAllWithoutCopyOnReadReturnsAMutableList() throws Exception {
+    ReferenceDataManager manager = new ReferenceDataManager(() -> null, null);
+    ParameterMappingInterceptor interceptor = new ParameterMappingInterceptor();
+    interceptor.setReferenceDataManager(manager);
+    SqlSessionFactory factory = H2MapperFixture.create(interceptor,
+            "CREATE TABLE currency (id BIGINT PRIMARY KEY, code VARCHAR(3), updated_at TIMESTAMP)",
+            "INSERT INTO currency (id, code) VALUES (1, 'KRW'), (2, 'USD')")
+        .mapper(CurrencyMapper.class, new MybatisEasyProperties())
+        .sessionFactory();
+
+    try {
+      manager.initialize(factory);
+      try (SqlSession session = factory.openSession()) {
+        List<Currency> all = session.getMapper(CurrencyMapper.class).findAll();
+        all.sort(Comparator.comparing((Currency c) -> c.code).reversed());
+        all.remove(0);
+        assertThat(all).extracting(c -> c.code).containsExactly("KRW");
+      }
+      assertThat(manager.snapshotOf(Currency.class).findAll()).hasSize(2);
+    } finally {
+      manager.destroy();
+    }
+  }
+}
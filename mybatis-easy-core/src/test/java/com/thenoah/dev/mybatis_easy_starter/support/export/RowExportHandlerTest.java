@@ -0,0 +1,80 @@
+package com.thenoah.dev.mybatis_easy_starter.support.export;
+
+import com.thenoah.dev.mybatis_easy_starter.H2MapperFixture;
+import com.thenoah.dev.mybatis_easy_starter.config.MybatisEasyProperties;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Id;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Table;
+import com.thenoah.dev.mybatis_easy_starter.core.mapper.BaseMapper;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RowExportHandlerTest {
+
+  @Table(name = "export_row")
+  static class ExportRow {
+    @Id
+    Long id;
+    String name;
+    Double score;
+    byte[] data;
+  }
+
+  interface ExportRowMapper extends BaseMapper<ExportRow, Long> {
+  }
+
+  private static SqlSessionFactory factory() throws Exception {
+    return H2MapperFixture.create(null,
+            "CREATE TABLE export_row (id BIGINT PRIMARY KEY, name VARCHAR(50), score DOUBLE PRECISION, data VARBINARY(16))",
+            "INSERT INTO export_row (id, name, score, data) VALUES"
+                + " (1, 'plain', 1.5, X'00FF10'),"
+                + " (2, 'a,b \"q\"' || CHAR(10) || 'next', CAST('NaN' AS DOUBLE PRECISION), NULL),"
+                + " (3, NULL, NULL, NULL)")
+        .mapper(ExportRowMapper.class, new MybatisEasyProperties())
+        .sessionFactory();
+  }
+
+  @Test
+  void csvQuotesSpecialCharactersAndEncodesBinary() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (SqlSession session = factory().openSession()) {
+      assertThat(session.getMapper(ExportRowMapper.class).exportAll(out, ExportFormat.CSV)).isEqualTo(3);
+    }
+
+    String base64 = Base64.getEncoder().encodeToString(new byte[]{0x00, (byte) 0xFF, 0x10});
+    assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+        "id,name,score,data\r\n"
+            + "1,plain,1.5," + base64 + "\r\n"
+            + "2,\"a,b \"\"q\"\"\nnext\",NaN,\r\n"
+            + "3,,,\r\n");
+  }
+
+  @Test
+  void jsonLinesWritesNonFiniteNumbersAsStrings() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (SqlSession session = factory().openSession()) {
+      assertThat(session.getMapper(ExportRowMapper.class).exportAll(out, ExportFormat.JSON_LINES)).isEqualTo(3);
+    }
+
+    String base64 = Base64.getEncoder().encodeToString(new byte[]{0x00, (byte) 0xFF, 0x10});
+    assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+        "{\"id\":1,\"name\":\"plain\",\"score\":1.5,\"data\":\"" + base64 + "\"}",
+        "{\"id\":2,\"name\":\"a,b \\\"q\\\"\\nnext\",\"score\":\"NaN\",\"data\":null}",
+        "{\"id\":3,\"name\":null,\"score\":null,\"data\":null}");
+  }
+
+  @Test
+  void emptyCsvExportStillWritesTheHeader() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    RowExportHandler handler = new RowExportHandler(out, ExportFormat.CSV, List.of("id", "name"));
+    assertThat(handler.finish()).isZero();
+    assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("id,name\r\n");
+  }
+}
@@ -0,0 +1,171 @@
+package com.thenoah.dev.mybatis_easy_starter.support.lifecycle;
+
+import com.thenoah.dev.mybatis_easy_starter.H2MapperFixture;
+import com.thenoah.dev.mybatis_easy_starter.config.MybatisEasyProperties;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Id;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.SoftDelete;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Table;
+import com.thenoah.dev.mybatis_easy_starter.core.mapper.BaseMapper;
+import com.thenoah.dev.mybatis_easy_starter.support.dialect.Dialect;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SoftDeleteLifecycleJobTest {
+
+  private static final String CHECKPOINT = "lifecycle_checkpoint";
+  private static final String EXPIRED = "DATEADD('DAY', -10, CURRENT_TIMESTAMP)";
+
+  @Table(name = "note")
+  static class Note {
+    @Id
+    Long id;
+    @SoftDelete
+    LocalDateTime deletedAt;
+  }
+
+  interface NoteMapper extends BaseMapper<Note, Long> {
+  }
+
+  @Table(name = "token")
+  static class Token {
+    @Id
+    UUID id;
+    @SoftDelete
+    LocalDateTime deletedAt;
+  }
+
+  interface TokenMapper extends BaseMapper<Token, UUID> {
+  }
+
+  @Table(name = "daily")
+  static class Daily {
+    @Id
+    LocalDate id;
+    @SoftDelete
+    LocalDateTime deletedAt;
+  }
+
+  interface DailyMapper extends BaseMapper<Daily, LocalDate> {
+  }
+
+  private static SoftDeleteLifecycleJob job(H2MapperFixture fixture, SoftDeleteLifecycleJob.Mode mode) {
+    SqlSessionFactory factory = fixture.sessionFactory();
+    SoftDeleteLifecycleJob job = new SoftDeleteLifecycleJob(fixture.dataSource(), () -> factory, Dialect.H2,
+        mode, Duration.ofDays(1), Duration.ofHours(1), 2, Duration.ZERO, "_archive", CHECKPOINT);
+    job.initializeSchema();
+    job.afterSingletonsInstantiated();
+    return job;
+  }
+
+  @Test
+  void archivesInKeysetBatchesAndResumesFromTheCheckpoint() throws Exception {
+    H2MapperFixture fixture = H2MapperFixture.create(null,
+            "CREATE TABLE note (id BIGINT PRIMARY KEY, deleted_at TIMESTAMP)",
+            "CREATE TABLE note_archive (id BIGINT PRIMARY KEY, deleted_at TIMESTAMP)",
+            "INSERT INTO note (id, deleted_at) SELECT X, " + EXPIRED + " FROM SYSTEM_RANGE(1, 5)",
+            "INSERT INTO note (id, deleted_at) VALUES (6, CURRENT_TIMESTAMP), (7, NULL)",
+            // 세 번째 batch(id 5)의 archive INSERT가 PK 충돌로 실패하도록
+            "INSERT INTO note_archive (id, deleted_at) VALUES (5, NULL)")
+        .mapper(NoteMapper.class, new MybatisEasyProperties());
+    SoftDeleteLifecycleJob job = job(fixture, SoftDeleteLifecycleJob.Mode.ARCHIVE);
+    try {
+      assertThat(job.targetTables()).containsExactly("note");
+
+      // batch 1, 2(id 1~4)는 커밋되고 실패한 batch 3만 롤백 → checkpoint는 마지막으로 커밋한 PK
+      assertThatThrownBy(job::runOnce).isInstanceOf(SQLException.class);
+      assertThat(ids(fixture.dataSource(), "SELECT id FROM note ORDER BY id")).containsExactly("5", "6", "7");
+      assertThat(checkpoint(fixture.dataSource())).containsExactly("note:4");
+
+      fixture.execute("DELETE FROM note_archive WHERE id = 5");
+
+      assertThat(job.runOnce()).containsEntry(Note.class, 1L);
+      assertThat(ids(fixture.dataSource(), "SELECT id FROM note ORDER BY id")).containsExactly("6", "7");
+      assertThat(ids(fixture.dataSource(), "SELECT id FROM note_archive ORDER BY id"))
+          .containsExactly("1", "2", "3", "4", "5");
+      assertThat(checkpoint(fixture.dataSource())).isEmpty();
+    } finally {
+      job.destroy();
+    }
+  }
+
+  @Test
+  void clearsTheCheckpointWhenTheLastBatchIsFull() throws Exception {
+    H2MapperFixture fixture = H2MapperFixture.create(null,
+            "CREATE TABLE note (id BIGINT PRIMARY KEY, deleted_at TIMESTAMP)",
+            "INSERT INTO note (id, deleted_at) SELECT X, " + EXPIRED + " FROM SYSTEM_RANGE(1, 4)")
+        .mapper(NoteMapper.class, new MybatisEasyProperties());
+    SoftDeleteLifecycleJob job = job(fixture, SoftDeleteLifecycleJob.Mode.PURGE);
+    try {
+      // 2건씩 두 batch가 꽉 차고, 빈 세 번째 조회에서 한 바퀴 완료
+      assertThat(job.runOnce()).containsEntry(Note.class, 4L);
+      assertThat(ids(fixture.dataSource(), "SELECT id FROM note")).isEmpty();
+      assertThat(checkpoint(fixture.dataSource())).isEmpty();
+    } finally {
+      job.destroy();
+    }
+  }
+
+  @Test
+  void resumesUuidKeysWithTheirOwnType() throws Exception {
+    UUID first = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    UUID second = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    UUID third = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    H2MapperFixture fixture = H2MapperFixture.create(null,
+            "CREATE TABLE token (id UUID PRIMARY KEY, deleted_at TIMESTAMP)",
+            "INSERT INTO token (id, deleted_at) VALUES ('" + first + "', " + EXPIRED + "), ('"
+                + second + "', " + EXPIRED + "), ('" + third + "', " + EXPIRED + ")")
+        .mapper(TokenMapper.class, new MybatisEasyProperties());
+    SoftDeleteLifecycleJob job = job(fixture, SoftDeleteLifecycleJob.Mode.PURGE);
+    try {
+      fixture.execute("INSERT INTO " + CHECKPOINT + " (table_name, last_key) VALUES ('token', '" + first + "')");
+
+      assertThat(job.runOnce()).containsEntry(Token.class, 2L);
+      assertThat(ids(fixture.dataSource(), "SELECT id FROM token")).containsExactly(first.toString());
+      assertThat(checkpoint(fixture.dataSource())).isEmpty();
+    } finally {
+      job.destroy();
+    }
+  }
+
+  @Test
+  void skipsEntitiesWhoseKeyCannotBeResumed() throws Exception {
+    H2MapperFixture fixture = H2MapperFixture.create(null,
+            "CREATE TABLE daily (id DATE PRIMARY KEY, deleted_at TIMESTAMP)")
+        .mapper(DailyMapper.class, new MybatisEasyProperties());
+    SoftDeleteLifecycleJob job = job(fixture, SoftDeleteLifecycleJob.Mode.PURGE);
+    try {
+      assertThat(job.targetTables()).isEmpty();
+    } finally {
+      job.destroy();
+    }
+  }
+
+  private static List<String> ids(DataSource dataSource, String sql) throws SQLException {
+    List<String> out = new ArrayList<>();
+    try (Connection conn = dataSource.getConnection();
+         Statement st = conn.createStatement();
+         ResultSet rs = st.executeQuery(sql)) {
+      while (rs.next()) out.add(rs.getString(1));
+    }
+    return out;
+  }
+
+  private static List<String> checkpoint(DataSource dataSource) throws SQLException {
+    return ids(dataSource, "SELECT table_name || ':' || last_key FROM " + CHECKPOINT);
+  }
+}
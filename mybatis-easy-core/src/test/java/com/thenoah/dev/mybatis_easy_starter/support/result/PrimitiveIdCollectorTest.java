@@ -0,0 +1,46 @@
+package com.thenoah.dev.mybatis_easy_starter.support.result;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrimitiveIdCollectorTest {
+
+  @Test
+  void promotesToLongWhenAnIdLeavesTheIntRange() {
+    PrimitiveIdCollector collector = new PrimitiveIdCollector(1);
+    for (int i = 1; i <= 20; i++) collector.add(i);
+    collector.add(Integer.MAX_VALUE + 1L);
+    collector.add(-5);
+
+    assertThat(collector.size()).isEqualTo(22);
+    long[] ids = collector.toLongArray();
+    assertThat(ids).hasSize(22);
+    assertThat(ids[0]).isEqualTo(1);
+    assertThat(ids[19]).isEqualTo(20);
+    assertThat(ids[20]).isEqualTo(Integer.MAX_VALUE + 1L);
+    assertThat(ids[21]).isEqualTo(-5);
+  }
+
+  @Test
+  void toIntArrayFailsOnOverflowOnlyAfterPromotion() {
+    PrimitiveIdCollector ints = new PrimitiveIdCollector();
+    ints.add(Integer.MIN_VALUE);
+    ints.add(Integer.MAX_VALUE);
+    assertThat(ints.toIntArray()).containsExactly(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+    PrimitiveIdCollector longs = new PrimitiveIdCollector();
+    longs.add(7);
+    longs.add(Long.MAX_VALUE);
+    assertThatThrownBy(longs::toIntArray).isInstanceOf(ArithmeticException.class);
+    assertThat(longs.toLongArray()).containsExactly(7L, Long.MAX_VALUE);
+  }
+
+  @Test
+  void emptyCollectorReturnsEmptyArrays() {
+    PrimitiveIdCollector collector = new PrimitiveIdCollector();
+    assertThat(collector.toLongArray()).isEmpty();
+    assertThat(collector.toIntArray()).isEmpty();
+  }
+}
@@ -0,0 +1,122 @@
+package com.thenoah.dev.mybatis_easy_starter.support.result;
+
+import com.thenoah.dev.mybatis_easy_starter.core.mapper.BaseMapper;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.EOFException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpillableResultListTest {
+
+  interface RowMapper extends BaseMapper<String, Long> {
+  }
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void readsRecordsAcrossSmallMapWindows() {
+    List<String> expected = new ArrayList<>();
+    // 64바이트 window: 길이/본문이 window 경계에 걸치는 레코드와 window보다 큰 레코드 포함
+    try (SpillableResultList<String> list = new SpillableResultList<>(2, dir, 64)) {
+      for (int i = 0; i < 12; i++) {
+        String row = "row-" + i + "x".repeat(i * 9);
+        expected.add(row);
+        list.add(row);
+      }
+      String large = "y".repeat(500);
+      expected.add(large);
+      list.add(large);
+
+      assertThat(list.inMemoryCount()).isEqualTo(2);
+      assertThat(list.spilledCount()).isEqualTo(11);
+      assertThat(list).containsExactlyElementsOf(expected);
+      assertThat(list).containsExactlyElementsOf(expected); // 순회마다 새 reader
+
+      Iterator<String> it = list.iterator();
+      while (it.hasNext()) it.next();
+      assertThatThrownBy(it::next).isInstanceOf(NoSuchElementException.class);
+    }
+  }
+
+  @Test
+  void truncatedSpillFileFailsWithEof() throws Exception {
+    try (SpillableResultList<String> list = new SpillableResultList<>(0, dir, 64)) {
+      list.add("first");
+      list.add("second");
+      list.seal();
+
+      Path file = spillFiles().get(0);
+      try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+        ch.truncate(ch.size() - 3);
+      }
+
+      Iterator<String> it = list.iterator();
+      assertThat(it.next()).isEqualTo("first");
+      assertThatThrownBy(it::next)
+          .isInstanceOf(UncheckedIOException.class)
+          .hasCauseInstanceOf(EOFException.class);
+    }
+  }
+
+  @Test
+  void closeDeletesTheSpillFile() throws Exception {
+    SpillableResultList<String> list = new SpillableResultList<>(1, dir, 64);
+    list.add("kept");
+    list.add("spilled");
+    assertThat(spillFiles()).hasSize(1);
+
+    list.close();
+    assertThat(spillFiles()).isEmpty();
+    assertThatThrownBy(list::iterator).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> list.add("late")).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void findAllSpillableClosesTheListWhenFindAllFails() {
+    AtomicReference<SpillingResultHandler<String>> seen = new AtomicReference<>();
+    RowMapper mapper = (RowMapper) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{RowMapper.class},
+        (proxy, method, args) -> {
+          if (method.isDefault()) return InvocationHandler.invokeDefault(proxy, method, args);
+          if (method.getName().equals("findAll") && args != null && args.length == 1) {
+            SpillingResultHandler<String> handler = (SpillingResultHandler<String>) args[0];
+            seen.set(handler);
+            DefaultResultContext<String> context = new DefaultResultContext<>();
+            context.nextResultObject("spilled");
+            handler.handleResult(context);
+            throw new IllegalStateException("query failed");
+          }
+          throw new UnsupportedOperationException(method.getName());
+        });
+
+    assertThatThrownBy(() -> mapper.findAllSpillable(0)).hasMessage("query failed");
+    assertThat(seen.get()).isNotNull();
+    assertThatThrownBy(() -> seen.get().getResult().iterator())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("closed");
+  }
+
+  private List<Path> spillFiles() throws Exception {
+    try (Stream<Path> files = Files.list(dir)) {
+      return files.toList();
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.thenoah.dev.mybatis_easy_starter.support.shard;
+
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Id;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.PartitionKey;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.ShardedTable;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Table;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardRouterTest {
+
+  enum Region { KR, US }
+
+  @Table(name = "event")
+  @ShardedTable(strategy = ShardedTable.Strategy.HASH, shards = 4)
+  static class Event {
+    @Id
+    Long id;
+    @PartitionKey
+    Object shardKey;
+  }
+
+  private final ShardRouter router = new ShardRouter();
+
+  @Test
+  void hashIsStableAcrossIntegralTypes() {
+    int expected = ShardRouter.hashOf(42L);
+    assertThat(ShardRouter.hashOf(42)).isEqualTo(expected);
+    assertThat(ShardRouter.hashOf((short) 42)).isEqualTo(expected);
+    assertThat(ShardRouter.hashOf(BigInteger.valueOf(42))).isEqualTo(expected);
+    assertThat(ShardRouter.hashOf(new BigDecimal("42.00"))).isEqualTo(expected);
+    assertThat(ShardRouter.hashOf(new BigInteger("123456789012345678901234567890")))
+        .isEqualTo(ShardRouter.hashOf(new BigDecimal("123456789012345678901234567890")));
+  }
+
+  @Test
+  void hashUsesFixedEncodingsForStringsEnumsAndUuids() {
+    // CRC32("abc") = 0x352441C2
+    assertThat(ShardRouter.hashOf("abc")).isEqualTo(0x352441C2);
+    assertThat(ShardRouter.hashOf(new StringBuilder("abc"))).isEqualTo(0x352441C2);
+    assertThat(ShardRouter.hashOf(Region.KR)).isEqualTo(ShardRouter.hashOf("KR"));
+
+    UUID uuid = new UUID(7L, 3L);
+    assertThat(ShardRouter.hashOf(uuid)).isEqualTo(Long.hashCode(7L ^ 3L));
+  }
+
+  @Test
+  void hashRejectsKeysWithoutStableEncoding() {
+    assertThatThrownBy(() -> ShardRouter.hashOf(1.5d))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("java.lang.Double");
+    assertThatThrownBy(() -> router.physicalTable(Event.class, new Object()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void routedStatementIsSharedAcrossPhysicalTables() {
+    Configuration configuration = new Configuration();
+    MappedStatement ms = new MappedStatement.Builder(configuration, "x.EventMapper.findByIdInPartition",
+        new StaticSqlSource(configuration, "SELECT id FROM event WHERE id = ?"), SqlCommandType.SELECT).build();
+
+    MappedStatement routed = router.route(ms, Event.class);
+    assertThat(router.route(ms, Event.class)).isSameAs(routed);
+
+    assertThat(routed.getBoundSql(Map.of("partitionKey", 1L)).getSql())
+        .isEqualTo("SELECT id FROM " + router.physicalTable(Event.class, 1L) + " WHERE id = ?");
+    assertThat(routed.getBoundSql(Map.of("partitionKey", 2L)).getSql())
+        .isEqualTo("SELECT id FROM " + router.physicalTable(Event.class, 2L) + " WHERE id = ?");
+    assertThat(routed.getBoundSql(Map.of()).getSql()).isEqualTo("SELECT id FROM event WHERE id = ?");
+  }
+}
@@ -0,0 +1,67 @@
+package com.thenoah.dev.mybatis_easy_starter.support.uow;
+
+import com.thenoah.dev.mybatis_easy_starter.H2MapperFixture;
+import com.thenoah.dev.mybatis_easy_starter.config.MybatisEasyProperties;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Id;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Table;
+import com.thenoah.dev.mybatis_easy_starter.core.interceptor.ParameterMappingInterceptor;
+import com.thenoah.dev.mybatis_easy_starter.core.mapper.BaseMapper;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UnitOfWorkTest {
+
+  @Table(name = "member")
+  static class Member {
+    @Id
+    Long id;
+    String name;
+
+    static Member of(long id, String name) {
+      Member m = new Member();
+      m.id = id;
+      m.name = name;
+      return m;
+    }
+  }
+
+  interface MemberMapper extends BaseMapper<Member, Long> {
+  }
+
+  @Test
+  void rolledBackNestedScopeDiscardsItsWritesButKeepsOuterOnes() throws Exception {
+    ParameterMappingInterceptor interceptor = new ParameterMappingInterceptor();
+    interceptor.setUnitOfWork(new UnitOfWork());
+    MybatisEasyProperties props = new MybatisEasyProperties();
+    props.getPagination().setEnabled(true);
+    H2MapperFixture fixture = H2MapperFixture.create(interceptor,
+            "CREATE TABLE member (id BIGINT PRIMARY KEY, name VARCHAR(50))",
+            "INSERT INTO member (id, name) VALUES (1, 'kim'), (2, 'lee')")
+        .springManaged()
+        .mapper(MemberMapper.class, props);
+    MemberMapper mapper = new SqlSessionTemplate(fixture.sessionFactory()).getMapper(MemberMapper.class);
+
+    DataSourceTransactionManager txManager = new DataSourceTransactionManager(fixture.dataSource());
+    TransactionTemplate nested = new TransactionTemplate(txManager);
+    nested.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+
+    new TransactionTemplate(txManager).executeWithoutResult(outer -> {
+      // savepoint 전에 대기 중인 쓰기 → savepoint 롤백 후에도 커밋 시 실행
+      mapper.update(Member.of(1L, "park"));
+      nested.executeWithoutResult(inner -> {
+        mapper.update(Member.of(2L, "choi"));
+        inner.setRollbackOnly();
+      });
+    });
+
+    JdbcTemplate jdbc = new JdbcTemplate(fixture.dataSource());
+    assertThat(jdbc.queryForObject("SELECT name FROM member WHERE id = 1", String.class)).isEqualTo("park");
+    assertThat(jdbc.queryForObject("SELECT name FROM member WHERE id = 2", String.class)).isEqualTo("lee");
+  }
+}
@@ -0,0 +1,199 @@
+package com.thenoah.dev.mybatis_easy_starter.tool.generator;
+
+import com.thenoah.dev.mybatis_easy_starter.H2MapperFixture;
+import com.thenoah.dev.mybatis_easy_starter.config.MybatisEasyProperties;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Id;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.PartitionKey;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.SoftDelete;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Table;
+import com.thenoah.dev.mybatis_easy_starter.core.annotation.Version;
+import com.thenoah.dev.mybatis_easy_starter.core.mapper.BaseMapper;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AutoSqlBuilderTest {
+
+  @Table(name = "tag")
+  static class Tag {
+    @Id
+    String code;
+    String label;
+  }
+
+  interface TagMapper extends BaseMapper<Tag, String> {
+  }
+
+  @Table(name = "post")
+  static class Post {
+    @Id
+    Long id;
+    String title;
+    @SoftDelete(deletedValue = "true", notDeletedValue = "false")
+    Boolean deleted;
+  }
+
+  interface PostMapper extends BaseMapper<Post, Long> {
+  }
+
+  @Table(name = "event")
+  static class Event {
+    @Id
+    Long id;
+    @PartitionKey
+    Integer tenantId;
+    String payload;
+  }
+
+  @Table(name = "account")
+  static class Account {
+    @Id
+    Long id;
+    String name;
+    @Version
+    Long version;
+  }
+
+  static MybatisEasyProperties props(MybatisEasyProperties.Pagination.Dialect dialect) {
+    MybatisEasyProperties props = new MybatisEasyProperties();
+    props.getPagination().setEnabled(true);
+    props.getPagination().setDialect(dialect);
+    return props;
+  }
+
+  static String xml(Class<?> entityClass, MybatisEasyProperties.Pagination.Dialect dialect) {
+    return AutoSqlBuilder.build(entityClass, "", props(dialect), null);
+  }
+
+  static String statement(String xml, String id) {
+    int start = xml.indexOf(" id=\"" + id + "\"");
+    assertThat(start).as("statement %s", id).isGreaterThanOrEqualTo(0);
+    int end = xml.indexOf("\n\n", start);
+    return xml.substring(start, end < 0 ? xml.length() : end);
+  }
+
+  @Test
+  void idOnlyQueriesAreUnsupportedPlaceholdersForNonIntegralIds() {
+    String xml = xml(Tag.class, MybatisEasyProperties.Pagination.Dialect.H2);
+
+    assertThat(statement(xml, "findAllIds"))
+        .contains("lang=\"" + UnsupportedStatementDriver.class.getName() + "\"")
+        .contains("requires an integral @Id");
+    assertThat(statement(xml, "findIdsPage"))
+        .contains("lang=\"" + UnsupportedStatementDriver.class.getName() + "\"");
+  }
+
+  @Test
+  void unsupportedPlaceholderFailsWithReason() throws Exception {
+    H2MapperFixture fixture = H2MapperFixture.create(null,
+            "CREATE TABLE tag (code VARCHAR(20) PRIMARY KEY, label VARCHAR(50))")
+        .mapper(TagMapper.class, props(MybatisEasyProperties.Pagination.Dialect.H2));
+
+    try (SqlSession session = fixture.sessionFactory().openSession()) {
+      TagMapper mapper = session.getMapper(TagMapper.class);
+      assertThatThrownBy(() -> mapper.findAllIds())
+          .rootCause()
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessageContaining("findAllIds requires an integral @Id")
+          .hasMessageContaining(Tag.class.getName());
+    }
+  }
+
+  @Test
+  void findAllIdsIgnoresTheFindAllPolicy() throws Exception {
+    for (MybatisEasyProperties.Pagination.FindAll.Policy policy : MybatisEasyProperties.Pagination.FindAll.Policy.values()) {
+      MybatisEasyProperties props = props(MybatisEasyProperties.Pagination.Dialect.H2);
+      props.getPagination().getFindAll().setPolicy(policy);
+      props.getPagination().getFindAll().setCap(1);
+      H2MapperFixture fixture = H2MapperFixture.create(null,
+              "CREATE TABLE post (id BIGINT PRIMARY KEY, title VARCHAR(50), deleted BOOLEAN)",
+              "INSERT INTO post (id, title, deleted) VALUES (1, 'a', FALSE), (2, 'b', TRUE), (3, 'c', FALSE)")
+          .mapper(PostMapper.class, props);
+
+      try (SqlSession session = fixture.sessionFactory().openSession()) {
+        assertThat(session.getMapper(PostMapper.class).findAllIds()).as("%s", policy).containsExactlyInAnyOrder(1L, 3L);
+      }
+    }
+  }
+
+  @Test
+  void returningStylesPerDialect() {
+    assertThat(statement(xml(Tag.class, MybatisEasyProperties.Pagination.Dialect.POSTGRES), "insertReturning"))
+        .startsWith(" id=\"insertReturning\" resultType=")
+        .contains("RETURNING");
+    assertThat(statement(xml(Tag.class, MybatisEasyProperties.Pagination.Dialect.H2), "updateReturning"))
+        .contains("FROM FINAL TABLE (");
+    assertThat(statement(xml(Tag.class, MybatisEasyProperties.Pagination.Dialect.SQLSERVER), "insertReturning"))
+        .contains("OUTPUT INSERTED.");
+    assertThat(statement(xml(Tag.class, MybatisEasyProperties.Pagination.Dialect.ORACLE), "insertReturning"))
+        .contains("statementType=\"CALLABLE\"")
+        .contains("RETURNING")
+        .contains("mode=OUT");
+
+    String mysql = xml(Tag.class, MybatisEasyProperties.Pagination.Dialect.MYSQL);
+    assertThat(statement(mysql, "insertReturning"))
+        .contains("lang=\"" + UnsupportedStatementDriver.class.getName() + "\"")
+        .contains("not supported on dialect MYSQL");
+    assertThat(statement(mysql, "updateReturning"))
+        .contains("not supported on dialect MYSQL");
+    assertThat(statement(xml(Tag.class, MybatisEasyProperties.Pagination.Dialect.MARIADB), "updateReturning"))
+        .contains("not supported on dialect MARIADB");
+  }
+
+  @Test
+  void booleanFlagSoftDeleteLiteralsPerDialect() {
+    for (MybatisEasyProperties.Pagination.Dialect dialect : new MybatisEasyProperties.Pagination.Dialect[]{
+        MybatisEasyProperties.Pagination.Dialect.POSTGRES, MybatisEasyProperties.Pagination.Dialect.H2}) {
+      String xml = xml(Post.class, dialect);
+      assertThat(statement(xml, "findById")).as("%s", dialect).contains("deleted = FALSE");
+      assertThat(statement(xml, "deleteById")).as("%s", dialect).contains("SET deleted = TRUE");
+    }
+
+    // boolean literal 미지원 → 1/0
+    for (MybatisEasyProperties.Pagination.Dialect dialect : new MybatisEasyProperties.Pagination.Dialect[]{
+        MybatisEasyProperties.Pagination.Dialect.SQLSERVER, MybatisEasyProperties.Pagination.Dialect.ORACLE}) {
+      String xml = xml(Post.class, dialect);
+      assertThat(statement(xml, "findById")).as("%s", dialect).contains("deleted = 0").doesNotContain("FALSE");
+      assertThat(statement(xml, "deleteById")).as("%s", dialect).contains("SET deleted = 1");
+      assertThat(statement(xml, "insert")).as("%s", dialect).contains("<otherwise>0,</otherwise>");
+    }
+  }
+
+  @Test
+  void partitionKeyIsUpdatedAndMatchedOnItsPreviousValue() {
+    String xml = xml(Event.class, MybatisEasyProperties.Pagination.Dialect.POSTGRES);
+
+    assertThat(statement(xml, "findByIdInPartition")).contains("AND tenant_id = #{partitionKey}");
+    assertThat(statement(xml, "deleteByIdInPartition")).contains("AND tenant_id = #{partitionKey}");
+    assertThat(statement(xml, "findPageInPartition")).contains("tenant_id = #{partitionKey}");
+
+    String update = statement(xml, "update");
+    assertThat(update)
+        .contains("tenant_id = #{tenantId},")
+        .contains("AND tenant_id = #{" + AutoSqlBuilder.PARTITION_KEY_BEFORE_PARAM + "}")
+        .contains("<when test=\"tenantId != null\">AND tenant_id = #{tenantId}</when>");
+    assertThat(AutoSqlBuilder.updatableProperties(Event.class)).contains("tenantId");
+  }
+
+  @Test
+  void versionColumnIsCheckedAndIncrementedPerDialect() {
+    for (MybatisEasyProperties.Pagination.Dialect dialect : MybatisEasyProperties.Pagination.Dialect.values()) {
+      String xml = xml(Account.class, dialect);
+
+      assertThat(statement(xml, "update")).as("%s", dialect)
+          .contains("version = COALESCE(version, 0) + 1")
+          .contains("<if test=\"version != null\">AND version = #{version}</if>")
+          .doesNotContain("version = #{version},");
+      assertThat(statement(xml, "insert")).as("%s", dialect)
+          .contains("<otherwise>0,</otherwise>");
+      assertThat(statement(xml, "deleteByIdAndVersion")).as("%s", dialect)
+          .startsWith(" id=\"deleteByIdAndVersion\">")
+          .contains("AND version = #{version}");
+    }
+    assertThat(statement(xml(Account.class, MybatisEasyProperties.Pagination.Dialect.POSTGRES), "updateReturning"))
+        .contains("version = COALESCE(version, 0) + 1")
+        .contains("AND version = #{version}");
+  }
+}